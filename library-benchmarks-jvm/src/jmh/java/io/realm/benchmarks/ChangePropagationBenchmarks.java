@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import io.realm.Realm;
+import io.realm.RealmConfiguration;
+import io.realm.benchmarks.entities.AllTypes;
+
+/**
+ * Measures the time from a commit on another thread until the change is visible to the benchmark thread.
+ * <p>
+ * Change listeners need a {@code Looper}, which is not available on the JVM. {@link Realm#waitForChange()} advances
+ * the Realm the same way the notifier does before listeners are called, so this covers everything but the dispatch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChangePropagationBenchmarks {
+
+    @Param({"1", "100"})
+    public int objectsPerCommit;
+
+    private Realm realm;
+    private ExecutorService writer;
+    private Realm writerRealm;
+    private Runnable writeTask;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ExecutionException, InterruptedException {
+        final RealmConfiguration config = HostRealm.newConfiguration("changes.realm");
+        realm = Realm.getInstance(config);
+        writer = Executors.newSingleThreadExecutor();
+        writer.submit(new Runnable() {
+            @Override
+            public void run() {
+                writerRealm = Realm.getInstance(config);
+            }
+        }).get();
+        writeTask = new Runnable() {
+            @Override
+            public void run() {
+                writerRealm.beginTransaction();
+                for (int i = 0; i < objectsPerCommit; i++) {
+                    writerRealm.createObject(AllTypes.class).setColumnLong(i);
+                }
+                writerRealm.commitTransaction();
+            }
+        };
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws ExecutionException, InterruptedException {
+        writer.submit(new Runnable() {
+            @Override
+            public void run() {
+                writerRealm.close();
+            }
+        }).get();
+        writer.shutdown();
+        realm.close();
+    }
+
+    @Benchmark
+    public boolean commitToWaitForChange() {
+        writer.execute(writeTask);
+        return realm.waitForChange();
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.realm.Realm;
+import io.realm.RealmList;
+import io.realm.benchmarks.entities.AllTypes;
+import io.realm.benchmarks.entities.AllTypesPrimaryKey;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CopyToRealmBenchmarks {
+
+    @Param({"10", "100", "1000"})
+    public int collectionSize;
+
+    private Realm realm;
+    private List<AllTypesPrimaryKey> complexTestObjects;
+    private List<AllTypes> simpleTestObjects;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        complexTestObjects = new ArrayList<>(collectionSize);
+        simpleTestObjects = new ArrayList<>(collectionSize);
+        for (int i = 0; i < collectionSize; i++) {
+            AllTypesPrimaryKey complexObject = new AllTypesPrimaryKey();
+            complexObject.setColumnString("obj" + i);
+            complexObject.setColumnLong(i);
+            complexObject.setColumnFloat(1.23f);
+            complexObject.setColumnDouble(1.234);
+            complexObject.setColumnBoolean(true);
+            complexObject.setColumnDate(new Date(1000));
+            complexObject.setColumnBinary(new byte[] {1, 2, 3});
+            complexObject.setColumnRealmObject(complexObject);
+            complexObject.setColumnRealmList(new RealmList<>(complexObject, complexObject, complexObject));
+            complexTestObjects.add(complexObject);
+
+            AllTypes simpleObject = new AllTypes();
+            simpleObject.setColumnString("obj" + i);
+            simpleObject.setColumnLong(i);
+            simpleObject.setColumnFloat(1.23f);
+            simpleObject.setColumnDouble(1.234);
+            simpleObject.setColumnBoolean(true);
+            simpleObject.setColumnDate(new Date(1000));
+            simpleObject.setColumnBinary(new byte[] {1, 2, 3});
+            simpleTestObjects.add(simpleObject);
+        }
+
+        realm = Realm.getInstance(HostRealm.newConfiguration("copy.realm"));
+    }
+
+    @Setup(Level.Iteration)
+    public void beginTransaction() {
+        realm.beginTransaction();
+    }
+
+    @TearDown(Level.Iteration)
+    public void cancelTransaction() {
+        realm.cancelTransaction();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        realm.close();
+    }
+
+    @Benchmark
+    public List<AllTypesPrimaryKey> copyToRealm_complexObjects() {
+        return realm.copyToRealmOrUpdate(complexTestObjects);
+    }
+
+    @Benchmark
+    public List<AllTypes> copyToRealm_simpleObjects() {
+        return realm.copyToRealm(simpleTestObjects);
+    }
+}
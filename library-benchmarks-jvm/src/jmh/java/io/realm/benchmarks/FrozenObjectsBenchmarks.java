@@ -0,0 +1,88 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+import io.realm.Realm;
+import io.realm.RealmList;
+import io.realm.RealmResults;
+import io.realm.benchmarks.entities.AllTypes;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FrozenObjectsBenchmarks {
+
+    @Param({"100", "10000"})
+    public int dataSize;
+
+    private Realm realm;
+    private AllTypes readObject;
+    private RealmResults<AllTypes> results;
+    private RealmList<AllTypes> list;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        realm = Realm.getInstance(HostRealm.newConfiguration("frozen.realm"));
+        realm.beginTransaction();
+        readObject = realm.createObject(AllTypes.class);
+        readObject.setColumnString("Foo");
+        readObject.setColumnLong(42);
+        readObject.setColumnDouble(1.234);
+        list = readObject.getColumnRealmList();
+        for (int i = 0; i < dataSize; i++) {
+            AllTypes obj = realm.createObject(AllTypes.class);
+            obj.setColumnString("String: " + i);
+            obj.setColumnLong(i);
+            obj.setColumnBoolean(i % 2 == 0);
+            list.add(obj);
+        }
+        realm.commitTransaction();
+        results = realm.where(AllTypes.class).findAll();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        realm.close();
+    }
+
+    @Benchmark
+    public RealmResults<AllTypes> freezeResults() {
+        return results.freeze();
+    }
+
+    @Benchmark
+    public RealmList<AllTypes> freezeList() {
+        return list.freeze();
+    }
+
+    @Benchmark
+    public AllTypes freezeObject() {
+        return readObject.freeze();
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.benchmarks;
+
+import android.content.Context;
+import android.content.ContextWrapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import io.realm.Realm;
+import io.realm.RealmConfiguration;
+import io.realm.benchmarks.entities.AllTypes;
+import io.realm.benchmarks.entities.BenchmarkModule;
+
+/**
+ * Initializes Realm on a desktop JVM.
+ * <p>
+ * {@link Realm#init(Context)} only needs a files directory from the context, and realm-jni is found on
+ * {@code java.library.path}. There is no {@code Looper} outside Android, so change listeners and async transactions
+ * with callbacks cannot be used by the benchmarks.
+ */
+final class HostRealm {
+
+    private static File filesDir;
+
+    private HostRealm() {
+    }
+
+    static synchronized void init() {
+        if (filesDir != null) {
+            return;
+        }
+        try {
+            filesDir = Files.createTempDirectory("realm-jmh").toFile();
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not create the files directory.", e);
+        }
+        Realm.init(new HostContext(filesDir));
+    }
+
+    /**
+     * Returns the configuration of a new, empty Realm containing the benchmark model classes.
+     */
+    static RealmConfiguration newConfiguration(String name) {
+        init();
+        RealmConfiguration config = new RealmConfiguration.Builder()
+                .name(name)
+                .modules(new BenchmarkModule())
+                .build();
+        Realm.deleteRealm(config);
+        return config;
+    }
+
+    /**
+     * Fills the Realm with the same data as the Android {@code RealmQueryBenchmarks}.
+     */
+    static void populate(Realm realm, int dataSize) {
+        realm.beginTransaction();
+        for (int i = 0; i < dataSize; i++) {
+            AllTypes obj = realm.createObject(AllTypes.class);
+            obj.setColumnLong(i);
+            obj.setColumnBoolean(i % 2 == 0);
+            obj.setColumnString("Foo " + i);
+            obj.setColumnDouble(i + 1.234);
+        }
+        realm.commitTransaction();
+    }
+
+    private static class HostContext extends ContextWrapper {
+        private final File filesDir;
+
+        HostContext(File filesDir) {
+            super(null);
+            this.filesDir = filesDir;
+        }
+
+        @Override
+        public Context getApplicationContext() {
+            return this;
+        }
+
+        @Override
+        public File getFilesDir() {
+            return filesDir;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import io.realm.Realm;
+import io.realm.benchmarks.entities.AllTypes;
+import io.realm.benchmarks.entities.AllTypesPrimaryKey;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonImportBenchmarks {
+
+    @Param({"10", "100", "1000"})
+    public int collectionSize;
+
+    private Realm realm;
+    private String json;
+    private byte[] jsonBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < collectionSize; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append("{\"columnString\":\"obj").append(i)
+                    .append("\",\"columnLong\":").append(i)
+                    .append(",\"columnFloat\":1.23,\"columnDouble\":1.234,\"columnBoolean\":true")
+                    .append(",\"columnDate\":1000}");
+        }
+        json = sb.append(']').toString();
+        jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+        realm = Realm.getInstance(HostRealm.newConfiguration("json.realm"));
+    }
+
+    @Setup(Level.Iteration)
+    public void beginTransaction() {
+        realm.beginTransaction();
+    }
+
+    @TearDown(Level.Iteration)
+    public void cancelTransaction() {
+        realm.cancelTransaction();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        realm.close();
+    }
+
+    @Benchmark
+    public void createAllFromJson_string() {
+        realm.createAllFromJson(AllTypes.class, json);
+    }
+
+    @Benchmark
+    public void createOrUpdateAllFromJson_stream() throws IOException {
+        realm.createOrUpdateAllFromJson(AllTypesPrimaryKey.class, new ByteArrayInputStream(jsonBytes));
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+import io.realm.Realm;
+import io.realm.RealmConfiguration;
+import io.realm.RealmModel;
+import io.realm.SchemaMediators;
+import io.realm.benchmarks.schema.Model0;
+import io.realm.benchmarks.schema.Schema16Module;
+import io.realm.benchmarks.schema.Schema256Module;
+import io.realm.benchmarks.schema.Schema64Module;
+import io.realm.internal.RealmProxyMediator;
+
+/**
+ * Measures the cost of a call dispatched by the generated mediator depending on the number of model classes in its
+ * module. The model classes are generated by the {@code generateSchemaModels} task.
+ * <p>
+ * The last class of the module was the slowest to dispatch when the mediator compared the class against every model
+ * class in turn. With the dispatch on the class id the cost should not depend on the number of model classes nor on
+ * the position of the class.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MediatorDispatchBenchmarks {
+
+    @Param({"16", "64", "256"})
+    public int modelCount;
+
+    private RealmConfiguration config;
+    private RealmProxyMediator mediator;
+    private Class<? extends RealmModel> lastClass;
+    private Realm realm;
+    private RealmModel managedLast;
+
+    @Setup(Level.Trial)
+    public void setUp() throws ClassNotFoundException {
+        HostRealm.init();
+        config = new RealmConfiguration.Builder()
+                .name("dispatch-" + modelCount + ".realm")
+                .modules(createModule(modelCount))
+                .build();
+        Realm.deleteRealm(config);
+        mediator = SchemaMediators.of(config);
+        lastClass = Class.forName(Model0.class.getPackage().getName() + ".Model" + (modelCount - 1))
+                .asSubclass(RealmModel.class);
+
+        realm = Realm.getInstance(config);
+        realm.beginTransaction();
+        managedLast = realm.createObject(lastClass);
+        realm.commitTransaction();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        realm.close();
+        Realm.deleteRealm(config);
+    }
+
+    @Benchmark
+    public int classIdFirstClass() {
+        return mediator.getClassId(Model0.class);
+    }
+
+    @Benchmark
+    public int classIdLastClass() {
+        return mediator.getClassId(lastClass);
+    }
+
+    @Benchmark
+    public String simpleClassNameLastClass() {
+        return mediator.getSimpleClassName(lastClass);
+    }
+
+    // End-to-end through the public API: copyFromRealm() is dispatched to createDetachedCopy() of the proxy.
+    @Benchmark
+    public RealmModel copyFromRealmLastClass() {
+        return realm.copyFromRealm(managedLast);
+    }
+
+    private static Object createModule(int modelCount) {
+        switch (modelCount) {
+            case 16: return new Schema16Module();
+            case 64: return new Schema64Module();
+            case 256: return new Schema256Module();
+            default: throw new IllegalArgumentException("No generated module with " + modelCount + " model classes.");
+        }
+    }
+}
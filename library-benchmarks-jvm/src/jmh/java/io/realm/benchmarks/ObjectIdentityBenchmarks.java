@@ -0,0 +1,96 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import io.realm.Realm;
+import io.realm.RealmResults;
+import io.realm.benchmarks.entities.AllTypes;
+
+/**
+ * Measures {@code hashCode()} and {@code equals()} of managed objects by putting them in a {@link HashSet}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ObjectIdentityBenchmarks {
+
+    @Param({"100000"})
+    public int dataSize;
+
+    private Realm realm;
+    private RealmResults<AllTypes> results;
+    private List<AllTypes> accessors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        realm = Realm.getInstance(HostRealm.newConfiguration("identity.realm"));
+        HostRealm.populate(realm, dataSize);
+        results = realm.where(AllTypes.class).findAll();
+        accessors = new ArrayList<>(results);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        realm.close();
+    }
+
+    // New accessors for every object, so the identity of each object is computed once.
+    @Benchmark
+    public Set<AllTypes> hashSetInsertNewAccessors() {
+        Set<AllTypes> set = new HashSet<>();
+        for (AllTypes obj : results) {
+            set.add(obj);
+        }
+        return set;
+    }
+
+    // The same accessors every time, so the identity of each object is already known.
+    @Benchmark
+    public Set<AllTypes> hashSetInsertExistingAccessors() {
+        Set<AllTypes> set = new HashSet<>();
+        for (AllTypes obj : accessors) {
+            set.add(obj);
+        }
+        return set;
+    }
+
+    // Every object is added twice, which calls equals() for each duplicate.
+    @Benchmark
+    public Set<AllTypes> hashSetDeduplicate() {
+        Set<AllTypes> set = new HashSet<>(accessors);
+        for (AllTypes obj : results) {
+            set.add(obj);
+        }
+        return set;
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+import io.realm.Realm;
+import io.realm.benchmarks.entities.AllTypes;
+
+// Compares the parallel aggregates of RealmQuery with the ones evaluated on the calling thread.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParallelQueryBenchmarks {
+
+    @Param({"10000", "1000000"})
+    public int dataSize;
+
+    private Realm realm;
+    private Realm frozenRealm;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        realm = Realm.getInstance(HostRealm.newConfiguration("parallel.realm"));
+        HostRealm.populate(realm, dataSize);
+        frozenRealm = realm.freeze();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        frozenRealm.close();
+        realm.close();
+    }
+
+    @Benchmark
+    public long count() {
+        return frozenRealm.where(AllTypes.class).contains(AllTypes.FIELD_STRING, "1").count();
+    }
+
+    @Benchmark
+    public long parallelCount() {
+        return frozenRealm.where(AllTypes.class).contains(AllTypes.FIELD_STRING, "1").parallelCount();
+    }
+
+    @Benchmark
+    public Number sum() {
+        return frozenRealm.where(AllTypes.class).equalTo(AllTypes.FIELD_BOOLEAN, true).sum(AllTypes.FIELD_DOUBLE);
+    }
+
+    @Benchmark
+    public Number parallelSum() {
+        return frozenRealm.where(AllTypes.class).equalTo(AllTypes.FIELD_BOOLEAN, true).parallelSum(AllTypes.FIELD_DOUBLE);
+    }
+}
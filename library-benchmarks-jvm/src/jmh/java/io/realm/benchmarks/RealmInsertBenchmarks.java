@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.realm.Realm;
+import io.realm.RealmConfiguration;
+import io.realm.benchmarks.entities.AllTypes;
+import io.realm.benchmarks.entities.AllTypesPrimaryKey;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RealmInsertBenchmarks {
+
+    @Param({"10", "100", "1000"})
+    public int collectionSize;
+
+    private Realm realm;
+    private final AllTypes noPkObject = new AllTypes();
+    private final AllTypesPrimaryKey pkObject = new AllTypesPrimaryKey();
+    private List<AllTypes> noPkObjects;
+    private List<AllTypesPrimaryKey> pkObjects;
+    private long nextPrimaryKey;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        RealmConfiguration config = HostRealm.newConfiguration("insert.realm");
+        realm = Realm.getInstance(config);
+
+        noPkObjects = new ArrayList<>(collectionSize);
+        pkObjects = new ArrayList<>(collectionSize);
+        for (int i = 0; i < collectionSize; i++) {
+            noPkObjects.add(new AllTypes());
+            AllTypesPrimaryKey allTypesPrimaryKey = new AllTypesPrimaryKey();
+            allTypesPrimaryKey.setColumnLong(i);
+            pkObjects.add(allTypesPrimaryKey);
+        }
+    }
+
+    // Like the Android benchmarks, all objects are inserted into one transaction which is cancelled afterwards.
+    @Setup(Level.Iteration)
+    public void beginTransaction() {
+        realm.beginTransaction();
+    }
+
+    @TearDown(Level.Iteration)
+    public void cancelTransaction() {
+        realm.cancelTransaction();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        realm.close();
+    }
+
+    @Benchmark
+    public void insertNoPrimaryKey() {
+        realm.insert(noPkObject);
+    }
+
+    @Benchmark
+    public void insertNoPrimaryKeyList() {
+        realm.insert(noPkObjects);
+    }
+
+    @Benchmark
+    public void insertWithPrimaryKey() {
+        pkObject.setColumnLong(nextPrimaryKey++);
+        realm.insertOrUpdate(pkObject);
+    }
+
+    @Benchmark
+    public void insertOrUpdateWithPrimaryKeyList() {
+        realm.insertOrUpdate(pkObjects);
+    }
+}
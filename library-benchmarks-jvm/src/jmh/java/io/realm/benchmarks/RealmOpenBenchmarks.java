@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.concurrent.TimeUnit;
+
+import io.realm.Realm;
+import io.realm.RealmConfiguration;
+import io.realm.benchmarks.schema.Model0;
+import io.realm.benchmarks.schema.Schema16Module;
+import io.realm.benchmarks.schema.Schema256Module;
+import io.realm.benchmarks.schema.Schema64Module;
+import io.realm.internal.ColumnInfoCache;
+
+/**
+ * Measures opening a Realm depending on the number of model classes in its schema. The model classes are generated
+ * by the {@code generateSchemaModels} task.
+ * <p>
+ * Every benchmark opens the Realm, uses a single class and closes it again, so the native Realm is opened every time.
+ * The cold variants clear the column info shared between Realm instances first, like the first open after the app
+ * has started.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RealmOpenBenchmarks {
+
+    @Param({"16", "64", "256"})
+    public int modelCount;
+
+    private RealmConfiguration config;
+    private RealmConfiguration readOnlyConfig;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        HostRealm.init();
+        Object module = createModule(modelCount);
+        config = new RealmConfiguration.Builder()
+                .name("open-" + modelCount + ".realm")
+                .modules(module)
+                .build();
+        Realm.deleteRealm(config);
+        // Creates the file with all tables, so the benchmarks only open it.
+        Realm.getInstance(config).close();
+        readOnlyConfig = new RealmConfiguration.Builder()
+                .name("open-" + modelCount + ".realm")
+                .modules(module)
+                .readOnly()
+                .build();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Realm.deleteRealm(config);
+    }
+
+    @Benchmark
+    public long openAndQueryOneClass() {
+        return openAndQuery(config);
+    }
+
+    @Benchmark
+    public long coldOpenAndQueryOneClass() {
+        ColumnInfoCache.clear();
+        return openAndQuery(config);
+    }
+
+    @Benchmark
+    public long openReadOnlyAndQueryOneClass() {
+        return openAndQuery(readOnlyConfig);
+    }
+
+    private static long openAndQuery(RealmConfiguration config) {
+        Realm realm = Realm.getInstance(config);
+        try {
+            return realm.where(Model0.class).equalTo("id", 42L).count();
+        } finally {
+            realm.close();
+        }
+    }
+
+    private static Object createModule(int modelCount) {
+        switch (modelCount) {
+            case 16: return new Schema16Module();
+            case 64: return new Schema64Module();
+            case 256: return new Schema256Module();
+            default: throw new IllegalArgumentException("No generated module with " + modelCount + " model classes.");
+        }
+    }
+}
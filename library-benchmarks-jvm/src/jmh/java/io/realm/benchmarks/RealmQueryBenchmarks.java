@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import io.realm.Realm;
+import io.realm.RealmProjection;
+import io.realm.RealmResults;
+import io.realm.Sort;
+import io.realm.benchmarks.entities.AllTypes;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RealmQueryBenchmarks {
+
+    @Param({"100", "1000", "10000"})
+    public int dataSize;
+
+    private Realm realm;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        realm = Realm.getInstance(HostRealm.newConfiguration("query.realm"));
+        HostRealm.populate(realm, dataSize);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        realm.close();
+    }
+
+    @Benchmark
+    public RealmResults<AllTypes> containsQuery() {
+        return realm.where(AllTypes.class).contains(AllTypes.FIELD_STRING, "Foo 1").findAll();
+    }
+
+    @Benchmark
+    public long count() {
+        return realm.where(AllTypes.class).count();
+    }
+
+    @Benchmark
+    public RealmResults<AllTypes> findAll() {
+        return realm.where(AllTypes.class).findAll();
+    }
+
+    @Benchmark
+    public RealmResults<AllTypes> findAllSortedOneField() {
+        return realm.where(AllTypes.class).sort(AllTypes.FIELD_STRING, Sort.ASCENDING).findAll();
+    }
+
+    @Benchmark
+    public void findAllReadTwoFields(Blackhole blackhole) {
+        for (AllTypes object : realm.where(AllTypes.class).findAll()) {
+            blackhole.consume(object.getColumnString());
+            blackhole.consume(object.getColumnLong());
+        }
+    }
+
+    @Benchmark
+    public void selectTwoFields(Blackhole blackhole) {
+        for (RealmProjection.Record record : realm.where(AllTypes.class).select(AllTypes.FIELD_STRING, AllTypes.FIELD_LONG)) {
+            blackhole.consume(record.getString(AllTypes.FIELD_STRING));
+            blackhole.consume(record.getLong(AllTypes.FIELD_LONG));
+        }
+    }
+}
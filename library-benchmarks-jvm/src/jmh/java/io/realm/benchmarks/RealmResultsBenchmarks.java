@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import io.realm.Realm;
+import io.realm.RealmResults;
+import io.realm.benchmarks.entities.AllTypes;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RealmResultsBenchmarks {
+
+    @Param({"100", "1000", "10000"})
+    public int dataSize;
+
+    private Realm realm;
+    private RealmResults<AllTypes> results;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        realm = Realm.getInstance(HostRealm.newConfiguration("results.realm"));
+        HostRealm.populate(realm, dataSize);
+        results = realm.where(AllTypes.class).findAll();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        realm.close();
+    }
+
+    @Benchmark
+    public AllTypes get() {
+        return results.get(0);
+    }
+
+    @Benchmark
+    public void iterate(Blackhole blackhole) {
+        for (AllTypes obj : results) {
+            blackhole.consume(obj.getColumnLong());
+        }
+    }
+
+    @Benchmark
+    public void iterateReadString(Blackhole blackhole) {
+        for (AllTypes obj : results) {
+            blackhole.consume(obj.getColumnString());
+        }
+    }
+
+    @Benchmark
+    public Number sum() {
+        return results.sum(AllTypes.FIELD_LONG);
+    }
+
+    @Benchmark
+    public RealmResults<AllTypes> sort() {
+        return results.sort(AllTypes.FIELD_STRING);
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import io.realm.Realm;
+import io.realm.benchmarks.entities.StringColumns;
+
+/**
+ * Measures reading and writing string fields. Run with the {@code gc} profiler to compare the allocation rate of
+ * fields marked with {@code @Interned} to regular fields holding the same few distinct values.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class StringBenchmarks {
+
+    private static final String[] CATEGORIES = {"active", "archived", "deleted", "draft", "pending"};
+
+    @Param({"100000"})
+    public int dataSize;
+
+    private Realm realm;
+    private List<StringColumns> accessors;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        realm = Realm.getInstance(HostRealm.newConfiguration("strings.realm"));
+        realm.beginTransaction();
+        for (int i = 0; i < dataSize; i++) {
+            StringColumns obj = realm.createObject(StringColumns.class);
+            String category = CATEGORIES[i % CATEGORIES.length];
+            obj.setCategory(category);
+            obj.setInternedCategory(category);
+            obj.setName("Name of object number " + i);
+        }
+        realm.commitTransaction();
+        accessors = new ArrayList<>(realm.where(StringColumns.class).findAll());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        realm.close();
+    }
+
+    @Benchmark
+    public void readCategory(Blackhole blackhole) {
+        for (StringColumns obj : accessors) {
+            blackhole.consume(obj.getCategory());
+        }
+    }
+
+    // Same values as readCategory(), but no string is created after the first read of each value.
+    @Benchmark
+    public void readInternedCategory(Blackhole blackhole) {
+        for (StringColumns obj : accessors) {
+            blackhole.consume(obj.getInternedCategory());
+        }
+    }
+
+    @Benchmark
+    public void readAsciiName(Blackhole blackhole) {
+        for (StringColumns obj : accessors) {
+            blackhole.consume(obj.getName());
+        }
+    }
+
+    @Benchmark
+    public void writeAsciiName() {
+        realm.beginTransaction();
+        for (StringColumns obj : accessors) {
+            obj.setName("Updated name");
+        }
+        realm.cancelTransaction();
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2017 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.benchmarks.entities;
+
+import java.util.Date;
+
+import io.realm.RealmList;
+import io.realm.RealmObject;
+import io.realm.annotations.PrimaryKey;
+import io.realm.annotations.Required;
+import io.realm.io_realm_benchmarks_entities_AllTypesPrimaryKeyRealmProxyInterface;
+
+
+/**
+ * Same schema as {@code AllTypesPrimaryKey} in the Android benchmarks. The Realm Transformer is not available outside
+ * Android, so the class implements the generated proxy interface and routes all field access through the
+ * {@code realmGet$}/{@code realmSet$} accessors itself.
+ */
+public class AllTypesPrimaryKey extends RealmObject implements io_realm_benchmarks_entities_AllTypesPrimaryKeyRealmProxyInterface {
+
+    @Required
+    private String columnString = "";
+    @PrimaryKey
+    private long columnLong;
+    private float columnFloat;
+    private double columnDouble;
+    private boolean columnBoolean;
+    @Required
+    private Date columnDate = new Date(0);
+    @Required
+    private byte[] columnBinary = new byte[0];
+    private AllTypesPrimaryKey columnRealmObject;
+    private RealmList<AllTypesPrimaryKey> columnRealmList;
+
+    public String getColumnString() {
+        return realmGet$columnString();
+    }
+
+    public void setColumnString(String columnString) {
+        realmSet$columnString(columnString);
+    }
+
+    public long getColumnLong() {
+        return realmGet$columnLong();
+    }
+
+    public void setColumnLong(long columnLong) {
+        realmSet$columnLong(columnLong);
+    }
+
+    public float getColumnFloat() {
+        return realmGet$columnFloat();
+    }
+
+    public void setColumnFloat(float columnFloat) {
+        realmSet$columnFloat(columnFloat);
+    }
+
+    public double getColumnDouble() {
+        return realmGet$columnDouble();
+    }
+
+    public void setColumnDouble(double columnDouble) {
+        realmSet$columnDouble(columnDouble);
+    }
+
+    public boolean isColumnBoolean() {
+        return realmGet$columnBoolean();
+    }
+
+    public void setColumnBoolean(boolean columnBoolean) {
+        realmSet$columnBoolean(columnBoolean);
+    }
+
+    public Date getColumnDate() {
+        return realmGet$columnDate();
+    }
+
+    public void setColumnDate(Date columnDate) {
+        realmSet$columnDate(columnDate);
+    }
+
+    public byte[] getColumnBinary() {
+        return realmGet$columnBinary();
+    }
+
+    public void setColumnBinary(byte[] columnBinary) {
+        realmSet$columnBinary(columnBinary);
+    }
+
+    public AllTypesPrimaryKey getColumnRealmObject() {
+        return realmGet$columnRealmObject();
+    }
+
+    public void setColumnRealmObject(AllTypesPrimaryKey columnRealmObject) {
+        realmSet$columnRealmObject(columnRealmObject);
+    }
+
+    public RealmList<AllTypesPrimaryKey> getColumnRealmList() {
+        return realmGet$columnRealmList();
+    }
+
+    public void setColumnRealmList(RealmList<AllTypesPrimaryKey> columnRealmList) {
+        realmSet$columnRealmList(columnRealmList);
+    }
+
+    @Override
+    public String realmGet$columnString() {
+        return columnString;
+    }
+
+    @Override
+    public void realmSet$columnString(String columnString) {
+        this.columnString = columnString;
+    }
+
+    @Override
+    public long realmGet$columnLong() {
+        return columnLong;
+    }
+
+    @Override
+    public void realmSet$columnLong(long columnLong) {
+        this.columnLong = columnLong;
+    }
+
+    @Override
+    public float realmGet$columnFloat() {
+        return columnFloat;
+    }
+
+    @Override
+    public void realmSet$columnFloat(float columnFloat) {
+        this.columnFloat = columnFloat;
+    }
+
+    @Override
+    public double realmGet$columnDouble() {
+        return columnDouble;
+    }
+
+    @Override
+    public void realmSet$columnDouble(double columnDouble) {
+        this.columnDouble = columnDouble;
+    }
+
+    @Override
+    public boolean realmGet$columnBoolean() {
+        return columnBoolean;
+    }
+
+    @Override
+    public void realmSet$columnBoolean(boolean columnBoolean) {
+        this.columnBoolean = columnBoolean;
+    }
+
+    @Override
+    public Date realmGet$columnDate() {
+        return columnDate;
+    }
+
+    @Override
+    public void realmSet$columnDate(Date columnDate) {
+        this.columnDate = columnDate;
+    }
+
+    @Override
+    public byte[] realmGet$columnBinary() {
+        return columnBinary;
+    }
+
+    @Override
+    public void realmSet$columnBinary(byte[] columnBinary) {
+        this.columnBinary = columnBinary;
+    }
+
+    @Override
+    public AllTypesPrimaryKey realmGet$columnRealmObject() {
+        return columnRealmObject;
+    }
+
+    @Override
+    public void realmSet$columnRealmObject(AllTypesPrimaryKey columnRealmObject) {
+        this.columnRealmObject = columnRealmObject;
+    }
+
+    @Override
+    public RealmList<AllTypesPrimaryKey> realmGet$columnRealmList() {
+        return columnRealmList;
+    }
+
+    @Override
+    public void realmSet$columnRealmList(RealmList<AllTypesPrimaryKey> columnRealmList) {
+        this.columnRealmList = columnRealmList;
+    }
+}
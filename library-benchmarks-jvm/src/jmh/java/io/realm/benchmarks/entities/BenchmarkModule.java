@@ -0,0 +1,29 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.benchmarks.entities;
+
+import io.realm.annotations.RealmModule;
+
+/**
+ * Declaring a library module prevents the annotation processor from generating the {@code DefaultRealmModule}.
+ * Realm refuses to use the default module when the Realm Transformer has not been applied.
+ * <p>
+ * The classes are listed explicitly so the generated models of {@code RealmOpenBenchmarks} are not part of it.
+ */
+@RealmModule(library = true, classes = {AllTypes.class, AllTypesPrimaryKey.class, StringColumns.class})
+public class BenchmarkModule {
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation will cache the value read from the Realm file in the managed object. Reading the field again
+ * returns the cached value without going through JNI until the Realm moves to a new version, e.g. when it is refreshed
+ * or a transaction is committed. Values are never cached inside a write transaction.
+ * <p>
+ * Placed on a class, all fields of the types listed below are cached.
+ * <p>
+ * NOTICE: Only String, byte[], Date, Decimal128, ObjectId, boolean, byte, short, int, long, float and double fields
+ * (and their boxed types) can be cached. Arrays and dates returned from the cache are shared between reads and must
+ * not be modified.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.TYPE})
+public @interface Cached {
+
+}
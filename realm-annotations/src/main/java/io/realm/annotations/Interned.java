@@ -0,0 +1,38 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.annotations;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation makes reads of a String field return canonical instances: reading equal values returns the same
+ * {@code String} object, and no new string is allocated for a value that has been read before.
+ * <p>
+ * This is intended for fields with few distinct values, like a status, a country code or a category. The first 32
+ * distinct values read for the field are interned, and only values of at most 64 bytes in UTF-8. Other values are
+ * read as usual.
+ * <p>
+ * NOTICE: Only String fields can be interned.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface Interned {
+
+}
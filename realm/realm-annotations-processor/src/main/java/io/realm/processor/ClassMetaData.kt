@@ -37,7 +37,9 @@ import javax.lang.model.util.Elements
 import javax.lang.model.util.Types
 
 import io.realm.annotations.Ignore
+import io.realm.annotations.Cached
 import io.realm.annotations.Index
+import io.realm.annotations.Interned
 import io.realm.annotations.LinkingObjects
 import io.realm.annotations.PrimaryKey
 import io.realm.annotations.RealmClass
@@ -54,6 +56,8 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
     val simpleJavaClassName = SimpleClassName(classType.simpleName) // Model class simple name as defined in Java.
     val fields = ArrayList<RealmFieldElement>() // List of all fields in the class except those @Ignored.
     private val indexedFields = ArrayList<RealmFieldElement>() // list of all fields marked @Index.
+    private val cachedFields = ArrayList<RealmFieldElement>() // list of all fields marked @Cached, directly or through the class.
+    private val internedFields = ArrayList<RealmFieldElement>() // list of all fields marked @Interned.
     private val _objectReferenceFields = ArrayList<RealmFieldElement>() // List of all fields that reference a Realm Object either directly or in a List
     private val basicTypeFields = ArrayList<RealmFieldElement>() // List of all fields that reference basic types, i.e. no references to other Realm Objects
     private val backlinks = LinkedHashSet<Backlink>()
@@ -231,6 +235,26 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
         return indexedFields.contains(variableElement)
     }
 
+    /**
+     * Checks if the value of a VariableElement is cached by the proxy.
+     *
+     * @param variableElement the element/field
+     * @return `true` if a VariableElement is cached, `false` otherwise.
+     */
+    fun isCached(variableElement: VariableElement): Boolean {
+        return cachedFields.contains(variableElement)
+    }
+
+    /**
+     * Checks if the values of a VariableElement are interned by the proxy.
+     *
+     * @param variableElement the element/field
+     * @return `true` if a VariableElement is interned, `false` otherwise.
+     */
+    fun isInterned(variableElement: VariableElement): Boolean {
+        return internedFields.contains(variableElement)
+    }
+
     /**
      * Checks if a VariableElement is a primary key.
      *
@@ -531,6 +555,20 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
             }
         }
 
+        if (field.getAnnotation(Cached::class.java) != null || classType.getAnnotation(Cached::class.java) != null) {
+            if (!categorizeCachedField(element, field)) {
+                return false
+            }
+        }
+
+        if (field.getAnnotation(Interned::class.java) != null) {
+            if (!Utils.isString(field)) {
+                Utils.error(String.format(Locale.US, "Field \"%s\" of type \"%s\" cannot be @Interned.", element, element.asType()))
+                return false
+            }
+            internedFields.add(field)
+        }
+
         // @Required annotation of RealmList field only affects its value type, not field itself.
         if (Utils.isRealmList(field)) {
             val hasRequiredAnnotation = hasRequiredAnnotation(field)
@@ -676,6 +714,22 @@ class ClassMetaData(env: ProcessingEnvironment, typeMirrors: TypeMirrors, privat
         return false
     }
 
+    // The field or its class has the @Cached annotation. Only fields read with a single getter call can be cached,
+    // fields of other types are skipped if the annotation is on the class.
+    private fun categorizeCachedField(element: Element, fieldElement: RealmFieldElement): Boolean {
+        if (Constants.JAVA_TO_REALM_TYPES.containsKey(fieldElement.asType().toString())) {
+            cachedFields.add(fieldElement)
+            return true
+        }
+
+        if (fieldElement.getAnnotation(Cached::class.java) == null) {
+            return true
+        }
+
+        Utils.error(String.format(Locale.US, "Field \"%s\" of type \"%s\" cannot be @Cached.", element, element.asType()))
+        return false
+    }
+
     // The field has the @Required annotation
     // Returns `true` if the field could be correctly validated, `false` if an error was reported.
     private fun checkBasicRequiredAnnotationUsage(field: VariableElement): Boolean {
@@ -24,6 +24,7 @@ import java.util.LinkedHashMap
 import java.util.Locale
 
 import javax.annotation.processing.ProcessingEnvironment
+import javax.lang.model.element.Element
 
 import io.realm.annotations.RealmModule
 
@@ -31,12 +32,12 @@ import io.realm.annotations.RealmModule
  * This class is responsible for creating the DefaultRealmModule that contains all known
  * [io.realm.annotations.RealmClass]' known at compile time.
  */
-class DefaultModuleGenerator(private val env: ProcessingEnvironment) {
+class DefaultModuleGenerator(private val env: ProcessingEnvironment, private val originatingElements: Array<Element>) {
 
     @Throws(IOException::class)
     fun generate() {
         val qualifiedGeneratedClassName = String.format(Locale.US, "%s.%s", Constants.REALM_PACKAGE_NAME, Constants.DEFAULT_MODULE_CLASS_NAME)
-        val sourceFile = env.filer.createSourceFile(qualifiedGeneratedClassName)
+        val sourceFile = env.filer.createSourceFile(qualifiedGeneratedClassName, *originatingElements)
         val writer = JavaWriter(BufferedWriter(sourceFile.openWriter()))
 
         /**
@@ -134,8 +134,10 @@ inline class SimpleClassName(val name: String) {
 @SupportedAnnotationTypes(
         "io.realm.annotations.RealmClass",
         "io.realm.annotations.RealmField",
+        "io.realm.annotations.Cached",
         "io.realm.annotations.Ignore",
         "io.realm.annotations.Index",
+        "io.realm.annotations.Interned",
         "io.realm.annotations.PrimaryKey",
         "io.realm.annotations.RealmModule",
         "io.realm.annotations.Required")
@@ -291,7 +293,7 @@ class RealmProcessor : AbstractProcessor() {
 
     private fun createDefaultModule(): Boolean {
         Utils.note("Creating DefaultRealmModule")
-        val defaultModuleGenerator = DefaultModuleGenerator(processingEnv)
+        val defaultModuleGenerator = DefaultModuleGenerator(processingEnv, classCollection.classes.map { it.classElement }.toTypedArray())
         try {
             defaultModuleGenerator.generate()
         } catch (e: IOException) {
@@ -30,6 +30,7 @@ import javax.annotation.processing.ProcessingEnvironment
 import javax.lang.model.element.Modifier
 import javax.lang.model.element.VariableElement
 import javax.lang.model.type.DeclaredType
+import javax.lang.model.type.PrimitiveType
 import javax.lang.model.type.TypeMirror
 import javax.tools.JavaFileObject
 
@@ -60,17 +61,32 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
     private val generatedClassName: QualifiedClassName = QualifiedClassName(String.format(Locale.US, "%s.%s", Constants.REALM_PACKAGE_NAME, Utils.getProxyClassName(qualifiedJavaClassName)))
     // See the configuration for the Android debug build type,
     //  in the realm-library project, for an example of how to set this flag.
+    // Fields read together with a single native call in createDetachedCopy() and toString(), see RowValues.
+    private val scalarFields: List<RealmFieldElement> = metadata.fields.filter { Constants.JAVA_TO_REALM_TYPES.containsKey(it.asType().toString()) }
+
     private val suppressWarnings: Boolean = !"false".equals(processingEnvironment.options[OPTION_SUPPRESS_WARNINGS], ignoreCase = true)
 
     lateinit var sourceFile: JavaFileObject
     @Throws(IOException::class, UnsupportedOperationException::class)
     fun generate() {
-        sourceFile = processingEnvironment.filer.createSourceFile(generatedClassName.toString())
+        // Each proxy only depends on its own model class, so it is tied to that element alone. This
+        // allows Gradle to drop stale proxies when a model class is removed or renamed.
+        sourceFile = processingEnvironment.filer.createSourceFile(generatedClassName.toString(), metadata.classElement)
 
         val imports = ArrayList(IMPORTS)
         if (metadata.backlinkFields.isNotEmpty()) {
             imports.add("io.realm.internal.UncheckedRow")
         }
+        if (scalarFields.isNotEmpty()) {
+            imports.add("io.realm.internal.RowValues")
+        }
+        if (metadata.fields.any { metadata.isCached(it) }) {
+            imports.add("io.realm.internal.CachedValue")
+            imports.add("io.realm.internal.OsSharedRealm")
+        }
+        if (metadata.fields.any { metadata.isInterned(it) }) {
+            imports.add("io.realm.internal.StringInterner")
+        }
 
         val writer = JavaWriter(BufferedWriter(sourceFile.openWriter()))
         writer.apply {
@@ -131,6 +147,9 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
             for (variableElement in metadata.fields) {
                 emitField("long", columnKeyVarName(variableElement))
             }
+            if (scalarFields.isNotEmpty()) {
+                emitField("long[]", "scalarColKeys")
+            }
             emitEmptyLine()
 
             // constructor #1
@@ -140,6 +159,9 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                 for (field in metadata.fields) {
                     emitStatement("this.%1\$sColKey = addColumnDetails(\"%1\$s\", \"%2\$s\", objectSchemaInfo)", field.javaName, field.internalFieldName)
                 }
+                if (scalarFields.isNotEmpty()) {
+                    emitStatement("this.scalarColKeys = new long[] {%s}", scalarFields.joinToString(", ") { columnKeyVarName(it) })
+                }
                 for (backlink in metadata.backlinkFields) {
                     val sourceClass = classCollection.getClassFromQualifiedName(backlink.sourceClass!!)
                     val internalSourceClassName = sourceClass.internalClassName
@@ -171,6 +193,9 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                 for (variableElement in metadata.fields) {
                     emitStatement("dst.%1\$s = src.%1\$s", columnKeyVarName(variableElement))
                 }
+                if (scalarFields.isNotEmpty()) {
+                    emitStatement("dst.scalarColKeys = src.scalarColKeys")
+                }
             endMethod()
             endType()
         }
@@ -181,6 +206,11 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
         writer.apply {
             emitEmptyLine()
             emitField("OsObjectSchemaInfo", "expectedObjectSchemaInfo", EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL),"createExpectedObjectSchemaInfo()")
+            for (field in metadata.fields) {
+                if (metadata.isInterned(field)) {
+                    emitField("StringInterner", stringInternerFieldName(field), EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL), "new StringInterner()")
+                }
+            }
         }
     }
 
@@ -197,6 +227,8 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                 } else if (Utils.isRealmList(variableElement)) {
                     val genericType = Utils.getGenericTypeQualifiedName(variableElement)
                     emitField("RealmList<$genericType>", variableElement.simpleName.toString() + "RealmList", EnumSet.of(Modifier.PRIVATE))
+                } else if (metadata.isCached(variableElement)) {
+                    emitField("CachedValue", cachedValueFieldName(variableElement), EnumSet.of(Modifier.PRIVATE))
                 }
             }
 
@@ -271,15 +303,6 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
             emitAnnotation("Override")
             emitAnnotation("SuppressWarnings", "\"cast\"")
             beginMethod(fieldTypeCanonicalName, metadata.getInternalGetter(fieldName), EnumSet.of(Modifier.PUBLIC))
-                emitStatement("proxyState.getRealm\$realm().checkIfValid()")
-
-                // For String and bytes[], null value will be returned by JNI code. Try to save one JNI call here.
-                if (metadata.isNullable(field) && !Utils.isString(field) && !Utils.isByteArray(field)) {
-                    beginControlFlow("if (proxyState.getRow\$realm().isNull(%s))", fieldColKeyVariableReference(field))
-                        emitStatement("return null")
-                    endControlFlow()
-                }
-
                 // For Boxed types, this should be the corresponding primitive types. Others remain the same.
                 val castingBackType: String = if (Utils.isBoxedType(fieldTypeCanonicalName)) {
                     val typeUtils = processingEnvironment.typeUtils
@@ -288,7 +311,20 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                     fieldTypeCanonicalName
                 }
 
-                emitStatement("return (%s) proxyState.getRow\$realm().get%s(%s)", castingBackType, fieldJavaType, fieldColKeyVariableReference(field))
+                if (metadata.isCached(field)) {
+                    emitCachedGetterBody(writer, field, fieldTypeCanonicalName, castingBackType, fieldJavaType)
+                } else {
+                    emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+
+                    // For String and bytes[], null value will be returned by JNI code. Try to save one JNI call here.
+                    if (metadata.isNullable(field) && !Utils.isString(field) && !Utils.isByteArray(field)) {
+                        beginControlFlow("if (proxyState.getRow\$realm().isNull(%s))", fieldColKeyVariableReference(field))
+                            emitStatement("return null")
+                        endControlFlow()
+                    }
+
+                    emitStatement("return %s", rowValueExpression(field, castingBackType, fieldJavaType))
+                }
             endMethod()
             emitEmptyLine()
             // Getter - End
@@ -337,6 +373,61 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
         }
     }
 
+    /**
+     * Returns the expression reading the value of a field from the row of the proxy. Fields marked with @Interned are
+     * read through the StringInterner of the field.
+     */
+    private fun rowValueExpression(field: VariableElement, castingBackType: String, fieldJavaType: String?): String {
+        return if (metadata.isInterned(field)) {
+            String.format(Locale.US, "(%s) %s.getString(proxyState.getRow\$realm(), %s)",
+                    castingBackType, stringInternerFieldName(field), fieldColKeyVariableReference(field))
+        } else {
+            String.format(Locale.US, "(%s) proxyState.getRow\$realm().get%s(%s)",
+                    castingBackType, fieldJavaType, fieldColKeyVariableReference(field))
+        }
+    }
+
+    /**
+     * Emit the body of a getter for a field marked with @Cached. The decoded value is kept in the proxy together with
+     * the value cache version of the Realm, and returned without a native call as long as that version is unchanged.
+     */
+    @Throws(IOException::class)
+    private fun emitCachedGetterBody(
+            writer: JavaWriter,
+            field: VariableElement,
+            fieldTypeCanonicalName: String,
+            castingBackType: String,
+            fieldJavaType: String?) {
+
+        val cachedValueField = cachedValueFieldName(field)
+        val cachedType: String = if (Utils.isPrimitiveType(fieldTypeCanonicalName)) {
+            processingEnvironment.typeUtils.boxedClass(field.asType() as PrimitiveType).qualifiedName.toString()
+        } else {
+            fieldTypeCanonicalName
+        }
+
+        writer.apply {
+            emitStatement("long cacheVersion = proxyState.getRealm\$realm().getValueCacheVersion()")
+            emitStatement("CachedValue cachedValue = %s", cachedValueField)
+            beginControlFlow("if (cachedValue != null && cachedValue.version == cacheVersion)")
+                emitStatement("return (%s) cachedValue.value", cachedType)
+            endControlFlow()
+            emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+
+            // For String and bytes[], null value will be returned by JNI code. Try to save one JNI call here.
+            if (metadata.isNullable(field) && !Utils.isString(field) && !Utils.isByteArray(field)) {
+                emitStatement("%s value = proxyState.getRow\$realm().isNull(%s) ? null : %s",
+                        fieldTypeCanonicalName, fieldColKeyVariableReference(field), rowValueExpression(field, castingBackType, fieldJavaType))
+            } else {
+                emitStatement("%s value = %s", fieldTypeCanonicalName, rowValueExpression(field, castingBackType, fieldJavaType))
+            }
+            beginControlFlow("if (cacheVersion != OsSharedRealm.NO_VALUE_CACHE)")
+                emitStatement("%s = new CachedValue(cacheVersion, value)", cachedValueField)
+            endControlFlow()
+            emitStatement("return value")
+        }
+    }
+
     /**
      * Emit Get method for mutable Realm Integer fields.
      */
@@ -1013,7 +1104,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                 "org.bson.types.ObjectId" -> {
                     emitStatement("org.bson.types.ObjectId %s = ((%s) object).%s()", getter, interfaceName, getter)
                     beginControlFlow("if (%s != null)", getter)
-                    emitStatement("Table.nativeSetObjectId(tableNativePtr, columnInfo.%sColKey, objKey, %s.toString(), false)", fieldName, getter)
+                    emitStatement("Table.nativeSetObjectId(tableNativePtr, columnInfo.%sColKey, objKey, %s.toByteArray(), false)", fieldName, getter)
                     if (isUpdate) {
                         nextControlFlow("else")
                         emitStatement("Table.nativeSetNull(tableNativePtr, columnInfo.%sColKey, objKey, false)", fieldName)
@@ -1542,7 +1633,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                         beginControlFlow("if (primaryKeyValue == null)")
                         emitStatement("objKey = Table.nativeFindFirstNull(tableNativePtr, pkColumnKey)")
                         nextControlFlow("else")
-                        emitStatement("objKey = Table.nativeFindFirstObjectId(tableNativePtr, pkColumnKey, primaryKeyValue.toString())")
+                        emitStatement("objKey = Table.nativeFindFirstObjectId(tableNativePtr, pkColumnKey, primaryKeyValue.toByteArray())")
                         endControlFlow()
                     } else {
                         emitStatement("Object primaryKeyValue = ((%s) object).%s()", interfaceName, primaryKeyGetter)
@@ -1560,7 +1651,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                         if (Utils.isString(metadata.primaryKey)) {
                             emitStatement("objKey = Table.nativeFindFirstString(tableNativePtr, pkColumnKey, (String)primaryKeyValue)")
                         } else if (Utils.isObjectId(metadata.primaryKey)) {
-                            emitStatement("objKey = Table.nativeFindFirstObjectId(tableNativePtr, pkColumnKey, ((org.bson.types.ObjectId)primaryKeyValue).toString())")
+                            emitStatement("objKey = Table.nativeFindFirstObjectId(tableNativePtr, pkColumnKey, ((org.bson.types.ObjectId)primaryKeyValue).toByteArray())")
                         } else {
                             emitStatement("objKey = Table.nativeFindFirstInt(tableNativePtr, pkColumnKey, ((%s) object).%s())", interfaceName, primaryKeyGetter)
                         }
@@ -1751,6 +1842,11 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                 // may cause an unused variable warning if the object contains only null lists
                 emitStatement("%1\$s unmanagedCopy = (%1\$s) unmanagedObject", interfaceName)
                 emitStatement("%1\$s realmSource = (%1\$s) realmObject", interfaceName)
+                if (scalarFields.isNotEmpty()) {
+                    emitStatement("%1\$s realmProxy = (%1\$s) realmObject", generatedClassName.getSimpleName())
+                    emitStatement("realmProxy.proxyState.getRealm\$realm().checkIfValid()")
+                    emitStatement("RowValues rowValues = RowValues.read(realmProxy.proxyState.getRow\$realm(), realmProxy.columnInfo.scalarColKeys)")
+                }
 
                 for (field in metadata.fields) {
                     val fieldName = field.simpleName.toString()
@@ -1786,6 +1882,14 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                         }
                         Utils.isMutableRealmInteger(field) -> // If the user initializes the unmanaged MutableRealmInteger to null, this will fail mysteriously.
                             emitStatement("unmanagedCopy.%s().set(realmSource.%s().get())", getter, getter)
+                        scalarFields.contains(field) -> {
+                            val index = scalarFields.indexOf(field)
+                            if (metadata.isNullable(field) && Utils.isBoxedType(field.asType().toString())) {
+                                emitStatement("unmanagedCopy.%s(rowValues.isNull(%d) ? null : %s)", setter, index, rowValueExpression(field, index))
+                            } else {
+                                emitStatement("unmanagedCopy.%s(%s)", setter, rowValueExpression(field, index))
+                            }
+                        }
                         else -> {
                             emitStatement("unmanagedCopy.%s(realmSource.%s())", setter, getter)
                         }
@@ -1956,6 +2060,10 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                 beginControlFlow("if (!RealmObject.isValid(this))")
                     emitStatement("return \"Invalid object\"")
                 endControlFlow()
+                if (scalarFields.isNotEmpty()) {
+                    emitStatement("proxyState.getRealm\$realm().checkIfValid()")
+                    emitStatement("RowValues rowValues = RowValues.read(proxyState.getRow\$realm(), columnInfo.scalarColKeys)")
+                }
                 emitStatement("StringBuilder stringBuilder = new StringBuilder(\"%s = proxy[\")", simpleJavaClassName)
 
                 val fields = metadata.fields
@@ -1976,17 +2084,19 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                             emitStatement("stringBuilder.append(%s().get())", metadata.getInternalGetter(fieldName))
                         }
                         Utils.isByteArray(field) -> {
+                            val index = scalarFields.indexOf(field)
                             if (metadata.isNullable(field)) {
-                                emitStatement("stringBuilder.append((%1\$s() == null) ? \"null\" : \"binary(\" + %1\$s().length + \")\")", metadata.getInternalGetter(fieldName))
+                                emitStatement("stringBuilder.append(rowValues.isNull(%1\$d) ? \"null\" : \"binary(\" + rowValues.getBinaryByteArray(%1\$d).length + \")\")", index)
                             } else {
-                                emitStatement("stringBuilder.append(\"binary(\" + %1\$s().length + \")\")", metadata.getInternalGetter(fieldName))
+                                emitStatement("stringBuilder.append(\"binary(\" + rowValues.getBinaryByteArray(%d).length + \")\")", index)
                             }
                         }
                         else -> {
+                            val index = scalarFields.indexOf(field)
                             if (metadata.isNullable(field)) {
-                                emitStatement("stringBuilder.append(%s() != null ? %s() : \"null\")", metadata.getInternalGetter(fieldName), metadata.getInternalGetter(fieldName))
+                                emitStatement("stringBuilder.append(rowValues.isNull(%d) ? \"null\" : %s)", index, rowValueExpression(field, index))
                             } else {
-                                emitStatement("stringBuilder.append(%s())", metadata.getInternalGetter(fieldName))
+                                emitStatement("stringBuilder.append(%s)", rowValueExpression(field, index))
                             }
                         }
                     }
@@ -2005,9 +2115,8 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
     }
 
     /**
-     * Currently, the hash value emitted from this could suddenly change as an object's index might
-     * alternate due to Realm Java using `Table#moveLastOver()`. Hash codes should therefore not
-     * be considered stable, i.e. don't save them in a HashSet or use them as a key in a HashMap.
+     * The hash code is based on the Realm file, the table key and the object key. It is computed once per accessor
+     * by [io.realm.ProxyState] and does not change as long as the object is valid.
      */
     @Throws(IOException::class)
     private fun emitHashcodeMethod(writer: JavaWriter) {
@@ -2017,15 +2126,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
         writer.apply {
             emitAnnotation("Override")
             beginMethod("int", "hashCode", EnumSet.of(Modifier.PUBLIC))
-                emitStatement("String realmName = proxyState.getRealm\$realm().getPath()")
-                emitStatement("String tableName = proxyState.getRow\$realm().getTable().getName()")
-                emitStatement("long objKey = proxyState.getRow\$realm().getObjectKey()")
-                emitEmptyLine()
-                emitStatement("int result = 17")
-                emitStatement("result = 31 * result + ((realmName != null) ? realmName.hashCode() : 0)")
-                emitStatement("result = 31 * result + ((tableName != null) ? tableName.hashCode() : 0)")
-                emitStatement("result = 31 * result + (int) (objKey ^ (objKey >>> 32))")
-                emitStatement("return result")
+                emitStatement("return proxyState.getIdentityHashCode()")
             endMethod()
             emitEmptyLine()
         }
@@ -2045,23 +2146,7 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
                 emitStatement("if (o == null || getClass() != o.getClass()) return false")
                 emitStatement("%s %s = (%s)o", proxyClassName, otherObjectVarName, proxyClassName)  // FooRealmProxy aFoo = (FooRealmProxy)o
                 emitEmptyLine()
-                emitStatement("BaseRealm realm = proxyState.getRealm\$realm()")
-                emitStatement("BaseRealm otherRealm = %s.proxyState.getRealm\$realm()", otherObjectVarName)
-                emitStatement("String path = realm.getPath()")
-                emitStatement("String otherPath = otherRealm.getPath()")
-                emitStatement("if (path != null ? !path.equals(otherPath) : otherPath != null) return false")
-                emitStatement("if (realm.isFrozen() != otherRealm.isFrozen()) return false")
-                beginControlFlow("if (!realm.sharedRealm.getVersionID().equals(otherRealm.sharedRealm.getVersionID()))")
-                    emitStatement("return false")
-                endControlFlow()
-                emitEmptyLine()
-                emitStatement("String tableName = proxyState.getRow\$realm().getTable().getName()")
-                emitStatement("String otherTableName = %s.proxyState.getRow\$realm().getTable().getName()", otherObjectVarName)
-                emitStatement("if (tableName != null ? !tableName.equals(otherTableName) : otherTableName != null) return false")
-                emitEmptyLine()
-                emitStatement("if (proxyState.getRow\$realm().getObjectKey() != %s.proxyState.getRow\$realm().getObjectKey()) return false", otherObjectVarName)
-                emitEmptyLine()
-                emitStatement("return true")
+                emitStatement("return proxyState.isSameObject(%s.proxyState)", otherObjectVarName)
             endMethod()
         }
     }
@@ -2312,10 +2397,40 @@ class RealmProxyClassGenerator(private val processingEnvironment: ProcessingEnvi
         return Utils.getSimpleColumnInfoClassName(qualifiedModelClassName)
     }
 
+    /**
+     * Returns the expression reading the value of a scalar field from the `rowValues` local variable. Null checks
+     * for boxed types are left to the caller.
+     */
+    private fun rowValueExpression(field: VariableElement, index: Int): String {
+        return when (field.asType().toString()) {
+            "byte", "java.lang.Byte" -> "(byte) rowValues.getLong($index)"
+            "short", "java.lang.Short" -> "(short) rowValues.getLong($index)"
+            "int", "java.lang.Integer" -> "(int) rowValues.getLong($index)"
+            "long", "java.lang.Long" -> "rowValues.getLong($index)"
+            "float", "java.lang.Float" -> "rowValues.getFloat($index)"
+            "double", "java.lang.Double" -> "rowValues.getDouble($index)"
+            "boolean", "java.lang.Boolean" -> "rowValues.getBoolean($index)"
+            "java.lang.String" -> "rowValues.getString($index)"
+            "java.util.Date" -> "rowValues.getDate($index)"
+            "byte[]" -> "rowValues.getBinaryByteArray($index)"
+            "org.bson.types.Decimal128" -> "rowValues.getDecimal128($index)"
+            "org.bson.types.ObjectId" -> "rowValues.getObjectId($index)"
+            else -> throw IllegalArgumentException("Unsupported scalar type: " + field.asType())
+        }
+    }
+
     private fun columnKeyVarName(variableElement: VariableElement): String {
         return "${variableElement.simpleName}ColKey"
     }
 
+    private fun cachedValueFieldName(variableElement: VariableElement): String {
+        return variableElement.simpleName.toString() + "CachedValue"
+    }
+
+    private fun stringInternerFieldName(variableElement: VariableElement): String {
+        return variableElement.simpleName.toString() + "StringInterner"
+    }
+
     private fun mutableRealmIntegerFieldName(variableElement: VariableElement): String {
         return "${variableElement.simpleName}MutableRealmInteger"
     }
@@ -35,7 +35,7 @@ class RealmProxyInterfaceGenerator(private val processingEnvironment: Processing
     @Throws(IOException::class)
     fun generate() {
         val qualifiedGeneratedInterfaceName = String.format(Locale.US, "%s.%s", Constants.REALM_PACKAGE_NAME, Utils.getProxyInterfaceName(className))
-        val sourceFile = processingEnvironment.filer.createSourceFile(qualifiedGeneratedInterfaceName)
+        val sourceFile = processingEnvironment.filer.createSourceFile(qualifiedGeneratedInterfaceName, metaData.classElement)
         val writer = JavaWriter(BufferedWriter(sourceFile.openWriter()!!))
         writer.apply {
             indent = Constants.INDENT
@@ -26,6 +26,7 @@ import java.util.EnumSet
 import java.util.Locale
 
 import javax.annotation.processing.ProcessingEnvironment
+import javax.lang.model.element.Element
 import javax.lang.model.element.Modifier
 
 import io.realm.annotations.RealmModule
@@ -35,6 +36,8 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
                                   private val className: SimpleClassName,
                                   classesToValidate: Set<ClassMetaData>) {
 
+    private val originatingElements: Array<Element> = classesToValidate.map { it.classElement }.toTypedArray()
+
     private val qualifiedModelClasses = ArrayList<QualifiedClassName>()
     private val qualifiedProxyClasses = ArrayList<QualifiedClassName>()
     private val simpleModelClassNames = ArrayList<SimpleClassName>()
@@ -55,7 +58,7 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
     @Throws(IOException::class)
     fun generate() {
         val qualifiedGeneratedClassName: String = String.format(Locale.US, "%s.%sMediator", Constants.REALM_PACKAGE_NAME, className)
-        val sourceFile: JavaFileObject = processingEnvironment.filer.createSourceFile(qualifiedGeneratedClassName)
+        val sourceFile: JavaFileObject = processingEnvironment.filer.createSourceFile(qualifiedGeneratedClassName, *originatingElements)
         val imports = ArrayList(Arrays.asList("android.util.JsonReader",
                 "java.io.IOException",
                 "java.util.Collections",
@@ -92,6 +95,7 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
             emitFields(this)
             emitGetExpectedObjectSchemaInfoMap(this)
             emitCreateColumnInfoMethod(this)
+            emitGetClassIdMethod(this)
             emitGetSimpleClassNameMethod(this)
             emitNewInstanceMethod(this)
             emitGetClassModelList(this)
@@ -122,6 +126,16 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
             emitStatement("MODEL_CLASSES = Collections.unmodifiableSet(modelClasses)")
             endInitializer()
             emitEmptyLine()
+
+            emitField("Map<Class<? extends RealmModel>, Integer>", "CLASS_IDS", EnumSet.of(Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL))
+            beginInitializer(true)
+            emitStatement("Map<Class<? extends RealmModel>, Integer> classIds = new HashMap<Class<? extends RealmModel>, Integer>(%s)", qualifiedModelClasses.size)
+            for (i in qualifiedModelClasses.indices) {
+                emitStatement("classIds.put(%s.class, %s)", qualifiedModelClasses[i], i)
+            }
+            emitStatement("CLASS_IDS = Collections.unmodifiableMap(classIds)")
+            endInitializer()
+            emitEmptyLine()
         }
     }
 
@@ -159,6 +173,18 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
         }
     }
 
+    @Throws(IOException::class)
+    private fun emitGetClassIdMethod(writer: JavaWriter) {
+        writer.apply {
+            emitAnnotation("Override")
+            beginMethod("int", "getClassId", EnumSet.of(Modifier.PUBLIC), "Class<? extends RealmModel>", "clazz")
+                emitStatement("Integer classId = CLASS_IDS.get(clazz)")
+                emitStatement("return (classId != null) ? classId : UNKNOWN_CLASS_ID")
+            endMethod()
+            emitEmptyLine()
+        }
+    }
+
     @Throws(IOException::class)
     private fun emitGetSimpleClassNameMethod(writer: JavaWriter) {
         writer.apply {
@@ -259,7 +285,7 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
                     emitSingleLineComment("generated by RealmProxy or the original type extending directly from RealmObject")
                     emitStatement("@SuppressWarnings(\"unchecked\") Class<RealmModel> clazz = (Class<RealmModel>) ((object instanceof RealmObjectProxy) ? object.getClass().getSuperclass() : object.getClass())")
                     emitEmptyLine()
-                    emitMediatorSwitch(writer, false, { i: Int ->
+                    emitMediatorSwitch(writer, false, { i: Int -> embeddedClass[i] }, { i: Int ->
                         if (embeddedClass[i]) {
                             emitEmbeddedObjectsCannotBeCopiedException(writer)
                         } else {
@@ -290,7 +316,7 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
                 emitSingleLineComment("generated by RealmProxy or the original type extending directly from RealmObject")
                 emitStatement("@SuppressWarnings(\"unchecked\") Class<RealmModel> clazz = (Class<RealmModel>) ((obj instanceof RealmObjectProxy) ? obj.getClass().getSuperclass() : obj.getClass())")
                 emitEmptyLine()
-                emitMediatorSwitch(writer, false, { i: Int ->
+                emitMediatorSwitch(writer, false, { i: Int -> embeddedClass[i] }, { i: Int ->
                     if (embeddedClass[i]) {
                         emitEmbeddedObjectsCannotBeCopiedException(writer)
                     } else {
@@ -328,7 +354,7 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
                 emitStatement("@SuppressWarnings(\"unchecked\") Class<RealmModel> clazz = (Class<RealmModel>) ((object instanceof RealmObjectProxy) ? object.getClass().getSuperclass() : object.getClass())")
                 emitEmptyLine()
 
-                emitMediatorSwitch(writer, false) { i: Int ->
+                emitMediatorSwitch(writer, false, { i: Int -> embeddedClass[i] }) { i: Int ->
                     if (embeddedClass[i]) {
                         emitEmbeddedObjectsCannotBeCopiedException(writer)
                     } else {
@@ -337,7 +363,7 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
                 }
 
                 beginControlFlow("if (iterator.hasNext())")
-                emitMediatorSwitch(writer, false) { i: Int ->
+                emitMediatorSwitch(writer, false, { i: Int -> embeddedClass[i] }) { i: Int ->
                     if (embeddedClass[i]) {
                         emitEmbeddedObjectsCannotBeCopiedException(writer)
                     } else {
@@ -384,7 +410,7 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
                             .emitStatement("@SuppressWarnings(\"unchecked\") Class<RealmModel> clazz = (Class<RealmModel>) ((object instanceof RealmObjectProxy) ? object.getClass().getSuperclass() : object.getClass())")
                             .emitEmptyLine()
 
-                    emitMediatorSwitch(writer, false, { i: Int ->
+                    emitMediatorSwitch(writer, false, { i: Int -> embeddedClass[i] }, { i: Int ->
                         if (embeddedClass[i]) {
                             emitEmbeddedObjectsCannotBeCopiedException(writer)
                         } else {
@@ -393,7 +419,7 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
                     })
 
                     beginControlFlow("if (iterator.hasNext())")
-                    emitMediatorSwitch(writer, false, { i: Int ->
+                    emitMediatorSwitch(writer, false, { i: Int -> embeddedClass[i] }, { i: Int ->
                         if (embeddedClass[i]) {
                             emitEmbeddedObjectsCannotBeCopiedException(writer)
                         } else {
@@ -517,7 +543,7 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
             emitSingleLineComment("generated by RealmProxy or the original type extending directly from RealmObject")
             emitStatement("@SuppressWarnings(\"unchecked\") Class<E> clazz = (Class<E>) managedObject.getClass().getSuperclass()")
             emitEmptyLine()
-            emitMediatorSwitch(writer, false) { i: Int ->
+            emitMediatorSwitch(writer, false, { i: Int -> !embeddedClass[i] }) { i: Int ->
                 if (embeddedClass[i]) {
                     emitStatement("%1\$s.updateEmbeddedObject(realm, (%2\$s) unmanagedObject, (%2\$s) managedObject, cache, flags)", qualifiedProxyClasses[i], qualifiedModelClasses[i])
                 } else {
@@ -530,11 +556,12 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
     }
 
 
-    // Emits the control flow for selecting the appropriate proxy class based on the model class
-    // Currently it is just if..else, which is inefficient for large amounts amounts of model classes.
-    // Consider switching to HashMap or similar.
+    // Emits the control flow for selecting the appropriate proxy class based on the model class.
+    // Dispatching is done on the dense class id returned by `getClassId()`, so the cost of a call
+    // does not depend on the number of model classes in the module. `isTerminal` must return
+    // true for all cases where the emitted statements never complete normally, e.g. by throwing.
     @Throws(IOException::class)
-    private fun emitMediatorSwitch(writer: JavaWriter, nullPointerCheck: Boolean, emitStatement: (index: Int) -> Unit) {
+    private fun emitMediatorSwitch(writer: JavaWriter, nullPointerCheck: Boolean, isTerminal: (index: Int) -> Boolean, emitStatement: (index: Int) -> Unit) {
         writer.apply {
             if (nullPointerCheck) {
                 emitStatement("checkClass(clazz)")
@@ -543,33 +570,27 @@ class RealmProxyMediatorGenerator(private val processingEnvironment: ProcessingE
             if (qualifiedModelClasses.isEmpty()) {
                 emitStatement("throw getMissingProxyClassException(clazz)")
             } else {
-                beginControlFlow("if (clazz.equals(%s.class))", qualifiedModelClasses[0])
-                emitStatement(0)
-                for (i in 1 until qualifiedModelClasses.size) {
-                    nextControlFlow("else if (clazz.equals(%s.class))", qualifiedModelClasses[i])
+                beginControlFlow("switch (getClassId(clazz))")
+                for (i in qualifiedModelClasses.indices) {
+                    beginControlFlow("case %s:", i)
                     emitStatement(i)
+                    if (!isTerminal(i)) {
+                        emitStatement("break")
+                    }
+                    endControlFlow()
                 }
-                nextControlFlow("else")
+                beginControlFlow("default:")
                 emitStatement("throw getMissingProxyClassException(clazz)")
                 endControlFlow()
+                endControlFlow()
             }
         }
     }
 
+    // Same as `emitMediatorSwitch` but for cases that all either return or throw.
     @Throws(IOException::class)
     private fun emitMediatorShortCircuitSwitch(writer: JavaWriter, nullPointerCheck: Boolean = true, emitStatement: (index: Int) -> Unit) {
-        writer.apply {
-            if (nullPointerCheck) {
-                emitStatement("checkClass(clazz)")
-                emitEmptyLine()
-            }
-            for (i in qualifiedModelClasses.indices) {
-                beginControlFlow("if (clazz.equals(%s.class))", qualifiedModelClasses[i])
-                emitStatement(i)
-                endControlFlow()
-            }
-            emitStatement("throw getMissingProxyClassException(clazz)")
-        }
+        emitMediatorSwitch(writer, nullPointerCheck, { true }, emitStatement)
     }
 
 }
@@ -22,12 +22,34 @@ import org.junit.Ignore;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
 import java.util.Arrays;
-
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.processing.Completion;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.Processor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
 import javax.tools.JavaFileObject;
 
 import static com.google.testing.compile.JavaSourceSubjectFactory.javaSource;
 import static com.google.testing.compile.JavaSourcesSubjectFactory.javaSources;
+import static org.junit.Assert.assertEquals;
 import static org.truth0.Truth.ASSERT;
 
 
@@ -40,6 +62,10 @@ public class RealmProcessorTest {
     private final JavaFileObject allTypesDefaultMediator = JavaFileObjects.forResource("io/realm/RealmDefaultModuleMediator.java");
     private final JavaFileObject booleansModel = JavaFileObjects.forResource("some/test/Booleans.java");
     private final JavaFileObject booleansProxy = JavaFileObjects.forResource("io/realm/some_test_BooleansRealmProxy.java");
+    private final JavaFileObject cachedFieldsModel = JavaFileObjects.forResource("some/test/CachedFields.java");
+    private final JavaFileObject cachedFieldsProxy = JavaFileObjects.forResource("io/realm/some_test_CachedFieldsRealmProxy.java");
+    private final JavaFileObject internedFieldsModel = JavaFileObjects.forResource("some/test/InternedFields.java");
+    private final JavaFileObject internedFieldsProxy = JavaFileObjects.forResource("io/realm/some_test_InternedFieldsRealmProxy.java");
     private final JavaFileObject emptyModel = JavaFileObjects.forResource("some/test/Empty.java");
     private final JavaFileObject finalModel = JavaFileObjects.forResource("some/test/Final.java");
     private final JavaFileObject transientModel = JavaFileObjects.forResource("some/test/Transient.java");
@@ -249,6 +275,26 @@ public class RealmProcessorTest {
                 .generatesSources(booleansProxy);
     }
 
+    @Test
+    public void compareProcessedCachedFieldsFile() {
+        ASSERT.about(javaSource())
+                .that(cachedFieldsModel)
+                .processedWith(new RealmProcessor())
+                .compilesWithoutError()
+                .and()
+                .generatesSources(cachedFieldsProxy);
+    }
+
+    @Test
+    public void compareProcessedInternedFieldsFile() {
+        ASSERT.about(javaSource())
+                .that(internedFieldsModel)
+                .processedWith(new RealmProcessor())
+                .compilesWithoutError()
+                .and()
+                .generatesSources(internedFieldsProxy);
+    }
+
     @Test
     public void compileMissingGenericType() {
         ASSERT.about(javaSource())
@@ -305,6 +351,52 @@ public class RealmProcessorTest {
         }
     }
 
+    // Supported "Cached" annotation types
+    @Test
+    public void compileCachedTypes() throws IOException {
+        final String[] validCachedFieldTypes = {"byte", "short", "int", "long", "float", "double", "boolean", "String",
+                "java.util.Date", "byte[]", "Byte", "Short", "Integer", "Long", "Float", "Double", "Boolean"};
+
+        for (String fieldType : validCachedFieldTypes) {
+            RealmSyntheticTestClass javaFileObject =
+                    new RealmSyntheticTestClass.Builder().name("ValidCachedType").field("testField", fieldType, "Cached").build();
+            ASSERT.about(javaSource())
+                    .that(javaFileObject)
+                    .processedWith(new RealmProcessor())
+                    .compilesWithoutError();
+        }
+    }
+
+    // Unsupported "Cached" annotation types
+    @Test
+    public void compileInvalidCachedTypes() throws IOException {
+        final String[] invalidCachedFieldTypes = {"Simple", "RealmList"};
+
+        for (String fieldType : invalidCachedFieldTypes) {
+            RealmSyntheticTestClass javaFileObject =
+                    new RealmSyntheticTestClass.Builder().name("InvalidCachedType").field("testField", fieldType, "Cached").build();
+            ASSERT.about(javaSource())
+                    .that(javaFileObject)
+                    .processedWith(new RealmProcessor())
+                    .failsToCompile();
+        }
+    }
+
+    // Unsupported "Interned" annotation types
+    @Test
+    public void compileInvalidInternedTypes() throws IOException {
+        final String[] invalidInternedFieldTypes = {"int", "Long", "java.util.Date", "byte[]", "Simple", "RealmList"};
+
+        for (String fieldType : invalidInternedFieldTypes) {
+            RealmSyntheticTestClass javaFileObject =
+                    new RealmSyntheticTestClass.Builder().name("InvalidInternedType").field("testField", fieldType, "Interned").build();
+            ASSERT.about(javaSource())
+                    .that(javaFileObject)
+                    .processedWith(new RealmProcessor())
+                    .failsToCompile();
+        }
+    }
+
     // Supported "PrimaryKey" annotation types
     @Test
     public void compilePrimaryKeyTypes() throws IOException {
@@ -475,4 +567,108 @@ public class RealmProcessorTest {
                 .processedWith(new RealmProcessor())
                 .compilesWithoutError();
     }
+
+    // Every class must end up in the default module and its mediator, while each proxy and proxy interface is tied
+    // to its own model class only.
+    @Test
+    public void compileLargeSyntheticModelSet() {
+        final int modelCount = 500;
+        List<JavaFileObject> models = new ArrayList<>(modelCount);
+        for (int i = 0; i < modelCount; i++) {
+            String className = String.format(Locale.US, "Synthetic%03d", i);
+            models.add(JavaFileObjects.forSourceString("some.test." + className,
+                    "package some.test;\n" +
+                    "import io.realm.RealmObject;\n" +
+                    "public class " + className + " extends RealmObject {\n" +
+                    "    private long id;\n" +
+                    "    private String name;\n" +
+                    "    private double value;\n" +
+                    "}\n"));
+        }
+
+        OriginatingElementsRecorder recorder = new OriginatingElementsRecorder(new RealmProcessor());
+        ASSERT.about(javaSources())
+                .that(models)
+                .processedWith(recorder)
+                .compilesWithoutError();
+
+        for (int i = 0; i < modelCount; i++) {
+            String className = String.format(Locale.US, "Synthetic%03d", i);
+            List<String> expected = Collections.singletonList("some.test." + className);
+            assertEquals(expected, recorder.originatingElements.get("io.realm.some_test_" + className + "RealmProxy"));
+            assertEquals(expected, recorder.originatingElements.get("io.realm.some_test_" + className + "RealmProxyInterface"));
+        }
+        assertEquals(modelCount, recorder.originatingElements.get("io.realm.DefaultRealmModule").size());
+        assertEquals(modelCount, recorder.originatingElements.get("io.realm.DefaultRealmModuleMediator").size());
+    }
+
+    // Forwards to a processor and records the originating elements of every source file it creates.
+    private static class OriginatingElementsRecorder implements Processor {
+        private final Processor processor;
+        private final Map<String, List<String>> originatingElements = new HashMap<>();
+
+        OriginatingElementsRecorder(Processor processor) {
+            this.processor = processor;
+        }
+
+        @Override
+        public Set<String> getSupportedOptions() {
+            return processor.getSupportedOptions();
+        }
+
+        @Override
+        public Set<String> getSupportedAnnotationTypes() {
+            return processor.getSupportedAnnotationTypes();
+        }
+
+        @Override
+        public SourceVersion getSupportedSourceVersion() {
+            return processor.getSupportedSourceVersion();
+        }
+
+        @Override
+        public void init(final ProcessingEnvironment env) {
+            final Filer filer = (Filer) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] {Filer.class},
+                    new InvocationHandler() {
+                        @Override
+                        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                            if (method.getName().equals("createSourceFile")) {
+                                List<String> elements = new ArrayList<>();
+                                for (Element element : (Element[]) args[1]) {
+                                    elements.add(((TypeElement) element).getQualifiedName().toString());
+                                }
+                                originatingElements.put(args[0].toString(), elements);
+                            }
+                            return invokeUnwrapped(method, env.getFiler(), args);
+                        }
+                    });
+            processor.init((ProcessingEnvironment) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {ProcessingEnvironment.class},
+                    new InvocationHandler() {
+                        @Override
+                        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+                            return method.getName().equals("getFiler") ? filer : invokeUnwrapped(method, env, args);
+                        }
+                    }));
+        }
+
+        @Override
+        public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+            return processor.process(annotations, roundEnv);
+        }
+
+        @Override
+        public Iterable<? extends Completion> getCompletions(Element element, AnnotationMirror annotation,
+                ExecutableElement member, String userText) {
+            return processor.getCompletions(element, annotation, member, userText);
+        }
+
+        private static Object invokeUnwrapped(Method method, Object target, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
 }
@@ -31,6 +31,13 @@ class DefaultRealmModuleMediator extends RealmProxyMediator {
         MODEL_CLASSES = Collections.unmodifiableSet(modelClasses);
     }
 
+    private static final Map<Class<? extends RealmModel>, Integer> CLASS_IDS;
+    static {
+        Map<Class<? extends RealmModel>, Integer> classIds = new HashMap<Class<? extends RealmModel>, Integer>(1);
+        classIds.put(some.test.AllTypes.class, 0);
+        CLASS_IDS = Collections.unmodifiableMap(classIds);
+    }
+
     @Override
     public Map<Class<? extends RealmModel>, OsObjectSchemaInfo> getExpectedObjectSchemaInfoMap() {
         Map<Class<? extends RealmModel>, OsObjectSchemaInfo> infoMap = new HashMap<Class<? extends RealmModel>, OsObjectSchemaInfo>(1);
@@ -42,20 +49,34 @@ class DefaultRealmModuleMediator extends RealmProxyMediator {
     public ColumnInfo createColumnInfo(Class<? extends RealmModel> clazz, OsSchemaInfo schemaInfo) {
         checkClass(clazz);
 
-        if (clazz.equals(some.test.AllTypes.class)) {
-            return io.realm.some_test_AllTypesRealmProxy.createColumnInfo(schemaInfo);
+        switch (getClassId(clazz)) {
+            case 0: {
+                return io.realm.some_test_AllTypesRealmProxy.createColumnInfo(schemaInfo);
+            }
+            default: {
+                throw getMissingProxyClassException(clazz);
+            }
         }
-        throw getMissingProxyClassException(clazz);
+    }
+
+    @Override
+    public int getClassId(Class<? extends RealmModel> clazz) {
+        Integer classId = CLASS_IDS.get(clazz);
+        return (classId != null) ? classId : UNKNOWN_CLASS_ID;
     }
 
     @Override
     public String getSimpleClassNameImpl(Class<? extends RealmModel> clazz) {
         checkClass(clazz);
 
-        if (clazz.equals(some.test.AllTypes.class)) {
-            return "AllTypes";
+        switch (getClassId(clazz)) {
+            case 0: {
+                return "AllTypes";
+            }
+            default: {
+                throw getMissingProxyClassException(clazz);
+            }
         }
-        throw getMissingProxyClassException(clazz);
     }
 
     @Override
@@ -65,10 +86,14 @@ class DefaultRealmModuleMediator extends RealmProxyMediator {
             objectContext.set((BaseRealm) baseRealm, row, columnInfo, acceptDefaultValue, excludeFields);
             checkClass(clazz);
 
-            if (clazz.equals(some.test.AllTypes.class)) {
-                return clazz.cast(new io.realm.some_test_AllTypesRealmProxy());
+            switch (getClassId(clazz)) {
+                case 0: {
+                    return clazz.cast(new io.realm.some_test_AllTypesRealmProxy());
+                }
+                default: {
+                    throw getMissingProxyClassException(clazz);
+                }
             }
-            throw getMissingProxyClassException(clazz);
         } finally {
             objectContext.clear();
         }
@@ -85,11 +110,15 @@ class DefaultRealmModuleMediator extends RealmProxyMediator {
         // generated by RealmProxy or the original type extending directly from RealmObject
         @SuppressWarnings("unchecked") Class<E> clazz = (Class<E>) ((obj instanceof RealmObjectProxy) ? obj.getClass().getSuperclass() : obj.getClass());
 
-        if (clazz.equals(some.test.AllTypes.class)) {
-            some_test_AllTypesRealmProxy.AllTypesColumnInfo columnInfo = (some_test_AllTypesRealmProxy.AllTypesColumnInfo) realm.getSchema().getColumnInfo(some.test.AllTypes.class);
-            return clazz.cast(io.realm.some_test_AllTypesRealmProxy.copyOrUpdate(realm, columnInfo, (some.test.AllTypes) obj, update, cache, flags));
+        switch (getClassId(clazz)) {
+            case 0: {
+                some_test_AllTypesRealmProxy.AllTypesColumnInfo columnInfo = (some_test_AllTypesRealmProxy.AllTypesColumnInfo) realm.getSchema().getColumnInfo(some.test.AllTypes.class);
+                return clazz.cast(io.realm.some_test_AllTypesRealmProxy.copyOrUpdate(realm, columnInfo, (some.test.AllTypes) obj, update, cache, flags));
+            }
+            default: {
+                throw getMissingProxyClassException(clazz);
+            }
         }
-        throw getMissingProxyClassException(clazz);
     }
 
     @Override
@@ -98,10 +127,14 @@ class DefaultRealmModuleMediator extends RealmProxyMediator {
         // generated by RealmProxy or the original type extending directly from RealmObject
         @SuppressWarnings("unchecked") Class<RealmModel> clazz = (Class<RealmModel>) ((object instanceof RealmObjectProxy) ? object.getClass().getSuperclass() : object.getClass());
 
-        if (clazz.equals(some.test.AllTypes.class)) {
-            io.realm.some_test_AllTypesRealmProxy.insert(realm, (some.test.AllTypes) object, cache);
-        } else {
-            throw getMissingProxyClassException(clazz);
+        switch (getClassId(clazz)) {
+            case 0: {
+                io.realm.some_test_AllTypesRealmProxy.insert(realm, (some.test.AllTypes) object, cache);
+                break;
+            }
+            default: {
+                throw getMissingProxyClassException(clazz);
+            }
         }
     }
 
@@ -117,16 +150,24 @@ class DefaultRealmModuleMediator extends RealmProxyMediator {
             // generated by RealmProxy or the original type extending directly from RealmObject
             @SuppressWarnings("unchecked") Class<RealmModel> clazz = (Class<RealmModel>) ((object instanceof RealmObjectProxy) ? object.getClass().getSuperclass() : object.getClass());
 
-            if (clazz.equals(some.test.AllTypes.class)) {
-                io.realm.some_test_AllTypesRealmProxy.insert(realm, (some.test.AllTypes) object, cache);
-            } else {
-                throw getMissingProxyClassException(clazz);
+            switch (getClassId(clazz)) {
+                case 0: {
+                    io.realm.some_test_AllTypesRealmProxy.insert(realm, (some.test.AllTypes) object, cache);
+                    break;
+                }
+                default: {
+                    throw getMissingProxyClassException(clazz);
+                }
             }
             if (iterator.hasNext()) {
-                if (clazz.equals(some.test.AllTypes.class)) {
-                    io.realm.some_test_AllTypesRealmProxy.insert(realm, iterator, cache);
-                } else {
-                    throw getMissingProxyClassException(clazz);
+                switch (getClassId(clazz)) {
+                    case 0: {
+                        io.realm.some_test_AllTypesRealmProxy.insert(realm, iterator, cache);
+                        break;
+                    }
+                    default: {
+                        throw getMissingProxyClassException(clazz);
+                    }
                 }
             }
         }
@@ -138,10 +179,14 @@ class DefaultRealmModuleMediator extends RealmProxyMediator {
         // generated by RealmProxy or the original type extending directly from RealmObject
         @SuppressWarnings("unchecked") Class<RealmModel> clazz = (Class<RealmModel>) ((obj instanceof RealmObjectProxy) ? obj.getClass().getSuperclass() : obj.getClass());
 
-        if (clazz.equals(some.test.AllTypes.class)) {
-            io.realm.some_test_AllTypesRealmProxy.insertOrUpdate(realm, (some.test.AllTypes) obj, cache);
-        } else {
-            throw getMissingProxyClassException(clazz);
+        switch (getClassId(clazz)) {
+            case 0: {
+                io.realm.some_test_AllTypesRealmProxy.insertOrUpdate(realm, (some.test.AllTypes) obj, cache);
+                break;
+            }
+            default: {
+                throw getMissingProxyClassException(clazz);
+            }
         }
     }
 
@@ -157,16 +202,24 @@ class DefaultRealmModuleMediator extends RealmProxyMediator {
             // generated by RealmProxy or the original type extending directly from RealmObject
             @SuppressWarnings("unchecked") Class<RealmModel> clazz = (Class<RealmModel>) ((object instanceof RealmObjectProxy) ? object.getClass().getSuperclass() : object.getClass());
 
-            if (clazz.equals(some.test.AllTypes.class)) {
-                io.realm.some_test_AllTypesRealmProxy.insertOrUpdate(realm, (some.test.AllTypes) object, cache);
-            } else {
-                throw getMissingProxyClassException(clazz);
+            switch (getClassId(clazz)) {
+                case 0: {
+                    io.realm.some_test_AllTypesRealmProxy.insertOrUpdate(realm, (some.test.AllTypes) object, cache);
+                    break;
+                }
+                default: {
+                    throw getMissingProxyClassException(clazz);
+                }
             }
             if (iterator.hasNext()) {
-                if (clazz.equals(some.test.AllTypes.class)) {
-                    io.realm.some_test_AllTypesRealmProxy.insertOrUpdate(realm, iterator, cache);
-                } else {
-                    throw getMissingProxyClassException(clazz);
+                switch (getClassId(clazz)) {
+                    case 0: {
+                        io.realm.some_test_AllTypesRealmProxy.insertOrUpdate(realm, iterator, cache);
+                        break;
+                    }
+                    default: {
+                        throw getMissingProxyClassException(clazz);
+                    }
                 }
             }
         }
@@ -177,10 +230,14 @@ class DefaultRealmModuleMediator extends RealmProxyMediator {
             throws JSONException {
         checkClass(clazz);
 
-        if (clazz.equals(some.test.AllTypes.class)) {
-            return clazz.cast(io.realm.some_test_AllTypesRealmProxy.createOrUpdateUsingJsonObject(realm, json, update));
+        switch (getClassId(clazz)) {
+            case 0: {
+                return clazz.cast(io.realm.some_test_AllTypesRealmProxy.createOrUpdateUsingJsonObject(realm, json, update));
+            }
+            default: {
+                throw getMissingProxyClassException(clazz);
+            }
         }
-        throw getMissingProxyClassException(clazz);
     }
 
     @Override
@@ -188,10 +245,14 @@ class DefaultRealmModuleMediator extends RealmProxyMediator {
             throws IOException {
         checkClass(clazz);
 
-        if (clazz.equals(some.test.AllTypes.class)) {
-            return clazz.cast(io.realm.some_test_AllTypesRealmProxy.createUsingJsonStream(realm, reader));
+        switch (getClassId(clazz)) {
+            case 0: {
+                return clazz.cast(io.realm.some_test_AllTypesRealmProxy.createUsingJsonStream(realm, reader));
+            }
+            default: {
+                throw getMissingProxyClassException(clazz);
+            }
         }
-        throw getMissingProxyClassException(clazz);
     }
 
     @Override
@@ -200,18 +261,26 @@ class DefaultRealmModuleMediator extends RealmProxyMediator {
         // generated by RealmProxy or the original type extending directly from RealmObject
         @SuppressWarnings("unchecked") Class<E> clazz = (Class<E>) realmObject.getClass().getSuperclass();
 
-        if (clazz.equals(some.test.AllTypes.class)) {
-            return clazz.cast(io.realm.some_test_AllTypesRealmProxy.createDetachedCopy((some.test.AllTypes) realmObject, 0, maxDepth, cache));
+        switch (getClassId(clazz)) {
+            case 0: {
+                return clazz.cast(io.realm.some_test_AllTypesRealmProxy.createDetachedCopy((some.test.AllTypes) realmObject, 0, maxDepth, cache));
+            }
+            default: {
+                throw getMissingProxyClassException(clazz);
+            }
         }
-        throw getMissingProxyClassException(clazz);
     }
 
     @Override
     public <E extends RealmModel> boolean isEmbedded(Class<E> clazz) {
-        if (clazz.equals(some.test.AllTypes.class)) {
-            return false;
+        switch (getClassId(clazz)) {
+            case 0: {
+                return false;
+            }
+            default: {
+                throw getMissingProxyClassException(clazz);
+            }
         }
-        throw getMissingProxyClassException(clazz);
     }
 
     @Override
@@ -220,11 +289,14 @@ class DefaultRealmModuleMediator extends RealmProxyMediator {
         // generated by RealmProxy or the original type extending directly from RealmObject
         @SuppressWarnings("unchecked") Class<E> clazz = (Class<E>) managedObject.getClass().getSuperclass();
 
-        if (clazz.equals(some.test.AllTypes.class)) {
-            throw getNotEmbeddedClassException("some.test.AllTypes");
-        } else {
-            throw getMissingProxyClassException(clazz);
+        switch (getClassId(clazz)) {
+            case 0: {
+                throw getNotEmbeddedClassException("some.test.AllTypes");
+            }
+            default: {
+                throw getMissingProxyClassException(clazz);
+            }
         }
     }
 
-}
\ No newline at end of file
+}
@@ -16,6 +16,7 @@ import io.realm.internal.OsSchemaInfo;
 import io.realm.internal.Property;
 import io.realm.internal.RealmObjectProxy;
 import io.realm.internal.Row;
+import io.realm.internal.RowValues;
 import io.realm.internal.Table;
 import io.realm.internal.UncheckedRow;
 import io.realm.internal.android.JsonUtils;
@@ -64,6 +65,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
         long columnDateListColKey;
         long columnDecimal128ListColKey;
         long columnObjectIdListColKey;
+        long[] scalarColKeys;
 
         AllTypesColumnInfo(OsSchemaInfo schemaInfo) {
             super(25);
@@ -93,6 +95,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             this.columnDateListColKey = addColumnDetails("columnDateList", "columnDateList", objectSchemaInfo);
             this.columnDecimal128ListColKey = addColumnDetails("columnDecimal128List", "columnDecimal128List", objectSchemaInfo);
             this.columnObjectIdListColKey = addColumnDetails("columnObjectIdList", "columnObjectIdList", objectSchemaInfo);
+            this.scalarColKeys = new long[] {columnStringColKey, columnLongColKey, columnFloatColKey, columnDoubleColKey, columnBooleanColKey, columnDecimal128ColKey, columnObjectIdColKey, columnDateColKey, columnBinaryColKey};
             addBacklinkDetails(schemaInfo, "parentObjects", "AllTypes", "columnObject");
         }
 
@@ -135,6 +138,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             dst.columnDateListColKey = src.columnDateListColKey;
             dst.columnDecimal128ListColKey = src.columnDecimal128ListColKey;
             dst.columnObjectIdListColKey = src.columnObjectIdListColKey;
+            dst.scalarColKeys = src.scalarColKeys;
         }
     }
 
@@ -1634,7 +1638,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
         }
         org.bson.types.ObjectId realmGet$columnObjectId = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnObjectId();
         if (realmGet$columnObjectId != null) {
-            Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toString(), false);
+            Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toByteArray(), false);
         }
         java.util.Date realmGet$columnDate = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnDate();
         if (realmGet$columnDate != null) {
@@ -1866,7 +1870,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
             org.bson.types.ObjectId realmGet$columnObjectId = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnObjectId();
             if (realmGet$columnObjectId != null) {
-                Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toString(), false);
+                Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toByteArray(), false);
             }
             java.util.Date realmGet$columnDate = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnDate();
             if (realmGet$columnDate != null) {
@@ -2091,7 +2095,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
         }
         org.bson.types.ObjectId realmGet$columnObjectId = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnObjectId();
         if (realmGet$columnObjectId != null) {
-            Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toString(), false);
+            Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toByteArray(), false);
         } else {
             Table.nativeSetNull(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, false);
         }
@@ -2387,7 +2391,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
             }
             org.bson.types.ObjectId realmGet$columnObjectId = ((some_test_AllTypesRealmProxyInterface) object).realmGet$columnObjectId();
             if (realmGet$columnObjectId != null) {
-                Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toString(), false);
+                Table.nativeSetObjectId(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, realmGet$columnObjectId.toByteArray(), false);
             } else {
                 Table.nativeSetNull(tableNativePtr, columnInfo.columnObjectIdColKey, objKey, false);
             }
@@ -2664,15 +2668,18 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
         }
         some_test_AllTypesRealmProxyInterface unmanagedCopy = (some_test_AllTypesRealmProxyInterface) unmanagedObject;
         some_test_AllTypesRealmProxyInterface realmSource = (some_test_AllTypesRealmProxyInterface) realmObject;
-        unmanagedCopy.realmSet$columnString(realmSource.realmGet$columnString());
-        unmanagedCopy.realmSet$columnLong(realmSource.realmGet$columnLong());
-        unmanagedCopy.realmSet$columnFloat(realmSource.realmGet$columnFloat());
-        unmanagedCopy.realmSet$columnDouble(realmSource.realmGet$columnDouble());
-        unmanagedCopy.realmSet$columnBoolean(realmSource.realmGet$columnBoolean());
-        unmanagedCopy.realmSet$columnDecimal128(realmSource.realmGet$columnDecimal128());
-        unmanagedCopy.realmSet$columnObjectId(realmSource.realmGet$columnObjectId());
-        unmanagedCopy.realmSet$columnDate(realmSource.realmGet$columnDate());
-        unmanagedCopy.realmSet$columnBinary(realmSource.realmGet$columnBinary());
+        some_test_AllTypesRealmProxy realmProxy = (some_test_AllTypesRealmProxy) realmObject;
+        realmProxy.proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(realmProxy.proxyState.getRow$realm(), realmProxy.columnInfo.scalarColKeys);
+        unmanagedCopy.realmSet$columnString(rowValues.getString(0));
+        unmanagedCopy.realmSet$columnLong(rowValues.getLong(1));
+        unmanagedCopy.realmSet$columnFloat(rowValues.getFloat(2));
+        unmanagedCopy.realmSet$columnDouble(rowValues.getDouble(3));
+        unmanagedCopy.realmSet$columnBoolean(rowValues.getBoolean(4));
+        unmanagedCopy.realmSet$columnDecimal128(rowValues.getDecimal128(5));
+        unmanagedCopy.realmSet$columnObjectId(rowValues.getObjectId(6));
+        unmanagedCopy.realmSet$columnDate(rowValues.getDate(7));
+        unmanagedCopy.realmSet$columnBinary(rowValues.getBinaryByteArray(8));
         unmanagedCopy.realmGet$columnMutableRealmInteger().set(realmSource.realmGet$columnMutableRealmInteger().get());
 
         // Deep copy of columnObject
@@ -2831,41 +2838,43 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
         if (!RealmObject.isValid(this)) {
             return "Invalid object";
         }
+        proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(proxyState.getRow$realm(), columnInfo.scalarColKeys);
         StringBuilder stringBuilder = new StringBuilder("AllTypes = proxy[");
         stringBuilder.append("{columnString:");
-        stringBuilder.append(realmGet$columnString() != null ? realmGet$columnString() : "null");
+        stringBuilder.append(rowValues.isNull(0) ? "null" : rowValues.getString(0));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{columnLong:");
-        stringBuilder.append(realmGet$columnLong());
+        stringBuilder.append(rowValues.getLong(1));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{columnFloat:");
-        stringBuilder.append(realmGet$columnFloat());
+        stringBuilder.append(rowValues.getFloat(2));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{columnDouble:");
-        stringBuilder.append(realmGet$columnDouble());
+        stringBuilder.append(rowValues.getDouble(3));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{columnBoolean:");
-        stringBuilder.append(realmGet$columnBoolean());
+        stringBuilder.append(rowValues.getBoolean(4));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{columnDecimal128:");
-        stringBuilder.append(realmGet$columnDecimal128());
+        stringBuilder.append(rowValues.getDecimal128(5));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{columnObjectId:");
-        stringBuilder.append(realmGet$columnObjectId());
+        stringBuilder.append(rowValues.getObjectId(6));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{columnDate:");
-        stringBuilder.append(realmGet$columnDate());
+        stringBuilder.append(rowValues.getDate(7));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{columnBinary:");
-        stringBuilder.append("binary(" + realmGet$columnBinary().length + ")");
+        stringBuilder.append("binary(" + rowValues.getBinaryByteArray(8).length + ")");
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{columnMutableRealmInteger:");
@@ -2942,15 +2951,7 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
 
     @Override
     public int hashCode() {
-        String realmName = proxyState.getRealm$realm().getPath();
-        String tableName = proxyState.getRow$realm().getTable().getName();
-        long objKey = proxyState.getRow$realm().getObjectKey();
-
-        int result = 17;
-        result = 31 * result + ((realmName != null) ? realmName.hashCode() : 0);
-        result = 31 * result + ((tableName != null) ? tableName.hashCode() : 0);
-        result = 31 * result + (int) (objKey ^ (objKey >>> 32));
-        return result;
+        return proxyState.getIdentityHashCode();
     }
 
     @Override
@@ -2959,22 +2960,6 @@ public class some_test_AllTypesRealmProxy extends some.test.AllTypes
         if (o == null || getClass() != o.getClass()) return false;
         some_test_AllTypesRealmProxy aAllTypes = (some_test_AllTypesRealmProxy)o;
 
-        BaseRealm realm = proxyState.getRealm$realm();
-        BaseRealm otherRealm = aAllTypes.proxyState.getRealm$realm();
-        String path = realm.getPath();
-        String otherPath = otherRealm.getPath();
-        if (path != null ? !path.equals(otherPath) : otherPath != null) return false;
-        if (realm.isFrozen() != otherRealm.isFrozen()) return false;
-        if (!realm.sharedRealm.getVersionID().equals(otherRealm.sharedRealm.getVersionID())) {
-            return false;
-        }
-
-        String tableName = proxyState.getRow$realm().getTable().getName();
-        String otherTableName = aAllTypes.proxyState.getRow$realm().getTable().getName();
-        if (tableName != null ? !tableName.equals(otherTableName) : otherTableName != null) return false;
-
-        if (proxyState.getRow$realm().getObjectKey() != aAllTypes.proxyState.getRow$realm().getObjectKey()) return false;
-
-        return true;
+        return proxyState.isSameObject(aAllTypes.proxyState);
     }
 }
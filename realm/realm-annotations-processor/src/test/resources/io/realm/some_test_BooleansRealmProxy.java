@@ -16,6 +16,7 @@ import io.realm.internal.OsSchemaInfo;
 import io.realm.internal.Property;
 import io.realm.internal.RealmObjectProxy;
 import io.realm.internal.Row;
+import io.realm.internal.RowValues;
 import io.realm.internal.Table;
 import io.realm.internal.android.JsonUtils;
 import io.realm.internal.objectstore.OsObjectBuilder;
@@ -42,6 +43,7 @@ public class some_test_BooleansRealmProxy extends some.test.Booleans
         long isReadyColKey;
         long mCompletedColKey;
         long anotherBooleanColKey;
+        long[] scalarColKeys;
 
         BooleansColumnInfo(OsSchemaInfo schemaInfo) {
             super(4);
@@ -50,6 +52,7 @@ public class some_test_BooleansRealmProxy extends some.test.Booleans
             this.isReadyColKey = addColumnDetails("isReady", "isReady", objectSchemaInfo);
             this.mCompletedColKey = addColumnDetails("mCompleted", "mCompleted", objectSchemaInfo);
             this.anotherBooleanColKey = addColumnDetails("anotherBoolean", "anotherBoolean", objectSchemaInfo);
+            this.scalarColKeys = new long[] {doneColKey, isReadyColKey, mCompletedColKey, anotherBooleanColKey};
         }
 
         BooleansColumnInfo(ColumnInfo src, boolean mutable) {
@@ -70,6 +73,7 @@ public class some_test_BooleansRealmProxy extends some.test.Booleans
             dst.isReadyColKey = src.isReadyColKey;
             dst.mCompletedColKey = src.mCompletedColKey;
             dst.anotherBooleanColKey = src.anotherBooleanColKey;
+            dst.scalarColKeys = src.scalarColKeys;
         }
     }
 
@@ -444,10 +448,13 @@ public class some_test_BooleansRealmProxy extends some.test.Booleans
         }
         some_test_BooleansRealmProxyInterface unmanagedCopy = (some_test_BooleansRealmProxyInterface) unmanagedObject;
         some_test_BooleansRealmProxyInterface realmSource = (some_test_BooleansRealmProxyInterface) realmObject;
-        unmanagedCopy.realmSet$done(realmSource.realmGet$done());
-        unmanagedCopy.realmSet$isReady(realmSource.realmGet$isReady());
-        unmanagedCopy.realmSet$mCompleted(realmSource.realmGet$mCompleted());
-        unmanagedCopy.realmSet$anotherBoolean(realmSource.realmGet$anotherBoolean());
+        some_test_BooleansRealmProxy realmProxy = (some_test_BooleansRealmProxy) realmObject;
+        realmProxy.proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(realmProxy.proxyState.getRow$realm(), realmProxy.columnInfo.scalarColKeys);
+        unmanagedCopy.realmSet$done(rowValues.getBoolean(0));
+        unmanagedCopy.realmSet$isReady(rowValues.getBoolean(1));
+        unmanagedCopy.realmSet$mCompleted(rowValues.getBoolean(2));
+        unmanagedCopy.realmSet$anotherBoolean(rowValues.getBoolean(3));
 
         return unmanagedObject;
     }
@@ -458,21 +465,23 @@ public class some_test_BooleansRealmProxy extends some.test.Booleans
         if (!RealmObject.isValid(this)) {
             return "Invalid object";
         }
+        proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(proxyState.getRow$realm(), columnInfo.scalarColKeys);
         StringBuilder stringBuilder = new StringBuilder("Booleans = proxy[");
         stringBuilder.append("{done:");
-        stringBuilder.append(realmGet$done());
+        stringBuilder.append(rowValues.getBoolean(0));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{isReady:");
-        stringBuilder.append(realmGet$isReady());
+        stringBuilder.append(rowValues.getBoolean(1));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{mCompleted:");
-        stringBuilder.append(realmGet$mCompleted());
+        stringBuilder.append(rowValues.getBoolean(2));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{anotherBoolean:");
-        stringBuilder.append(realmGet$anotherBoolean());
+        stringBuilder.append(rowValues.getBoolean(3));
         stringBuilder.append("}");
         stringBuilder.append("]");
         return stringBuilder.toString();
@@ -485,15 +494,7 @@ public class some_test_BooleansRealmProxy extends some.test.Booleans
 
     @Override
     public int hashCode() {
-        String realmName = proxyState.getRealm$realm().getPath();
-        String tableName = proxyState.getRow$realm().getTable().getName();
-        long objKey = proxyState.getRow$realm().getObjectKey();
-
-        int result = 17;
-        result = 31 * result + ((realmName != null) ? realmName.hashCode() : 0);
-        result = 31 * result + ((tableName != null) ? tableName.hashCode() : 0);
-        result = 31 * result + (int) (objKey ^ (objKey >>> 32));
-        return result;
+        return proxyState.getIdentityHashCode();
     }
 
     @Override
@@ -502,22 +503,6 @@ public class some_test_BooleansRealmProxy extends some.test.Booleans
         if (o == null || getClass() != o.getClass()) return false;
         some_test_BooleansRealmProxy aBooleans = (some_test_BooleansRealmProxy)o;
 
-        BaseRealm realm = proxyState.getRealm$realm();
-        BaseRealm otherRealm = aBooleans.proxyState.getRealm$realm();
-        String path = realm.getPath();
-        String otherPath = otherRealm.getPath();
-        if (path != null ? !path.equals(otherPath) : otherPath != null) return false;
-        if (realm.isFrozen() != otherRealm.isFrozen()) return false;
-        if (!realm.sharedRealm.getVersionID().equals(otherRealm.sharedRealm.getVersionID())) {
-            return false;
-        }
-
-        String tableName = proxyState.getRow$realm().getTable().getName();
-        String otherTableName = aBooleans.proxyState.getRow$realm().getTable().getName();
-        if (tableName != null ? !tableName.equals(otherTableName) : otherTableName != null) return false;
-
-        if (proxyState.getRow$realm().getObjectKey() != aBooleans.proxyState.getRow$realm().getObjectKey()) return false;
-
-        return true;
+        return proxyState.isSameObject(aBooleans.proxyState);
     }
 }
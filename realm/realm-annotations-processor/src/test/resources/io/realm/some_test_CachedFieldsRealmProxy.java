@@ -0,0 +1,680 @@
+package io.realm;
+
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.JsonReader;
+import android.util.JsonToken;
+import io.realm.ImportFlag;
+import io.realm.ProxyUtils;
+import io.realm.exceptions.RealmMigrationNeededException;
+import io.realm.internal.CachedValue;
+import io.realm.internal.ColumnInfo;
+import io.realm.internal.OsList;
+import io.realm.internal.OsObject;
+import io.realm.internal.OsObjectSchemaInfo;
+import io.realm.internal.OsSchemaInfo;
+import io.realm.internal.OsSharedRealm;
+import io.realm.internal.Property;
+import io.realm.internal.RealmObjectProxy;
+import io.realm.internal.Row;
+import io.realm.internal.RowValues;
+import io.realm.internal.Table;
+import io.realm.internal.android.JsonUtils;
+import io.realm.internal.objectstore.OsObjectBuilder;
+import io.realm.log.RealmLog;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+@SuppressWarnings("all")
+public class some_test_CachedFieldsRealmProxy extends some.test.CachedFields
+        implements RealmObjectProxy, some_test_CachedFieldsRealmProxyInterface {
+
+    static final class CachedFieldsColumnInfo extends ColumnInfo {
+        long nameColKey;
+        long ageColKey;
+        long scoreColKey;
+        long birthdayColKey;
+        long notCachedColKey;
+        long[] scalarColKeys;
+
+        CachedFieldsColumnInfo(OsSchemaInfo schemaInfo) {
+            super(5);
+            OsObjectSchemaInfo objectSchemaInfo = schemaInfo.getObjectSchemaInfo("CachedFields");
+            this.nameColKey = addColumnDetails("name", "name", objectSchemaInfo);
+            this.ageColKey = addColumnDetails("age", "age", objectSchemaInfo);
+            this.scoreColKey = addColumnDetails("score", "score", objectSchemaInfo);
+            this.birthdayColKey = addColumnDetails("birthday", "birthday", objectSchemaInfo);
+            this.notCachedColKey = addColumnDetails("notCached", "notCached", objectSchemaInfo);
+            this.scalarColKeys = new long[] {nameColKey, ageColKey, scoreColKey, birthdayColKey, notCachedColKey};
+        }
+
+        CachedFieldsColumnInfo(ColumnInfo src, boolean mutable) {
+            super(src, mutable);
+            copy(src, this);
+        }
+
+        @Override
+        protected final ColumnInfo copy(boolean mutable) {
+            return new CachedFieldsColumnInfo(this, mutable);
+        }
+
+        @Override
+        protected final void copy(ColumnInfo rawSrc, ColumnInfo rawDst) {
+            final CachedFieldsColumnInfo src = (CachedFieldsColumnInfo) rawSrc;
+            final CachedFieldsColumnInfo dst = (CachedFieldsColumnInfo) rawDst;
+            dst.nameColKey = src.nameColKey;
+            dst.ageColKey = src.ageColKey;
+            dst.scoreColKey = src.scoreColKey;
+            dst.birthdayColKey = src.birthdayColKey;
+            dst.notCachedColKey = src.notCachedColKey;
+            dst.scalarColKeys = src.scalarColKeys;
+        }
+    }
+
+    private static final OsObjectSchemaInfo expectedObjectSchemaInfo = createExpectedObjectSchemaInfo();
+
+    private CachedFieldsColumnInfo columnInfo;
+    private ProxyState<some.test.CachedFields> proxyState;
+    private CachedValue nameCachedValue;
+    private CachedValue ageCachedValue;
+    private CachedValue scoreCachedValue;
+    private CachedValue birthdayCachedValue;
+
+    some_test_CachedFieldsRealmProxy() {
+        proxyState.setConstructionFinished();
+    }
+
+    @Override
+    public void realm$injectObjectContext() {
+        if (this.proxyState != null) {
+            return;
+        }
+        final BaseRealm.RealmObjectContext context = BaseRealm.objectContext.get();
+        this.columnInfo = (CachedFieldsColumnInfo) context.getColumnInfo();
+        this.proxyState = new ProxyState<some.test.CachedFields>(this);
+        proxyState.setRealm$realm(context.getRealm());
+        proxyState.setRow$realm(context.getRow());
+        proxyState.setAcceptDefaultValue$realm(context.getAcceptDefaultValue());
+        proxyState.setExcludeFields$realm(context.getExcludeFields());
+    }
+
+    @Override
+    @SuppressWarnings("cast")
+    public String realmGet$name() {
+        long cacheVersion = proxyState.getRealm$realm().getValueCacheVersion();
+        CachedValue cachedValue = nameCachedValue;
+        if (cachedValue != null && cachedValue.version == cacheVersion) {
+            return (java.lang.String) cachedValue.value;
+        }
+        proxyState.getRealm$realm().checkIfValid();
+        java.lang.String value = (java.lang.String) proxyState.getRow$realm().getString(columnInfo.nameColKey);
+        if (cacheVersion != OsSharedRealm.NO_VALUE_CACHE) {
+            nameCachedValue = new CachedValue(cacheVersion, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void realmSet$name(String value) {
+        if (proxyState.isUnderConstruction()) {
+            if (!proxyState.getAcceptDefaultValue$realm()) {
+                return;
+            }
+            final Row row = proxyState.getRow$realm();
+            if (value == null) {
+                throw new IllegalArgumentException("Trying to set non-nullable field 'name' to null.");
+            }
+            row.getTable().setString(columnInfo.nameColKey, row.getObjectKey(), value, true);
+            return;
+        }
+
+        proxyState.getRealm$realm().checkIfValid();
+        if (value == null) {
+            throw new IllegalArgumentException("Trying to set non-nullable field 'name' to null.");
+        }
+        proxyState.getRow$realm().setString(columnInfo.nameColKey, value);
+    }
+
+    @Override
+    @SuppressWarnings("cast")
+    public int realmGet$age() {
+        long cacheVersion = proxyState.getRealm$realm().getValueCacheVersion();
+        CachedValue cachedValue = ageCachedValue;
+        if (cachedValue != null && cachedValue.version == cacheVersion) {
+            return (java.lang.Integer) cachedValue.value;
+        }
+        proxyState.getRealm$realm().checkIfValid();
+        int value = (int) proxyState.getRow$realm().getLong(columnInfo.ageColKey);
+        if (cacheVersion != OsSharedRealm.NO_VALUE_CACHE) {
+            ageCachedValue = new CachedValue(cacheVersion, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void realmSet$age(int value) {
+        if (proxyState.isUnderConstruction()) {
+            if (!proxyState.getAcceptDefaultValue$realm()) {
+                return;
+            }
+            final Row row = proxyState.getRow$realm();
+            row.getTable().setLong(columnInfo.ageColKey, row.getObjectKey(), value, true);
+            return;
+        }
+
+        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRow$realm().setLong(columnInfo.ageColKey, value);
+    }
+
+    @Override
+    @SuppressWarnings("cast")
+    public Integer realmGet$score() {
+        long cacheVersion = proxyState.getRealm$realm().getValueCacheVersion();
+        CachedValue cachedValue = scoreCachedValue;
+        if (cachedValue != null && cachedValue.version == cacheVersion) {
+            return (java.lang.Integer) cachedValue.value;
+        }
+        proxyState.getRealm$realm().checkIfValid();
+        java.lang.Integer value = proxyState.getRow$realm().isNull(columnInfo.scoreColKey) ? null : (int) proxyState.getRow$realm().getLong(columnInfo.scoreColKey);
+        if (cacheVersion != OsSharedRealm.NO_VALUE_CACHE) {
+            scoreCachedValue = new CachedValue(cacheVersion, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void realmSet$score(Integer value) {
+        if (proxyState.isUnderConstruction()) {
+            if (!proxyState.getAcceptDefaultValue$realm()) {
+                return;
+            }
+            final Row row = proxyState.getRow$realm();
+            if (value == null) {
+                row.getTable().setNull(columnInfo.scoreColKey, row.getObjectKey(), true);
+                return;
+            }
+            row.getTable().setLong(columnInfo.scoreColKey, row.getObjectKey(), value, true);
+            return;
+        }
+
+        proxyState.getRealm$realm().checkIfValid();
+        if (value == null) {
+            proxyState.getRow$realm().setNull(columnInfo.scoreColKey);
+            return;
+        }
+        proxyState.getRow$realm().setLong(columnInfo.scoreColKey, value);
+    }
+
+    @Override
+    @SuppressWarnings("cast")
+    public Date realmGet$birthday() {
+        long cacheVersion = proxyState.getRealm$realm().getValueCacheVersion();
+        CachedValue cachedValue = birthdayCachedValue;
+        if (cachedValue != null && cachedValue.version == cacheVersion) {
+            return (java.util.Date) cachedValue.value;
+        }
+        proxyState.getRealm$realm().checkIfValid();
+        java.util.Date value = proxyState.getRow$realm().isNull(columnInfo.birthdayColKey) ? null : (java.util.Date) proxyState.getRow$realm().getDate(columnInfo.birthdayColKey);
+        if (cacheVersion != OsSharedRealm.NO_VALUE_CACHE) {
+            birthdayCachedValue = new CachedValue(cacheVersion, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void realmSet$birthday(Date value) {
+        if (proxyState.isUnderConstruction()) {
+            if (!proxyState.getAcceptDefaultValue$realm()) {
+                return;
+            }
+            final Row row = proxyState.getRow$realm();
+            if (value == null) {
+                row.getTable().setNull(columnInfo.birthdayColKey, row.getObjectKey(), true);
+                return;
+            }
+            row.getTable().setDate(columnInfo.birthdayColKey, row.getObjectKey(), value, true);
+            return;
+        }
+
+        proxyState.getRealm$realm().checkIfValid();
+        if (value == null) {
+            proxyState.getRow$realm().setNull(columnInfo.birthdayColKey);
+            return;
+        }
+        proxyState.getRow$realm().setDate(columnInfo.birthdayColKey, value);
+    }
+
+    @Override
+    @SuppressWarnings("cast")
+    public long realmGet$notCached() {
+        proxyState.getRealm$realm().checkIfValid();
+        return (long) proxyState.getRow$realm().getLong(columnInfo.notCachedColKey);
+    }
+
+    @Override
+    public void realmSet$notCached(long value) {
+        if (proxyState.isUnderConstruction()) {
+            if (!proxyState.getAcceptDefaultValue$realm()) {
+                return;
+            }
+            final Row row = proxyState.getRow$realm();
+            row.getTable().setLong(columnInfo.notCachedColKey, row.getObjectKey(), value, true);
+            return;
+        }
+
+        proxyState.getRealm$realm().checkIfValid();
+        proxyState.getRow$realm().setLong(columnInfo.notCachedColKey, value);
+    }
+
+    private static OsObjectSchemaInfo createExpectedObjectSchemaInfo() {
+        OsObjectSchemaInfo.Builder builder = new OsObjectSchemaInfo.Builder("CachedFields", false, 5, 0);
+        builder.addPersistedProperty("name", RealmFieldType.STRING, !Property.PRIMARY_KEY, !Property.INDEXED, Property.REQUIRED);
+        builder.addPersistedProperty("age", RealmFieldType.INTEGER, !Property.PRIMARY_KEY, !Property.INDEXED, Property.REQUIRED);
+        builder.addPersistedProperty("score", RealmFieldType.INTEGER, !Property.PRIMARY_KEY, !Property.INDEXED, !Property.REQUIRED);
+        builder.addPersistedProperty("birthday", RealmFieldType.DATE, !Property.PRIMARY_KEY, !Property.INDEXED, !Property.REQUIRED);
+        builder.addPersistedProperty("notCached", RealmFieldType.INTEGER, !Property.PRIMARY_KEY, !Property.INDEXED, Property.REQUIRED);
+        return builder.build();
+    }
+
+    public static OsObjectSchemaInfo getExpectedObjectSchemaInfo() {
+        return expectedObjectSchemaInfo;
+    }
+
+    public static CachedFieldsColumnInfo createColumnInfo(OsSchemaInfo schemaInfo) {
+        return new CachedFieldsColumnInfo(schemaInfo);
+    }
+
+    public static String getSimpleClassName() {
+        return "CachedFields";
+    }
+
+    public static final class ClassNameHelper {
+        public static final String INTERNAL_CLASS_NAME = "CachedFields";
+    }
+
+    @SuppressWarnings("cast")
+    public static some.test.CachedFields createOrUpdateUsingJsonObject(Realm realm, JSONObject json, boolean update)
+            throws JSONException {
+        final List<String> excludeFields = Collections.<String> emptyList();
+        some.test.CachedFields obj = realm.createObjectInternal(some.test.CachedFields.class, true, excludeFields);
+
+        final some_test_CachedFieldsRealmProxyInterface objProxy = (some_test_CachedFieldsRealmProxyInterface) obj;
+        if (json.has("name")) {
+            if (json.isNull("name")) {
+                objProxy.realmSet$name(null);
+            } else {
+                objProxy.realmSet$name((String) json.getString("name"));
+            }
+        }
+        if (json.has("age")) {
+            if (json.isNull("age")) {
+                throw new IllegalArgumentException("Trying to set non-nullable field 'age' to null.");
+            } else {
+                objProxy.realmSet$age((int) json.getInt("age"));
+            }
+        }
+        if (json.has("score")) {
+            if (json.isNull("score")) {
+                objProxy.realmSet$score(null);
+            } else {
+                objProxy.realmSet$score((int) json.getInt("score"));
+            }
+        }
+        if (json.has("birthday")) {
+            if (json.isNull("birthday")) {
+                objProxy.realmSet$birthday(null);
+            } else {
+                Object timestamp = json.get("birthday");
+                if (timestamp instanceof String) {
+                    objProxy.realmSet$birthday(JsonUtils.stringToDate((String) timestamp));
+                } else {
+                    objProxy.realmSet$birthday(new Date(json.getLong("birthday")));
+                }
+            }
+        }
+        if (json.has("notCached")) {
+            if (json.isNull("notCached")) {
+                throw new IllegalArgumentException("Trying to set non-nullable field 'notCached' to null.");
+            } else {
+                objProxy.realmSet$notCached((long) json.getLong("notCached"));
+            }
+        }
+        return obj;
+    }
+
+    @SuppressWarnings("cast")
+    @TargetApi(Build.VERSION_CODES.HONEYCOMB)
+    public static some.test.CachedFields createUsingJsonStream(Realm realm, JsonReader reader)
+            throws IOException {
+        final some.test.CachedFields obj = new some.test.CachedFields();
+        final some_test_CachedFieldsRealmProxyInterface objProxy = (some_test_CachedFieldsRealmProxyInterface) obj;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (false) {
+            } else if (name.equals("name")) {
+                if (reader.peek() != JsonToken.NULL) {
+                    objProxy.realmSet$name((String) reader.nextString());
+                } else {
+                    reader.skipValue();
+                    objProxy.realmSet$name(null);
+                }
+            } else if (name.equals("age")) {
+                if (reader.peek() != JsonToken.NULL) {
+                    objProxy.realmSet$age((int) reader.nextInt());
+                } else {
+                    reader.skipValue();
+                    throw new IllegalArgumentException("Trying to set non-nullable field 'age' to null.");
+                }
+            } else if (name.equals("score")) {
+                if (reader.peek() != JsonToken.NULL) {
+                    objProxy.realmSet$score((int) reader.nextInt());
+                } else {
+                    reader.skipValue();
+                    objProxy.realmSet$score(null);
+                }
+            } else if (name.equals("birthday")) {
+                if (reader.peek() == JsonToken.NULL) {
+                    reader.skipValue();
+                    objProxy.realmSet$birthday(null);
+                } else if (reader.peek() == JsonToken.NUMBER) {
+                    long timestamp = reader.nextLong();
+                    if (timestamp > -1) {
+                        objProxy.realmSet$birthday(new Date(timestamp));
+                    }
+                } else {
+                    objProxy.realmSet$birthday(JsonUtils.stringToDate(reader.nextString()));
+                }
+            } else if (name.equals("notCached")) {
+                if (reader.peek() != JsonToken.NULL) {
+                    objProxy.realmSet$notCached((long) reader.nextLong());
+                } else {
+                    reader.skipValue();
+                    throw new IllegalArgumentException("Trying to set non-nullable field 'notCached' to null.");
+                }
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return realm.copyToRealm(obj);
+    }
+
+    static some_test_CachedFieldsRealmProxy newProxyInstance(BaseRealm realm, Row row) {
+        // Ignore default values to avoid creating unexpected objects from RealmModel/RealmList fields
+        final BaseRealm.RealmObjectContext objectContext = BaseRealm.objectContext.get();
+        objectContext.set(realm, row, realm.getSchema().getColumnInfo(some.test.CachedFields.class), false, Collections.<String>emptyList());
+        io.realm.some_test_CachedFieldsRealmProxy obj = new io.realm.some_test_CachedFieldsRealmProxy();
+        objectContext.clear();
+        return obj;
+    }
+
+    public static some.test.CachedFields copyOrUpdate(Realm realm, CachedFieldsColumnInfo columnInfo, some.test.CachedFields object, boolean update, Map<RealmModel,RealmObjectProxy> cache, Set<ImportFlag> flags) {
+        if (object instanceof RealmObjectProxy && !RealmObject.isFrozen(object) && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm() != null) {
+            final BaseRealm otherRealm = ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm();
+            if (otherRealm.threadId != realm.threadId) {
+                throw new IllegalArgumentException("Objects which belong to Realm instances in other threads cannot be copied into this Realm instance.");
+            }
+            if (otherRealm.getPath().equals(realm.getPath())) {
+                return object;
+            }
+        }
+        final BaseRealm.RealmObjectContext objectContext = BaseRealm.objectContext.get();
+        RealmObjectProxy cachedRealmObject = cache.get(object);
+        if (cachedRealmObject != null) {
+            return (some.test.CachedFields) cachedRealmObject;
+        }
+
+        return copy(realm, columnInfo, object, update, cache, flags);
+    }
+
+    public static some.test.CachedFields copy(Realm realm, CachedFieldsColumnInfo columnInfo, some.test.CachedFields newObject, boolean update, Map<RealmModel,RealmObjectProxy> cache, Set<ImportFlag> flags) {
+        RealmObjectProxy cachedRealmObject = cache.get(newObject);
+        if (cachedRealmObject != null) {
+            return (some.test.CachedFields) cachedRealmObject;
+        }
+
+        some_test_CachedFieldsRealmProxyInterface unmanagedSource = (some_test_CachedFieldsRealmProxyInterface) newObject;
+
+        Table table = realm.getTable(some.test.CachedFields.class);
+        OsObjectBuilder builder = new OsObjectBuilder(table, flags);
+
+        // Add all non-"object reference" fields
+        builder.addString(columnInfo.nameColKey, unmanagedSource.realmGet$name());
+        builder.addInteger(columnInfo.ageColKey, unmanagedSource.realmGet$age());
+        builder.addInteger(columnInfo.scoreColKey, unmanagedSource.realmGet$score());
+        builder.addDate(columnInfo.birthdayColKey, unmanagedSource.realmGet$birthday());
+        builder.addInteger(columnInfo.notCachedColKey, unmanagedSource.realmGet$notCached());
+
+        // Create the underlying object and cache it before setting any object/objectlist references
+        // This will allow us to break any circular dependencies by using the object cache.
+        Row row = builder.createNewObject();
+        io.realm.some_test_CachedFieldsRealmProxy managedCopy = newProxyInstance(realm, row);
+        cache.put(newObject, managedCopy);
+
+        return managedCopy;
+    }
+
+    public static long insert(Realm realm, some.test.CachedFields object, Map<RealmModel,Long> cache) {
+        if (object instanceof RealmObjectProxy && !RealmObject.isFrozen(object) && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm() != null && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm().getPath().equals(realm.getPath())) {
+            return ((RealmObjectProxy) object).realmGet$proxyState().getRow$realm().getObjectKey();
+        }
+        Table table = realm.getTable(some.test.CachedFields.class);
+        long tableNativePtr = table.getNativePtr();
+        CachedFieldsColumnInfo columnInfo = (CachedFieldsColumnInfo) realm.getSchema().getColumnInfo(some.test.CachedFields.class);
+        long objKey = OsObject.createRow(table);
+        cache.put(object, objKey);
+        String realmGet$name = ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$name();
+        if (realmGet$name != null) {
+            Table.nativeSetString(tableNativePtr, columnInfo.nameColKey, objKey, realmGet$name, false);
+        }
+        Table.nativeSetLong(tableNativePtr, columnInfo.ageColKey, objKey, ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$age(), false);
+        Number realmGet$score = ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$score();
+        if (realmGet$score != null) {
+            Table.nativeSetLong(tableNativePtr, columnInfo.scoreColKey, objKey, realmGet$score.longValue(), false);
+        }
+        java.util.Date realmGet$birthday = ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$birthday();
+        if (realmGet$birthday != null) {
+            Table.nativeSetTimestamp(tableNativePtr, columnInfo.birthdayColKey, objKey, realmGet$birthday.getTime(), false);
+        }
+        Table.nativeSetLong(tableNativePtr, columnInfo.notCachedColKey, objKey, ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$notCached(), false);
+        return objKey;
+    }
+
+    public static void insert(Realm realm, Iterator<? extends RealmModel> objects, Map<RealmModel,Long> cache) {
+        Table table = realm.getTable(some.test.CachedFields.class);
+        long tableNativePtr = table.getNativePtr();
+        CachedFieldsColumnInfo columnInfo = (CachedFieldsColumnInfo) realm.getSchema().getColumnInfo(some.test.CachedFields.class);
+        some.test.CachedFields object = null;
+        while (objects.hasNext()) {
+            object = (some.test.CachedFields) objects.next();
+            if (cache.containsKey(object)) {
+                continue;
+            }
+            if (object instanceof RealmObjectProxy && !RealmObject.isFrozen(object) && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm() != null && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm().getPath().equals(realm.getPath())) {
+                cache.put(object, ((RealmObjectProxy) object).realmGet$proxyState().getRow$realm().getObjectKey());
+                continue;
+            }
+            long objKey = OsObject.createRow(table);
+            cache.put(object, objKey);
+            String realmGet$name = ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$name();
+            if (realmGet$name != null) {
+                Table.nativeSetString(tableNativePtr, columnInfo.nameColKey, objKey, realmGet$name, false);
+            }
+            Table.nativeSetLong(tableNativePtr, columnInfo.ageColKey, objKey, ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$age(), false);
+            Number realmGet$score = ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$score();
+            if (realmGet$score != null) {
+                Table.nativeSetLong(tableNativePtr, columnInfo.scoreColKey, objKey, realmGet$score.longValue(), false);
+            }
+            java.util.Date realmGet$birthday = ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$birthday();
+            if (realmGet$birthday != null) {
+                Table.nativeSetTimestamp(tableNativePtr, columnInfo.birthdayColKey, objKey, realmGet$birthday.getTime(), false);
+            }
+            Table.nativeSetLong(tableNativePtr, columnInfo.notCachedColKey, objKey, ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$notCached(), false);
+        }
+    }
+
+    public static long insertOrUpdate(Realm realm, some.test.CachedFields object, Map<RealmModel,Long> cache) {
+        if (object instanceof RealmObjectProxy && !RealmObject.isFrozen(object) && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm() != null && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm().getPath().equals(realm.getPath())) {
+            return ((RealmObjectProxy) object).realmGet$proxyState().getRow$realm().getObjectKey();
+        }
+        Table table = realm.getTable(some.test.CachedFields.class);
+        long tableNativePtr = table.getNativePtr();
+        CachedFieldsColumnInfo columnInfo = (CachedFieldsColumnInfo) realm.getSchema().getColumnInfo(some.test.CachedFields.class);
+        long objKey = OsObject.createRow(table);
+        cache.put(object, objKey);
+        String realmGet$name = ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$name();
+        if (realmGet$name != null) {
+            Table.nativeSetString(tableNativePtr, columnInfo.nameColKey, objKey, realmGet$name, false);
+        } else {
+            Table.nativeSetNull(tableNativePtr, columnInfo.nameColKey, objKey, false);
+        }
+        Table.nativeSetLong(tableNativePtr, columnInfo.ageColKey, objKey, ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$age(), false);
+        Number realmGet$score = ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$score();
+        if (realmGet$score != null) {
+            Table.nativeSetLong(tableNativePtr, columnInfo.scoreColKey, objKey, realmGet$score.longValue(), false);
+        } else {
+            Table.nativeSetNull(tableNativePtr, columnInfo.scoreColKey, objKey, false);
+        }
+        java.util.Date realmGet$birthday = ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$birthday();
+        if (realmGet$birthday != null) {
+            Table.nativeSetTimestamp(tableNativePtr, columnInfo.birthdayColKey, objKey, realmGet$birthday.getTime(), false);
+        } else {
+            Table.nativeSetNull(tableNativePtr, columnInfo.birthdayColKey, objKey, false);
+        }
+        Table.nativeSetLong(tableNativePtr, columnInfo.notCachedColKey, objKey, ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$notCached(), false);
+        return objKey;
+    }
+
+    public static void insertOrUpdate(Realm realm, Iterator<? extends RealmModel> objects, Map<RealmModel,Long> cache) {
+        Table table = realm.getTable(some.test.CachedFields.class);
+        long tableNativePtr = table.getNativePtr();
+        CachedFieldsColumnInfo columnInfo = (CachedFieldsColumnInfo) realm.getSchema().getColumnInfo(some.test.CachedFields.class);
+        some.test.CachedFields object = null;
+        while (objects.hasNext()) {
+            object = (some.test.CachedFields) objects.next();
+            if (cache.containsKey(object)) {
+                continue;
+            }
+            if (object instanceof RealmObjectProxy && !RealmObject.isFrozen(object) && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm() != null && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm().getPath().equals(realm.getPath())) {
+                cache.put(object, ((RealmObjectProxy) object).realmGet$proxyState().getRow$realm().getObjectKey());
+                continue;
+            }
+            long objKey = OsObject.createRow(table);
+            cache.put(object, objKey);
+            String realmGet$name = ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$name();
+            if (realmGet$name != null) {
+                Table.nativeSetString(tableNativePtr, columnInfo.nameColKey, objKey, realmGet$name, false);
+            } else {
+                Table.nativeSetNull(tableNativePtr, columnInfo.nameColKey, objKey, false);
+            }
+            Table.nativeSetLong(tableNativePtr, columnInfo.ageColKey, objKey, ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$age(), false);
+            Number realmGet$score = ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$score();
+            if (realmGet$score != null) {
+                Table.nativeSetLong(tableNativePtr, columnInfo.scoreColKey, objKey, realmGet$score.longValue(), false);
+            } else {
+                Table.nativeSetNull(tableNativePtr, columnInfo.scoreColKey, objKey, false);
+            }
+            java.util.Date realmGet$birthday = ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$birthday();
+            if (realmGet$birthday != null) {
+                Table.nativeSetTimestamp(tableNativePtr, columnInfo.birthdayColKey, objKey, realmGet$birthday.getTime(), false);
+            } else {
+                Table.nativeSetNull(tableNativePtr, columnInfo.birthdayColKey, objKey, false);
+            }
+            Table.nativeSetLong(tableNativePtr, columnInfo.notCachedColKey, objKey, ((some_test_CachedFieldsRealmProxyInterface) object).realmGet$notCached(), false);
+        }
+    }
+
+    public static some.test.CachedFields createDetachedCopy(some.test.CachedFields realmObject, int currentDepth, int maxDepth, Map<RealmModel, CacheData<RealmModel>> cache) {
+        if (currentDepth > maxDepth || realmObject == null) {
+            return null;
+        }
+        CacheData<RealmModel> cachedObject = cache.get(realmObject);
+        some.test.CachedFields unmanagedObject;
+        if (cachedObject == null) {
+            unmanagedObject = new some.test.CachedFields();
+            cache.put(realmObject, new RealmObjectProxy.CacheData<RealmModel>(currentDepth, unmanagedObject));
+        } else {
+            // Reuse cached object or recreate it because it was encountered at a lower depth.
+            if (currentDepth >= cachedObject.minDepth) {
+                return (some.test.CachedFields) cachedObject.object;
+            }
+            unmanagedObject = (some.test.CachedFields) cachedObject.object;
+            cachedObject.minDepth = currentDepth;
+        }
+        some_test_CachedFieldsRealmProxyInterface unmanagedCopy = (some_test_CachedFieldsRealmProxyInterface) unmanagedObject;
+        some_test_CachedFieldsRealmProxyInterface realmSource = (some_test_CachedFieldsRealmProxyInterface) realmObject;
+        some_test_CachedFieldsRealmProxy realmProxy = (some_test_CachedFieldsRealmProxy) realmObject;
+        realmProxy.proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(realmProxy.proxyState.getRow$realm(), realmProxy.columnInfo.scalarColKeys);
+        unmanagedCopy.realmSet$name(rowValues.getString(0));
+        unmanagedCopy.realmSet$age((int) rowValues.getLong(1));
+        unmanagedCopy.realmSet$score(rowValues.isNull(2) ? null : (int) rowValues.getLong(2));
+        unmanagedCopy.realmSet$birthday(rowValues.getDate(3));
+        unmanagedCopy.realmSet$notCached(rowValues.getLong(4));
+
+        return unmanagedObject;
+    }
+
+    @Override
+    @SuppressWarnings("ArrayToString")
+    public String toString() {
+        if (!RealmObject.isValid(this)) {
+            return "Invalid object";
+        }
+        proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(proxyState.getRow$realm(), columnInfo.scalarColKeys);
+        StringBuilder stringBuilder = new StringBuilder("CachedFields = proxy[");
+        stringBuilder.append("{name:");
+        stringBuilder.append(rowValues.getString(0));
+        stringBuilder.append("}");
+        stringBuilder.append(",");
+        stringBuilder.append("{age:");
+        stringBuilder.append((int) rowValues.getLong(1));
+        stringBuilder.append("}");
+        stringBuilder.append(",");
+        stringBuilder.append("{score:");
+        stringBuilder.append(rowValues.isNull(2) ? "null" : (int) rowValues.getLong(2));
+        stringBuilder.append("}");
+        stringBuilder.append(",");
+        stringBuilder.append("{birthday:");
+        stringBuilder.append(rowValues.isNull(3) ? "null" : rowValues.getDate(3));
+        stringBuilder.append("}");
+        stringBuilder.append(",");
+        stringBuilder.append("{notCached:");
+        stringBuilder.append(rowValues.getLong(4));
+        stringBuilder.append("}");
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public ProxyState<?> realmGet$proxyState() {
+        return proxyState;
+    }
+
+    @Override
+    public int hashCode() {
+        return proxyState.getIdentityHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        some_test_CachedFieldsRealmProxy aCachedFields = (some_test_CachedFieldsRealmProxy)o;
+
+        return proxyState.isSameObject(aCachedFields.proxyState);
+    }
+}
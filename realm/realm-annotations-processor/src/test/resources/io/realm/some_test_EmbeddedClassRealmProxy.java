@@ -16,6 +16,7 @@ import io.realm.internal.OsSchemaInfo;
 import io.realm.internal.Property;
 import io.realm.internal.RealmObjectProxy;
 import io.realm.internal.Row;
+import io.realm.internal.RowValues;
 import io.realm.internal.Table;
 import io.realm.internal.android.JsonUtils;
 import io.realm.internal.objectstore.OsObjectBuilder;
@@ -40,12 +41,14 @@ public class some_test_EmbeddedClassRealmProxy extends some.test.EmbeddedClass
     static final class EmbeddedClassColumnInfo extends ColumnInfo {
         long nameColKey;
         long ageColKey;
+        long[] scalarColKeys;
 
         EmbeddedClassColumnInfo(OsSchemaInfo schemaInfo) {
             super(2);
             OsObjectSchemaInfo objectSchemaInfo = schemaInfo.getObjectSchemaInfo("EmbeddedClass");
             this.nameColKey = addColumnDetails("name", "name", objectSchemaInfo);
             this.ageColKey = addColumnDetails("age", "age", objectSchemaInfo);
+            this.scalarColKeys = new long[] {nameColKey, ageColKey};
         }
 
         EmbeddedClassColumnInfo(ColumnInfo src, boolean mutable) {
@@ -64,6 +67,7 @@ public class some_test_EmbeddedClassRealmProxy extends some.test.EmbeddedClass
             final EmbeddedClassColumnInfo dst = (EmbeddedClassColumnInfo) rawDst;
             dst.nameColKey = src.nameColKey;
             dst.ageColKey = src.ageColKey;
+            dst.scalarColKeys = src.scalarColKeys;
         }
     }
 
@@ -375,8 +379,11 @@ public class some_test_EmbeddedClassRealmProxy extends some.test.EmbeddedClass
         }
         some_test_EmbeddedClassRealmProxyInterface unmanagedCopy = (some_test_EmbeddedClassRealmProxyInterface) unmanagedObject;
         some_test_EmbeddedClassRealmProxyInterface realmSource = (some_test_EmbeddedClassRealmProxyInterface) realmObject;
-        unmanagedCopy.realmSet$name(realmSource.realmGet$name());
-        unmanagedCopy.realmSet$age(realmSource.realmGet$age());
+        some_test_EmbeddedClassRealmProxy realmProxy = (some_test_EmbeddedClassRealmProxy) realmObject;
+        realmProxy.proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(realmProxy.proxyState.getRow$realm(), realmProxy.columnInfo.scalarColKeys);
+        unmanagedCopy.realmSet$name(rowValues.getString(0));
+        unmanagedCopy.realmSet$age((int) rowValues.getLong(1));
 
         return unmanagedObject;
     }
@@ -403,13 +410,15 @@ public class some_test_EmbeddedClassRealmProxy extends some.test.EmbeddedClass
         if (!RealmObject.isValid(this)) {
             return "Invalid object";
         }
+        proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(proxyState.getRow$realm(), columnInfo.scalarColKeys);
         StringBuilder stringBuilder = new StringBuilder("EmbeddedClass = proxy[");
         stringBuilder.append("{name:");
-        stringBuilder.append(realmGet$name() != null ? realmGet$name() : "null");
+        stringBuilder.append(rowValues.isNull(0) ? "null" : rowValues.getString(0));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{age:");
-        stringBuilder.append(realmGet$age());
+        stringBuilder.append((int) rowValues.getLong(1));
         stringBuilder.append("}");
         stringBuilder.append("]");
         return stringBuilder.toString();
@@ -422,15 +431,7 @@ public class some_test_EmbeddedClassRealmProxy extends some.test.EmbeddedClass
 
     @Override
     public int hashCode() {
-        String realmName = proxyState.getRealm$realm().getPath();
-        String tableName = proxyState.getRow$realm().getTable().getName();
-        long objKey = proxyState.getRow$realm().getObjectKey();
-
-        int result = 17;
-        result = 31 * result + ((realmName != null) ? realmName.hashCode() : 0);
-        result = 31 * result + ((tableName != null) ? tableName.hashCode() : 0);
-        result = 31 * result + (int) (objKey ^ (objKey >>> 32));
-        return result;
+        return proxyState.getIdentityHashCode();
     }
 
     @Override
@@ -439,22 +440,6 @@ public class some_test_EmbeddedClassRealmProxy extends some.test.EmbeddedClass
         if (o == null || getClass() != o.getClass()) return false;
         some_test_EmbeddedClassRealmProxy aEmbeddedClass = (some_test_EmbeddedClassRealmProxy)o;
 
-        BaseRealm realm = proxyState.getRealm$realm();
-        BaseRealm otherRealm = aEmbeddedClass.proxyState.getRealm$realm();
-        String path = realm.getPath();
-        String otherPath = otherRealm.getPath();
-        if (path != null ? !path.equals(otherPath) : otherPath != null) return false;
-        if (realm.isFrozen() != otherRealm.isFrozen()) return false;
-        if (!realm.sharedRealm.getVersionID().equals(otherRealm.sharedRealm.getVersionID())) {
-            return false;
-        }
-
-        String tableName = proxyState.getRow$realm().getTable().getName();
-        String otherTableName = aEmbeddedClass.proxyState.getRow$realm().getTable().getName();
-        if (tableName != null ? !tableName.equals(otherTableName) : otherTableName != null) return false;
-
-        if (proxyState.getRow$realm().getObjectKey() != aEmbeddedClass.proxyState.getRow$realm().getObjectKey()) return false;
-
-        return true;
+        return proxyState.isSameObject(aEmbeddedClass.proxyState);
     }
 }
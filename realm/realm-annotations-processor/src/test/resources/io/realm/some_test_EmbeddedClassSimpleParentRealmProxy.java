@@ -16,6 +16,7 @@ import io.realm.internal.OsSchemaInfo;
 import io.realm.internal.Property;
 import io.realm.internal.RealmObjectProxy;
 import io.realm.internal.Row;
+import io.realm.internal.RowValues;
 import io.realm.internal.Table;
 import io.realm.internal.android.JsonUtils;
 import io.realm.internal.objectstore.OsObjectBuilder;
@@ -41,6 +42,7 @@ public class some_test_EmbeddedClassSimpleParentRealmProxy extends some.test.Emb
         long idColKey;
         long childColKey;
         long childrenColKey;
+        long[] scalarColKeys;
 
         EmbeddedClassSimpleParentColumnInfo(OsSchemaInfo schemaInfo) {
             super(3);
@@ -48,6 +50,7 @@ public class some_test_EmbeddedClassSimpleParentRealmProxy extends some.test.Emb
             this.idColKey = addColumnDetails("id", "id", objectSchemaInfo);
             this.childColKey = addColumnDetails("child", "child", objectSchemaInfo);
             this.childrenColKey = addColumnDetails("children", "children", objectSchemaInfo);
+            this.scalarColKeys = new long[] {idColKey};
         }
 
         EmbeddedClassSimpleParentColumnInfo(ColumnInfo src, boolean mutable) {
@@ -67,6 +70,7 @@ public class some_test_EmbeddedClassSimpleParentRealmProxy extends some.test.Emb
             dst.idColKey = src.idColKey;
             dst.childColKey = src.childColKey;
             dst.childrenColKey = src.childrenColKey;
+            dst.scalarColKeys = src.scalarColKeys;
         }
     }
 
@@ -711,7 +715,10 @@ public class some_test_EmbeddedClassSimpleParentRealmProxy extends some.test.Emb
         }
         some_test_EmbeddedClassSimpleParentRealmProxyInterface unmanagedCopy = (some_test_EmbeddedClassSimpleParentRealmProxyInterface) unmanagedObject;
         some_test_EmbeddedClassSimpleParentRealmProxyInterface realmSource = (some_test_EmbeddedClassSimpleParentRealmProxyInterface) realmObject;
-        unmanagedCopy.realmSet$id(realmSource.realmGet$id());
+        some_test_EmbeddedClassSimpleParentRealmProxy realmProxy = (some_test_EmbeddedClassSimpleParentRealmProxy) realmObject;
+        realmProxy.proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(realmProxy.proxyState.getRow$realm(), realmProxy.columnInfo.scalarColKeys);
+        unmanagedCopy.realmSet$id(rowValues.getString(0));
 
         // Deep copy of child
         unmanagedCopy.realmSet$child(some_test_EmbeddedClassRealmProxy.createDetachedCopy(realmSource.realmGet$child(), currentDepth + 1, maxDepth, cache));
@@ -791,9 +798,11 @@ public class some_test_EmbeddedClassSimpleParentRealmProxy extends some.test.Emb
         if (!RealmObject.isValid(this)) {
             return "Invalid object";
         }
+        proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(proxyState.getRow$realm(), columnInfo.scalarColKeys);
         StringBuilder stringBuilder = new StringBuilder("EmbeddedClassSimpleParent = proxy[");
         stringBuilder.append("{id:");
-        stringBuilder.append(realmGet$id() != null ? realmGet$id() : "null");
+        stringBuilder.append(rowValues.isNull(0) ? "null" : rowValues.getString(0));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{child:");
@@ -814,15 +823,7 @@ public class some_test_EmbeddedClassSimpleParentRealmProxy extends some.test.Emb
 
     @Override
     public int hashCode() {
-        String realmName = proxyState.getRealm$realm().getPath();
-        String tableName = proxyState.getRow$realm().getTable().getName();
-        long objKey = proxyState.getRow$realm().getObjectKey();
-
-        int result = 17;
-        result = 31 * result + ((realmName != null) ? realmName.hashCode() : 0);
-        result = 31 * result + ((tableName != null) ? tableName.hashCode() : 0);
-        result = 31 * result + (int) (objKey ^ (objKey >>> 32));
-        return result;
+        return proxyState.getIdentityHashCode();
     }
 
     @Override
@@ -831,22 +832,6 @@ public class some_test_EmbeddedClassSimpleParentRealmProxy extends some.test.Emb
         if (o == null || getClass() != o.getClass()) return false;
         some_test_EmbeddedClassSimpleParentRealmProxy aEmbeddedClassSimpleParent = (some_test_EmbeddedClassSimpleParentRealmProxy)o;
 
-        BaseRealm realm = proxyState.getRealm$realm();
-        BaseRealm otherRealm = aEmbeddedClassSimpleParent.proxyState.getRealm$realm();
-        String path = realm.getPath();
-        String otherPath = otherRealm.getPath();
-        if (path != null ? !path.equals(otherPath) : otherPath != null) return false;
-        if (realm.isFrozen() != otherRealm.isFrozen()) return false;
-        if (!realm.sharedRealm.getVersionID().equals(otherRealm.sharedRealm.getVersionID())) {
-            return false;
-        }
-
-        String tableName = proxyState.getRow$realm().getTable().getName();
-        String otherTableName = aEmbeddedClassSimpleParent.proxyState.getRow$realm().getTable().getName();
-        if (tableName != null ? !tableName.equals(otherTableName) : otherTableName != null) return false;
-
-        if (proxyState.getRow$realm().getObjectKey() != aEmbeddedClassSimpleParent.proxyState.getRow$realm().getObjectKey()) return false;
-
-        return true;
+        return proxyState.isSameObject(aEmbeddedClassSimpleParent.proxyState);
     }
 }
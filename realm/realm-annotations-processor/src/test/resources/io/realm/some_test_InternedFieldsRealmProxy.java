@@ -0,0 +1,543 @@
+package io.realm;
+
+
+import android.annotation.TargetApi;
+import android.os.Build;
+import android.util.JsonReader;
+import android.util.JsonToken;
+import io.realm.ImportFlag;
+import io.realm.ProxyUtils;
+import io.realm.exceptions.RealmMigrationNeededException;
+import io.realm.internal.CachedValue;
+import io.realm.internal.ColumnInfo;
+import io.realm.internal.OsList;
+import io.realm.internal.OsObject;
+import io.realm.internal.OsObjectSchemaInfo;
+import io.realm.internal.OsSchemaInfo;
+import io.realm.internal.OsSharedRealm;
+import io.realm.internal.Property;
+import io.realm.internal.RealmObjectProxy;
+import io.realm.internal.Row;
+import io.realm.internal.RowValues;
+import io.realm.internal.StringInterner;
+import io.realm.internal.Table;
+import io.realm.internal.android.JsonUtils;
+import io.realm.internal.objectstore.OsObjectBuilder;
+import io.realm.log.RealmLog;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+@SuppressWarnings("all")
+public class some_test_InternedFieldsRealmProxy extends some.test.InternedFields
+        implements RealmObjectProxy, some_test_InternedFieldsRealmProxyInterface {
+
+    static final class InternedFieldsColumnInfo extends ColumnInfo {
+        long statusColKey;
+        long countryColKey;
+        long nameColKey;
+        long[] scalarColKeys;
+
+        InternedFieldsColumnInfo(OsSchemaInfo schemaInfo) {
+            super(3);
+            OsObjectSchemaInfo objectSchemaInfo = schemaInfo.getObjectSchemaInfo("InternedFields");
+            this.statusColKey = addColumnDetails("status", "status", objectSchemaInfo);
+            this.countryColKey = addColumnDetails("country", "country", objectSchemaInfo);
+            this.nameColKey = addColumnDetails("name", "name", objectSchemaInfo);
+            this.scalarColKeys = new long[] {statusColKey, countryColKey, nameColKey};
+        }
+
+        InternedFieldsColumnInfo(ColumnInfo src, boolean mutable) {
+            super(src, mutable);
+            copy(src, this);
+        }
+
+        @Override
+        protected final ColumnInfo copy(boolean mutable) {
+            return new InternedFieldsColumnInfo(this, mutable);
+        }
+
+        @Override
+        protected final void copy(ColumnInfo rawSrc, ColumnInfo rawDst) {
+            final InternedFieldsColumnInfo src = (InternedFieldsColumnInfo) rawSrc;
+            final InternedFieldsColumnInfo dst = (InternedFieldsColumnInfo) rawDst;
+            dst.statusColKey = src.statusColKey;
+            dst.countryColKey = src.countryColKey;
+            dst.nameColKey = src.nameColKey;
+            dst.scalarColKeys = src.scalarColKeys;
+        }
+    }
+
+    private static final OsObjectSchemaInfo expectedObjectSchemaInfo = createExpectedObjectSchemaInfo();
+    private static final StringInterner statusStringInterner = new StringInterner();
+    private static final StringInterner countryStringInterner = new StringInterner();
+
+    private InternedFieldsColumnInfo columnInfo;
+    private ProxyState<some.test.InternedFields> proxyState;
+    private CachedValue countryCachedValue;
+
+    some_test_InternedFieldsRealmProxy() {
+        proxyState.setConstructionFinished();
+    }
+
+    @Override
+    public void realm$injectObjectContext() {
+        if (this.proxyState != null) {
+            return;
+        }
+        final BaseRealm.RealmObjectContext context = BaseRealm.objectContext.get();
+        this.columnInfo = (InternedFieldsColumnInfo) context.getColumnInfo();
+        this.proxyState = new ProxyState<some.test.InternedFields>(this);
+        proxyState.setRealm$realm(context.getRealm());
+        proxyState.setRow$realm(context.getRow());
+        proxyState.setAcceptDefaultValue$realm(context.getAcceptDefaultValue());
+        proxyState.setExcludeFields$realm(context.getExcludeFields());
+    }
+
+    @Override
+    @SuppressWarnings("cast")
+    public String realmGet$status() {
+        proxyState.getRealm$realm().checkIfValid();
+        return (java.lang.String) statusStringInterner.getString(proxyState.getRow$realm(), columnInfo.statusColKey);
+    }
+
+    @Override
+    public void realmSet$status(String value) {
+        if (proxyState.isUnderConstruction()) {
+            if (!proxyState.getAcceptDefaultValue$realm()) {
+                return;
+            }
+            final Row row = proxyState.getRow$realm();
+            if (value == null) {
+                throw new IllegalArgumentException("Trying to set non-nullable field 'status' to null.");
+            }
+            row.getTable().setString(columnInfo.statusColKey, row.getObjectKey(), value, true);
+            return;
+        }
+
+        proxyState.getRealm$realm().checkIfValid();
+        if (value == null) {
+            throw new IllegalArgumentException("Trying to set non-nullable field 'status' to null.");
+        }
+        proxyState.getRow$realm().setString(columnInfo.statusColKey, value);
+    }
+
+    @Override
+    @SuppressWarnings("cast")
+    public String realmGet$country() {
+        long cacheVersion = proxyState.getRealm$realm().getValueCacheVersion();
+        CachedValue cachedValue = countryCachedValue;
+        if (cachedValue != null && cachedValue.version == cacheVersion) {
+            return (java.lang.String) cachedValue.value;
+        }
+        proxyState.getRealm$realm().checkIfValid();
+        java.lang.String value = (java.lang.String) countryStringInterner.getString(proxyState.getRow$realm(), columnInfo.countryColKey);
+        if (cacheVersion != OsSharedRealm.NO_VALUE_CACHE) {
+            countryCachedValue = new CachedValue(cacheVersion, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void realmSet$country(String value) {
+        if (proxyState.isUnderConstruction()) {
+            if (!proxyState.getAcceptDefaultValue$realm()) {
+                return;
+            }
+            final Row row = proxyState.getRow$realm();
+            if (value == null) {
+                row.getTable().setNull(columnInfo.countryColKey, row.getObjectKey(), true);
+                return;
+            }
+            row.getTable().setString(columnInfo.countryColKey, row.getObjectKey(), value, true);
+            return;
+        }
+
+        proxyState.getRealm$realm().checkIfValid();
+        if (value == null) {
+            proxyState.getRow$realm().setNull(columnInfo.countryColKey);
+            return;
+        }
+        proxyState.getRow$realm().setString(columnInfo.countryColKey, value);
+    }
+
+    @Override
+    @SuppressWarnings("cast")
+    public String realmGet$name() {
+        proxyState.getRealm$realm().checkIfValid();
+        return (java.lang.String) proxyState.getRow$realm().getString(columnInfo.nameColKey);
+    }
+
+    @Override
+    public void realmSet$name(String value) {
+        if (proxyState.isUnderConstruction()) {
+            if (!proxyState.getAcceptDefaultValue$realm()) {
+                return;
+            }
+            final Row row = proxyState.getRow$realm();
+            if (value == null) {
+                row.getTable().setNull(columnInfo.nameColKey, row.getObjectKey(), true);
+                return;
+            }
+            row.getTable().setString(columnInfo.nameColKey, row.getObjectKey(), value, true);
+            return;
+        }
+
+        proxyState.getRealm$realm().checkIfValid();
+        if (value == null) {
+            proxyState.getRow$realm().setNull(columnInfo.nameColKey);
+            return;
+        }
+        proxyState.getRow$realm().setString(columnInfo.nameColKey, value);
+    }
+
+    private static OsObjectSchemaInfo createExpectedObjectSchemaInfo() {
+        OsObjectSchemaInfo.Builder builder = new OsObjectSchemaInfo.Builder("InternedFields", false, 3, 0);
+        builder.addPersistedProperty("status", RealmFieldType.STRING, !Property.PRIMARY_KEY, !Property.INDEXED, Property.REQUIRED);
+        builder.addPersistedProperty("country", RealmFieldType.STRING, !Property.PRIMARY_KEY, !Property.INDEXED, !Property.REQUIRED);
+        builder.addPersistedProperty("name", RealmFieldType.STRING, !Property.PRIMARY_KEY, !Property.INDEXED, !Property.REQUIRED);
+        return builder.build();
+    }
+
+    public static OsObjectSchemaInfo getExpectedObjectSchemaInfo() {
+        return expectedObjectSchemaInfo;
+    }
+
+    public static InternedFieldsColumnInfo createColumnInfo(OsSchemaInfo schemaInfo) {
+        return new InternedFieldsColumnInfo(schemaInfo);
+    }
+
+    public static String getSimpleClassName() {
+        return "InternedFields";
+    }
+
+    public static final class ClassNameHelper {
+        public static final String INTERNAL_CLASS_NAME = "InternedFields";
+    }
+
+    @SuppressWarnings("cast")
+    public static some.test.InternedFields createOrUpdateUsingJsonObject(Realm realm, JSONObject json, boolean update)
+            throws JSONException {
+        final List<String> excludeFields = Collections.<String> emptyList();
+        some.test.InternedFields obj = realm.createObjectInternal(some.test.InternedFields.class, true, excludeFields);
+
+        final some_test_InternedFieldsRealmProxyInterface objProxy = (some_test_InternedFieldsRealmProxyInterface) obj;
+        if (json.has("status")) {
+            if (json.isNull("status")) {
+                objProxy.realmSet$status(null);
+            } else {
+                objProxy.realmSet$status((String) json.getString("status"));
+            }
+        }
+        if (json.has("country")) {
+            if (json.isNull("country")) {
+                objProxy.realmSet$country(null);
+            } else {
+                objProxy.realmSet$country((String) json.getString("country"));
+            }
+        }
+        if (json.has("name")) {
+            if (json.isNull("name")) {
+                objProxy.realmSet$name(null);
+            } else {
+                objProxy.realmSet$name((String) json.getString("name"));
+            }
+        }
+        return obj;
+    }
+
+    @SuppressWarnings("cast")
+    @TargetApi(Build.VERSION_CODES.HONEYCOMB)
+    public static some.test.InternedFields createUsingJsonStream(Realm realm, JsonReader reader)
+            throws IOException {
+        final some.test.InternedFields obj = new some.test.InternedFields();
+        final some_test_InternedFieldsRealmProxyInterface objProxy = (some_test_InternedFieldsRealmProxyInterface) obj;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (false) {
+            } else if (name.equals("status")) {
+                if (reader.peek() != JsonToken.NULL) {
+                    objProxy.realmSet$status((String) reader.nextString());
+                } else {
+                    reader.skipValue();
+                    objProxy.realmSet$status(null);
+                }
+            } else if (name.equals("country")) {
+                if (reader.peek() != JsonToken.NULL) {
+                    objProxy.realmSet$country((String) reader.nextString());
+                } else {
+                    reader.skipValue();
+                    objProxy.realmSet$country(null);
+                }
+            } else if (name.equals("name")) {
+                if (reader.peek() != JsonToken.NULL) {
+                    objProxy.realmSet$name((String) reader.nextString());
+                } else {
+                    reader.skipValue();
+                    objProxy.realmSet$name(null);
+                }
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return realm.copyToRealm(obj);
+    }
+
+    static some_test_InternedFieldsRealmProxy newProxyInstance(BaseRealm realm, Row row) {
+        // Ignore default values to avoid creating unexpected objects from RealmModel/RealmList fields
+        final BaseRealm.RealmObjectContext objectContext = BaseRealm.objectContext.get();
+        objectContext.set(realm, row, realm.getSchema().getColumnInfo(some.test.InternedFields.class), false, Collections.<String>emptyList());
+        io.realm.some_test_InternedFieldsRealmProxy obj = new io.realm.some_test_InternedFieldsRealmProxy();
+        objectContext.clear();
+        return obj;
+    }
+
+    public static some.test.InternedFields copyOrUpdate(Realm realm, InternedFieldsColumnInfo columnInfo, some.test.InternedFields object, boolean update, Map<RealmModel,RealmObjectProxy> cache, Set<ImportFlag> flags) {
+        if (object instanceof RealmObjectProxy && !RealmObject.isFrozen(object) && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm() != null) {
+            final BaseRealm otherRealm = ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm();
+            if (otherRealm.threadId != realm.threadId) {
+                throw new IllegalArgumentException("Objects which belong to Realm instances in other threads cannot be copied into this Realm instance.");
+            }
+            if (otherRealm.getPath().equals(realm.getPath())) {
+                return object;
+            }
+        }
+        final BaseRealm.RealmObjectContext objectContext = BaseRealm.objectContext.get();
+        RealmObjectProxy cachedRealmObject = cache.get(object);
+        if (cachedRealmObject != null) {
+            return (some.test.InternedFields) cachedRealmObject;
+        }
+
+        return copy(realm, columnInfo, object, update, cache, flags);
+    }
+
+    public static some.test.InternedFields copy(Realm realm, InternedFieldsColumnInfo columnInfo, some.test.InternedFields newObject, boolean update, Map<RealmModel,RealmObjectProxy> cache, Set<ImportFlag> flags) {
+        RealmObjectProxy cachedRealmObject = cache.get(newObject);
+        if (cachedRealmObject != null) {
+            return (some.test.InternedFields) cachedRealmObject;
+        }
+
+        some_test_InternedFieldsRealmProxyInterface unmanagedSource = (some_test_InternedFieldsRealmProxyInterface) newObject;
+
+        Table table = realm.getTable(some.test.InternedFields.class);
+        OsObjectBuilder builder = new OsObjectBuilder(table, flags);
+
+        // Add all non-"object reference" fields
+        builder.addString(columnInfo.statusColKey, unmanagedSource.realmGet$status());
+        builder.addString(columnInfo.countryColKey, unmanagedSource.realmGet$country());
+        builder.addString(columnInfo.nameColKey, unmanagedSource.realmGet$name());
+
+        // Create the underlying object and cache it before setting any object/objectlist references
+        // This will allow us to break any circular dependencies by using the object cache.
+        Row row = builder.createNewObject();
+        io.realm.some_test_InternedFieldsRealmProxy managedCopy = newProxyInstance(realm, row);
+        cache.put(newObject, managedCopy);
+
+        return managedCopy;
+    }
+
+    public static long insert(Realm realm, some.test.InternedFields object, Map<RealmModel,Long> cache) {
+        if (object instanceof RealmObjectProxy && !RealmObject.isFrozen(object) && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm() != null && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm().getPath().equals(realm.getPath())) {
+            return ((RealmObjectProxy) object).realmGet$proxyState().getRow$realm().getObjectKey();
+        }
+        Table table = realm.getTable(some.test.InternedFields.class);
+        long tableNativePtr = table.getNativePtr();
+        InternedFieldsColumnInfo columnInfo = (InternedFieldsColumnInfo) realm.getSchema().getColumnInfo(some.test.InternedFields.class);
+        long objKey = OsObject.createRow(table);
+        cache.put(object, objKey);
+        String realmGet$status = ((some_test_InternedFieldsRealmProxyInterface) object).realmGet$status();
+        if (realmGet$status != null) {
+            Table.nativeSetString(tableNativePtr, columnInfo.statusColKey, objKey, realmGet$status, false);
+        }
+        String realmGet$country = ((some_test_InternedFieldsRealmProxyInterface) object).realmGet$country();
+        if (realmGet$country != null) {
+            Table.nativeSetString(tableNativePtr, columnInfo.countryColKey, objKey, realmGet$country, false);
+        }
+        String realmGet$name = ((some_test_InternedFieldsRealmProxyInterface) object).realmGet$name();
+        if (realmGet$name != null) {
+            Table.nativeSetString(tableNativePtr, columnInfo.nameColKey, objKey, realmGet$name, false);
+        }
+        return objKey;
+    }
+
+    public static void insert(Realm realm, Iterator<? extends RealmModel> objects, Map<RealmModel,Long> cache) {
+        Table table = realm.getTable(some.test.InternedFields.class);
+        long tableNativePtr = table.getNativePtr();
+        InternedFieldsColumnInfo columnInfo = (InternedFieldsColumnInfo) realm.getSchema().getColumnInfo(some.test.InternedFields.class);
+        some.test.InternedFields object = null;
+        while (objects.hasNext()) {
+            object = (some.test.InternedFields) objects.next();
+            if (cache.containsKey(object)) {
+                continue;
+            }
+            if (object instanceof RealmObjectProxy && !RealmObject.isFrozen(object) && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm() != null && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm().getPath().equals(realm.getPath())) {
+                cache.put(object, ((RealmObjectProxy) object).realmGet$proxyState().getRow$realm().getObjectKey());
+                continue;
+            }
+            long objKey = OsObject.createRow(table);
+            cache.put(object, objKey);
+            String realmGet$status = ((some_test_InternedFieldsRealmProxyInterface) object).realmGet$status();
+            if (realmGet$status != null) {
+                Table.nativeSetString(tableNativePtr, columnInfo.statusColKey, objKey, realmGet$status, false);
+            }
+            String realmGet$country = ((some_test_InternedFieldsRealmProxyInterface) object).realmGet$country();
+            if (realmGet$country != null) {
+                Table.nativeSetString(tableNativePtr, columnInfo.countryColKey, objKey, realmGet$country, false);
+            }
+            String realmGet$name = ((some_test_InternedFieldsRealmProxyInterface) object).realmGet$name();
+            if (realmGet$name != null) {
+                Table.nativeSetString(tableNativePtr, columnInfo.nameColKey, objKey, realmGet$name, false);
+            }
+        }
+    }
+
+    public static long insertOrUpdate(Realm realm, some.test.InternedFields object, Map<RealmModel,Long> cache) {
+        if (object instanceof RealmObjectProxy && !RealmObject.isFrozen(object) && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm() != null && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm().getPath().equals(realm.getPath())) {
+            return ((RealmObjectProxy) object).realmGet$proxyState().getRow$realm().getObjectKey();
+        }
+        Table table = realm.getTable(some.test.InternedFields.class);
+        long tableNativePtr = table.getNativePtr();
+        InternedFieldsColumnInfo columnInfo = (InternedFieldsColumnInfo) realm.getSchema().getColumnInfo(some.test.InternedFields.class);
+        long objKey = OsObject.createRow(table);
+        cache.put(object, objKey);
+        String realmGet$status = ((some_test_InternedFieldsRealmProxyInterface) object).realmGet$status();
+        if (realmGet$status != null) {
+            Table.nativeSetString(tableNativePtr, columnInfo.statusColKey, objKey, realmGet$status, false);
+        } else {
+            Table.nativeSetNull(tableNativePtr, columnInfo.statusColKey, objKey, false);
+        }
+        String realmGet$country = ((some_test_InternedFieldsRealmProxyInterface) object).realmGet$country();
+        if (realmGet$country != null) {
+            Table.nativeSetString(tableNativePtr, columnInfo.countryColKey, objKey, realmGet$country, false);
+        } else {
+            Table.nativeSetNull(tableNativePtr, columnInfo.countryColKey, objKey, false);
+        }
+        String realmGet$name = ((some_test_InternedFieldsRealmProxyInterface) object).realmGet$name();
+        if (realmGet$name != null) {
+            Table.nativeSetString(tableNativePtr, columnInfo.nameColKey, objKey, realmGet$name, false);
+        } else {
+            Table.nativeSetNull(tableNativePtr, columnInfo.nameColKey, objKey, false);
+        }
+        return objKey;
+    }
+
+    public static void insertOrUpdate(Realm realm, Iterator<? extends RealmModel> objects, Map<RealmModel,Long> cache) {
+        Table table = realm.getTable(some.test.InternedFields.class);
+        long tableNativePtr = table.getNativePtr();
+        InternedFieldsColumnInfo columnInfo = (InternedFieldsColumnInfo) realm.getSchema().getColumnInfo(some.test.InternedFields.class);
+        some.test.InternedFields object = null;
+        while (objects.hasNext()) {
+            object = (some.test.InternedFields) objects.next();
+            if (cache.containsKey(object)) {
+                continue;
+            }
+            if (object instanceof RealmObjectProxy && !RealmObject.isFrozen(object) && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm() != null && ((RealmObjectProxy) object).realmGet$proxyState().getRealm$realm().getPath().equals(realm.getPath())) {
+                cache.put(object, ((RealmObjectProxy) object).realmGet$proxyState().getRow$realm().getObjectKey());
+                continue;
+            }
+            long objKey = OsObject.createRow(table);
+            cache.put(object, objKey);
+            String realmGet$status = ((some_test_InternedFieldsRealmProxyInterface) object).realmGet$status();
+            if (realmGet$status != null) {
+                Table.nativeSetString(tableNativePtr, columnInfo.statusColKey, objKey, realmGet$status, false);
+            } else {
+                Table.nativeSetNull(tableNativePtr, columnInfo.statusColKey, objKey, false);
+            }
+            String realmGet$country = ((some_test_InternedFieldsRealmProxyInterface) object).realmGet$country();
+            if (realmGet$country != null) {
+                Table.nativeSetString(tableNativePtr, columnInfo.countryColKey, objKey, realmGet$country, false);
+            } else {
+                Table.nativeSetNull(tableNativePtr, columnInfo.countryColKey, objKey, false);
+            }
+            String realmGet$name = ((some_test_InternedFieldsRealmProxyInterface) object).realmGet$name();
+            if (realmGet$name != null) {
+                Table.nativeSetString(tableNativePtr, columnInfo.nameColKey, objKey, realmGet$name, false);
+            } else {
+                Table.nativeSetNull(tableNativePtr, columnInfo.nameColKey, objKey, false);
+            }
+        }
+    }
+
+    public static some.test.InternedFields createDetachedCopy(some.test.InternedFields realmObject, int currentDepth, int maxDepth, Map<RealmModel, CacheData<RealmModel>> cache) {
+        if (currentDepth > maxDepth || realmObject == null) {
+            return null;
+        }
+        CacheData<RealmModel> cachedObject = cache.get(realmObject);
+        some.test.InternedFields unmanagedObject;
+        if (cachedObject == null) {
+            unmanagedObject = new some.test.InternedFields();
+            cache.put(realmObject, new RealmObjectProxy.CacheData<RealmModel>(currentDepth, unmanagedObject));
+        } else {
+            // Reuse cached object or recreate it because it was encountered at a lower depth.
+            if (currentDepth >= cachedObject.minDepth) {
+                return (some.test.InternedFields) cachedObject.object;
+            }
+            unmanagedObject = (some.test.InternedFields) cachedObject.object;
+            cachedObject.minDepth = currentDepth;
+        }
+        some_test_InternedFieldsRealmProxyInterface unmanagedCopy = (some_test_InternedFieldsRealmProxyInterface) unmanagedObject;
+        some_test_InternedFieldsRealmProxyInterface realmSource = (some_test_InternedFieldsRealmProxyInterface) realmObject;
+        some_test_InternedFieldsRealmProxy realmProxy = (some_test_InternedFieldsRealmProxy) realmObject;
+        realmProxy.proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(realmProxy.proxyState.getRow$realm(), realmProxy.columnInfo.scalarColKeys);
+        unmanagedCopy.realmSet$status(rowValues.getString(0));
+        unmanagedCopy.realmSet$country(rowValues.getString(1));
+        unmanagedCopy.realmSet$name(rowValues.getString(2));
+
+        return unmanagedObject;
+    }
+
+    @Override
+    @SuppressWarnings("ArrayToString")
+    public String toString() {
+        if (!RealmObject.isValid(this)) {
+            return "Invalid object";
+        }
+        proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(proxyState.getRow$realm(), columnInfo.scalarColKeys);
+        StringBuilder stringBuilder = new StringBuilder("InternedFields = proxy[");
+        stringBuilder.append("{status:");
+        stringBuilder.append(rowValues.getString(0));
+        stringBuilder.append("}");
+        stringBuilder.append(",");
+        stringBuilder.append("{country:");
+        stringBuilder.append(rowValues.isNull(1) ? "null" : rowValues.getString(1));
+        stringBuilder.append("}");
+        stringBuilder.append(",");
+        stringBuilder.append("{name:");
+        stringBuilder.append(rowValues.isNull(2) ? "null" : rowValues.getString(2));
+        stringBuilder.append("}");
+        stringBuilder.append("]");
+        return stringBuilder.toString();
+    }
+
+    @Override
+    public ProxyState<?> realmGet$proxyState() {
+        return proxyState;
+    }
+
+    @Override
+    public int hashCode() {
+        return proxyState.getIdentityHashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        some_test_InternedFieldsRealmProxy aInternedFields = (some_test_InternedFieldsRealmProxy)o;
+
+        return proxyState.isSameObject(aInternedFields.proxyState);
+    }
+}
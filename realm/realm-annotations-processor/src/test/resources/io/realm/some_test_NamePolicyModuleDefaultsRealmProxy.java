@@ -16,6 +16,7 @@ import io.realm.internal.OsSchemaInfo;
 import io.realm.internal.Property;
 import io.realm.internal.RealmObjectProxy;
 import io.realm.internal.Row;
+import io.realm.internal.RowValues;
 import io.realm.internal.Table;
 import io.realm.internal.android.JsonUtils;
 import io.realm.internal.objectstore.OsObjectBuilder;
@@ -40,12 +41,14 @@ public class some_test_NamePolicyModuleDefaultsRealmProxy extends some.test.Name
     static final class NamePolicyModuleDefaultsColumnInfo extends ColumnInfo {
         long firstNameColKey;
         long lastNameColKey;
+        long[] scalarColKeys;
 
         NamePolicyModuleDefaultsColumnInfo(OsSchemaInfo schemaInfo) {
             super(2);
             OsObjectSchemaInfo objectSchemaInfo = schemaInfo.getObjectSchemaInfo("NamePolicyModuleDefaults");
             this.firstNameColKey = addColumnDetails("firstName", "FirstName", objectSchemaInfo);
             this.lastNameColKey = addColumnDetails("lastName", "LastName", objectSchemaInfo);
+            this.scalarColKeys = new long[] {firstNameColKey, lastNameColKey};
         }
 
         NamePolicyModuleDefaultsColumnInfo(ColumnInfo src, boolean mutable) {
@@ -64,6 +67,7 @@ public class some_test_NamePolicyModuleDefaultsRealmProxy extends some.test.Name
             final NamePolicyModuleDefaultsColumnInfo dst = (NamePolicyModuleDefaultsColumnInfo) rawDst;
             dst.firstNameColKey = src.firstNameColKey;
             dst.lastNameColKey = src.lastNameColKey;
+            dst.scalarColKeys = src.scalarColKeys;
         }
     }
 
@@ -402,8 +406,11 @@ public class some_test_NamePolicyModuleDefaultsRealmProxy extends some.test.Name
         }
         some_test_NamePolicyModuleDefaultsRealmProxyInterface unmanagedCopy = (some_test_NamePolicyModuleDefaultsRealmProxyInterface) unmanagedObject;
         some_test_NamePolicyModuleDefaultsRealmProxyInterface realmSource = (some_test_NamePolicyModuleDefaultsRealmProxyInterface) realmObject;
-        unmanagedCopy.realmSet$firstName(realmSource.realmGet$firstName());
-        unmanagedCopy.realmSet$lastName(realmSource.realmGet$lastName());
+        some_test_NamePolicyModuleDefaultsRealmProxy realmProxy = (some_test_NamePolicyModuleDefaultsRealmProxy) realmObject;
+        realmProxy.proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(realmProxy.proxyState.getRow$realm(), realmProxy.columnInfo.scalarColKeys);
+        unmanagedCopy.realmSet$firstName(rowValues.getString(0));
+        unmanagedCopy.realmSet$lastName(rowValues.getString(1));
 
         return unmanagedObject;
     }
@@ -414,13 +421,15 @@ public class some_test_NamePolicyModuleDefaultsRealmProxy extends some.test.Name
         if (!RealmObject.isValid(this)) {
             return "Invalid object";
         }
+        proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(proxyState.getRow$realm(), columnInfo.scalarColKeys);
         StringBuilder stringBuilder = new StringBuilder("NamePolicyModuleDefaults = proxy[");
         stringBuilder.append("{firstName:");
-        stringBuilder.append(realmGet$firstName() != null ? realmGet$firstName() : "null");
+        stringBuilder.append(rowValues.isNull(0) ? "null" : rowValues.getString(0));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{lastName:");
-        stringBuilder.append(realmGet$lastName() != null ? realmGet$lastName() : "null");
+        stringBuilder.append(rowValues.isNull(1) ? "null" : rowValues.getString(1));
         stringBuilder.append("}");
         stringBuilder.append("]");
         return stringBuilder.toString();
@@ -433,15 +442,7 @@ public class some_test_NamePolicyModuleDefaultsRealmProxy extends some.test.Name
 
     @Override
     public int hashCode() {
-        String realmName = proxyState.getRealm$realm().getPath();
-        String tableName = proxyState.getRow$realm().getTable().getName();
-        long objKey = proxyState.getRow$realm().getObjectKey();
-
-        int result = 17;
-        result = 31 * result + ((realmName != null) ? realmName.hashCode() : 0);
-        result = 31 * result + ((tableName != null) ? tableName.hashCode() : 0);
-        result = 31 * result + (int) (objKey ^ (objKey >>> 32));
-        return result;
+        return proxyState.getIdentityHashCode();
     }
 
     @Override
@@ -450,22 +451,6 @@ public class some_test_NamePolicyModuleDefaultsRealmProxy extends some.test.Name
         if (o == null || getClass() != o.getClass()) return false;
         some_test_NamePolicyModuleDefaultsRealmProxy aNamePolicyModuleDefaults = (some_test_NamePolicyModuleDefaultsRealmProxy)o;
 
-        BaseRealm realm = proxyState.getRealm$realm();
-        BaseRealm otherRealm = aNamePolicyModuleDefaults.proxyState.getRealm$realm();
-        String path = realm.getPath();
-        String otherPath = otherRealm.getPath();
-        if (path != null ? !path.equals(otherPath) : otherPath != null) return false;
-        if (realm.isFrozen() != otherRealm.isFrozen()) return false;
-        if (!realm.sharedRealm.getVersionID().equals(otherRealm.sharedRealm.getVersionID())) {
-            return false;
-        }
-
-        String tableName = proxyState.getRow$realm().getTable().getName();
-        String otherTableName = aNamePolicyModuleDefaults.proxyState.getRow$realm().getTable().getName();
-        if (tableName != null ? !tableName.equals(otherTableName) : otherTableName != null) return false;
-
-        if (proxyState.getRow$realm().getObjectKey() != aNamePolicyModuleDefaults.proxyState.getRow$realm().getObjectKey()) return false;
-
-        return true;
+        return proxyState.isSameObject(aNamePolicyModuleDefaults.proxyState);
     }
 }
@@ -16,6 +16,7 @@ import io.realm.internal.OsSchemaInfo;
 import io.realm.internal.Property;
 import io.realm.internal.RealmObjectProxy;
 import io.realm.internal.Row;
+import io.realm.internal.RowValues;
 import io.realm.internal.Table;
 import io.realm.internal.android.JsonUtils;
 import io.realm.internal.objectstore.OsObjectBuilder;
@@ -87,6 +88,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
         long fieldDecimal128ListNullColKey;
         long fieldObjectIdListNotNullColKey;
         long fieldObjectIdListNullColKey;
+        long[] scalarColKeys;
 
         NullTypesColumnInfo(OsSchemaInfo schemaInfo) {
             super(49);
@@ -140,6 +142,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             this.fieldDecimal128ListNullColKey = addColumnDetails("fieldDecimal128ListNull", "fieldDecimal128ListNull", objectSchemaInfo);
             this.fieldObjectIdListNotNullColKey = addColumnDetails("fieldObjectIdListNotNull", "fieldObjectIdListNotNull", objectSchemaInfo);
             this.fieldObjectIdListNullColKey = addColumnDetails("fieldObjectIdListNull", "fieldObjectIdListNull", objectSchemaInfo);
+            this.scalarColKeys = new long[] {fieldStringNotNullColKey, fieldStringNullColKey, fieldBooleanNotNullColKey, fieldBooleanNullColKey, fieldBytesNotNullColKey, fieldBytesNullColKey, fieldByteNotNullColKey, fieldByteNullColKey, fieldShortNotNullColKey, fieldShortNullColKey, fieldIntegerNotNullColKey, fieldIntegerNullColKey, fieldLongNotNullColKey, fieldLongNullColKey, fieldFloatNotNullColKey, fieldFloatNullColKey, fieldDoubleNotNullColKey, fieldDoubleNullColKey, fieldDateNotNullColKey, fieldDateNullColKey, fieldDecimal128NotNullColKey, fieldDecimal128NullColKey, fieldObjectIdNotNullColKey, fieldObjectIdNullColKey};
         }
 
         NullTypesColumnInfo(ColumnInfo src, boolean mutable) {
@@ -205,6 +208,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             dst.fieldDecimal128ListNullColKey = src.fieldDecimal128ListNullColKey;
             dst.fieldObjectIdListNotNullColKey = src.fieldObjectIdListNotNullColKey;
             dst.fieldObjectIdListNullColKey = src.fieldObjectIdListNullColKey;
+            dst.scalarColKeys = src.scalarColKeys;
         }
     }
 
@@ -2822,11 +2826,11 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
         }
         org.bson.types.ObjectId realmGet$fieldObjectIdNotNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNotNull();
         if (realmGet$fieldObjectIdNotNull != null) {
-            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toString(), false);
+            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toByteArray(), false);
         }
         org.bson.types.ObjectId realmGet$fieldObjectIdNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNull();
         if (realmGet$fieldObjectIdNull != null) {
-            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toString(), false);
+            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toByteArray(), false);
         }
 
         some.test.NullTypes fieldObjectNullObj = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectNull();
@@ -3234,11 +3238,11 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
             org.bson.types.ObjectId realmGet$fieldObjectIdNotNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNotNull();
             if (realmGet$fieldObjectIdNotNull != null) {
-                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toString(), false);
+                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toByteArray(), false);
             }
             org.bson.types.ObjectId realmGet$fieldObjectIdNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNull();
             if (realmGet$fieldObjectIdNull != null) {
-                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toString(), false);
+                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toByteArray(), false);
             }
 
             some.test.NullTypes fieldObjectNullObj = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectNull();
@@ -3683,13 +3687,13 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
         }
         org.bson.types.ObjectId realmGet$fieldObjectIdNotNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNotNull();
         if (realmGet$fieldObjectIdNotNull != null) {
-            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toString(), false);
+            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toByteArray(), false);
         } else {
             Table.nativeSetNull(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, false);
         }
         org.bson.types.ObjectId realmGet$fieldObjectIdNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNull();
         if (realmGet$fieldObjectIdNull != null) {
-            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toString(), false);
+            Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toByteArray(), false);
         } else {
             Table.nativeSetNull(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, false);
         }
@@ -4193,13 +4197,13 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
             }
             org.bson.types.ObjectId realmGet$fieldObjectIdNotNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNotNull();
             if (realmGet$fieldObjectIdNotNull != null) {
-                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toString(), false);
+                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, realmGet$fieldObjectIdNotNull.toByteArray(), false);
             } else {
                 Table.nativeSetNull(tableNativePtr, columnInfo.fieldObjectIdNotNullColKey, objKey, false);
             }
             org.bson.types.ObjectId realmGet$fieldObjectIdNull = ((some_test_NullTypesRealmProxyInterface) object).realmGet$fieldObjectIdNull();
             if (realmGet$fieldObjectIdNull != null) {
-                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toString(), false);
+                Table.nativeSetObjectId(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, realmGet$fieldObjectIdNull.toByteArray(), false);
             } else {
                 Table.nativeSetNull(tableNativePtr, columnInfo.fieldObjectIdNullColKey, objKey, false);
             }
@@ -4572,30 +4576,33 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
         }
         some_test_NullTypesRealmProxyInterface unmanagedCopy = (some_test_NullTypesRealmProxyInterface) unmanagedObject;
         some_test_NullTypesRealmProxyInterface realmSource = (some_test_NullTypesRealmProxyInterface) realmObject;
-        unmanagedCopy.realmSet$fieldStringNotNull(realmSource.realmGet$fieldStringNotNull());
-        unmanagedCopy.realmSet$fieldStringNull(realmSource.realmGet$fieldStringNull());
-        unmanagedCopy.realmSet$fieldBooleanNotNull(realmSource.realmGet$fieldBooleanNotNull());
-        unmanagedCopy.realmSet$fieldBooleanNull(realmSource.realmGet$fieldBooleanNull());
-        unmanagedCopy.realmSet$fieldBytesNotNull(realmSource.realmGet$fieldBytesNotNull());
-        unmanagedCopy.realmSet$fieldBytesNull(realmSource.realmGet$fieldBytesNull());
-        unmanagedCopy.realmSet$fieldByteNotNull(realmSource.realmGet$fieldByteNotNull());
-        unmanagedCopy.realmSet$fieldByteNull(realmSource.realmGet$fieldByteNull());
-        unmanagedCopy.realmSet$fieldShortNotNull(realmSource.realmGet$fieldShortNotNull());
-        unmanagedCopy.realmSet$fieldShortNull(realmSource.realmGet$fieldShortNull());
-        unmanagedCopy.realmSet$fieldIntegerNotNull(realmSource.realmGet$fieldIntegerNotNull());
-        unmanagedCopy.realmSet$fieldIntegerNull(realmSource.realmGet$fieldIntegerNull());
-        unmanagedCopy.realmSet$fieldLongNotNull(realmSource.realmGet$fieldLongNotNull());
-        unmanagedCopy.realmSet$fieldLongNull(realmSource.realmGet$fieldLongNull());
-        unmanagedCopy.realmSet$fieldFloatNotNull(realmSource.realmGet$fieldFloatNotNull());
-        unmanagedCopy.realmSet$fieldFloatNull(realmSource.realmGet$fieldFloatNull());
-        unmanagedCopy.realmSet$fieldDoubleNotNull(realmSource.realmGet$fieldDoubleNotNull());
-        unmanagedCopy.realmSet$fieldDoubleNull(realmSource.realmGet$fieldDoubleNull());
-        unmanagedCopy.realmSet$fieldDateNotNull(realmSource.realmGet$fieldDateNotNull());
-        unmanagedCopy.realmSet$fieldDateNull(realmSource.realmGet$fieldDateNull());
-        unmanagedCopy.realmSet$fieldDecimal128NotNull(realmSource.realmGet$fieldDecimal128NotNull());
-        unmanagedCopy.realmSet$fieldDecimal128Null(realmSource.realmGet$fieldDecimal128Null());
-        unmanagedCopy.realmSet$fieldObjectIdNotNull(realmSource.realmGet$fieldObjectIdNotNull());
-        unmanagedCopy.realmSet$fieldObjectIdNull(realmSource.realmGet$fieldObjectIdNull());
+        some_test_NullTypesRealmProxy realmProxy = (some_test_NullTypesRealmProxy) realmObject;
+        realmProxy.proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(realmProxy.proxyState.getRow$realm(), realmProxy.columnInfo.scalarColKeys);
+        unmanagedCopy.realmSet$fieldStringNotNull(rowValues.getString(0));
+        unmanagedCopy.realmSet$fieldStringNull(rowValues.getString(1));
+        unmanagedCopy.realmSet$fieldBooleanNotNull(rowValues.getBoolean(2));
+        unmanagedCopy.realmSet$fieldBooleanNull(rowValues.isNull(3) ? null : rowValues.getBoolean(3));
+        unmanagedCopy.realmSet$fieldBytesNotNull(rowValues.getBinaryByteArray(4));
+        unmanagedCopy.realmSet$fieldBytesNull(rowValues.getBinaryByteArray(5));
+        unmanagedCopy.realmSet$fieldByteNotNull((byte) rowValues.getLong(6));
+        unmanagedCopy.realmSet$fieldByteNull(rowValues.isNull(7) ? null : (byte) rowValues.getLong(7));
+        unmanagedCopy.realmSet$fieldShortNotNull((short) rowValues.getLong(8));
+        unmanagedCopy.realmSet$fieldShortNull(rowValues.isNull(9) ? null : (short) rowValues.getLong(9));
+        unmanagedCopy.realmSet$fieldIntegerNotNull((int) rowValues.getLong(10));
+        unmanagedCopy.realmSet$fieldIntegerNull(rowValues.isNull(11) ? null : (int) rowValues.getLong(11));
+        unmanagedCopy.realmSet$fieldLongNotNull(rowValues.getLong(12));
+        unmanagedCopy.realmSet$fieldLongNull(rowValues.isNull(13) ? null : rowValues.getLong(13));
+        unmanagedCopy.realmSet$fieldFloatNotNull(rowValues.getFloat(14));
+        unmanagedCopy.realmSet$fieldFloatNull(rowValues.isNull(15) ? null : rowValues.getFloat(15));
+        unmanagedCopy.realmSet$fieldDoubleNotNull(rowValues.getDouble(16));
+        unmanagedCopy.realmSet$fieldDoubleNull(rowValues.isNull(17) ? null : rowValues.getDouble(17));
+        unmanagedCopy.realmSet$fieldDateNotNull(rowValues.getDate(18));
+        unmanagedCopy.realmSet$fieldDateNull(rowValues.getDate(19));
+        unmanagedCopy.realmSet$fieldDecimal128NotNull(rowValues.getDecimal128(20));
+        unmanagedCopy.realmSet$fieldDecimal128Null(rowValues.getDecimal128(21));
+        unmanagedCopy.realmSet$fieldObjectIdNotNull(rowValues.getObjectId(22));
+        unmanagedCopy.realmSet$fieldObjectIdNull(rowValues.getObjectId(23));
 
         // Deep copy of fieldObjectNull
         unmanagedCopy.realmSet$fieldObjectNull(some_test_NullTypesRealmProxy.createDetachedCopy(realmSource.realmGet$fieldObjectNull(), currentDepth + 1, maxDepth, cache));
@@ -4681,101 +4688,103 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
         if (!RealmObject.isValid(this)) {
             return "Invalid object";
         }
+        proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(proxyState.getRow$realm(), columnInfo.scalarColKeys);
         StringBuilder stringBuilder = new StringBuilder("NullTypes = proxy[");
         stringBuilder.append("{fieldStringNotNull:");
-        stringBuilder.append(realmGet$fieldStringNotNull());
+        stringBuilder.append(rowValues.getString(0));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldStringNull:");
-        stringBuilder.append(realmGet$fieldStringNull() != null ? realmGet$fieldStringNull() : "null");
+        stringBuilder.append(rowValues.isNull(1) ? "null" : rowValues.getString(1));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldBooleanNotNull:");
-        stringBuilder.append(realmGet$fieldBooleanNotNull());
+        stringBuilder.append(rowValues.getBoolean(2));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldBooleanNull:");
-        stringBuilder.append(realmGet$fieldBooleanNull() != null ? realmGet$fieldBooleanNull() : "null");
+        stringBuilder.append(rowValues.isNull(3) ? "null" : rowValues.getBoolean(3));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldBytesNotNull:");
-        stringBuilder.append("binary(" + realmGet$fieldBytesNotNull().length + ")");
+        stringBuilder.append("binary(" + rowValues.getBinaryByteArray(4).length + ")");
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldBytesNull:");
-        stringBuilder.append((realmGet$fieldBytesNull() == null) ? "null" : "binary(" + realmGet$fieldBytesNull().length + ")");
+        stringBuilder.append(rowValues.isNull(5) ? "null" : "binary(" + rowValues.getBinaryByteArray(5).length + ")");
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldByteNotNull:");
-        stringBuilder.append(realmGet$fieldByteNotNull());
+        stringBuilder.append((byte) rowValues.getLong(6));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldByteNull:");
-        stringBuilder.append(realmGet$fieldByteNull() != null ? realmGet$fieldByteNull() : "null");
+        stringBuilder.append(rowValues.isNull(7) ? "null" : (byte) rowValues.getLong(7));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldShortNotNull:");
-        stringBuilder.append(realmGet$fieldShortNotNull());
+        stringBuilder.append((short) rowValues.getLong(8));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldShortNull:");
-        stringBuilder.append(realmGet$fieldShortNull() != null ? realmGet$fieldShortNull() : "null");
+        stringBuilder.append(rowValues.isNull(9) ? "null" : (short) rowValues.getLong(9));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldIntegerNotNull:");
-        stringBuilder.append(realmGet$fieldIntegerNotNull());
+        stringBuilder.append((int) rowValues.getLong(10));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldIntegerNull:");
-        stringBuilder.append(realmGet$fieldIntegerNull() != null ? realmGet$fieldIntegerNull() : "null");
+        stringBuilder.append(rowValues.isNull(11) ? "null" : (int) rowValues.getLong(11));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldLongNotNull:");
-        stringBuilder.append(realmGet$fieldLongNotNull());
+        stringBuilder.append(rowValues.getLong(12));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldLongNull:");
-        stringBuilder.append(realmGet$fieldLongNull() != null ? realmGet$fieldLongNull() : "null");
+        stringBuilder.append(rowValues.isNull(13) ? "null" : rowValues.getLong(13));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldFloatNotNull:");
-        stringBuilder.append(realmGet$fieldFloatNotNull());
+        stringBuilder.append(rowValues.getFloat(14));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldFloatNull:");
-        stringBuilder.append(realmGet$fieldFloatNull() != null ? realmGet$fieldFloatNull() : "null");
+        stringBuilder.append(rowValues.isNull(15) ? "null" : rowValues.getFloat(15));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldDoubleNotNull:");
-        stringBuilder.append(realmGet$fieldDoubleNotNull());
+        stringBuilder.append(rowValues.getDouble(16));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldDoubleNull:");
-        stringBuilder.append(realmGet$fieldDoubleNull() != null ? realmGet$fieldDoubleNull() : "null");
+        stringBuilder.append(rowValues.isNull(17) ? "null" : rowValues.getDouble(17));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldDateNotNull:");
-        stringBuilder.append(realmGet$fieldDateNotNull());
+        stringBuilder.append(rowValues.getDate(18));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldDateNull:");
-        stringBuilder.append(realmGet$fieldDateNull() != null ? realmGet$fieldDateNull() : "null");
+        stringBuilder.append(rowValues.isNull(19) ? "null" : rowValues.getDate(19));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldDecimal128NotNull:");
-        stringBuilder.append(realmGet$fieldDecimal128NotNull());
+        stringBuilder.append(rowValues.getDecimal128(20));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldDecimal128Null:");
-        stringBuilder.append(realmGet$fieldDecimal128Null() != null ? realmGet$fieldDecimal128Null() : "null");
+        stringBuilder.append(rowValues.isNull(21) ? "null" : rowValues.getDecimal128(21));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldObjectIdNotNull:");
-        stringBuilder.append(realmGet$fieldObjectIdNotNull());
+        stringBuilder.append(rowValues.getObjectId(22));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldObjectIdNull:");
-        stringBuilder.append(realmGet$fieldObjectIdNull() != null ? realmGet$fieldObjectIdNull() : "null");
+        stringBuilder.append(rowValues.isNull(23) ? "null" : rowValues.getObjectId(23));
         stringBuilder.append("}");
         stringBuilder.append(",");
         stringBuilder.append("{fieldObjectNull:");
@@ -4888,15 +4897,7 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
 
     @Override
     public int hashCode() {
-        String realmName = proxyState.getRealm$realm().getPath();
-        String tableName = proxyState.getRow$realm().getTable().getName();
-        long objKey = proxyState.getRow$realm().getObjectKey();
-
-        int result = 17;
-        result = 31 * result + ((realmName != null) ? realmName.hashCode() : 0);
-        result = 31 * result + ((tableName != null) ? tableName.hashCode() : 0);
-        result = 31 * result + (int) (objKey ^ (objKey >>> 32));
-        return result;
+        return proxyState.getIdentityHashCode();
     }
 
     @Override
@@ -4905,22 +4906,6 @@ public class some_test_NullTypesRealmProxy extends some.test.NullTypes
         if (o == null || getClass() != o.getClass()) return false;
         some_test_NullTypesRealmProxy aNullTypes = (some_test_NullTypesRealmProxy)o;
 
-        BaseRealm realm = proxyState.getRealm$realm();
-        BaseRealm otherRealm = aNullTypes.proxyState.getRealm$realm();
-        String path = realm.getPath();
-        String otherPath = otherRealm.getPath();
-        if (path != null ? !path.equals(otherPath) : otherPath != null) return false;
-        if (realm.isFrozen() != otherRealm.isFrozen()) return false;
-        if (!realm.sharedRealm.getVersionID().equals(otherRealm.sharedRealm.getVersionID())) {
-            return false;
-        }
-
-        String tableName = proxyState.getRow$realm().getTable().getName();
-        String otherTableName = aNullTypes.proxyState.getRow$realm().getTable().getName();
-        if (tableName != null ? !tableName.equals(otherTableName) : otherTableName != null) return false;
-
-        if (proxyState.getRow$realm().getObjectKey() != aNullTypes.proxyState.getRow$realm().getObjectKey()) return false;
-
-        return true;
+        return proxyState.isSameObject(aNullTypes.proxyState);
     }
 }
@@ -16,6 +16,7 @@ import io.realm.internal.OsSchemaInfo;
 import io.realm.internal.Property;
 import io.realm.internal.RealmObjectProxy;
 import io.realm.internal.Row;
+import io.realm.internal.RowValues;
 import io.realm.internal.Table;
 import io.realm.internal.android.JsonUtils;
 import io.realm.internal.objectstore.OsObjectBuilder;
@@ -40,12 +41,14 @@ public class some_test_SimpleRealmProxy extends some.test.Simple
     static final class SimpleColumnInfo extends ColumnInfo {
         long nameColKey;
         long ageColKey;
+        long[] scalarColKeys;
 
         SimpleColumnInfo(OsSchemaInfo schemaInfo) {
             super(2);
             OsObjectSchemaInfo objectSchemaInfo = schemaInfo.getObjectSchemaInfo("Simple");
             this.nameColKey = addColumnDetails("name", "name", objectSchemaInfo);
             this.ageColKey = addColumnDetails("age", "age", objectSchemaInfo);
+            this.scalarColKeys = new long[] {nameColKey, ageColKey};
         }
 
         SimpleColumnInfo(ColumnInfo src, boolean mutable) {
@@ -64,6 +67,7 @@ public class some_test_SimpleRealmProxy extends some.test.Simple
             final SimpleColumnInfo dst = (SimpleColumnInfo) rawDst;
             dst.nameColKey = src.nameColKey;
             dst.ageColKey = src.ageColKey;
+            dst.scalarColKeys = src.scalarColKeys;
         }
     }
 
@@ -378,8 +382,11 @@ public class some_test_SimpleRealmProxy extends some.test.Simple
         }
         some_test_SimpleRealmProxyInterface unmanagedCopy = (some_test_SimpleRealmProxyInterface) unmanagedObject;
         some_test_SimpleRealmProxyInterface realmSource = (some_test_SimpleRealmProxyInterface) realmObject;
-        unmanagedCopy.realmSet$name(realmSource.realmGet$name());
-        unmanagedCopy.realmSet$age(realmSource.realmGet$age());
+        some_test_SimpleRealmProxy realmProxy = (some_test_SimpleRealmProxy) realmObject;
+        realmProxy.proxyState.getRealm$realm().checkIfValid();
+        RowValues rowValues = RowValues.read(realmProxy.proxyState.getRow$realm(), realmProxy.columnInfo.scalarColKeys);
+        unmanagedCopy.realmSet$name(rowValues.getString(0));
+        unmanagedCopy.realmSet$age((int) rowValues.getLong(1));
 
         return unmanagedObject;
     }
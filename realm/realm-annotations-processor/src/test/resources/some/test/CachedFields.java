@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package some.test;
+
+import java.util.Date;
+
+import io.realm.RealmObject;
+import io.realm.annotations.Cached;
+import io.realm.annotations.Required;
+
+public class CachedFields extends RealmObject {
+    @Cached
+    @Required
+    private String name;
+    @Cached
+    private int age;
+    @Cached
+    private Integer score;
+    @Cached
+    private Date birthday;
+    private long notCached;
+
+    public String getName() {
+        return realmGet$name();
+    }
+
+    public void setName(String name) {
+        realmSet$name(name);
+    }
+
+    public String realmGet$name() {
+        return name;
+    }
+
+    public void realmSet$name(String name) {
+        this.name = name;
+    }
+
+    public int getAge() {
+        return realmGet$age();
+    }
+
+    public void setAge(int age) {
+        realmSet$age(age);
+    }
+
+    public int realmGet$age() {
+        return age;
+    }
+
+    public void realmSet$age(int age) {
+        this.age = age;
+    }
+
+    public Integer getScore() {
+        return realmGet$score();
+    }
+
+    public void setScore(Integer score) {
+        realmSet$score(score);
+    }
+
+    public Integer realmGet$score() {
+        return score;
+    }
+
+    public void realmSet$score(Integer score) {
+        this.score = score;
+    }
+
+    public Date getBirthday() {
+        return realmGet$birthday();
+    }
+
+    public void setBirthday(Date birthday) {
+        realmSet$birthday(birthday);
+    }
+
+    public Date realmGet$birthday() {
+        return birthday;
+    }
+
+    public void realmSet$birthday(Date birthday) {
+        this.birthday = birthday;
+    }
+
+    public long getNotCached() {
+        return realmGet$notCached();
+    }
+
+    public void setNotCached(long notCached) {
+        realmSet$notCached(notCached);
+    }
+
+    public long realmGet$notCached() {
+        return notCached;
+    }
+
+    public void realmSet$notCached(long notCached) {
+        this.notCached = notCached;
+    }
+}
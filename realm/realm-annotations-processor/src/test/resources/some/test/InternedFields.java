@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package some.test;
+
+import io.realm.RealmObject;
+import io.realm.annotations.Cached;
+import io.realm.annotations.Interned;
+import io.realm.annotations.Required;
+
+public class InternedFields extends RealmObject {
+    @Interned
+    @Required
+    private String status;
+    @Interned
+    @Cached
+    private String country;
+    private String name;
+
+    public String getStatus() {
+        return realmGet$status();
+    }
+
+    public void setStatus(String status) {
+        realmSet$status(status);
+    }
+
+    public String realmGet$status() {
+        return status;
+    }
+
+    public void realmSet$status(String status) {
+        this.status = status;
+    }
+
+    public String getCountry() {
+        return realmGet$country();
+    }
+
+    public void setCountry(String country) {
+        realmSet$country(country);
+    }
+
+    public String realmGet$country() {
+        return country;
+    }
+
+    public void realmSet$country(String country) {
+        this.country = country;
+    }
+
+    public String getName() {
+        return realmGet$name();
+    }
+
+    public void setName(String name) {
+        realmSet$name(name);
+    }
+
+    public String realmGet$name() {
+        return name;
+    }
+
+    public void realmSet$name(String name) {
+        this.name = name;
+    }
+}
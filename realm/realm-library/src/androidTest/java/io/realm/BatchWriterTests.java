@@ -0,0 +1,278 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.realm.entities.Dog;
+import io.realm.entities.PrimaryKeyAsLong;
+import io.realm.exceptions.RealmException;
+import io.realm.exceptions.RealmPrimaryKeyConstraintException;
+import io.realm.rule.TestRealmConfigurationFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(AndroidJUnit4.class)
+public class BatchWriterTests {
+    @Rule
+    public final TestRealmConfigurationFactory configFactory = new TestRealmConfigurationFactory();
+
+    private RealmConfiguration realmConfig;
+    private Realm realm;
+
+    @Before
+    public void setUp() {
+        realmConfig = configFactory.createConfiguration();
+        realm = Realm.getInstance(realmConfig);
+    }
+
+    @After
+    public void tearDown() {
+        if (realm != null) {
+            realm.close();
+        }
+    }
+
+    @Test
+    public void insert_commitsEveryMaxObjects() {
+        final List<BatchWriter.BatchInfo> batches = new ArrayList<>();
+        BatchWriterConfiguration config = new BatchWriterConfiguration.Builder(realmConfig)
+                .maxObjects(10)
+                .commitListener(new BatchWriter.BatchCommitListener() {
+                    @Override
+                    public void onBatchCommitted(BatchWriter.BatchInfo batchInfo) {
+                        batches.add(batchInfo);
+                    }
+                })
+                .build();
+
+        BatchWriter writer = Realm.newBatchWriter(config);
+        for (int i = 0; i < 25; i++) {
+            writer.insert(new Dog("Dog " + i));
+        }
+        assertEquals(2, writer.getCommittedBatchCount());
+        assertEquals(20, writer.getCommittedObjectCount());
+        realm.refresh();
+        assertEquals(20, realm.where(Dog.class).count());
+
+        writer.close();
+        assertEquals(3, batches.size());
+        assertEquals(10, batches.get(0).getObjectCount());
+        assertEquals(5, batches.get(2).getObjectCount());
+        realm.refresh();
+        assertEquals(25, realm.where(Dog.class).count());
+    }
+
+    @Test
+    public void insert_commitsAtMaxSize() {
+        BatchWriterConfiguration config = new BatchWriterConfiguration.Builder(realmConfig)
+                .maxSize(100, new BatchWriterConfiguration.ObjectSizeEstimator() {
+                    @Override
+                    public long estimateSize(RealmModel object) {
+                        return 40;
+                    }
+                })
+                .build();
+
+        BatchWriter writer = Realm.newBatchWriter(config);
+        for (int i = 0; i < 3; i++) {
+            writer.insert(new Dog("Dog " + i));
+        }
+        assertEquals(1, writer.getCommittedBatchCount());
+        writer.close();
+    }
+
+    @Test
+    public void insert_commitsAfterMaxDuration() throws InterruptedException {
+        BatchWriterConfiguration config = new BatchWriterConfiguration.Builder(realmConfig)
+                .maxDuration(10, TimeUnit.MILLISECONDS)
+                .build();
+
+        BatchWriter writer = Realm.newBatchWriter(config);
+        writer.insert(new Dog("Dog 1"));
+        Thread.sleep(20);
+        writer.insert(new Dog("Dog 2"));
+        assertEquals(1, writer.getCommittedBatchCount());
+        assertEquals(2, writer.getCommittedObjectCount());
+        writer.close();
+    }
+
+    @Test
+    public void insertOrUpdate_collection() {
+        BatchWriter writer = Realm.newBatchWriter(new BatchWriterConfiguration.Builder(realmConfig).build());
+        List<PrimaryKeyAsLong> objects = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            objects.add(new PrimaryKeyAsLong(i));
+        }
+        writer.insertOrUpdate(objects);
+        writer.insertOrUpdate(objects);
+        writer.flush();
+        assertEquals(10, writer.getCommittedObjectCount());
+        writer.close();
+
+        realm.refresh();
+        assertEquals(5, realm.where(PrimaryKeyAsLong.class).count());
+    }
+
+    @Test
+    public void background_insertAndClose() {
+        BatchWriterConfiguration config = new BatchWriterConfiguration.Builder(realmConfig)
+                .maxObjects(100)
+                .background(16)
+                .build();
+
+        BatchWriter writer = Realm.newBatchWriter(config);
+        for (int i = 0; i < 1000; i++) {
+            writer.insert(new Dog("Dog " + i));
+        }
+        writer.flush();
+        assertEquals(1000, writer.getCommittedObjectCount());
+        writer.close();
+
+        realm.refresh();
+        assertEquals(1000, realm.where(Dog.class).count());
+    }
+
+    @Test
+    public void background_insertRacingCloseIsNeverLost() throws InterruptedException {
+        BatchWriterConfiguration config = new BatchWriterConfiguration.Builder(realmConfig)
+                .background(1)
+                .build();
+
+        final BatchWriter writer = Realm.newBatchWriter(config);
+        final AtomicInteger accepted = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(1);
+        Thread producer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                started.countDown();
+                for (int i = 0; i < 10000; i++) {
+                    try {
+                        writer.insert(new Dog("Dog " + i));
+                        accepted.incrementAndGet();
+                    } catch (IllegalStateException e) {
+                        return;
+                    }
+                }
+            }
+        });
+        producer.start();
+        started.await();
+        writer.close();
+        producer.join(TimeUnit.SECONDS.toMillis(10));
+        assertFalse(producer.isAlive());
+
+        // Every object the writer accepted was committed before it stopped.
+        realm.refresh();
+        assertEquals(accepted.get(), realm.where(Dog.class).count());
+        assertEquals(accepted.get(), writer.getCommittedObjectCount());
+    }
+
+    @Test
+    public void insert_failureRollsBackBatch() {
+        BatchWriter writer = Realm.newBatchWriter(new BatchWriterConfiguration.Builder(realmConfig).build());
+        writer.insert(new PrimaryKeyAsLong(1));
+        writer.insert(new PrimaryKeyAsLong(2));
+        try {
+            writer.insert(new PrimaryKeyAsLong(1));
+            fail();
+        } catch (RealmPrimaryKeyConstraintException ignored) {
+        }
+        assertEquals(0, writer.getCommittedObjectCount());
+        realm.refresh();
+        assertEquals(0, realm.where(PrimaryKeyAsLong.class).count());
+
+        // The writer starts a new batch.
+        writer.insert(new PrimaryKeyAsLong(3));
+        writer.close();
+        assertEquals(1, writer.getCommittedObjectCount());
+        realm.refresh();
+        assertEquals(1, realm.where(PrimaryKeyAsLong.class).count());
+    }
+
+    @Test
+    public void background_errorIsReportedOnNextCall() {
+        BatchWriterConfiguration config = new BatchWriterConfiguration.Builder(realmConfig)
+                .background(16)
+                .build();
+
+        BatchWriter writer = Realm.newBatchWriter(config);
+        writer.insert(new PrimaryKeyAsLong(1));
+        writer.insert(new PrimaryKeyAsLong(1));
+        try {
+            writer.flush();
+            fail();
+        } catch (RealmException ignored) {
+        }
+        try {
+            writer.close();
+            fail();
+        } catch (RealmException ignored) {
+        }
+        realm.refresh();
+        assertEquals(0, realm.where(PrimaryKeyAsLong.class).count());
+    }
+
+    @Test
+    public void closedWriterThrows() {
+        BatchWriter writer = Realm.newBatchWriter(new BatchWriterConfiguration.Builder(realmConfig).build());
+        writer.close();
+        writer.close();
+        try {
+            writer.insert(Collections.singletonList(new Dog("Dog")));
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void builder_invalidArgumentsThrows() {
+        BatchWriterConfiguration.Builder builder = new BatchWriterConfiguration.Builder(realmConfig);
+        try {
+            builder.maxObjects(0);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            builder.maxDuration(-1, TimeUnit.SECONDS);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            builder.background(0);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        assertTrue(builder.build().getMaxObjects() > 0);
+    }
+}
@@ -1572,6 +1572,16 @@ public class DynamicRealmObjectTests {
         assertTrue(dObj1.equals(dObj2));
     }
 
+    @Test
+    public void equals_frozenAndLiveObjectsNotEqual() {
+        DynamicRealmObject live = dynamicRealm.where(AllJavaTypes.CLASS_NAME).findFirst();
+        DynamicRealmObject frozen = live.freeze();
+        assertFalse(live.equals(frozen));
+        assertFalse(frozen.equals(live));
+        assertTrue(frozen.equals(frozen.freeze()));
+        assertEquals(frozen.hashCode(), live.hashCode());
+    }
+
     @Test
     public void equals_standardAndDynamicObjectsNotEqual() {
         AllJavaTypes standardObj = realm.where(AllJavaTypes.class).findFirst();
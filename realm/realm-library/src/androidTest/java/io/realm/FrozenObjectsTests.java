@@ -27,6 +27,7 @@ import org.junit.runner.RunWith;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -40,6 +41,9 @@ import io.realm.rule.TestRealmConfigurationFactory;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -105,6 +109,150 @@ public class FrozenObjectsTests {
         frozenDynamicRealm.close();
     }
 
+    @Test
+    public void parallelAggregates() {
+        realm.executeTransaction(r -> {
+            for (int i = 0; i < 30000; i++) {
+                AllTypes obj = r.createObject(AllTypes.class);
+                obj.setColumnLong(i);
+                obj.setColumnFloat(i % 100);
+                obj.setColumnDouble(i * 0.5);
+            }
+        });
+        Realm frozenRealm = realm.freeze();
+        RealmQuery<AllTypes> query = frozenRealm.where(AllTypes.class).greaterThan(AllTypes.FIELD_LONG, 999);
+        assertEquals(query.count(), query.parallelCount());
+        assertEquals(query.sum(AllTypes.FIELD_LONG), query.parallelSum(AllTypes.FIELD_LONG));
+        assertEquals(query.sum(AllTypes.FIELD_DOUBLE).doubleValue(), query.parallelSum(AllTypes.FIELD_DOUBLE).doubleValue(), 0.0001D);
+        assertEquals(query.average(AllTypes.FIELD_LONG), query.parallelAverage(AllTypes.FIELD_LONG), 0.0001D);
+        assertEquals(query.min(AllTypes.FIELD_LONG), query.parallelMin(AllTypes.FIELD_LONG));
+        assertEquals(query.max(AllTypes.FIELD_LONG), query.parallelMax(AllTypes.FIELD_LONG));
+        assertEquals(query.min(AllTypes.FIELD_FLOAT), query.parallelMin(AllTypes.FIELD_FLOAT));
+        assertEquals(query.max(AllTypes.FIELD_DOUBLE), query.parallelMax(AllTypes.FIELD_DOUBLE));
+
+        RealmQuery<AllTypes> emptyQuery = frozenRealm.where(AllTypes.class).lessThan(AllTypes.FIELD_LONG, 0);
+        assertEquals(0, emptyQuery.parallelCount());
+        assertEquals(0L, emptyQuery.parallelSum(AllTypes.FIELD_LONG));
+        assertEquals(0, emptyQuery.parallelAverage(AllTypes.FIELD_DOUBLE), 0D);
+        assertNull(emptyQuery.parallelMax(AllTypes.FIELD_LONG));
+        frozenRealm.close();
+    }
+
+    @Test
+    public void parallelAggregates_liveRealmThrows() {
+        try {
+            realm.where(AllTypes.class).parallelCount();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void freezeRealm_reusesRecentVersion() {
+        RealmConfiguration config = configFactory.createConfigurationBuilder()
+                .name("stale.realm")
+                .maxFrozenRealmStaleness(1, TimeUnit.HOURS)
+                .build();
+        Realm realm = Realm.getInstance(config);
+        try {
+            Realm frozenRealm = realm.freeze();
+            realm.executeTransaction(r -> r.createObject(AllTypes.class));
+
+            // The whole Realm can be stale, but frozen collections always use the current version.
+            assertSame(frozenRealm, realm.freeze());
+            assertEquals(0, frozenRealm.where(AllTypes.class).count());
+            RealmResults<AllTypes> frozenResults = realm.where(AllTypes.class).findAll().freeze();
+            assertNotSame(frozenRealm, frozenResults.getRealm());
+            assertEquals(1, frozenResults.size());
+        } finally {
+            realm.close();
+        }
+    }
+
+    @Test
+    public void frozenRealmStats() {
+        RealmConfiguration config = configFactory.createConfigurationBuilder().name("stats.realm").build();
+        Realm realm = Realm.getInstance(config);
+        try {
+            assertEquals(0, Realm.getFrozenRealmStats(config).getFrozenRealmCount());
+            realm.freeze();
+            realm.executeTransaction(r -> r.createObject(AllTypes.class));
+            realm.freeze();
+            DynamicRealm dynamicRealm = DynamicRealm.getInstance(config);
+            dynamicRealm.freeze();
+            dynamicRealm.close();
+
+            FrozenRealmStats stats = Realm.getFrozenRealmStats(config);
+            assertEquals(3, stats.getFrozenRealmCount());
+            assertEquals(2, stats.getPinnedVersionCount());
+            assertTrue(stats.getOldestPinnedVersion() >= 0);
+            assertTrue(stats.getFileSize() > 0);
+        } finally {
+            realm.close();
+        }
+        assertEquals(0, Realm.getFrozenRealmStats(config).getFrozenRealmCount());
+    }
+
+    @Test
+    public void closeUnreferencedFrozenRealms() throws InterruptedException {
+        InMemoryRealmMetrics metrics = new InMemoryRealmMetrics();
+        RealmConfiguration config = configFactory.createConfigurationBuilder()
+                .name("unreferenced.realm")
+                .closeUnreferencedFrozenRealms(true)
+                .metrics(metrics)
+                .build();
+        Realm realm = Realm.getInstance(config);
+        try {
+            for (int i = 0; i < 10; i++) {
+                realm.executeTransaction(r -> r.createObject(AllTypes.class));
+                realm.where(AllTypes.class).findAll().freeze();
+            }
+            Realm frozenRealm = realm.freeze();
+            assertTrue(Realm.getFrozenRealmStats(config).getFrozenRealmCount() >= 1);
+
+            for (int i = 0; i < 10 && Realm.getFrozenRealmStats(config).getFrozenRealmCount() > 1; i++) {
+                Runtime.getRuntime().gc();
+                System.runFinalization();
+                Thread.sleep(10);
+            }
+            // Only the frozen Realm still referenced is kept open.
+            assertEquals(1, Realm.getFrozenRealmStats(config).getFrozenRealmCount());
+            assertFalse(frozenRealm.isClosed());
+            assertTrue(metrics.snapshot().getCount(RealmMetrics.Counter.FROZEN_REALM_RELEASED) > 0);
+        } finally {
+            realm.close();
+        }
+    }
+
+    @Test
+    public void closeUnreferencedFrozenRealms_collectedRealmsAreNotCounted() throws InterruptedException {
+        RealmConfiguration config = configFactory.createConfigurationBuilder()
+                .name("unreferenced.realm")
+                .closeUnreferencedFrozenRealms(true)
+                .build();
+        Realm realm = Realm.getInstance(config);
+        try {
+            freezeWithoutClosing(realm);
+            assertEquals(2, Realm.getGlobalInstanceCount(config));
+            for (int i = 0; i < 10 && Realm.getGlobalInstanceCount(config) > 1; i++) {
+                Runtime.getRuntime().gc();
+                System.runFinalization();
+                Thread.sleep(10);
+            }
+            assertEquals(1, Realm.getGlobalInstanceCount(config));
+        } finally {
+            realm.close();
+        }
+        // The file is not in use anymore.
+        assertEquals(0, Realm.getGlobalInstanceCount(config));
+        assertTrue(Realm.deleteRealm(config));
+    }
+
+    // Not inlined, so the frozen Realm isn't kept alive by a local variable of the test.
+    private static void freezeWithoutClosing(Realm realm) {
+        assertTrue(realm.freeze().isFrozen());
+    }
+
     @Test
     public void frozenRealmsCannotStartTransactions() {
         try {
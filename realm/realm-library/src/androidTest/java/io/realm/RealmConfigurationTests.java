@@ -33,6 +33,7 @@ import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nonnull;
 
@@ -1197,6 +1198,28 @@ public class RealmConfigurationTests {
         }
     }
 
+    @Test
+    public void assetFileInPlace_notReadOnly_throws() {
+        RealmConfiguration.Builder config = new RealmConfiguration.Builder()
+                .assetFile("foo")
+                .assetFileInPlace();
+        try {
+            config.build();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void assetFileCopyListener_null_throws() {
+        try {
+            //noinspection ConstantConditions
+            new RealmConfiguration.Builder().assetFileCopyListener(null);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
     @Test
     public void readOnly_compactOnLaunch_throws() {
         try {
@@ -1237,6 +1260,31 @@ public class RealmConfigurationTests {
         }
     }
 
+    @Test
+    public void slowQueryThreshold() {
+        assertEquals(0, new RealmConfiguration.Builder().build().getSlowQueryThresholdNanos());
+        RealmConfiguration config = new RealmConfiguration.Builder()
+                .slowQueryThreshold(2, TimeUnit.SECONDS)
+                .build();
+        assertEquals(TimeUnit.SECONDS.toNanos(2), config.getSlowQueryThresholdNanos());
+
+        // Sub-millisecond thresholds are kept.
+        config = new RealmConfiguration.Builder()
+                .slowQueryThreshold(500, TimeUnit.MICROSECONDS)
+                .build();
+        assertEquals(500000, config.getSlowQueryThresholdNanos());
+    }
+
+    @Test
+    public void slowQueryThreshold_throwsIfNegative() {
+        RealmConfiguration.Builder builder = new RealmConfiguration.Builder();
+        try {
+            builder.slowQueryThreshold(-1, TimeUnit.MILLISECONDS);
+            fail();
+        } catch (IllegalArgumentException ignore) {
+        }
+    }
+
     @Test
     public void allowQueriesOnUiThread_defaultsToTrue() {
         RealmConfiguration configuration = new RealmConfiguration.Builder().build();
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm;
+
+import androidx.test.ext.junit.runners.AndroidJUnit4;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+
+import io.realm.entities.AllTypes;
+import io.realm.entities.Dog;
+import io.realm.rule.TestRealmConfigurationFactory;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(AndroidJUnit4.class)
+public class RealmMetricsTests {
+    @Rule
+    public final TestRealmConfigurationFactory configFactory = new TestRealmConfigurationFactory();
+
+    @Test
+    public void metrics_disabledByDefault() {
+        RealmConfiguration config = configFactory.createConfiguration();
+        assertNull(config.getMetrics());
+    }
+
+    @Test
+    public void openAndClose_areCounted() {
+        InMemoryRealmMetrics metrics = new InMemoryRealmMetrics();
+        RealmConfiguration config = configFactory.createConfigurationBuilder().metrics(metrics).build();
+        assertSame(metrics, config.getMetrics());
+
+        Realm realm = Realm.getInstance(config);
+        Realm cachedRealm = Realm.getInstance(config);
+        cachedRealm.close();
+        assertEquals(1, metrics.snapshot().getCount(RealmMetrics.Counter.REALM_OPENED));
+        assertEquals(0, metrics.snapshot().getCount(RealmMetrics.Counter.REALM_CLOSED));
+        realm.close();
+
+        RealmMetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.getCount(RealmMetrics.Counter.REALM_CLOSED));
+        assertEquals(1, snapshot.getLatency(RealmMetrics.Timer.REALM_OPEN).getCount());
+    }
+
+    @Test
+    public void transactions_areTimed() {
+        InMemoryRealmMetrics metrics = new InMemoryRealmMetrics();
+        Realm realm = Realm.getInstance(configFactory.createConfigurationBuilder().metrics(metrics).build());
+        try {
+            realm.beginTransaction();
+            realm.createObject(Dog.class);
+            realm.commitTransaction();
+            realm.beginTransaction();
+            realm.cancelTransaction();
+        } finally {
+            realm.close();
+        }
+
+        RealmMetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(1, snapshot.getCount(RealmMetrics.Counter.TRANSACTION_COMMITTED));
+        assertEquals(1, snapshot.getCount(RealmMetrics.Counter.TRANSACTION_CANCELLED));
+        assertEquals(2, snapshot.getLatency(RealmMetrics.Timer.WRITE_LOCK_WAIT).getCount());
+        assertEquals(1, snapshot.getLatency(RealmMetrics.Timer.COMMIT).getCount());
+        assertEquals(2, snapshot.getLatency(RealmMetrics.Timer.TRANSACTION_HOLD).getCount());
+        assertTrue(snapshot.getLatency(RealmMetrics.Timer.TRANSACTION_HOLD).getMax()
+                >= snapshot.getLatency(RealmMetrics.Timer.COMMIT).getMin());
+    }
+
+    @Test
+    public void queries_areTimedPerClass() {
+        InMemoryRealmMetrics metrics = new InMemoryRealmMetrics();
+        Realm realm = Realm.getInstance(configFactory.createConfigurationBuilder().metrics(metrics).build());
+        try {
+            realm.where(Dog.class).findAll();
+            realm.where(Dog.class).sort("name").findFirst();
+            realm.where(AllTypes.class).count();
+        } finally {
+            realm.close();
+        }
+
+        RealmMetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(3, snapshot.getLatency(RealmMetrics.Timer.QUERY).getCount());
+        assertEquals(2, snapshot.getQueriedClassNames().size());
+        assertEquals(2, snapshot.getQueryLatency("Dog").getCount());
+        assertEquals(1, snapshot.getQueryLatency(AllTypes.CLASS_NAME).getCount());
+        assertEquals(0, snapshot.getQueryLatency("Unknown").getCount());
+    }
+
+    @Test
+    public void reset() {
+        InMemoryRealmMetrics metrics = new InMemoryRealmMetrics();
+        Realm realm = Realm.getInstance(configFactory.createConfigurationBuilder().metrics(metrics).build());
+        realm.where(Dog.class).findAll();
+        realm.close();
+
+        metrics.reset();
+        RealmMetricsSnapshot snapshot = metrics.snapshot();
+        assertEquals(0, snapshot.getCount(RealmMetrics.Counter.REALM_OPENED));
+        assertEquals(0, snapshot.getLatency(RealmMetrics.Timer.QUERY).getCount());
+        assertTrue(snapshot.getQueriedClassNames().isEmpty());
+    }
+
+    @Test
+    public void latencyHistogram_percentiles() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        RealmMetricsSnapshot.Latency latency = histogram.snapshot();
+        assertEquals(1000, latency.getCount());
+        assertEquals(1000, latency.getMin());
+        assertEquals(1000000, latency.getMax());
+        assertEquals(500500, latency.getMean(), 0.1);
+        assertEquals(500000, latency.getValueAtPercentile(50), 500000 * 0.07);
+        assertEquals(990000, latency.getValueAtPercentile(99), 990000 * 0.07);
+        assertEquals(1000000, latency.getValueAtPercentile(100));
+        assertEquals(1000, latency.getValueAtPercentile(0), 1000 * 0.07);
+    }
+
+    @Test
+    public void latencyHistogram_smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 32; i++) {
+            histogram.record(i);
+        }
+        RealmMetricsSnapshot.Latency latency = histogram.snapshot();
+        assertEquals(15, latency.getValueAtPercentile(50));
+        assertEquals(31, latency.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void latencyHistogram_bucketsCoverAllValues() {
+        for (long value : new long[] {0, 1, 31, 32, 33, 63, 64, 1000, 123456789, LatencyHistogram.MAX_VALUE}) {
+            int index = LatencyHistogram.bucketIndex(value);
+            assertTrue(value <= LatencyHistogram.bucketUpperBound(index));
+            if (index > 0) {
+                assertTrue(value > LatencyHistogram.bucketUpperBound(index - 1));
+            }
+        }
+    }
+
+    @Test
+    public void latency_invalidPercentileThrows() {
+        RealmMetricsSnapshot.Latency latency = new LatencyHistogram().snapshot();
+        assertEquals(0, latency.getValueAtPercentile(50));
+        try {
+            latency.getValueAtPercentile(101);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+}
@@ -32,6 +32,8 @@ import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Calendar;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -44,9 +46,11 @@ import java.util.concurrent.atomic.AtomicReference;
 import io.realm.entities.AllJavaTypes;
 import io.realm.entities.AllTypes;
 import io.realm.entities.AllTypesPrimaryKey;
+import io.realm.entities.CachedStringAndInt;
 import io.realm.entities.ConflictingFieldName;
 import io.realm.entities.CustomMethods;
 import io.realm.entities.CyclicType;
+import io.realm.entities.InternedStatus;
 import io.realm.entities.Dog;
 import io.realm.entities.NonLatinFieldNames;
 import io.realm.entities.NullTypes;
@@ -64,6 +68,7 @@ import static io.realm.internal.test.ExtraTests.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertSame;
@@ -551,6 +556,106 @@ public class RealmObjectTests {
         assertEquals(CustomMethods.HASHCODE, cm.hashCode());
     }
 
+    @Test
+    public void hashCodeAndEquals_hashSetOfAccessors() {
+        realm.beginTransaction();
+        for (int i = 0; i < 10; i++) {
+            realm.createObject(Dog.class).setName("Dog " + i);
+        }
+        realm.commitTransaction();
+
+        Set<Dog> dogs = new HashSet<>();
+        dogs.addAll(realm.where(Dog.class).findAll());
+        dogs.addAll(realm.where(Dog.class).findAll());
+        assertEquals(10, dogs.size());
+
+        Dog dog = realm.where(Dog.class).equalTo("name", "Dog 5").findFirst();
+        assertTrue(dogs.contains(dog));
+        assertFalse(dog.equals(realm.where(Dog.class).equalTo("name", "Dog 6").findFirst()));
+
+        // The hash code is cached, so the object can still be removed from the set after it was deleted.
+        realm.beginTransaction();
+        dog.deleteFromRealm();
+        realm.commitTransaction();
+        assertTrue(dogs.remove(dog));
+        assertEquals(9, dogs.size());
+    }
+
+    @Test
+    public void cachedFields_invalidatedByWrites() {
+        realm.beginTransaction();
+        CachedStringAndInt obj = realm.createObject(CachedStringAndInt.class);
+        obj.setStr("foo");
+        obj.setNumber(1);
+        // Values are not cached inside a write transaction.
+        assertEquals("foo", obj.getStr());
+        obj.setStr("bar");
+        assertEquals("bar", obj.getStr());
+        realm.commitTransaction();
+
+        assertEquals("bar", obj.getStr());
+        assertSame(obj.getStr(), obj.getStr());
+
+        realm.executeTransaction(r -> obj.setNumber(2));
+        assertEquals(2, obj.getNumber());
+
+        // Changes from another instance are visible after the Realm moved to the new version.
+        Realm otherRealm = Realm.getInstance(realm.getConfiguration());
+        try {
+            otherRealm.executeTransaction(r -> r.where(CachedStringAndInt.class).findFirst().setStr("baz"));
+        } finally {
+            otherRealm.close();
+        }
+        realm.refresh();
+        assertEquals("baz", obj.getStr());
+
+        realm.executeTransaction(r -> obj.deleteFromRealm());
+        assertFalse(obj.isValid());
+        try {
+            obj.getStr();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void internedFields_returnCanonicalInstances() {
+        final String longStatus = TestHelper.getRandomString(100);
+        realm.executeTransaction(r -> {
+            for (String status : new String[] {"active", "active", "geöffnet", "geöffnet", "日本", "日本", null, longStatus, longStatus}) {
+                InternedStatus obj = r.createObject(InternedStatus.class);
+                obj.setStatus(status);
+                obj.setName("name");
+            }
+        });
+
+        RealmResults<InternedStatus> objects = realm.where(InternedStatus.class).findAll();
+        assertEquals(9, objects.size());
+        for (int i = 0; i < 6; i += 2) {
+            assertEquals(objects.get(i).getStatus(), objects.get(i + 1).getStatus());
+            assertSame(objects.get(i).getStatus(), objects.get(i + 1).getStatus());
+        }
+        assertNull(objects.get(6).getStatus());
+        // Long values and fields without @Interned are read as usual.
+        assertEquals(longStatus, objects.get(7).getStatus());
+        assertEquals(objects.get(7).getStatus(), objects.get(8).getStatus());
+        assertNotSame(objects.get(7).getStatus(), objects.get(8).getStatus());
+        assertNotSame(objects.get(0).getName(), objects.get(1).getName());
+    }
+
+    @Test
+    public void cachedFields_closedRealmThrows() {
+        realm.executeTransaction(r -> r.createObject(CachedStringAndInt.class).setStr("foo"));
+        CachedStringAndInt obj = realm.where(CachedStringAndInt.class).findFirst();
+        assertEquals("foo", obj.getStr());
+        realm.close();
+        try {
+            obj.getStr();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
     private CyclicType createCyclicData(Realm realm) {
         CyclicType foo = realm.createObject(CyclicType.class);
         foo.setName("Foo");
@@ -55,11 +55,13 @@ import io.realm.entities.PrimaryKeyAsBoxedByte;
 import io.realm.entities.PrimaryKeyAsBoxedInteger;
 import io.realm.entities.PrimaryKeyAsBoxedLong;
 import io.realm.entities.PrimaryKeyAsBoxedShort;
+import io.realm.entities.PrimaryKeyAsLong;
 import io.realm.entities.PrimaryKeyAsString;
 import io.realm.entities.StringOnly;
 import io.realm.exceptions.RealmException;
 import io.realm.rule.RunTestInLooperThread;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
@@ -233,6 +235,7 @@ public class RealmQueryTests extends QueryTests {
         COUNT,
 
         FIND_ALL,
+        SELECT,
         FIND_ALL_ASYNC,
         SORT,
         SORT_WITH_ORDER,
@@ -344,6 +347,7 @@ public class RealmQueryTests extends QueryTests {
             case COUNT: query.count(); break;
 
             case FIND_ALL: query.findAll(); break;
+            case SELECT: query.select(AllJavaTypes.FIELD_STRING); break;
             case FIND_ALL_ASYNC: query.findAllAsync(); break;
             case SORT: query.sort(AllJavaTypes.FIELD_STRING); break;
             case SORT_WITH_ORDER: query.sort(AllJavaTypes.FIELD_STRING, Sort.ASCENDING); break;
@@ -2341,6 +2345,329 @@ public class RealmQueryTests extends QueryTests {
         assertEquals(TEST_DATA_SIZE, realm.where(AllTypes.class).count());
     }
 
+    @Test
+    public void select() {
+        populateTestRealm(realm, TEST_DATA_SIZE);
+        RealmProjection projection = realm.where(AllTypes.class)
+                .lessThan(AllTypes.FIELD_LONG, 10)
+                .sort(AllTypes.FIELD_LONG, Sort.DESCENDING)
+                .select(AllTypes.FIELD_LONG, AllTypes.FIELD_STRING, AllTypes.FIELD_FLOAT, AllTypes.FIELD_DATE,
+                        AllTypes.FIELD_BOOLEAN, AllTypes.FIELD_OBJECT_ID, AllTypes.FIELD_DECIMAL128, AllTypes.FIELD_BINARY);
+        assertEquals(10, projection.size());
+        assertEquals(RealmFieldType.STRING, projection.getFieldType(AllTypes.FIELD_STRING));
+
+        RealmResults<AllTypes> expected = realm.where(AllTypes.class)
+                .lessThan(AllTypes.FIELD_LONG, 10)
+                .sort(AllTypes.FIELD_LONG, Sort.DESCENDING)
+                .findAll();
+        for (int i = 0; i < projection.size(); i++) {
+            RealmProjection.Record record = projection.get(i);
+            AllTypes object = expected.get(i);
+            assertEquals(object.getColumnLong(), record.getLong(AllTypes.FIELD_LONG));
+            assertEquals(object.getColumnString(), record.getString(AllTypes.FIELD_STRING));
+            assertEquals(object.getColumnFloat(), record.getFloat(AllTypes.FIELD_FLOAT), 0F);
+            assertEquals(object.getColumnDate(), record.getDate(AllTypes.FIELD_DATE));
+            assertEquals(object.isColumnBoolean(), record.getBoolean(AllTypes.FIELD_BOOLEAN));
+            assertEquals(object.getColumnObjectId(), record.getObjectId(AllTypes.FIELD_OBJECT_ID));
+            assertEquals(object.getColumnDecimal128(), record.getDecimal128(AllTypes.FIELD_DECIMAL128));
+            assertArrayEquals(object.getColumnBinary(), record.getBlob(AllTypes.FIELD_BINARY));
+            assertEquals(object.getColumnLong(), record.get(AllTypes.FIELD_LONG));
+        }
+
+        // Binary values are copied, the projection cannot be modified.
+        projection.get(0).getBlob(AllTypes.FIELD_BINARY)[0] = 42;
+        assertArrayEquals(new byte[] {1, 2, 3}, projection.get(0).getBlob(AllTypes.FIELD_BINARY));
+
+        // Projections are detached from the Realm.
+        RealmConfiguration config = realm.getConfiguration();
+        realm.close();
+        assertEquals("test data 9", projection.get(0).getString(AllTypes.FIELD_STRING));
+        realm = Realm.getInstance(config);
+    }
+
+    @Test
+    public void select_linkPath() {
+        realm.beginTransaction();
+        Dog dog = realm.createObject(Dog.class);
+        dog.setName("Fido");
+        Owner owner = realm.createObject(Owner.class);
+        owner.setName("Jane");
+        dog.setOwner(owner);
+        realm.createObject(Dog.class).setName("Stray");
+        realm.commitTransaction();
+
+        RealmProjection projection = realm.where(Dog.class)
+                .sort(Dog.FIELD_NAME)
+                .select(Dog.FIELD_NAME, "owner.name");
+        assertEquals(2, projection.size());
+        assertEquals("Fido", projection.get(0).getString(Dog.FIELD_NAME));
+        assertEquals("Jane", projection.get(0).getString("owner.name"));
+        assertEquals("Stray", projection.get(1).getString(Dog.FIELD_NAME));
+        assertTrue(projection.get(1).isNull("owner.name"));
+        assertNull(projection.get(1).get("owner.name"));
+    }
+
+    private void populateForPagination(int size) {
+        realm.beginTransaction();
+        for (int i = 0; i < size; i++) {
+            AllJavaTypes obj = realm.createObject(AllJavaTypes.class, i);
+            obj.setFieldLong(i % 5);
+            obj.setFieldBoolean(i % 2 == 0);
+        }
+        realm.commitTransaction();
+    }
+
+    @Test
+    public void after_pagesInSortOrder() {
+        populateForPagination(23);
+        List<Long> expected = new ArrayList<>();
+        for (AllJavaTypes obj : realm.where(AllJavaTypes.class)
+                .sort(new String[] {AllJavaTypes.FIELD_LONG, AllJavaTypes.FIELD_ID}, new Sort[] {Sort.DESCENDING, Sort.ASCENDING})
+                .findAll()) {
+            expected.add(obj.getFieldId());
+        }
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+        while (true) {
+            RealmQuery<AllJavaTypes> query = realm.where(AllJavaTypes.class)
+                    .sort(AllJavaTypes.FIELD_LONG, Sort.DESCENDING)
+                    .after(cursor)
+                    .limit(4);
+            RealmResults<AllJavaTypes> page = query.findAll();
+            if (page.isEmpty()) {
+                break;
+            }
+            pages++;
+            for (AllJavaTypes obj : page) {
+                paged.add(obj.getFieldId());
+            }
+            cursor = query.getCursor(page.last());
+        }
+        assertEquals(6, pages);
+        assertEquals(expected, paged);
+    }
+
+    @Test
+    public void after_booleanSortAndDeletedObjects() {
+        populateForPagination(10);
+        RealmQuery<AllJavaTypes> query = realm.where(AllJavaTypes.class)
+                .sort(AllJavaTypes.FIELD_BOOLEAN, Sort.ASCENDING)
+                .after(null)
+                .limit(3);
+        RealmResults<AllJavaTypes> page = query.findAll();
+        assertEquals(Arrays.asList(1L, 3L, 5L), Arrays.asList(page.get(0).getFieldId(), page.get(1).getFieldId(), page.get(2).getFieldId()));
+        String cursor = query.getCursor(page.last());
+
+        // Deleting objects of the previous page does not shift the next page.
+        realm.beginTransaction();
+        page.deleteAllFromRealm();
+        realm.commitTransaction();
+
+        page = realm.where(AllJavaTypes.class)
+                .sort(AllJavaTypes.FIELD_BOOLEAN, Sort.ASCENDING)
+                .after(cursor)
+                .limit(3)
+                .findAll();
+        assertEquals(3, page.size());
+        assertEquals(7L, page.get(0).getFieldId());
+        assertEquals(9L, page.get(1).getFieldId());
+        assertEquals(0L, page.get(2).getFieldId());
+    }
+
+    @Test
+    public void after_groupedOrQueryHasNoDuplicates() {
+        populateForPagination(23);
+        long expected = realm.where(AllJavaTypes.class)
+                .beginGroup()
+                .equalTo(AllJavaTypes.FIELD_LONG, 1L).or().equalTo(AllJavaTypes.FIELD_LONG, 3L)
+                .endGroup()
+                .count();
+
+        Set<Long> paged = new HashSet<>();
+        int pagedCount = 0;
+        String cursor = null;
+        while (true) {
+            RealmQuery<AllJavaTypes> query = realm.where(AllJavaTypes.class)
+                    .beginGroup()
+                    .equalTo(AllJavaTypes.FIELD_LONG, 1L).or().equalTo(AllJavaTypes.FIELD_LONG, 3L)
+                    .endGroup()
+                    .sort(AllJavaTypes.FIELD_BOOLEAN)
+                    .after(cursor)
+                    .limit(2);
+            RealmResults<AllJavaTypes> page = query.findAll();
+            if (page.isEmpty()) {
+                break;
+            }
+            for (AllJavaTypes obj : page) {
+                assertTrue(obj.getFieldLong() == 1L || obj.getFieldLong() == 3L);
+                assertTrue(paged.add(obj.getFieldId()));
+                pagedCount++;
+            }
+            cursor = query.getCursor(page.last());
+        }
+        assertEquals(expected, pagedCount);
+    }
+
+    @Test
+    public void after_ungroupedOrThrows() {
+        populateForPagination(5);
+        try {
+            realm.where(AllJavaTypes.class)
+                    .equalTo(AllJavaTypes.FIELD_LONG, 1L).or().equalTo(AllJavaTypes.FIELD_LONG, 3L)
+                    .sort(AllJavaTypes.FIELD_LONG)
+                    .after(null);
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+        try {
+            realm.where(AllJavaTypes.class)
+                    .sort(AllJavaTypes.FIELD_LONG)
+                    .after(null)
+                    .or();
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+    }
+
+    @Test
+    public void after_invalidArguments() {
+        populateForPagination(5);
+        try {
+            realm.where(AllJavaTypes.class).after(null);
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+        try {
+            realm.where(AllJavaTypes.class).sort(AllJavaTypes.FIELD_LONG).limit(2).after(null);
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+        try {
+            realm.where(AllTypes.class).sort(AllTypes.FIELD_LONG).after(null);
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+        try {
+            realm.where(AllJavaTypes.class).sort(AllJavaTypes.FIELD_STRING).after(null);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            realm.where(AllJavaTypes.class).sort(AllJavaTypes.FIELD_LONG).getCursor(realm.where(AllJavaTypes.class).findFirst());
+            fail();
+        } catch (IllegalStateException ignored) {
+        }
+
+        RealmQuery<AllJavaTypes> query = realm.where(AllJavaTypes.class).sort(AllJavaTypes.FIELD_LONG).after(null);
+        String cursor = query.getCursor(query.findFirst());
+        try {
+            realm.where(AllJavaTypes.class).sort(AllJavaTypes.FIELD_LONG, Sort.DESCENDING).after(cursor);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            realm.where(AllJavaTypes.class).sort(AllJavaTypes.FIELD_LONG).after("not a cursor");
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            realm.where(PrimaryKeyAsString.class).sort(PrimaryKeyAsString.FIELD_ID).after(null);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+
+        // Cursors can only be created for objects of the class of the query.
+        realm.beginTransaction();
+        PrimaryKeyAsLong other = realm.createObject(PrimaryKeyAsLong.class, 42);
+        realm.commitTransaction();
+        try {
+            //noinspection unchecked
+            ((RealmQuery) query).getCursor(other);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void explain() {
+        realm.beginTransaction();
+        for (int i = 0; i < 10; i++) {
+            AnnotationIndexTypes obj = realm.createObject(AnnotationIndexTypes.class);
+            obj.setIndexString("string " + (i % 2));
+            obj.setNotIndexLong(i);
+        }
+        realm.commitTransaction();
+
+        QueryPlan plan = realm.where(AnnotationIndexTypes.class)
+                .equalTo(AnnotationIndexTypes.FIELD_INDEX_STRING, "string 1")
+                .greaterThan(AnnotationIndexTypes.FIELD_NOT_INDEX_LONG, 2)
+                .equalTo(AnnotationIndexTypes.INDEX_LINKED_FIELD_STRING, "linked")
+                .explain();
+        assertEquals(10, plan.getTableSize());
+        assertEquals(0, plan.getMatchedCount());
+        assertTrue(plan.usesIndex());
+        assertEquals(3, plan.getConditions().size());
+
+        QueryPlan.Condition indexed = plan.getConditions().get(0);
+        assertEquals(AnnotationIndexTypes.FIELD_INDEX_STRING, indexed.getFieldName());
+        assertTrue(indexed.isIndexed());
+        assertEquals(QueryPlan.AccessPath.INDEX, indexed.getAccessPath());
+
+        QueryPlan.Condition range = plan.getConditions().get(1);
+        assertFalse(range.isIndexed());
+        assertEquals(QueryPlan.AccessPath.SCAN, range.getAccessPath());
+
+        QueryPlan.Condition linked = plan.getConditions().get(2);
+        assertEquals(1, linked.getLinkCount());
+        assertTrue(linked.isIndexed());
+        assertEquals(QueryPlan.AccessPath.SCAN, linked.getAccessPath());
+
+        plan = realm.where(AnnotationIndexTypes.class)
+                .greaterThan(AnnotationIndexTypes.FIELD_NOT_INDEX_LONG, 2)
+                .sort(AnnotationIndexTypes.FIELD_NOT_INDEX_LONG)
+                .limit(3)
+                .explain();
+        assertFalse(plan.usesIndex());
+        assertEquals(7, plan.getMatchedCount());
+        assertEquals(3, plan.getResultCount());
+        assertTrue(plan.getDescription().contains(AnnotationIndexTypes.FIELD_NOT_INDEX_LONG));
+    }
+
+    @Test
+    public void select_invalidArguments() {
+        populateTestRealm(realm, TEST_DATA_SIZE);
+        RealmQuery<AllTypes> query = realm.where(AllTypes.class);
+        String[][] invalidFields = new String[][] {
+                {},
+                {"unknown"},
+                {AllTypes.FIELD_REALMOBJECT},
+                {AllTypes.FIELD_REALMLIST},
+                {AllTypes.FIELD_REALMLIST + "." + Dog.FIELD_NAME},
+                {AllTypes.FIELD_LONG, AllTypes.FIELD_LONG}
+        };
+        for (String[] fields : invalidFields) {
+            try {
+                query.select(fields);
+                fail(Arrays.toString(fields));
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+
+        RealmProjection.Record record = query.select(AllTypes.FIELD_LONG).get(0);
+        try {
+            record.getString(AllTypes.FIELD_LONG);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            record.getLong(AllTypes.FIELD_STRING);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
     // Verify that count correctly when using distinct.
     // See https://github.com/realm/realm-java/issues/5958
     @Test
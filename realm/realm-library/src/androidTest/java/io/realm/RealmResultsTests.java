@@ -16,6 +16,8 @@
 
 package io.realm;
 
+import android.os.Build;
+
 import androidx.test.annotation.UiThreadTest;
 import androidx.test.ext.junit.runners.AndroidJUnit4;
 
@@ -23,6 +25,7 @@ import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 import org.json.JSONException;
 import org.junit.After;
+import org.junit.Assume;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -38,6 +41,8 @@ import java.util.Calendar;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Collectors;
 import java.util.TimeZone;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -49,6 +54,7 @@ import io.realm.entities.DefaultValueOfField;
 import io.realm.entities.Dog;
 import io.realm.entities.MappedAllJavaTypes;
 import io.realm.entities.NonLatinFieldNames;
+import io.realm.entities.NullTypes;
 import io.realm.entities.Owner;
 import io.realm.entities.PrimaryKeyAsLong;
 import io.realm.entities.PrimaryKeyAsString;
@@ -105,6 +111,70 @@ public class RealmResultsTests extends CollectionTests {
         populateTestRealm(TEST_DATA_SIZE);
     }
 
+    @Test
+    public void spliterator() {
+        Assume.assumeTrue(Build.VERSION.SDK_INT >= Build.VERSION_CODES.N);
+        Spliterator<AllTypes> spliterator = collection.spliterator();
+        assertEquals(TEST_DATA_SIZE, spliterator.getExactSizeIfKnown());
+        assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        // Live collections are only traversed on the thread of their Realm.
+        assertNull(spliterator.trySplit());
+
+        List<Long> values = collection.stream().map(AllTypes::getColumnLong).collect(Collectors.toList());
+        assertEquals(TEST_DATA_SIZE, values.size());
+        for (int i = 0; i < TEST_DATA_SIZE; i++) {
+            assertEquals(i, values.get(i).longValue());
+        }
+    }
+
+    @Test
+    public void parallelStream_frozen() {
+        Assume.assumeTrue(Build.VERSION.SDK_INT >= Build.VERSION_CODES.N);
+        RealmResults<AllTypes> frozen = collection.freeze();
+        Spliterator<AllTypes> spliterator = frozen.spliterator();
+        Spliterator<AllTypes> prefix = spliterator.trySplit();
+        assertEquals(TEST_DATA_SIZE / 2, prefix.getExactSizeIfKnown());
+        assertEquals(TEST_DATA_SIZE / 2, spliterator.getExactSizeIfKnown());
+
+        List<String> strings = frozen.parallelStream().map(AllTypes::getColumnString).collect(Collectors.toList());
+        assertEquals(TEST_DATA_SIZE, strings.size());
+        for (int i = 0; i < TEST_DATA_SIZE; i++) {
+            assertEquals("test data " + i, strings.get(i));
+        }
+        frozen.getRealm().close();
+    }
+
+    @Test
+    public void longStream_doubleStream() {
+        Assume.assumeTrue(Build.VERSION.SDK_INT >= Build.VERSION_CODES.N);
+        assertEquals(collection.sum(AllTypes.FIELD_LONG).longValue(), collection.longStream(AllTypes.FIELD_LONG).sum());
+        assertEquals(TEST_DATA_SIZE, collection.longStream(AllTypes.FIELD_LONG).count());
+        assertEquals(collection.sum(AllTypes.FIELD_DOUBLE).doubleValue(), collection.doubleStream(AllTypes.FIELD_DOUBLE).sum(), 0.0001D);
+        assertEquals(1.234567f, (float) collection.doubleStream(AllTypes.FIELD_FLOAT).min().getAsDouble(), 0F);
+
+        RealmResults<AllTypes> frozen = collection.freeze();
+        assertEquals(collection.sum(AllTypes.FIELD_LONG).longValue(), frozen.longStream(AllTypes.FIELD_LONG).parallel().sum());
+        frozen.getRealm().close();
+
+        try {
+            collection.longStream(AllTypes.FIELD_STRING);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void longStream_skipsNullValues() {
+        Assume.assumeTrue(Build.VERSION.SDK_INT >= Build.VERSION_CODES.N);
+        realm.beginTransaction();
+        realm.createObject(NullTypes.class, 1).setFieldIntegerNull(42);
+        realm.createObject(NullTypes.class, 2).setFieldIntegerNull(null);
+        realm.commitTransaction();
+
+        RealmResults<NullTypes> results = realm.where(NullTypes.class).findAll();
+        assertArrayEquals(new long[] {42}, results.longStream(NullTypes.FIELD_INTEGER_NULL).toArray());
+    }
+
     @Test
     public void findFirst() {
         AllTypes result = realm.where(AllTypes.class).findFirst();
@@ -17,6 +17,7 @@
 package io.realm;
 
 import android.content.Context;
+import android.content.res.AssetFileDescriptor;
 import android.os.Build;
 import android.os.Looper;
 import android.os.SystemClock;
@@ -41,12 +42,18 @@ import org.junit.runner.RunWith;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FilenameFilter;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
@@ -54,6 +61,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.Random;
 import java.util.Scanner;
+import java.util.UUID;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -65,6 +73,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPInputStream;
 
 import androidx.test.annotation.UiThreadTest;
 import androidx.test.ext.junit.runners.AndroidJUnit4;
@@ -109,6 +118,9 @@ import io.realm.exceptions.RealmException;
 import io.realm.exceptions.RealmFileException;
 import io.realm.exceptions.RealmMigrationNeededException;
 import io.realm.exceptions.RealmPrimaryKeyConstraintException;
+import io.realm.internal.AssetFiles;
+import io.realm.internal.ColumnInfo;
+import io.realm.internal.ColumnInfoCache;
 import io.realm.internal.OsSharedRealm;
 import io.realm.internal.util.Pair;
 import io.realm.log.RealmLog;
@@ -1168,6 +1180,395 @@ public class RealmTests {
         Realm.deleteRealm(config);
     }
 
+    @Test
+    public void getFileStats() {
+        populateTestRealmForCompact(realm, 2);
+        RealmFileStats stats = realm.getFileStats();
+        assertEquals(new File(realm.getPath()).length(), stats.getFileSize());
+        assertTrue(stats.getDataBytes() > 2 * 1024 * 1024);
+        assertTrue(stats.getUsedBytes() <= stats.getFileSize());
+        assertEquals(stats.getFileSize() - stats.getUsedBytes(), stats.getFreeBytes());
+        assertTrue(stats.getClassBytes().get(AllTypes.CLASS_NAME) > 2 * 1024 * 1024);
+        assertFalse(stats.getClassBytes().containsKey("metadata"));
+
+        realm.beginTransaction();
+        realm.deleteAll();
+        realm.commitTransaction();
+        RealmFileStats afterDelete = realm.getFileStats();
+        assertTrue(afterDelete.getClassBytes().get(AllTypes.CLASS_NAME) < 1024 * 1024);
+        assertTrue(afterDelete.getFreeBytes() > stats.getFreeBytes());
+    }
+
+    @Test
+    public void compactRealmInBackground_replacesFileWhenClosed() {
+        RealmConfiguration realmConfig = configFactory.createConfiguration("background-compact.realm");
+        Realm realm = Realm.getInstance(realmConfig);
+        populateTestRealmForCompact(realm, 4);
+        realm.beginTransaction();
+        realm.where(AllTypes.class).findFirst().deleteFromRealm();
+        realm.commitTransaction();
+
+        final CountDownLatch compacted = new CountDownLatch(1);
+        final AtomicReference<CompactionResult> result = new AtomicReference<>();
+        Realm.compactRealmInBackground(realmConfig, new CompactionListener() {
+            @Override
+            public void onCompacted(CompactionResult compactionResult) {
+                result.set(compactionResult);
+                compacted.countDown();
+            }
+
+            @Override
+            public void onDiscarded() {
+                fail();
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                fail(error.toString());
+            }
+        });
+        realm.close();
+        TestHelper.awaitOrFail(compacted);
+
+        CompactionResult compactionResult = result.get();
+        assertTrue(compactionResult.getBytesReclaimed() > 0);
+        assertEquals(compactionResult.getBytesAfter(), new File(realmConfig.getPath()).length());
+        realm = Realm.getInstance(realmConfig);
+        try {
+            assertEquals(3, realm.where(AllTypes.class).count());
+        } finally {
+            realm.close();
+        }
+    }
+
+    @Test
+    public void compactRealmInBackground_collectedFrozenRealmDoesNotBlockReplacement() throws InterruptedException {
+        RealmConfiguration realmConfig = configFactory.createConfigurationBuilder()
+                .name("background-compact.realm")
+                .closeUnreferencedFrozenRealms(true)
+                .build();
+        Realm realm = Realm.getInstance(realmConfig);
+        populateTestRealmForCompact(realm, 4);
+        realm.beginTransaction();
+        realm.where(AllTypes.class).findFirst().deleteFromRealm();
+        realm.commitTransaction();
+
+        // A frozen Realm which is never closed, only garbage collected.
+        WeakReference<Realm> frozenRealm = freezeWithoutClosing(realm);
+        for (int i = 0; i < 10 && frozenRealm.get() != null; i++) {
+            Runtime.getRuntime().gc();
+            System.runFinalization();
+            Thread.sleep(10);
+        }
+        assertNull(frozenRealm.get());
+
+        final CountDownLatch compacted = new CountDownLatch(1);
+        final AtomicReference<CompactionResult> result = new AtomicReference<>();
+        Realm.compactRealmInBackground(realmConfig, new CompactionListener() {
+            @Override
+            public void onCompacted(CompactionResult compactionResult) {
+                result.set(compactionResult);
+                compacted.countDown();
+            }
+
+            @Override
+            public void onDiscarded() {
+                fail();
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                fail(error.toString());
+            }
+        });
+        realm.close();
+        TestHelper.awaitOrFail(compacted);
+
+        assertEquals(0, Realm.getGlobalInstanceCount(realmConfig));
+        assertEquals(result.get().getBytesAfter(), new File(realmConfig.getPath()).length());
+    }
+
+    // Not inlined, so the frozen Realm isn't kept alive by a local variable of the test.
+    private static WeakReference<Realm> freezeWithoutClosing(Realm realm) {
+        return new WeakReference<>(realm.freeze());
+    }
+
+    @Test
+    public void compactRealmInBackground_keepsWritesMadeWhileCompacting() {
+        RealmConfiguration realmConfig = configFactory.createConfiguration("background-compact.realm");
+        Realm realm = Realm.getInstance(realmConfig);
+        populateTestRealmForCompact(realm, 4);
+
+        final CountDownLatch done = new CountDownLatch(1);
+        Realm.compactRealmInBackground(realmConfig, new CompactionListener() {
+            @Override
+            public void onCompacted(CompactionResult result) {
+                done.countDown();
+            }
+
+            @Override
+            public void onDiscarded() {
+                done.countDown();
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                fail(error.toString());
+            }
+        });
+        // Depending on timing the copy contains these objects or is discarded, they must never be lost.
+        for (int i = 0; i < 10; i++) {
+            realm.beginTransaction();
+            realm.createObject(AllTypes.class);
+            realm.commitTransaction();
+        }
+        realm.close();
+        TestHelper.awaitOrFail(done);
+
+        realm = Realm.getInstance(realmConfig);
+        try {
+            assertEquals(14, realm.where(AllTypes.class).count());
+        } finally {
+            realm.close();
+        }
+    }
+
+    @Test
+    public void compactRealmInBackground_discardedWhenFileStillInUse() {
+        RealmConfiguration realmConfig = configFactory.createConfiguration("background-compact.realm");
+        Realm realm = Realm.getInstance(realmConfig);
+        populateTestRealmForCompact(realm, 4);
+        long sizeBefore = new File(realmConfig.getPath()).length();
+
+        // Keeps the file open outside of the RealmCache, like another process would.
+        OsSharedRealm otherUser = OsSharedRealm.getInstance(realmConfig, OsSharedRealm.VersionID.LIVE);
+        try {
+            final CountDownLatch discarded = new CountDownLatch(1);
+            Realm.compactRealmInBackground(realmConfig, new CompactionListener() {
+                @Override
+                public void onCompacted(CompactionResult result) {
+                    fail();
+                }
+
+                @Override
+                public void onDiscarded() {
+                    discarded.countDown();
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    fail(error.toString());
+                }
+            });
+            realm.close();
+            TestHelper.awaitOrFail(discarded);
+        } finally {
+            otherUser.close();
+        }
+
+        assertFalse(new File(realmConfig.getPath() + ".compacted").exists());
+        assertEquals(sizeBefore, new File(realmConfig.getPath()).length());
+        realm = Realm.getInstance(realmConfig);
+        try {
+            assertEquals(4, realm.where(AllTypes.class).count());
+        } finally {
+            realm.close();
+        }
+    }
+
+    @Test
+    public void deleteRealm_deletesLeftoverCompactedAndBackupFiles() throws IOException {
+        RealmConfiguration realmConfig = configFactory.createConfiguration("leftovers.realm");
+        Realm.getInstance(realmConfig).close();
+        File compacted = new File(realmConfig.getPath() + ".compacted");
+        File backup = new File(realmConfig.getRealmDirectory(), "leftovers.realm." + UUID.randomUUID() + ".backup");
+        File otherRealmBackup = new File(realmConfig.getRealmDirectory(), "other.realm." + UUID.randomUUID() + ".backup");
+        assertTrue(compacted.createNewFile());
+        assertTrue(backup.createNewFile());
+        assertTrue(otherRealmBackup.createNewFile());
+
+        assertTrue(Realm.deleteRealm(realmConfig));
+        assertFalse(compacted.exists());
+        assertFalse(backup.exists());
+        assertTrue(otherRealmBackup.exists());
+    }
+
+    @Test
+    public void compactRealmInBackground_readOnlyThrows() {
+        RealmConfiguration config = configFactory.createConfigurationBuilder()
+                .name("readonly.realm")
+                .schema(StringOnlyReadOnly.class)
+                .assetFile("readonly.realm")
+                .readOnly()
+                .build();
+        try {
+            Realm.compactRealmInBackground(config, new CompactionListener() {
+                @Override
+                public void onCompacted(CompactionResult result) {
+                }
+
+                @Override
+                public void onDiscarded() {
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                }
+            });
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    @Test
+    public void backupInBackground() throws IOException {
+        populateTestRealm(realm, 10);
+        ByteArrayOutputStream backup = new ByteArrayOutputStream();
+        final CountDownLatch done = new CountDownLatch(1);
+        final AtomicLong bytesWritten = new AtomicLong();
+        final AtomicLong lastProgress = new AtomicLong();
+        Realm.backupInBackground(realmConfig, backup, new BackupOptions.Builder().chunkSize(1024).build(),
+                new BackupListener() {
+                    @Override
+                    public void onProgress(long bytesRead, long totalBytes) {
+                        assertTrue(bytesRead > lastProgress.get());
+                        assertTrue(bytesRead <= totalBytes);
+                        lastProgress.set(bytesRead);
+                    }
+
+                    @Override
+                    public void onSuccess(long written) {
+                        bytesWritten.set(written);
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        fail(error.toString());
+                    }
+                });
+        // The backup contains the version of the Realm when it was requested, even if this commit happens before
+        // the background thread runs.
+        realm.beginTransaction();
+        realm.createObject(AllTypes.class);
+        realm.commitTransaction();
+        TestHelper.awaitOrFail(done);
+
+        assertEquals(backup.size(), bytesWritten.get());
+        assertEquals(backup.size(), lastProgress.get());
+        assertEquals(10, countBackupObjects(new ByteArrayInputStream(backup.toByteArray())));
+    }
+
+    @Test
+    public void backupInBackground_compressed() throws IOException {
+        populateTestRealmForCompact(realm, 1);
+        ByteArrayOutputStream backup = new ByteArrayOutputStream();
+        final CountDownLatch done = new CountDownLatch(1);
+        final AtomicLong totalBytes = new AtomicLong();
+        Realm.backupInBackground(realmConfig, backup, new BackupOptions.Builder().compress(true).build(),
+                new BackupListener() {
+                    @Override
+                    public void onProgress(long bytesRead, long total) {
+                        totalBytes.set(total);
+                    }
+
+                    @Override
+                    public void onSuccess(long written) {
+                        done.countDown();
+                    }
+
+                    @Override
+                    public void onError(Throwable error) {
+                        fail(error.toString());
+                    }
+                });
+        TestHelper.awaitOrFail(done);
+
+        assertTrue(backup.size() < totalBytes.get());
+        assertEquals(1, countBackupObjects(new GZIPInputStream(new ByteArrayInputStream(backup.toByteArray()))));
+    }
+
+    @Test
+    public void backupInBackground_cancelKeepsTargetOpen() throws InterruptedException {
+        populateTestRealmForCompact(realm, 1);
+        // Channels of java.nio are closed if the thread writing to them is interrupted.
+        WritableByteChannel target = Channels.newChannel(new ByteArrayOutputStream());
+        final CountDownLatch firstChunk = new CountDownLatch(1);
+        final AtomicInteger chunks = new AtomicInteger();
+        final AtomicBoolean finished = new AtomicBoolean(false);
+        BackupOptions options = new BackupOptions.Builder().chunkSize(1024).maxBytesPerSecond(1024).build();
+        RealmAsyncTask task = Realm.backupInBackground(realmConfig, target, options, new BackupListener() {
+            @Override
+            public void onProgress(long bytesRead, long totalBytes) {
+                chunks.incrementAndGet();
+                firstChunk.countDown();
+            }
+
+            @Override
+            public void onSuccess(long bytesWritten) {
+                finished.set(true);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                finished.set(true);
+            }
+        });
+        TestHelper.awaitOrFail(firstChunk);
+        task.cancel();
+        assertTrue(task.isCancelled());
+        // Throttled to one chunk per second, the backup would still be running without the cancellation.
+        Thread.sleep(1500);
+
+        assertTrue(target.isOpen());
+        assertFalse(finished.get());
+        assertTrue(chunks.get() <= 2);
+    }
+
+    @Test
+    public void backupOptions_invalidArgumentsThrows() {
+        BackupOptions.Builder builder = new BackupOptions.Builder();
+        try {
+            builder.chunkSize(0);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            builder.maxBytesPerSecond(-1);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+        try {
+            builder.encryptionKey(new byte[Realm.ENCRYPTION_KEY_LENGTH - 1]);
+            fail();
+        } catch (IllegalArgumentException ignored) {
+        }
+    }
+
+    // Writes the backup to a Realm file and returns the number of AllTypes objects in it.
+    private long countBackupObjects(InputStream backup) throws IOException {
+        File restored = new File(configFactory.getRoot(), "restored.realm");
+        FileOutputStream out = new FileOutputStream(restored);
+        try {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = backup.read(buffer)) > 0) {
+                out.write(buffer, 0, read);
+            }
+        } finally {
+            out.close();
+        }
+        RealmConfiguration restoredConfig = configFactory.createConfigurationBuilder()
+                .name("restored.realm")
+                .build();
+        Realm restoredRealm = Realm.getInstance(restoredConfig);
+        try {
+            return restoredRealm.where(AllTypes.class).count();
+        } finally {
+            restoredRealm.close();
+        }
+    }
+
     private void populateTestRealmForCompact(Realm realm, int sizeInMB) {
         byte[] oneMBData = new byte[1024 * 1024];
         realm.beginTransaction();
@@ -3477,6 +3878,35 @@ public class RealmTests {
         assertEquals(realmObject.getColumnDecimal128(), unmanagedObject.getColumnDecimal128());
     }
 
+    @Test
+    public void copyFromRealm_nullValues() {
+        realm.beginTransaction();
+        NullTypes realmObject = realm.createObject(NullTypes.class, 1);
+        realmObject.setFieldIntegerNotNull(-42);
+        realmObject.setFieldLongNotNull(Long.MIN_VALUE);
+        realmObject.setFieldFloatNotNull(-1.5F);
+        realmObject.setFieldDoubleNotNull(Double.MAX_VALUE);
+        realm.commitTransaction();
+
+        NullTypes unmanagedObject = realm.copyFromRealm(realmObject);
+        assertEquals(Integer.valueOf(-42), unmanagedObject.getFieldIntegerNotNull());
+        assertEquals(Long.valueOf(Long.MIN_VALUE), unmanagedObject.getFieldLongNotNull());
+        assertEquals(-1.5F, unmanagedObject.getFieldFloatNotNull(), 0F);
+        assertEquals(Double.MAX_VALUE, unmanagedObject.getFieldDoubleNotNull(), 0D);
+        assertNull(unmanagedObject.getFieldStringNull());
+        assertNull(unmanagedObject.getFieldBytesNull());
+        assertNull(unmanagedObject.getFieldBooleanNull());
+        assertNull(unmanagedObject.getFieldByteNull());
+        assertNull(unmanagedObject.getFieldShortNull());
+        assertNull(unmanagedObject.getFieldIntegerNull());
+        assertNull(unmanagedObject.getFieldLongNull());
+        assertNull(unmanagedObject.getFieldFloatNull());
+        assertNull(unmanagedObject.getFieldDoubleNull());
+        assertNull(unmanagedObject.getFieldDateNull());
+        assertNull(unmanagedObject.getFieldDecimal128Null());
+        assertNull(unmanagedObject.getFieldObjectIdNull());
+    }
+
     @Test
     public void copyFromRealm_newCopyEachTime() {
         populateTestRealm();
@@ -4614,6 +5044,84 @@ public class RealmTests {
         }
     }
 
+    @Test
+    public void getInstance_readOnlyAssetFileInPlace() {
+        RealmConfiguration config = configFactory.createConfigurationBuilder()
+                .name("readonly.realm")
+                .schema(StringOnlyReadOnly.class)
+                .assetFile("readonly.realm")
+                .readOnly()
+                .assetFileInPlace()
+                .build();
+        Realm realm = Realm.getInstance(config);
+        try {
+            // The asset is either mapped from the APK or copied if it is compressed, the content is the same.
+            assertTrue(realm.isReadOnly());
+            RealmResults<StringOnlyReadOnly> results = realm.where(StringOnlyReadOnly.class).findAll();
+            assertTrue(results.isValid());
+            File realmFile = new File(config.getPath());
+            if (isMappable("readonly.realm")) {
+                assertNotNull(AssetFiles.getMappedData(config));
+                assertFalse(realmFile.exists());
+            } else {
+                assertNull(AssetFiles.getMappedData(config));
+                assertTrue(realmFile.exists());
+            }
+        } finally {
+            realm.close();
+        }
+
+        // Other configurations of the same file don't use the mapped asset.
+        RealmConfiguration copyConfig = configFactory.createConfigurationBuilder()
+                .name("readonly.realm")
+                .schema(StringOnlyReadOnly.class)
+                .assetFile("readonly.realm")
+                .readOnly()
+                .build();
+        assertNull(AssetFiles.getMappedData(copyConfig));
+    }
+
+    // Whether an asset is stored uncompressed and aligned, so it can be opened in place.
+    private boolean isMappable(String assetFile) {
+        try {
+            AssetFileDescriptor fd = context.getAssets().openFd(assetFile);
+            try {
+                return fd.getStartOffset() % 8 == 0;
+            } finally {
+                fd.close();
+            }
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Test
+    public void getInstance_assetFileCopyListenerReportsProgress() {
+        final AtomicLong lastBytesCopied = new AtomicLong(-1);
+        final AtomicInteger calls = new AtomicInteger(0);
+        RealmConfiguration config = configFactory.createConfigurationBuilder()
+                .name("readonly.realm")
+                .schema(StringOnlyReadOnly.class)
+                .assetFile("readonly.realm")
+                .assetFileCopyListener(new AssetFileCopyListener() {
+                    @Override
+                    public void onProgress(long bytesCopied, long totalBytes) {
+                        assertTrue(bytesCopied > lastBytesCopied.get());
+                        lastBytesCopied.set(bytesCopied);
+                        calls.incrementAndGet();
+                    }
+                })
+                .readOnly()
+                .build();
+        Realm realm = Realm.getInstance(config);
+        try {
+            assertTrue(calls.get() > 0);
+            assertEquals(new File(config.getPath()).length(), lastBytesCopied.get());
+        } finally {
+            realm.close();
+        }
+    }
+
     @Test
     public void getInstance_wrongSchemaInReadonlyThrows() {
         RealmConfiguration config = configFactory.createConfigurationBuilder()
@@ -4819,4 +5327,90 @@ public class RealmTests {
         } catch (IllegalStateException ignore) {
         }
     }
+
+    @Test
+    public void warmUp_preparesRealms() {
+        RealmConfiguration configA = configFactory.createConfiguration("warmup1.realm");
+        RealmConfiguration configB = configFactory.createConfiguration("warmup2.realm");
+        Realm.warmUp(Arrays.asList(configA, configB));
+
+        assertTrue(new File(configA.getPath()).exists());
+        assertTrue(new File(configB.getPath()).exists());
+        assertEquals(0, Realm.getGlobalInstanceCount(configA));
+        assertEquals(0, Realm.getGlobalInstanceCount(configB));
+    }
+
+    @Test
+    public void warmUp_nullConfigurationThrows() {
+        thrown.expect(IllegalArgumentException.class);
+        Realm.warmUp(Arrays.asList(configFactory.createConfiguration("warmup.realm"), null));
+    }
+
+    @Test
+    public void columnInfo_sharedBetweenFilesWithSameSchema() {
+        RealmConfiguration configA = configFactory.createConfiguration("shared1.realm");
+        RealmConfiguration configB = configFactory.createConfiguration("shared2.realm");
+        Realm realmA = Realm.getInstance(configA);
+        Realm realmB = Realm.getInstance(configB);
+        try {
+            ColumnInfo infoA = realmA.getSchema().getColumnInfo(AllTypes.class);
+            ColumnInfo infoB = realmB.getSchema().getColumnInfo(AllTypes.class);
+            // Each Realm has its own mutable copy with the same column keys.
+            assertNotSame(infoA, infoB);
+            assertTrue(infoA.isMutable());
+            assertTrue(infoB.isMutable());
+            assertEquals(infoA.getColumnKey(AllTypes.FIELD_STRING), infoB.getColumnKey(AllTypes.FIELD_STRING));
+            assertEquals(realmA.sharedRealm.getSchemaInfo().getFingerprint(), realmB.sharedRealm.getSchemaInfo().getFingerprint());
+        } finally {
+            realmA.close();
+            realmB.close();
+        }
+    }
+
+    @Test
+    public void columnInfo_byClassNameSameAsByClass() {
+        ColumnInfo byName = realm.getSchema().getColumnInfo(AllTypes.CLASS_NAME);
+        assertSame(byName, realm.getSchema().getColumnInfo(AllTypes.class));
+        try {
+            realm.getSchema().getColumnInfo("NotAModelClass");
+            fail();
+        } catch (RealmException ignored) {
+        }
+    }
+
+    @Test
+    public void columnInfo_concurrentFirstUseSharesColumnKeys() throws InterruptedException {
+        ColumnInfoCache.clear();
+        final int threads = 4;
+        final CountDownLatch start = new CountDownLatch(1);
+        final long[] columnKeys = new long[threads];
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            final int index = i;
+            Thread worker = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    Realm threadRealm = Realm.getInstance(realmConfig);
+                    try {
+                        start.await();
+                        columnKeys[index] = threadRealm.getSchema().getColumnInfo(AllTypes.class)
+                                .getColumnKey(AllTypes.FIELD_STRING);
+                    } catch (InterruptedException ignored) {
+                    } finally {
+                        threadRealm.close();
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        long expected = realm.getSchema().getColumnInfo(AllTypes.class).getColumnKey(AllTypes.FIELD_STRING);
+        for (long columnKey : columnKeys) {
+            assertEquals(expected, columnKey);
+        }
+    }
 }
@@ -263,6 +263,26 @@ class ObjectIdTests {
         } catch (expected: UnsupportedOperationException) {}
     }
 
+    // ObjectIds are passed to and from native code as their 12 bytes, so check that bytes above 0x7f survive.
+    @Test
+    fun highBytesRoundTrip() {
+        val id = ObjectId("ff00807fffeedd0102030405")
+        val anotherId = ObjectId("80ffffffffffffffffffffff")
+
+        realm.beginTransaction()
+        val obj = realm.createObject<ObjectIdPrimaryKeyRequired>(id)
+        obj.anotherId = anotherId
+        realm.createObject<ObjectIdRequiredRealmList>().ids.addAll(listOf(id, anotherId))
+        realm.commitTransaction()
+
+        assertEquals(id, obj.id)
+        assertEquals(anotherId, obj.anotherId)
+        assertEquals(obj, realm.where<ObjectIdPrimaryKeyRequired>().equalTo("id", id).findFirst())
+        assertEquals(1, realm.where<ObjectIdPrimaryKeyRequired>().greaterThan("anotherId", ObjectId("7fffffffffffffffffffffff")).count())
+        assertEquals(listOf(id, anotherId), realm.where<ObjectIdRequiredRealmList>().findFirst()!!.ids.toList())
+        assertEquals(anotherId, realm.copyFromRealm(obj).anotherId)
+    }
+
     @Test
     fun duplicatePK() {
         realm.beginTransaction()
@@ -20,6 +20,7 @@ import androidx.test.ext.junit.runners.AndroidJUnit4
 import androidx.test.platform.app.InstrumentationRegistry
 import io.realm.admin.ServerAdmin
 import io.realm.mongodb.*
+import io.realm.mongodb.functions.FunctionCallPolicy
 import io.realm.mongodb.functions.Functions
 import io.realm.rule.BlockingLooperThread
 import io.realm.util.assertFailsWithErrorCode
@@ -40,9 +41,13 @@ import org.junit.Test
 import org.junit.runner.RunWith
 import java.lang.RuntimeException
 import java.util.*
+import java.util.concurrent.Callable
+import java.util.concurrent.Executors
+import java.util.concurrent.TimeUnit
 import kotlin.test.assertEquals
 import kotlin.test.assertFailsWith
 import kotlin.test.assertNotNull
+import kotlin.test.assertNull
 import kotlin.test.assertTrue
 
 @RunWith(AndroidJUnit4::class)
@@ -424,6 +429,77 @@ class FunctionsTests {
         assertNotNull(authorizedUser.functions.callFunction("authorizedOnly", listOf(1, 2, 3), Document::class.java))
     }
 
+    @Test
+    fun callFunction_cachedResult() {
+        functions.setCallPolicy("sum", FunctionCallPolicy().cacheTtl(1, TimeUnit.MINUTES))
+        val numbers = listOf(1, 2, 3, 4)
+        assertEquals(10, functions.callFunction("sum", numbers, Integer::class.java).toInt())
+        assertEquals(BsonInt32(10), functions.callFunction("sum", numbers, BsonInt32::class.java))
+        assertEquals(3, functions.callFunction("sum", listOf(1, 2), Integer::class.java).toInt())
+
+        val stats = functions.callStats
+        assertEquals(1, stats.cacheHits)
+        assertEquals(2, stats.cacheMisses)
+
+        functions.clearCallCache()
+        assertEquals(10, functions.callFunction("sum", numbers, Integer::class.java).toInt())
+        assertEquals(3, functions.callStats.cacheMisses)
+    }
+
+    @Test
+    fun callFunction_coalescesConcurrentCalls() {
+        functions.setCallPolicy("sum", FunctionCallPolicy())
+        val executor = Executors.newFixedThreadPool(8)
+        try {
+            val results = (1..8).map {
+                executor.submit(Callable { functions.callFunction("sum", listOf(1, 2, 3, 4), Integer::class.java).toInt() })
+            }
+            results.forEach { assertEquals(10, it.get()) }
+        } finally {
+            executor.shutdown()
+        }
+        val stats = functions.callStats
+        assertEquals(0, stats.cacheHits)
+        assertEquals(8, stats.cacheMisses + stats.coalescedCalls)
+    }
+
+    @Test
+    fun callFunction_errorsAreNotCached() {
+        functions.setCallPolicy("error", FunctionCallPolicy().cacheTtl(1, TimeUnit.MINUTES))
+        for (i in 1..2) {
+            assertFailsWithErrorCode(ErrorCode.FUNCTION_EXECUTION_ERROR) {
+                functions.callFunction("error", emptyList<Any>(), String::class.java)
+            }
+        }
+        assertEquals(0, functions.callStats.cacheHits)
+        assertEquals(2, functions.callStats.cacheMisses)
+    }
+
+    @Test
+    fun callFunction_cacheSharedBetweenFunctionsInstances() {
+        functions.setCallPolicy("sum", FunctionCallPolicy().cacheTtl(1, TimeUnit.MINUTES))
+        val numbers = listOf(1, 2, 3, 4)
+        assertEquals(10, functions.callFunction("sum", numbers, Integer::class.java).toInt())
+
+        // New instances of the same user see the policy and the cached result.
+        val appFunctions = app.getFunctions(app.currentUser()!!)
+        assertNotNull(appFunctions.getCallPolicy("sum"))
+        assertEquals(10, appFunctions.callFunction("sum", numbers, Integer::class.java).toInt())
+        assertEquals(10, anonUser.getFunctions(app.configuration.defaultCodecRegistry).callFunction("sum", numbers, Integer::class.java).toInt())
+        assertEquals(2, functions.callStats.cacheHits)
+        assertEquals(1, functions.callStats.cacheMisses)
+    }
+
+    @Test
+    fun callPolicy_removed() {
+        functions.setCallPolicy("sum", FunctionCallPolicy().cacheTtl(1, TimeUnit.MINUTES))
+        assertNotNull(functions.getCallPolicy("sum"))
+        functions.setCallPolicy("sum", null)
+        assertNull(functions.getCallPolicy("sum"))
+        functions.callFunction("sum", listOf(1, 2), Integer::class.java)
+        assertEquals(0, functions.callStats.cacheMisses)
+    }
+
     @Test
     fun getApp() {
         assertEquals(app, functions.app)
@@ -44,6 +44,10 @@ class RealmStreamTaskImplTest {
                         return null
                     }
 
+                    override fun getNextEvents(): List<BaseChangeEvent<String>?> {
+                        return listOf(getNextEvent())
+                    }
+
                     override fun close() {
                         opened = false
                     }
@@ -74,6 +78,10 @@ class RealmStreamTaskImplTest {
                         return null
                     }
 
+                    override fun getNextEvents(): List<BaseChangeEvent<String>?> {
+                        return listOf(getNextEvent())
+                    }
+
                     override fun close() {
                         opened = false
                     }
@@ -111,6 +119,10 @@ class RealmStreamTaskImplTest {
                         return null
                     }
 
+                    override fun getNextEvents(): List<BaseChangeEvent<String>?> {
+                        return listOf(getNextEvent())
+                    }
+
                     override fun close() {
                         opened = false
                     }
@@ -139,4 +151,30 @@ class RealmStreamTaskImplTest {
         assertEquals(false, task.isOpen)
         assertEquals(true, task.isCancelled)
     }
+
+    @Test
+    fun getNextBatch() {
+        val task = RealmEventStreamTaskImpl("test", object : RealmEventStreamTaskImpl.Executor<String>() {
+            override fun run(): EventStream<String> {
+                return object : EventStream<String> {
+                    override fun getNextEvent(): BaseChangeEvent<String>? {
+                        return null
+                    }
+
+                    override fun getNextEvents(): List<BaseChangeEvent<String>?> {
+                        return listOf(null, null, null)
+                    }
+
+                    override fun close() {
+                    }
+
+                    override fun isOpen(): Boolean {
+                        return true
+                    }
+                }
+            }
+        })
+
+        assertEquals(3, task.nextBatch.size)
+    }
 }
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.internal.events
+
+import androidx.test.ext.junit.runners.AndroidJUnit4
+import io.realm.mongodb.AppConfiguration
+import io.realm.mongodb.AppException
+import io.realm.mongodb.ErrorCode
+import org.bson.BsonInt32
+import org.bson.BsonString
+import org.junit.Test
+import org.junit.runner.RunWith
+import kotlin.test.assertEquals
+import kotlin.test.assertFailsWith
+import kotlin.test.assertFalse
+import kotlin.test.assertNotNull
+import kotlin.test.assertNull
+import kotlin.test.assertTrue
+
+@RunWith(AndroidJUnit4::class)
+class ServerSentEventParserTest {
+
+    private val parser = ServerSentEventParser(AppConfiguration.DEFAULT_BSON_CODEC_REGISTRY)
+
+    private fun feed(text: String) {
+        val bytes = text.toByteArray(Charsets.UTF_8)
+        parser.feed(bytes, 0, bytes.size)
+    }
+
+    @Test
+    fun messageEvents() {
+        feed("data: {\"a\": 1}\n\ndata: {\"a\": 2}\r\n\r\n")
+        assertEquals(BsonInt32(1), parser.nextEvent()["a"])
+        assertEquals(BsonInt32(2), parser.nextEvent()["a"])
+        assertFalse(parser.hasEvent())
+    }
+
+    @Test
+    fun eventSplitAcrossChunks() {
+        val bytes = "data: {\"name\": \"Løve\"}\n\n".toByteArray(Charsets.UTF_8)
+        for (i in bytes.indices) {
+            parser.feed(bytes, i, 1)
+        }
+        assertTrue(parser.hasEvent())
+        assertEquals(BsonString("Løve"), parser.nextEvent()["name"])
+    }
+
+    @Test
+    fun multiLineDataAndPercentEncoding() {
+        feed("event: message\ndata: {\"text\":\ndata: \"100%25\",%0D%0A\"n\": 1}\n\n")
+        val event = parser.nextEvent()
+        assertEquals(BsonString("100%"), event["text"])
+        assertEquals(BsonInt32(1), event["n"])
+    }
+
+    @Test
+    fun commentsAndOtherEventsAreIgnored() {
+        feed(": heartbeat\n\nevent: ping\ndata: {}\n\n")
+        assertFalse(parser.hasEvent())
+        assertNull(parser.error)
+    }
+
+    @Test
+    fun errorEvent() {
+        feed("data: {\"a\": 1}\n\nevent: error\ndata: {\"error\": \"session expired\", \"error_code\": \"InvalidSession\"}\n\n")
+        // Events received before the error are delivered first.
+        assertNull(parser.error)
+        parser.nextEvent()
+        val error = assertNotNull(parser.error)
+        assertEquals(ErrorCode.INVALID_SESSION, error.errorCode)
+        assertEquals("session expired", error.errorMessage)
+    }
+
+    @Test
+    fun unknownServiceErrorCode() {
+        assertEquals(ErrorCode.SERVICE_UNKNOWN, ServerSentEventParser.toServiceErrorCode("NoSuchError"))
+        assertEquals(ErrorCode.SERVICE_UNKNOWN, ServerSentEventParser.toServiceErrorCode(""))
+    }
+
+    @Test
+    fun malformedEvent() {
+        assertFailsWith<AppException> {
+            feed("data: {not json\n\n")
+        }
+    }
+}
@@ -22,9 +22,15 @@ import io.realm.mongodb.mongo.MongoClient
 import io.realm.mongodb.mongo.MongoCollection
 import io.realm.mongodb.mongo.MongoNamespace
 import io.realm.mongodb.mongo.events.BaseChangeEvent.OperationType
+import io.realm.mongodb.mongo.options.BulkWriteOptions
 import io.realm.mongodb.mongo.options.CountOptions
+import io.realm.mongodb.mongo.options.DeleteManyModel
+import io.realm.mongodb.mongo.options.DeleteOneModel
 import io.realm.mongodb.mongo.options.FindOneAndModifyOptions
 import io.realm.mongodb.mongo.options.FindOptions
+import io.realm.mongodb.mongo.options.InsertOneModel
+import io.realm.mongodb.mongo.options.UpdateManyModel
+import io.realm.mongodb.mongo.options.UpdateOneModel
 import io.realm.mongodb.mongo.options.UpdateOptions
 import io.realm.rule.BlockingLooperThread
 import io.realm.util.assertFailsWithErrorCode
@@ -684,6 +690,100 @@ class MongoClientTest {
         }
     }
 
+    @Test
+    fun bulkWrite_ordered() {
+        with(getCollectionInternal()) {
+            val requests = listOf(
+                    InsertOneModel(Document("hello", "world")),
+                    InsertOneModel(Document("hello", "world")),
+                    InsertOneModel(Document("one", "two")),
+                    UpdateManyModel<Document>(Document("hello", "world"), Document("\$set", Document("woof", "meow"))),
+                    UpdateOneModel<Document>(Document("three", 4), Document("\$set", Document("five", 6)), UpdateOptions().upsert(true)),
+                    DeleteOneModel<Document>(Document("one", "two")),
+                    InsertOneModel(Document("seven", 8)))
+
+            bulkWrite(requests, BulkWriteOptions().maxBatchSize(2)).get()!!.let {
+                assertTrue(it.isSuccessful)
+                assertEquals(4, it.insertedCount)
+                assertEquals(setOf(0, 1, 2, 6), it.insertedIds.keys)
+                assertEquals(2, it.matchedCount)
+                assertEquals(2, it.modifiedCount)
+                assertEquals(setOf(4), it.upsertedIds.keys)
+                assertEquals(1, it.deletedCount)
+                // Two requests for the first three inserts, one for each other operation.
+                assertEquals(6, it.requestCount)
+            }
+            assertEquals(2, count(Document("woof", "meow")).get())
+            assertEquals(4, count().get())
+        }
+    }
+
+    @Test
+    fun bulkWrite_orderedStopsAtFirstError() {
+        with(getCollectionInternal()) {
+            val doc = Document("hello", "world").apply { this["_id"] = ObjectId() }
+            val requests = listOf(
+                    InsertOneModel(doc),
+                    DeleteManyModel<Document>(Document("none", "matching")),
+                    InsertOneModel(doc),
+                    InsertOneModel(Document("one", "two")))
+
+            bulkWrite(requests).get()!!.let {
+                assertFalse(it.isSuccessful)
+                assertEquals(setOf(0), it.insertedIds.keys)
+                assertEquals(setOf(2, 3), it.errors.keys)
+                assertEquals(ErrorCode.MONGODB_ERROR, it.errors[2]!!.errorCode)
+                // The failed insertMany request might have inserted some of its documents.
+                assertEquals(setOf(2, 3), it.unknownOutcomes)
+            }
+            assertEquals(1, count().get())
+        }
+    }
+
+    @Test
+    fun bulkWrite_unordered() {
+        with(getCollectionInternal()) {
+            val doc = Document("hello", "world").apply { this["_id"] = ObjectId() }
+            insertOne(doc).get()
+            val requests = listOf(
+                    InsertOneModel(Document("one", "two")),
+                    UpdateOneModel<Document>(Document("\$who", 1), Document()),
+                    InsertOneModel(Document("three", 4)),
+                    DeleteManyModel<Document>(Document("hello", "world")),
+                    InsertOneModel(Document("five", 6)))
+
+            bulkWrite(requests, BulkWriteOptions().ordered(false).maxConcurrentRequests(3)).get()!!.let {
+                assertEquals(setOf(1), it.errors.keys)
+                assertTrue(it.unknownOutcomes.isEmpty())
+                assertEquals(setOf(0, 2, 4), it.insertedIds.keys)
+                assertEquals(1, it.deletedCount)
+                // All inserts are sent with one request.
+                assertEquals(3, it.requestCount)
+            }
+            assertEquals(3, count().get())
+        }
+    }
+
+    @Test
+    fun bulkWrite_splitsBatchesByEncodedSize() {
+        with(getCollectionInternal()) {
+            val requests = (0 until 10).map { InsertOneModel(Document("value", "a".repeat(100))) }
+
+            bulkWrite(requests, BulkWriteOptions().maxBatchBytes(500)).get()!!.let {
+                assertEquals(10, it.insertedCount)
+                assertTrue(it.requestCount > 1)
+            }
+            assertEquals(10, count().get())
+        }
+    }
+
+    @Test
+    fun bulkWriteOptions_invalidArguments() {
+        assertFailsWith<IllegalArgumentException> { BulkWriteOptions().maxBatchSize(0) }
+        assertFailsWith<IllegalArgumentException> { BulkWriteOptions().maxBatchBytes(-1) }
+        assertFailsWith<IllegalArgumentException> { BulkWriteOptions().maxConcurrentRequests(0) }
+    }
+
     @Ignore("https://github.com/realm/realm-java/issues/7238")
     @Test
     fun findOneAndUpdate_emptyCollection() {
@@ -1231,6 +1331,77 @@ class MongoClientTest {
 
     }
 
+    @Test
+    fun watchSharedStreamsReceiveOnlyTheirIds() {
+        with(getCollectionInternal()) {
+            val doc1 = Document("document", "1").apply { this["num"] = 1 }
+            val doc2 = Document("document", "2").apply { this["num"] = 1 }
+
+            val doc1Id = this.insertOne(doc1).get()
+            val doc2Id = this.insertOne(doc2).get()
+
+            val watcher1 = this.watchShared(doc1Id.insertedId)
+            val watcher2 = this.watchShared(doc2Id.insertedId.asObjectId().value)
+
+            val condition = looperThread.runDetached {
+                watcher1.next.let { changeEvent ->
+                    assertEquals(OperationType.REPLACE, changeEvent.operationType)
+                    assertEquals("1", changeEvent.fullDocument!!["document"])
+                }
+                watcher2.next.let { changeEvent ->
+                    assertEquals(OperationType.REPLACE, changeEvent.operationType)
+                    assertEquals("2", changeEvent.fullDocument!!["document"])
+                }
+                watcher1.cancel()
+                watcher2.cancel()
+                looperThread.testComplete()
+            }
+
+            // Busy wait till both watchers are covered by the shared stream.
+            while (!watcher1.isOpen || !watcher2.isOpen) {
+            }
+
+            doc1.apply { this["num"] = 2 }
+            doc2.apply { this["num"] = 2 }
+
+            this.updateOne(Document("_id", doc2Id.insertedId), doc2).get()
+            this.updateOne(Document("_id", doc1Id.insertedId), doc1).get()
+
+            condition.await()
+        }
+    }
+
+    @Test
+    fun watchSharedCancelKeepsOtherStreamsOpen() {
+        with(getCollectionInternal()) {
+            val doc = Document("document", "1").apply { this["num"] = 1 }
+            val docId = this.insertOne(doc).get()
+
+            val watcherAll = this.watchShared()
+            val watcherId = this.watchShared(docId.insertedId)
+
+            val condition = looperThread.runDetached {
+                watcherAll.next.let { changeEvent ->
+                    assertEquals(OperationType.REPLACE, changeEvent.operationType)
+                    assertEquals("1", changeEvent.fullDocument!!["document"])
+                }
+                watcherAll.cancel()
+                looperThread.testComplete()
+            }
+
+            while (!watcherAll.isOpen || !watcherId.isOpen) {
+            }
+            watcherId.cancel()
+            assertFalse(watcherId.isOpen)
+            assertTrue(watcherAll.isOpen)
+
+            doc.apply { this["num"] = 2 }
+            this.updateOne(Document("_id", docId.insertedId), doc).get()
+
+            condition.await()
+        }
+    }
+
     @Test
     fun watchStreamAsynchronous() {
         looperThread.runBlocking {
@@ -237,7 +237,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_CheckedRow_nativeNullifyLink(JNIEn
 }
 
 
-JNIEXPORT jlongArray JNICALL Java_io_realm_internal_CheckedRow_nativeGetDecimal128(JNIEnv* env, jobject obj, jlong nativeRowPtr, jlong columnKey)
+JNIEXPORT jobject JNICALL Java_io_realm_internal_CheckedRow_nativeGetDecimal128(JNIEnv* env, jobject obj, jlong nativeRowPtr, jlong columnKey)
 {
     if (!TYPE_VALID(env, OBJ(nativeRowPtr)->get_table(), columnKey, col_type_Decimal)) {
         return nullptr;
@@ -255,7 +255,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_CheckedRow_nativeSetDecimal128(JNI
     Java_io_realm_internal_UncheckedRow_nativeSetDecimal128(env, obj, nativeRowPtr, columnKey, low, high);
 }
 
-JNIEXPORT jstring JNICALL Java_io_realm_internal_CheckedRow_nativeGetObjectId(JNIEnv* env, jobject obj,
+JNIEXPORT jbyteArray JNICALL Java_io_realm_internal_CheckedRow_nativeGetObjectId(JNIEnv* env, jobject obj,
                                                                                     jlong nativeRowPtr,
                                                                                     jlong columnKey)
 {
@@ -268,7 +268,7 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_CheckedRow_nativeGetObjectId(JN
 
 JNIEXPORT void JNICALL Java_io_realm_internal_CheckedRow_nativeSetObjectId(JNIEnv* env, jobject obj,
                                                                               jlong nativeRowPtr, jlong columnKey,
-                                                                              jstring j_value)
+                                                                              jbyteArray j_value)
 {
     if (!TYPE_VALID(env, OBJ(nativeRowPtr)->get_table(), columnKey, col_type_ObjectId)) {
         return;
@@ -509,32 +509,29 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetDecimal128(JNIEnv*
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeAddObjectId(JNIEnv* env, jclass, jlong list_ptr,
-                                                                         jstring j_value)
+                                                                         jbyteArray j_value)
 {
 
     try {
-        JStringAccessor value(env, j_value);
-        add_value(env, list_ptr, Any(ObjectId(StringData(value).data())));
+        add_value(env, list_ptr, Any(to_object_id(env, j_value)));
     }
     CATCH_STD()
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeInsertObjectId(JNIEnv* env, jclass, jlong list_ptr,
-                                                                            jlong pos, jstring j_value)
+                                                                            jlong pos, jbyteArray j_value)
 {
     try {
-        JStringAccessor value(env, j_value);
-        insert_value(env, list_ptr, pos, Any(ObjectId(StringData(value).data())));
+        insert_value(env, list_ptr, pos, Any(to_object_id(env, j_value)));
     }
     CATCH_STD();
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_OsList_nativeSetObjectId(JNIEnv* env, jclass, jlong list_ptr, jlong pos,
-                                                                         jstring j_value)
+                                                                         jbyteArray j_value)
 {
     try {
-        JStringAccessor value(env, j_value);
-        set_value(env, list_ptr, pos, Any(ObjectId(StringData(value).data())));
+        set_value(env, list_ptr, pos, Any(to_object_id(env, j_value)));
     }
     CATCH_STD()
 }
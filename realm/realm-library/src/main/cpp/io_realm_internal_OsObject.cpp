@@ -215,22 +215,21 @@ static inline Obj do_create_row_with_primary_key(JNIEnv* env, jlong shared_realm
 }
 
 static inline Obj do_create_row_with_object_id_primary_key(JNIEnv* env, jlong shared_realm_ptr, jlong table_ref_ptr,
-                                                 jlong pk_column_key, jstring pk_value)
+                                                 jlong pk_column_key, jbyteArray pk_value)
 {
     auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
     TableRef table = TBL_REF(table_ref_ptr);
     ColKey col_key(pk_column_key);
     shared_realm->verify_in_write(); // throws
-    JStringAccessor str_accessor(env, pk_value); // throws
     if (!pk_value && !COL_NULLABLE(env, table, pk_column_key)) {
         return Obj();
     }
 
     if (pk_value) {
-        auto objectId = ObjectId(StringData(str_accessor).data());
+        auto objectId = to_object_id(env, pk_value);
         if (bool(table->find_first_object_id(col_key, objectId))) {
             THROW_JAVA_EXCEPTION(env, PK_CONSTRAINT_EXCEPTION_CLASS,
-                                 util::format(PK_EXCEPTION_MSG_FORMAT, str_accessor.operator std::string()));
+                                 util::format(PK_EXCEPTION_MSG_FORMAT, objectId.to_string()));
         }
 
         return table->create_object_with_primary_key(objectId);
@@ -365,7 +364,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateRowWithStrin
 }
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateRowWithObjectIdPrimaryKey(
-    JNIEnv* env, jclass, jlong shared_realm_ptr, jlong table_ref_ptr, jlong pk_column_ndx, jstring pk_value)
+    JNIEnv* env, jclass, jlong shared_realm_ptr, jlong table_ref_ptr, jlong pk_column_ndx, jbyteArray pk_value)
 {
     try {
         Obj obj = do_create_row_with_object_id_primary_key(env, shared_realm_ptr, table_ref_ptr, pk_column_ndx, pk_value);
@@ -376,7 +375,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateRowWithObjec
 }
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsObject_nativeCreateNewObjectWithObjectIdPrimaryKey(
-    JNIEnv* env, jclass, jlong shared_realm_ptr, jlong table_ref_ptr, jlong pk_column_ndx, jstring pk_value)
+    JNIEnv* env, jclass, jlong shared_realm_ptr, jlong table_ref_ptr, jlong pk_column_ndx, jbyteArray pk_value)
 {
     try {
         Obj obj = do_create_row_with_object_id_primary_key(env, shared_realm_ptr, table_ref_ptr, pk_column_ndx, pk_value);
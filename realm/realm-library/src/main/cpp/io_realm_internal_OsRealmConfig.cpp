@@ -116,6 +116,23 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsRealmConfig_nativeSetInMemory(JN
     config.in_memory = in_mem; // no throw
 }
 
+JNIEXPORT void JNICALL Java_io_realm_internal_OsRealmConfig_nativeSetRealmData(JNIEnv* env, jclass, jlong native_ptr,
+                                                                               jobject j_buffer)
+{
+    try {
+        auto& config = *reinterpret_cast<Realm::Config*>(native_ptr);
+        const char* data = static_cast<const char*>(env->GetDirectBufferAddress(j_buffer));
+        jlong size = env->GetDirectBufferCapacity(j_buffer);
+        if (!data || size < 0) {
+            THROW_JAVA_EXCEPTION(env, JavaExceptionDef::IllegalArgument, "The Realm data must be a direct buffer.");
+        }
+        // The buffer is owned by Java and must stay mapped while the Realm is open. Only immutable Realms can be
+        // opened from a buffer, the path is then only used to identify the Realm.
+        config.realm_data = BinaryData(data, static_cast<size_t>(size));
+    }
+    CATCH_STD()
+}
+
 JNIEXPORT void JNICALL Java_io_realm_internal_OsRealmConfig_nativeSetSchemaConfig(JNIEnv* env, jobject j_config,
                                                                                   jlong native_ptr, jbyte schema_mode,
                                                                                   jlong schema_version,
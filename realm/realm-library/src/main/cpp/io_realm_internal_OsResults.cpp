@@ -21,11 +21,13 @@
 #include <realm/object-store/list.hpp>
 #include <realm/util/optional.hpp>
 
+#include "java_accessor.hpp"
 #include "java_class_global_def.hpp"
 #include "java_object_accessor.hpp"
 #include "java_query_descriptor.hpp"
 #include "observable_collection_wrapper.hpp"
 #include "util.hpp"
+#include "jni_util/java_local_ref.hpp"
 
 using namespace realm;
 using namespace realm::jni_util;
@@ -99,6 +101,174 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeGetRow(JNIEnv* en
     return reinterpret_cast<jlong>(nullptr);
 }
 
+JNIEXPORT jint JNICALL Java_io_realm_internal_OsResults_nativeGetColumnValues(JNIEnv* env, jclass, jlong native_ptr,
+                                                                               jlong column_key, jint start,
+                                                                               jint count, jlongArray j_values,
+                                                                               jbooleanArray j_nulls)
+{
+    try {
+        auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
+        auto& results = wrapper->collection();
+        size_t size = results.size();
+        if (static_cast<size_t>(start) >= size) {
+            return 0;
+        }
+        jint read = static_cast<jint>(std::min(size - static_cast<size_t>(start), static_cast<size_t>(count)));
+
+        ColKey col_key(column_key);
+        bool nullable = col_key.get_attrs().test(col_attr_Nullable);
+        DataType type = results.get_table()->get_column_type(col_key);
+        if (type != type_Int && type != type_Float && type != type_Double) {
+            THROW_JAVA_EXCEPTION(env, JavaExceptionDef::IllegalArgument,
+                                 util::format("Column type %1 cannot be read as a number.", int(type)));
+        }
+
+        std::vector<jlong> values(static_cast<size_t>(read), 0);
+        std::unique_ptr<jboolean[]> nulls(new jboolean[read]());
+        for (jint i = 0; i < read; ++i) {
+            Obj obj = results.get(static_cast<size_t>(start + i));
+            if (nullable && obj.is_null(col_key)) {
+                nulls[i] = JNI_TRUE;
+                continue;
+            }
+            double value;
+            switch (type) {
+                case type_Int:
+                    values[i] = nullable ? obj.get<util::Optional<int64_t>>(col_key).value() : obj.get<int64_t>(col_key);
+                    continue;
+                case type_Float:
+                    value = nullable ? obj.get<util::Optional<float>>(col_key).value() : obj.get<float>(col_key);
+                    break;
+                default:
+                    value = nullable ? obj.get<util::Optional<double>>(col_key).value() : obj.get<double>(col_key);
+                    break;
+            }
+            memcpy(&values[i], &value, sizeof(value));
+        }
+
+        env->SetLongArrayRegion(j_values, 0, read, values.data());
+        env->SetBooleanArrayRegion(j_nulls, 0, read, nulls.get());
+        return read;
+    }
+    CATCH_STD()
+    return 0;
+}
+
+// Follows the links of a projected field. Returns false if one of the links is null.
+static bool follow_links(Obj& obj, const std::vector<ColKey>& path)
+{
+    for (size_t i = 0; i + 1 < path.size(); ++i) {
+        ColKey link_key = path[i];
+        if (obj.is_null(link_key)) {
+            return false;
+        }
+        ObjKey target_key = obj.get<ObjKey>(link_key);
+        obj = obj.get_table()->get_link_target(link_key)->get_object(target_key);
+    }
+    return true;
+}
+
+JNIEXPORT jint JNICALL Java_io_realm_internal_OsResults_nativeGetProjectionValues(JNIEnv* env, jclass, jlong native_ptr,
+                                                                                   jobjectArray j_column_key_paths,
+                                                                                   jint start, jint count,
+                                                                                   jlongArray j_values,
+                                                                                   jobjectArray j_objects,
+                                                                                   jbooleanArray j_nulls)
+{
+    try {
+        auto wrapper = reinterpret_cast<ResultsWrapper*>(native_ptr);
+        auto& results = wrapper->collection();
+        size_t size = results.size();
+        if (static_cast<size_t>(start) >= size) {
+            return 0;
+        }
+        jint read = static_cast<jint>(std::min(size - static_cast<size_t>(start), static_cast<size_t>(count)));
+
+        JObjectArrayAccessor<JLongArrayAccessor, jlongArray> arrays(env, j_column_key_paths);
+        jsize field_count = arrays.size();
+        std::vector<std::vector<ColKey>> paths;
+        for (jsize i = 0; i < field_count; ++i) {
+            auto keys = arrays[i];
+            std::vector<ColKey> path;
+            for (jsize j = 0; j < keys.size(); ++j) {
+                path.push_back(ColKey(keys[j]));
+            }
+            paths.push_back(std::move(path));
+        }
+
+        size_t value_count = static_cast<size_t>(read) * static_cast<size_t>(field_count);
+        std::vector<jlong> values(value_count, 0);
+        std::unique_ptr<jboolean[]> nulls(new jboolean[value_count]());
+        for (jint row = 0; row < read; ++row) {
+            Obj source = results.get(static_cast<size_t>(start + row));
+            for (jsize field = 0; field < field_count; ++field) {
+                jsize i = row * field_count + field;
+                Obj obj = source;
+                const std::vector<ColKey>& path = paths[field];
+                ColKey col_key = path.back();
+                bool nullable = col_key.get_attrs().test(col_attr_Nullable);
+                if (!follow_links(obj, path) || (nullable && obj.is_null(col_key))) {
+                    nulls[i] = JNI_TRUE;
+                    continue;
+                }
+                DataType type = obj.get_table()->get_column_type(col_key);
+                switch (type) {
+                    case type_Int:
+                        values[i] = nullable ? obj.get<util::Optional<int64_t>>(col_key).value() : obj.get<int64_t>(col_key);
+                        break;
+                    case type_Bool:
+                        values[i] = (nullable ? obj.get<util::Optional<bool>>(col_key).value() : obj.get<bool>(col_key)) ? 1 : 0;
+                        break;
+                    case type_Float: {
+                        float value = nullable ? obj.get<util::Optional<float>>(col_key).value() : obj.get<float>(col_key);
+                        int32_t bits;
+                        memcpy(&bits, &value, sizeof(bits));
+                        values[i] = bits;
+                        break;
+                    }
+                    case type_Double: {
+                        double value = nullable ? obj.get<util::Optional<double>>(col_key).value() : obj.get<double>(col_key);
+                        memcpy(&values[i], &value, sizeof(value));
+                        break;
+                    }
+                    case type_Timestamp:
+                        values[i] = to_milliseconds(obj.get<Timestamp>(col_key));
+                        break;
+                    case type_String: {
+                        JavaLocalRef<jstring> value(env, to_jstring(env, obj.get<StringData>(col_key)));
+                        env->SetObjectArrayElement(j_objects, i, value);
+                        break;
+                    }
+                    case type_Binary: {
+                        JavaLocalRef<jbyteArray> value(env, JavaClassGlobalDef::new_byte_array(env, obj.get<BinaryData>(col_key)));
+                        env->SetObjectArrayElement(j_objects, i, value);
+                        break;
+                    }
+                    case type_ObjectId: {
+                        JavaLocalRef<jobject> value(env, JavaClassGlobalDef::new_object_id(env, obj.get<ObjectId>(col_key)));
+                        env->SetObjectArrayElement(j_objects, i, value);
+                        break;
+                    }
+                    case type_Decimal: {
+                        JavaLocalRef<jobject> value(env, JavaClassGlobalDef::new_decimal128(env, obj.get<Decimal128>(col_key)));
+                        env->SetObjectArrayElement(j_objects, i, value);
+                        break;
+                    }
+                    default:
+                        THROW_JAVA_EXCEPTION(env, JavaExceptionDef::IllegalArgument,
+                                             util::format("Column type %1 cannot be projected.", int(type)));
+                }
+            }
+        }
+
+        env->SetLongArrayRegion(j_values, 0, static_cast<jsize>(value_count), values.data());
+        env->SetBooleanArrayRegion(j_nulls, 0, static_cast<jsize>(value_count), nulls.get());
+        return read;
+    }
+    CATCH_STD()
+    return 0;
+}
+
 JNIEXPORT jlong JNICALL Java_io_realm_internal_OsResults_nativeFirstRow(JNIEnv* env, jclass, jlong native_ptr)
 {
     try {
@@ -387,10 +557,9 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetDecimal128(JNIE
     update_objects(env, native_ptr, j_field_name, value);
 }
 
-JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetObjectId(JNIEnv* env, jclass, jlong native_ptr, jstring j_field_name, jstring j_value)
+JNIEXPORT void JNICALL Java_io_realm_internal_OsResults_nativeSetObjectId(JNIEnv* env, jclass, jlong native_ptr, jstring j_field_name, jbyteArray j_value)
 {
-    JStringAccessor data(env, j_value);
-    ObjectId objectId = ObjectId(StringData(data).data());
+    ObjectId objectId = to_object_id(env, j_value);
     JavaValue value(objectId);
     update_objects(env, native_ptr, j_field_name, value);
 }
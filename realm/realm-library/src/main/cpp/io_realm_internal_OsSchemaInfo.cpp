@@ -75,3 +75,45 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSchemaInfo_nativeGetObjectSchem
 
     return reinterpret_cast<jlong>(nullptr);
 }
+
+JNIEXPORT jlong JNICALL Java_io_realm_internal_OsSchemaInfo_nativeGetFingerprint(JNIEnv* env, jclass,
+                                                                                jlong native_ptr)
+{
+    try {
+        auto& schema = *reinterpret_cast<Schema*>(native_ptr);
+        // FNV-1a over the names and keys of all tables and columns. The column keys include the type and attributes
+        // of the columns.
+        uint64_t hash = 14695981039346656037ULL;
+        auto mix = [&hash](uint64_t value) {
+            for (int i = 0; i < 8; ++i) {
+                hash ^= (value >> (i * 8)) & 0xff;
+                hash *= 1099511628211ULL;
+            }
+        };
+        auto mix_string = [&hash](const std::string& value) {
+            for (char c : value) {
+                hash ^= static_cast<unsigned char>(c);
+                hash *= 1099511628211ULL;
+            }
+            hash ^= 0xff;
+            hash *= 1099511628211ULL;
+        };
+        for (auto& object_schema : schema) {
+            mix_string(object_schema.name);
+            mix(static_cast<uint64_t>(object_schema.table_key.value));
+            for (auto& property : object_schema.persisted_properties) {
+                mix_string(property.name);
+                mix(static_cast<uint64_t>(property.column_key.value));
+            }
+            for (auto& property : object_schema.computed_properties) {
+                mix_string(property.name);
+                mix_string(property.object_type);
+                mix_string(property.link_origin_property_name);
+            }
+        }
+        return static_cast<jlong>(hash);
+    }
+    CATCH_STD()
+
+    return 0;
+}
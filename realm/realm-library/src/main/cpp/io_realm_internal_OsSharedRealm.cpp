@@ -37,6 +37,7 @@
 #include "jni_util/java_method.hpp"
 #include "jni_util/java_class.hpp"
 #include "jni_util/java_exception_thrower.hpp"
+#include "jni_util/java_local_ref.hpp"
 
 
 using namespace realm;
@@ -418,6 +419,59 @@ JNIEXPORT void JNICALL Java_io_realm_internal_OsSharedRealm_nativeStopWaitForCha
     CATCH_STD()
 }
 
+JNIEXPORT jlongArray JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetSpaceUsage(JNIEnv* env, jclass,
+                                                                                    jlong shared_realm_ptr)
+{
+    auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
+    try {
+        auto& group = shared_realm->read_group();
+        jlong sizes[3];
+        sizes[0] = static_cast<jlong>(group.compute_aggregated_byte_size(Group::SizeAggregateControl::size_of_state));
+        sizes[1] = static_cast<jlong>(group.compute_aggregated_byte_size(Group::SizeAggregateControl::size_of_history));
+        sizes[2] = static_cast<jlong>(group.compute_aggregated_byte_size(Group::SizeAggregateControl::size_of_freelists));
+
+        jlongArray result = env->NewLongArray(3);
+        if (result == nullptr) {
+            ThrowException(env, OutOfMemory, "Could not allocate memory to return the space usage.");
+            return nullptr;
+        }
+        env->SetLongArrayRegion(result, 0, 3, sizes);
+        return result;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
+JNIEXPORT jlongArray JNICALL Java_io_realm_internal_OsSharedRealm_nativeGetTableByteSizes(JNIEnv* env, jclass,
+                                                                                       jlong shared_realm_ptr,
+                                                                                       jobjectArray j_table_names)
+{
+    auto& shared_realm = *(reinterpret_cast<SharedRealm*>(shared_realm_ptr));
+    try {
+        auto& group = shared_realm->read_group();
+        jsize len = env->GetArrayLength(j_table_names);
+        std::vector<jlong> sizes(static_cast<size_t>(len), 0);
+        for (jsize i = 0; i < len; ++i) {
+            JavaLocalRef<jstring> j_name(env, static_cast<jstring>(env->GetObjectArrayElement(j_table_names, i)));
+            JStringAccessor name(env, j_name);
+            ConstTableRef table = group.get_table(name);
+            if (table) {
+                sizes[i] = static_cast<jlong>(table->compute_aggregated_byte_size());
+            }
+        }
+
+        jlongArray result = env->NewLongArray(len);
+        if (result == nullptr) {
+            ThrowException(env, OutOfMemory, "Could not allocate memory to return the table sizes.");
+            return nullptr;
+        }
+        env->SetLongArrayRegion(result, 0, len, sizes.data());
+        return result;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_OsSharedRealm_nativeCompact(JNIEnv* env, jclass,
                                                                             jlong shared_realm_ptr)
 {
@@ -365,7 +365,7 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_Table_nativeGetString(JNIEnv* e
     return nullptr;
 }
 
-JNIEXPORT jlongArray JNICALL Java_io_realm_internal_Table_nativeGetDecimal128(JNIEnv* env, jobject, jlong nativeTableRefPtr,
+JNIEXPORT jobject JNICALL Java_io_realm_internal_Table_nativeGetDecimal128(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                        jlong columnKey, jlong rowKey)
 {
     TableRef table = TBL_REF(nativeTableRefPtr);
@@ -374,13 +374,13 @@ JNIEXPORT jlongArray JNICALL Java_io_realm_internal_Table_nativeGetDecimal128(JN
     }
     try {
         Decimal128 decimal128 = table->get_object(ObjKey(rowKey)).get<Decimal128>(ColKey(columnKey));
-        RETURN_DECIMAL128_AS_JLONG_ARRAY__OR_NULL(decimal128)
+        return JavaClassGlobalDef::new_decimal128(env, decimal128);
     }
     CATCH_STD()
     return nullptr;
 }
 
-JNIEXPORT jstring JNICALL Java_io_realm_internal_Table_nativeGetObjectId(JNIEnv* env, jobject, jlong nativeTableRefPtr,
+JNIEXPORT jbyteArray JNICALL Java_io_realm_internal_Table_nativeGetObjectId(JNIEnv* env, jobject, jlong nativeTableRefPtr,
                                                                        jlong columnKey, jlong rowKey)
 {
     TableRef table = TBL_REF(nativeTableRefPtr);
@@ -388,7 +388,7 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_Table_nativeGetObjectId(JNIEnv*
         return nullptr;
     }
     try {
-        return to_jstring(env, table->get_object(ObjKey(rowKey)).get<ObjectId>(ColKey(columnKey)).to_string().data());
+        return to_jbyte_array(env, table->get_object(ObjKey(rowKey)).get<ObjectId>(ColKey(columnKey)));
     }
     CATCH_STD()
     return nullptr;
@@ -600,7 +600,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetDecimal128(JNIEnv*
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetObjectId(JNIEnv* env, jclass, jlong nativeTableRefPtr,
-                                                                    jlong columnKey, jlong rowKey, jstring j_value,
+                                                                    jlong columnKey, jlong rowKey, jbyteArray j_value,
                                                                     jboolean isDefault)
 {
     TableRef table = TBL_REF(nativeTableRefPtr);
@@ -608,8 +608,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_Table_nativeSetObjectId(JNIEnv* en
         return;
     }
     try {
-        JStringAccessor value(env, j_value);
-        table->get_object(ObjKey(rowKey)).set(ColKey(columnKey), ObjectId(StringData(value).data()), B(isDefault));
+        table->get_object(ObjKey(rowKey)).set(ColKey(columnKey), to_object_id(env, j_value), B(isDefault));
     }
     CATCH_STD()
 }
@@ -887,7 +886,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstDecimal128(J
 }
 
 JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstObjectId(JNIEnv* env, jclass, jlong nativeTableRefPtr,
-                                                                           jlong columnKey, jstring j_value)
+                                                                           jlong columnKey, jbyteArray j_value)
 {
     TableRef table = TBL_REF(nativeTableRefPtr);
     if (!TYPE_VALID(env, table, columnKey, col_type_ObjectId)) {
@@ -895,8 +894,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeFindFirstObjectId(JNI
     }
 
     try {
-        JStringAccessor value(env, j_value); // throws
-        ObjectId id = ObjectId(StringData(value).data());
+        ObjectId id = to_object_id(env, j_value);
         return to_jlong_or_not_found(table->find_first_object_id(ColKey(columnKey), id));
     }
     CATCH_STD()
@@ -937,6 +935,20 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_Table_nativeGetName(JNIEnv* env
     return nullptr;
 }
 
+JNIEXPORT jlong JNICALL Java_io_realm_internal_Table_nativeGetKey(JNIEnv* env, jobject, jlong nativeTableRefPtr)
+{
+    try {
+        TableRef table = TBL_REF(nativeTableRefPtr);
+        if (table) {
+            return static_cast<jlong>(table->get_key().value);
+        } else {
+            return -1;
+        }
+    }
+    CATCH_STD()
+    return -1;
+}
+
 JNIEXPORT jboolean JNICALL Java_io_realm_internal_Table_nativeIsValid(JNIEnv*, jobject, jlong nativeTableRefPtr)
 {
     if(TBL_REF(nativeTableRefPtr)) {
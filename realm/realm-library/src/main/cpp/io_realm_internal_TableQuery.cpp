@@ -1016,16 +1016,15 @@ JNIEXPORT void JNICALL Java_io_realm_internal_TableQuery_nativeEqualDecimal128(J
 // ObjectID
 enum ObjectIdPredicate { ObjectIdEqual, ObjectIdNotEqual, ObjectIdLess, ObjectIdLessEqual, ObjectIdGreater, ObjectIdGreaterEqual };
 static void TableQuery_ObjectIdPredicate(JNIEnv* env, jlong nativeQueryPtr, jlongArray columnKeys,
-                                           jlongArray tablePointers, jstring j_data, ObjectIdPredicate predicate)
+                                           jlongArray tablePointers, jbyteArray j_data, ObjectIdPredicate predicate)
 {
     try {
-        JStringAccessor data(env, j_data);
         JLongArrayAccessor table_arr(env, tablePointers);
         JLongArrayAccessor col_key_arr(env, columnKeys);
         jsize arr_len = col_key_arr.size();
         LinkChain linkChain = getTableForLinkQuery(nativeQueryPtr, table_arr, col_key_arr);
 
-        ObjectId objectId = ObjectId(StringData(data).data());
+        ObjectId objectId = to_object_id(env, j_data);
         if (arr_len == 1) {
             if (!TYPE_VALID(env, Q(nativeQueryPtr)->get_table(), col_key_arr[0], col_type_ObjectId)) {
                 return;
@@ -1091,7 +1090,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_TableQuery_nativeEqualObjectId(JNI
                                                                              jlong nativeQueryPtr,
                                                                              jlongArray columnKeys,
                                                                              jlongArray tablePointers,
-                                                                             jstring j_data)
+                                                                             jbyteArray j_data)
 {
     TableQuery_ObjectIdPredicate(env, nativeQueryPtr, columnKeys, tablePointers, j_data, ObjectIdEqual);
 }
@@ -1100,7 +1099,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_TableQuery_nativeNotEqualObjectId(
                                                                                 jlong nativeQueryPtr,
                                                                                 jlongArray columnKeys,
                                                                                 jlongArray tablePointers,
-                                                                                jstring data)
+                                                                                jbyteArray data)
 {
     TableQuery_ObjectIdPredicate(env, nativeQueryPtr, columnKeys, tablePointers, data, ObjectIdNotEqual);
 }
@@ -1109,7 +1108,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_TableQuery_nativeLessObjectId(JNIE
                                                                             jlong nativeQueryPtr,
                                                                             jlongArray columnKeys,
                                                                             jlongArray tablePointers,
-                                                                            jstring data)
+                                                                            jbyteArray data)
 {
     TableQuery_ObjectIdPredicate(env, nativeQueryPtr, columnKeys, tablePointers, data, ObjectIdLess);
 }
@@ -1118,7 +1117,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_TableQuery_nativeLessEqualObjectId
                                                                                  jlong nativeQueryPtr,
                                                                                  jlongArray columnKeys,
                                                                                  jlongArray tablePointers,
-                                                                                 jstring data)
+                                                                                 jbyteArray data)
 {
     TableQuery_ObjectIdPredicate(env, nativeQueryPtr, columnKeys, tablePointers, data, ObjectIdLessEqual);
 }
@@ -1127,7 +1126,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_TableQuery_nativeGreaterObjectId(J
                                                                                jlong nativeQueryPtr,
                                                                                jlongArray columnKeys,
                                                                                jlongArray tablePointers,
-                                                                               jstring data)
+                                                                               jbyteArray data)
 {
     TableQuery_ObjectIdPredicate(env, nativeQueryPtr, columnKeys, tablePointers, data, ObjectIdGreater);
 }
@@ -1136,7 +1135,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_TableQuery_nativeGreaterEqualObjec
                                                                                     jlong nativeQueryPtr,
                                                                                     jlongArray columnKeys,
                                                                                     jlongArray tablePointers,
-                                                                                    jstring data)
+                                                                                    jbyteArray data)
 {
     TableQuery_ObjectIdPredicate(env, nativeQueryPtr, columnKeys, tablePointers, data, ObjectIdGreaterEqual);
 }
@@ -1736,6 +1735,105 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeCount(JNIEnv* en
     return 0;
 }
 
+// Partitioned evaluation used by parallel queries on frozen Realms. Every call evaluates its own copy of the query on
+// the objects in [start, end) so partitions can run concurrently.
+
+JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeCountInRange(JNIEnv* env, jobject,
+                                                                             jlong nativeQueryPtr, jlong start,
+                                                                             jlong end)
+{
+    try {
+        Query query(*Q(nativeQueryPtr));
+        return static_cast<jlong>(query.find_all(S(start), S(end)).size());
+    }
+    CATCH_STD()
+    return 0;
+}
+
+// Returns [value count, sum, minimum, maximum] of the non-null values in the partition.
+JNIEXPORT jlongArray JNICALL Java_io_realm_internal_TableQuery_nativeAggregateIntInRange(JNIEnv* env, jobject,
+                                                                                         jlong nativeQueryPtr,
+                                                                                         jlong columnKey,
+                                                                                         jlong start, jlong end)
+{
+    Query* pQuery = Q(nativeQueryPtr);
+    ConstTableRef pTable = pQuery->get_table();
+    if (!TYPE_VALID(env, pTable, columnKey, col_type_Int)) {
+        return nullptr;
+    }
+    try {
+        Query query(*pQuery);
+        TableView view = query.find_all(S(start), S(end));
+        ColKey col_key(columnKey);
+        size_t value_count = 0;
+        view.average_int(col_key, &value_count);
+        jlong ret[4] = {static_cast<jlong>(value_count), 0, 0, 0};
+        if (value_count > 0) {
+            ret[1] = view.sum_int(col_key);
+            ret[2] = view.minimum_int(col_key);
+            ret[3] = view.maximum_int(col_key);
+        }
+
+        jlongArray ret_array = env->NewLongArray(4);
+        if (!ret_array) {
+            ThrowException(env, OutOfMemory, "Could not allocate memory to aggregate partition.");
+            return nullptr;
+        }
+        env->SetLongArrayRegion(ret_array, 0, 4, ret);
+        return ret_array;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
+// Returns [value count, sum, minimum, maximum] of the non-null values in the partition of a float or double column.
+JNIEXPORT jdoubleArray JNICALL Java_io_realm_internal_TableQuery_nativeAggregateDoubleInRange(JNIEnv* env, jobject,
+                                                                                              jlong nativeQueryPtr,
+                                                                                              jlong columnKey,
+                                                                                              jlong start, jlong end)
+{
+    Query* pQuery = Q(nativeQueryPtr);
+    ConstTableRef pTable = pQuery->get_table();
+    ColKey col_key(columnKey);
+    bool is_float = pTable->get_column_type(col_key) == type_Float;
+    if (!TYPE_VALID(env, pTable, columnKey, is_float ? col_type_Float : col_type_Double)) {
+        return nullptr;
+    }
+    try {
+        Query query(*pQuery);
+        TableView view = query.find_all(S(start), S(end));
+        size_t value_count = 0;
+        jdouble ret[4] = {0, 0, 0, 0};
+        if (is_float) {
+            view.average_float(col_key, &value_count);
+            if (value_count > 0) {
+                ret[1] = view.sum_float(col_key);
+                ret[2] = view.minimum_float(col_key);
+                ret[3] = view.maximum_float(col_key);
+            }
+        }
+        else {
+            view.average_double(col_key, &value_count);
+            if (value_count > 0) {
+                ret[1] = view.sum_double(col_key);
+                ret[2] = view.minimum_double(col_key);
+                ret[3] = view.maximum_double(col_key);
+            }
+        }
+        ret[0] = static_cast<jdouble>(value_count);
+
+        jdoubleArray ret_array = env->NewDoubleArray(4);
+        if (!ret_array) {
+            ThrowException(env, OutOfMemory, "Could not allocate memory to aggregate partition.");
+            return nullptr;
+        }
+        env->SetDoubleArrayRegion(ret_array, 0, 4, ret);
+        return ret_array;
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
 JNIEXPORT jlong JNICALL Java_io_realm_internal_TableQuery_nativeRemove(JNIEnv* env, jobject, jlong nativeQueryPtr)
 {
     Query* pQuery = Q(nativeQueryPtr);
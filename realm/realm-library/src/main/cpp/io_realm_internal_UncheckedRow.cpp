@@ -19,8 +19,10 @@
 
 #include "java_accessor.hpp"
 #include "util.hpp"
+#include "jni_util/java_local_ref.hpp"
 
 using namespace realm;
+using namespace realm::jni_util;
 using namespace realm::_impl;
 
 static void finalize_unchecked_row(jlong ptr);
@@ -174,6 +176,23 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_UncheckedRow_nativeGetString(JN
     return nullptr;
 }
 
+JNIEXPORT jstring JNICALL Java_io_realm_internal_UncheckedRow_nativeGetInternedString(JNIEnv* env, jobject,
+                                                                                      jlong nativeRowPtr,
+                                                                                      jlong columnKey,
+                                                                                      jobjectArray cache)
+{
+    if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
+        return nullptr;
+    }
+
+    try {
+        StringData value = OBJ(nativeRowPtr)->get<StringData>(ColKey(columnKey));
+        return to_interned_jstring(env, value, cache);
+    }
+    CATCH_STD()
+    return nullptr;
+}
+
 JNIEXPORT jbyteArray JNICALL Java_io_realm_internal_UncheckedRow_nativeGetByteArray(JNIEnv* env, jobject,
                                                                                     jlong nativeRowPtr,
                                                                                     jlong columnKey)
@@ -414,7 +433,7 @@ JNIEXPORT jlong JNICALL Java_io_realm_internal_UncheckedRow_nativeGetFinalizerPt
     return reinterpret_cast<jlong>(&finalize_unchecked_row);
 }
 
-JNIEXPORT jlongArray JNICALL Java_io_realm_internal_UncheckedRow_nativeGetDecimal128(JNIEnv* env, jobject,
+JNIEXPORT jobject JNICALL Java_io_realm_internal_UncheckedRow_nativeGetDecimal128(JNIEnv* env, jobject,
                                                                                     jlong nativeRowPtr,
                                                                                     jlong columnKey)
 {
@@ -424,7 +443,7 @@ JNIEXPORT jlongArray JNICALL Java_io_realm_internal_UncheckedRow_nativeGetDecima
 
     try {
         Decimal128 decimal128 = OBJ(nativeRowPtr)->get<Decimal128>(ColKey(columnKey));
-        RETURN_DECIMAL128_AS_JLONG_ARRAY__OR_NULL(decimal128)
+        return JavaClassGlobalDef::new_decimal128(env, decimal128);
     }
     CATCH_STD()
     return nullptr;
@@ -446,7 +465,7 @@ JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetDecimal128(J
     CATCH_STD()
 }
 
-JNIEXPORT jstring JNICALL Java_io_realm_internal_UncheckedRow_nativeGetObjectId(JNIEnv* env, jobject,
+JNIEXPORT jbyteArray JNICALL Java_io_realm_internal_UncheckedRow_nativeGetObjectId(JNIEnv* env, jobject,
                                                                                     jlong nativeRowPtr,
                                                                                     jlong columnKey)
 {
@@ -456,7 +475,7 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_UncheckedRow_nativeGetObjectId(
 
     try {
         ObjectId objectId = OBJ(nativeRowPtr)->get<ObjectId>(ColKey(columnKey));
-        return to_jstring(env, objectId.to_string().data());
+        return to_jbyte_array(env, objectId);
     }
     CATCH_STD()
     return nullptr;
@@ -464,15 +483,98 @@ JNIEXPORT jstring JNICALL Java_io_realm_internal_UncheckedRow_nativeGetObjectId(
 
 JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeSetObjectId(JNIEnv* env, jobject,
                                                                               jlong nativeRowPtr, jlong columnKey,
-                                                                              jstring j_value)
+                                                                              jbyteArray j_value)
 {
     if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
         return;
     }
 
     try {
-        JStringAccessor value(env, j_value);
-        OBJ(nativeRowPtr)->set(ColKey(columnKey), ObjectId(StringData(value).data()));
+        OBJ(nativeRowPtr)->set(ColKey(columnKey), to_object_id(env, j_value));
+    }
+    CATCH_STD()
+}
+
+// Reads all the given scalar columns in one call. Numbers, booleans, dates and the bits of floating point values are
+// written to j_values, Strings, byte arrays, ObjectIds and Decimal128s to j_objects. j_nulls is set for every null
+// value.
+JNIEXPORT void JNICALL Java_io_realm_internal_UncheckedRow_nativeGetValues(JNIEnv* env, jobject, jlong nativeRowPtr,
+                                                                           jlongArray j_column_keys,
+                                                                           jlongArray j_values,
+                                                                           jobjectArray j_objects,
+                                                                           jbooleanArray j_nulls)
+{
+    if (!ROW_VALID(env, OBJ(nativeRowPtr))) {
+        return;
+    }
+
+    try {
+        Obj* obj = OBJ(nativeRowPtr);
+        auto table = obj->get_table();
+        jsize size = env->GetArrayLength(j_column_keys);
+        std::vector<jlong> column_keys(static_cast<size_t>(size));
+        std::vector<jlong> values(static_cast<size_t>(size), 0);
+        std::unique_ptr<jboolean[]> nulls(new jboolean[size]());
+        env->GetLongArrayRegion(j_column_keys, 0, size, column_keys.data());
+
+        for (jsize i = 0; i < size; ++i) {
+            ColKey col_key(column_keys[i]);
+            bool nullable = col_key.get_attrs().test(col_attr_Nullable);
+            if (nullable && obj->is_null(col_key)) {
+                nulls[i] = JNI_TRUE;
+                continue;
+            }
+            switch (table->get_column_type(col_key)) {
+                case type_Int:
+                    values[i] = nullable ? obj->get<util::Optional<int64_t>>(col_key).value() : obj->get<int64_t>(col_key);
+                    break;
+                case type_Bool:
+                    values[i] = obj->get<bool>(col_key) ? 1 : 0;
+                    break;
+                case type_Float: {
+                    float value = obj->get<float>(col_key);
+                    int32_t bits;
+                    memcpy(&bits, &value, sizeof(bits));
+                    values[i] = bits;
+                    break;
+                }
+                case type_Double: {
+                    double value = obj->get<double>(col_key);
+                    memcpy(&values[i], &value, sizeof(value));
+                    break;
+                }
+                case type_Timestamp:
+                    values[i] = to_milliseconds(obj->get<Timestamp>(col_key));
+                    break;
+                case type_String: {
+                    JavaLocalRef<jstring> value(env, to_jstring(env, obj->get<StringData>(col_key)));
+                    env->SetObjectArrayElement(j_objects, i, value);
+                    break;
+                }
+                case type_Binary: {
+                    JavaLocalRef<jbyteArray> value(env, JavaClassGlobalDef::new_byte_array(env, obj->get<BinaryData>(col_key)));
+                    env->SetObjectArrayElement(j_objects, i, value);
+                    break;
+                }
+                case type_ObjectId: {
+                    JavaLocalRef<jobject> value(env, JavaClassGlobalDef::new_object_id(env, obj->get<ObjectId>(col_key)));
+                    env->SetObjectArrayElement(j_objects, i, value);
+                    break;
+                }
+                case type_Decimal: {
+                    JavaLocalRef<jobject> value(env, JavaClassGlobalDef::new_decimal128(env, obj->get<Decimal128>(col_key)));
+                    env->SetObjectArrayElement(j_objects, i, value);
+                    break;
+                }
+                default:
+                    THROW_JAVA_EXCEPTION(env, JavaExceptionDef::IllegalArgument,
+                                         util::format("Column type %1 cannot be read as a value.",
+                                                      int(table->get_column_type(col_key))));
+            }
+        }
+
+        env->SetLongArrayRegion(j_values, 0, size, values.data());
+        env->SetBooleanArrayRegion(j_nulls, 0, size, nulls.get());
     }
     CATCH_STD()
 }
@@ -144,11 +144,10 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddObjectId
-        (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jstring j_data)
+        (JNIEnv* env, jclass, jlong data_ptr, jlong column_key, jbyteArray j_data)
 {
     try {
-        JStringAccessor data(env, j_data);
-        ObjectId objectId = ObjectId(StringData(data).data());
+        ObjectId objectId = to_object_id(env, j_data);
         const JavaValue value(objectId);
         add_property(data_ptr, column_key, value);
     }
@@ -386,11 +385,10 @@ JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_native
 }
 
 JNIEXPORT void JNICALL Java_io_realm_internal_objectstore_OsObjectBuilder_nativeAddObjectIdListItem
-        (JNIEnv* env, jclass, jlong list_ptr, jstring j_data)
+        (JNIEnv* env, jclass, jlong list_ptr, jbyteArray j_data)
 {
     try {
-        JStringAccessor data(env, j_data);
-        ObjectId objectId = ObjectId(StringData(data).data());
+        ObjectId objectId = to_object_id(env, j_data);
         const JavaValue value(objectId);
         add_list_element(list_ptr, value);
     }
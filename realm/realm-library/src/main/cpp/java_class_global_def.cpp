@@ -19,6 +19,7 @@
 #include "java_class_global_def.hpp"
 #include "java_exception_def.hpp"
 #include "jni_util/java_exception_thrower.hpp"
+#include "jni_util/java_local_ref.hpp"
 
 using namespace realm;
 using namespace realm::_impl;
@@ -55,6 +56,7 @@ jobject JavaClassGlobalDef::new_decimal128(JNIEnv* env, const Decimal128& decima
 
 jobject JavaClassGlobalDef::new_object_id(JNIEnv* env, const ObjectId& objectId)
 {
-    static jni_util::JavaMethod init(env, instance()->m_bson_object_id, "<init>", "(Ljava/lang/String;)V");
-    return env->NewObject(instance()->m_bson_object_id, init, to_jstring(env, objectId.to_string().data()));
+    static jni_util::JavaMethod init(env, instance()->m_bson_object_id, "<init>", "([B)V");
+    jni_util::JavaLocalRef<jbyteArray> bytes(env, to_jbyte_array(env, objectId));
+    return env->NewObject(instance()->m_bson_object_id, init, bytes.get());
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+#ifndef REALM_JNI_IMPL_HOST_LOGGER_HPP
+#define REALM_JNI_IMPL_HOST_LOGGER_HPP
+
+#include "jni_util/log.hpp"
+
+namespace realm {
+namespace jni_impl {
+
+// Default logger implementation used when the library is built for a desktop JVM. Writes to stderr.
+class HostLogger final: public realm::jni_util::JniLogger {
+public:
+    static std::shared_ptr<HostLogger> shared();
+
+protected:
+    void log(realm::jni_util::Log::Level level, const char* tag, jthrowable throwable, const char* message) override;
+
+private:
+    HostLogger(){};
+};
+}
+}
+
+#endif // REALM_JNI_IMPL_HOST_LOGGER_HPP
@@ -15,6 +15,7 @@
  */
 
 #include <algorithm>
+#include <cstring>
 #include <stdexcept>
 
 #include <realm/util/assert.hpp>
@@ -350,6 +351,92 @@ private:
     }
 };
 
+// Checks if a UTF-8 string only contains ASCII characters, eight bytes at a time.
+inline bool is_ascii(const char* data, size_t size) noexcept
+{
+    size_t i = 0;
+    for (; i + 8 <= size; i += 8) {
+        uint64_t word;
+        std::memcpy(&word, data + i, 8);
+        if (word & 0x8080808080808080ULL) {
+            return false;
+        }
+    }
+    for (; i < size; ++i) {
+        if (static_cast<unsigned char>(data[i]) & 0x80) {
+            return false;
+        }
+    }
+    return true;
+}
+
+// ASCII is a subset of both UTF-8 and UTF-16, so each byte becomes one jchar.
+inline void widen_ascii(const char* in, size_t size, jchar* out) noexcept
+{
+    for (size_t i = 0; i < size; ++i) {
+        out[i] = static_cast<jchar>(in[i]);
+    }
+}
+
+// Computes the UTF-8 size of a UTF-16 string if all its characters are Latin-1 (below U+0100), four characters at a
+// time. Those are encoded with one byte below U+0080 and two bytes otherwise. Returns false for any other string.
+inline bool find_latin1_utf8_size(const jchar* data, size_t size, size_t& utf8_size) noexcept
+{
+    size_t two_byte_chars = 0;
+    size_t i = 0;
+    for (; i + 4 <= size; i += 4) {
+        uint64_t word;
+        std::memcpy(&word, data + i, 8);
+        if (word & 0xFF00FF00FF00FF00ULL) {
+            return false;
+        }
+        two_byte_chars += __builtin_popcountll(word & 0x0080008000800080ULL);
+    }
+    for (; i < size; ++i) {
+        if (data[i] > 0xFF) {
+            return false;
+        }
+        if (data[i] > 0x7F) {
+            ++two_byte_chars;
+        }
+    }
+    utf8_size = size + two_byte_chars;
+    return true;
+}
+
+inline void encode_latin1_utf8(const jchar* in, size_t size, char* out) noexcept
+{
+    for (size_t i = 0; i < size; ++i) {
+        const jchar c = in[i];
+        if (c < 0x80) {
+            *out++ = static_cast<char>(c);
+        }
+        else {
+            *out++ = static_cast<char>(0xC0 | (c >> 6));
+            *out++ = static_cast<char>(0x80 | (c & 0x3F));
+        }
+    }
+}
+
+jstring ascii_to_jstring(JNIEnv* env, StringData str)
+{
+    const size_t stack_buf_size = 128;
+    jchar stack_buf[stack_buf_size];
+    std::unique_ptr<jchar[]> dyn_buf;
+    jchar* out = stack_buf;
+    if (str.size() > stack_buf_size) {
+        dyn_buf.reset(new jchar[str.size()]);
+        out = dyn_buf.get();
+    }
+    widen_ascii(str.data(), str.size(), out);
+
+    jsize out_size;
+    if (int_cast_with_overflow_detect(str.size(), out_size)) {
+        throw util::runtime_error("String size overflow");
+    }
+    return env->NewString(out, out_size);
+}
+
 } // anonymous namespace
 
 static string string_to_hex(const string& message, StringData& str, const char* in_begin, const char* in_end,
@@ -418,6 +505,11 @@ jstring to_jstring(JNIEnv* env, StringData str)
         return NULL;
     }
 
+    // Most strings are ASCII, they don't need to be transcoded and their UTF-16 size is known up front.
+    if (is_ascii(str.data(), str.size())) {
+        return ascii_to_jstring(env, str);
+    }
+
     // For efficiency, if the incoming UTF-8 string is sufficiently
     // small, we will attempt to store the UTF-16 output into a stack
     // allocated buffer of static size. Otherwise we will have to
@@ -480,6 +572,59 @@ transcode_complete : {
 }
 }
 
+jstring to_interned_jstring(JNIEnv* env, StringData str, jobjectArray cache)
+{
+    // A UTF-8 string never has more UTF-16 code units than bytes, so short strings always fit the stack buffers.
+    static constexpr size_t max_interned_size = 64;
+    if (str.is_null() || str.size() > max_interned_size) {
+        return to_jstring(env, str);
+    }
+
+    jchar chars[max_interned_size];
+    jchar* out_curr = chars;
+    if (is_ascii(str.data(), str.size())) {
+        widen_ascii(str.data(), str.size(), chars);
+        out_curr = chars + str.size();
+    }
+    else {
+        typedef Utf8x16<jchar, JcharTraits> Xcode;
+        const char* in_begin = str.data();
+        const char* in_end = str.data() + str.size();
+        size_t retcode = Xcode::to_utf16(in_begin, in_end, out_curr, chars + max_interned_size);
+        if (retcode != 0 || in_begin != in_end) {
+            // Let the regular conversion report the error.
+            return to_jstring(env, str);
+        }
+    }
+    const jsize size = static_cast<jsize>(out_curr - chars);
+
+    // The cache is a small Java array filled from the start, see io.realm.internal.StringInterner. A hit returns the
+    // cached instance, so no Java string is created. Concurrent readers might overwrite each others entries, which
+    // only means a value is cached a little later.
+    jchar cached_chars[max_interned_size];
+    const jsize cache_size = env->GetArrayLength(cache);
+    for (jsize i = 0; i < cache_size; ++i) {
+        jstring cached = static_cast<jstring>(env->GetObjectArrayElement(cache, i));
+        if (cached == nullptr) {
+            jstring value = env->NewString(chars, size);
+            if (value != nullptr) {
+                env->SetObjectArrayElement(cache, i, value);
+            }
+            return value;
+        }
+        if (env->GetStringLength(cached) == size) {
+            env->GetStringRegion(cached, 0, size, cached_chars);
+            if (std::equal(chars, chars + size, cached_chars)) {
+                return cached;
+            }
+        }
+        env->DeleteLocalRef(cached);
+    }
+
+    // The column has more distinct values than the cache holds, the remaining ones are not interned.
+    return env->NewString(chars, size);
+}
+
 
 JStringAccessor::JStringAccessor(JNIEnv* env, jstring str, bool delete_jstring_ref)
     : m_env(env)
@@ -499,6 +644,28 @@ JStringAccessor::JStringAccessor(JNIEnv* env, jstring str, bool delete_jstring_r
 
     JStringCharsAccessor chars(env, str, delete_jstring_ref);
 
+    // Latin-1 strings, which include all ASCII strings, are encoded directly. Short results are kept in the inline
+    // buffer so no memory is allocated.
+    size_t latin1_size;
+    if (find_latin1_utf8_size(chars.data(), chars.size(), latin1_size)) {
+        char* out = m_inline_buf;
+        if (latin1_size >= inline_buf_size) {
+            out = new char[latin1_size + 1]; // throws
+            m_data.reset(out, std::default_delete<char[]>());
+        }
+        if (latin1_size == chars.size()) {
+            for (size_t i = 0; i < latin1_size; ++i) {
+                out[i] = static_cast<char>(chars.data()[i]);
+            }
+        }
+        else {
+            encode_latin1_utf8(chars.data(), chars.size(), out);
+        }
+        out[latin1_size] = 0;
+        m_size = latin1_size;
+        return;
+    }
+
     typedef Utf8x16<jchar, JcharTraits> Xcode;
     size_t max_project_size = 48;
     REALM_ASSERT(max_project_size <= numeric_limits<size_t>::max() / 4);
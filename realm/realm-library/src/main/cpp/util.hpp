@@ -28,6 +28,7 @@
 
 #include <realm.hpp>
 #include <realm/timestamp.hpp>
+#include <realm/object_id.hpp>
 #include <realm/table.hpp>
 #include <realm/util/safe_int_ops.hpp>
 #include "io_realm_internal_Util.h"
@@ -234,6 +235,10 @@ std::string concat_stringdata(const char* message, realm::StringData data);
 
 jstring to_jstring(JNIEnv*, realm::StringData);
 
+// Returns the instance stored in the given String[] if it holds a string equal to the value, otherwise a new string
+// which is added to the first empty slot of the array, if any.
+jstring to_interned_jstring(JNIEnv*, realm::StringData, jobjectArray);
+
 class JStringAccessor {
 public:
     JStringAccessor(JNIEnv* env, jstring s) : JStringAccessor(env, s, false) {}; // throws
@@ -263,7 +268,7 @@ public:
                     m_size, max_string_size));
         }
         else {
-            return realm::StringData(m_data.get(), m_size);
+            return realm::StringData(data(), m_size);
         }
     }
 
@@ -272,14 +277,23 @@ public:
         if (m_is_null) {
             return std::string();
         }
-        return std::string(m_data.get(), m_size);
+        return std::string(data(), m_size);
     }
 
 private:
+    // UTF-8 strings shorter than this are stored in the accessor itself instead of on the heap.
+    static constexpr std::size_t inline_buf_size = 64;
+
     JNIEnv* m_env;
     bool m_is_null;
     std::shared_ptr<char> m_data;
+    char m_inline_buf[inline_buf_size];
     std::size_t m_size;
+
+    const char* data() const noexcept
+    {
+        return m_data ? m_data.get() : m_inline_buf;
+    }
 };
 
 inline jlong to_milliseconds(const realm::Timestamp& ts)
@@ -320,6 +334,24 @@ inline realm::Timestamp from_milliseconds(jlong milliseconds)
     return realm::Timestamp(seconds, nanoseconds);
 }
 
+// ObjectIds cross the JNI boundary as the 12 bytes of their binary representation, see ObjectId#toByteArray().
+inline realm::ObjectId to_object_id(JNIEnv* env, jbyteArray j_bytes)
+{
+    realm::ObjectId::ObjectIdBytes bytes;
+    env->GetByteArrayRegion(j_bytes, 0, jsize(bytes.size()), reinterpret_cast<jbyte*>(bytes.data()));
+    return realm::ObjectId(bytes);
+}
+
+inline jbyteArray to_jbyte_array(JNIEnv* env, const realm::ObjectId& object_id)
+{
+    realm::ObjectId::ObjectIdBytes bytes = object_id.to_bytes();
+    jbyteArray j_bytes = env->NewByteArray(jsize(bytes.size()));
+    if (j_bytes) {
+        env->SetByteArrayRegion(j_bytes, 0, jsize(bytes.size()), reinterpret_cast<const jbyte*>(bytes.data()));
+    }
+    return j_bytes;
+}
+
 extern const std::string TABLE_PREFIX;
 
 static inline bool to_bool(jboolean b)
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+/**
+ * Receives the progress of copying the asset file of a Realm, see
+ * {@link RealmConfiguration.Builder#assetFileCopyListener(AssetFileCopyListener)}.
+ * <p>
+ * The asset file is copied the first time the Realm is opened, on the thread opening it. Copying a large file can take
+ * a while, so such Realms should be opened on a background thread, e.g. with
+ * {@link Realm#getInstanceAsync(RealmConfiguration, io.realm.Realm.Callback)}.
+ */
+public interface AssetFileCopyListener {
+
+    /**
+     * Called after each part of the asset file has been copied, and once when the copy is complete.
+     *
+     * @param bytesCopied the number of bytes copied so far.
+     * @param totalBytes the size of the asset file, or {@code -1} if it is not known.
+     */
+    void onProgress(long bytesCopied, long totalBytes);
+}
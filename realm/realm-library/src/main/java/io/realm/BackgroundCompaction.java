@@ -0,0 +1,196 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.io.File;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Future;
+
+import io.realm.internal.OsObjectStore;
+import io.realm.internal.OsRealmConfig;
+import io.realm.internal.async.RealmAsyncTaskImpl;
+import io.realm.log.RealmLog;
+
+
+/**
+ * Compacts Realm files while they are open.
+ * <p>
+ * A compacted copy of the Realm is written on a background thread with {@code writeCopy()}, which only needs a read
+ * transaction. The copy replaces the Realm file at the next quiescent point: when the last Realm instance of the file
+ * in this process is closed, while holding the lock of the {@link RealmCache} and the exclusive lock of the file, so
+ * no Realm can be opened while the file is replaced.
+ * <p>
+ * Data written after the copy was started would be lost by replacing the file, so commits and openings of the Realm
+ * mark a pending compaction as changed and the copy is discarded instead. Writes from other processes are not
+ * tracked; the file can only be replaced while no other process has it open, otherwise the copy is discarded.
+ */
+final class BackgroundCompaction {
+
+    private static final String COMPACTED_FILE_SUFFIX = ".compacted";
+
+    // Compactions which have started writing their copy, by path of the Realm file.
+    private static final ConcurrentMap<String, PendingCompaction> pendingCompactions = new ConcurrentHashMap<>();
+
+    private BackgroundCompaction() {
+    }
+
+    /**
+     * Deletes a compacted copy left behind by a process which ended before the copy could replace the Realm file.
+     */
+    static void deleteCompactedCopy(String path) {
+        File copy = new File(path + COMPACTED_FILE_SUFFIX);
+        if (copy.exists() && !copy.delete()) {
+            RealmLog.warn("Compacted copy at %s cannot be deleted", copy.getAbsolutePath());
+        }
+    }
+
+    static RealmAsyncTask start(final RealmConfiguration configuration, final CompactionListener listener) {
+        if (configuration.isReadOnly()) {
+            throw new IllegalArgumentException("Read-only Realms cannot be compacted.");
+        }
+        if (configuration.getDurability() == OsRealmConfig.Durability.MEM_ONLY) {
+            throw new IllegalArgumentException("In-memory Realms cannot be compacted.");
+        }
+        if (configuration.isSyncConfiguration()) {
+            throw new IllegalArgumentException("Synchronized Realms cannot be compacted in the background.");
+        }
+        Future<?> future = BaseRealm.asyncTaskExecutor.submit(new Runnable() {
+            @Override
+            public void run() {
+                writeCompactedCopy(configuration, listener);
+            }
+        });
+        return new RealmAsyncTaskImpl(future, BaseRealm.asyncTaskExecutor);
+    }
+
+    private static void writeCompactedCopy(RealmConfiguration configuration, CompactionListener listener) {
+        String path = configuration.getPath();
+        File copy = new File(path + COMPACTED_FILE_SUFFIX);
+        PendingCompaction compaction = new PendingCompaction(configuration, listener, copy);
+        DynamicRealm realm = null;
+        try {
+            realm = DynamicRealm.getInstance(configuration);
+            if (pendingCompactions.putIfAbsent(path, compaction) != null) {
+                listener.onError(new IllegalStateException("A compaction of this Realm is already pending: " + path));
+                return;
+            }
+            if (copy.exists() && !copy.delete()) {
+                throw new IllegalStateException("Could not delete the previous compacted copy: " + copy);
+            }
+            // Moves to the latest version after registering, so every later commit marks the compaction as changed.
+            realm.sharedRealm.refresh();
+            long startNanos = System.nanoTime();
+            realm.sharedRealm.writeCopy(copy, configuration.getEncryptionKey());
+            compaction.copyNanos = System.nanoTime() - startNanos;
+            compaction.ready = true;
+        } catch (Throwable e) {
+            // Opening the Realm can fail before the compaction is registered, then there is no copy to delete.
+            if (pendingCompactions.remove(path, compaction)) {
+                //noinspection ResultOfMethodCallIgnored
+                copy.delete();
+            }
+            listener.onError(e);
+        } finally {
+            // Replaces the file right away if this was the last open instance.
+            if (realm != null) {
+                realm.close();
+            }
+        }
+    }
+
+    /**
+     * Marks a pending compaction of the Realm as outdated. Called after commits and when the Realm is opened, which
+     * can write to it through migrations.
+     */
+    static void markChanged(String path) {
+        PendingCompaction compaction = pendingCompactions.get(path);
+        if (compaction != null) {
+            compaction.changed = true;
+        }
+    }
+
+    /**
+     * Replaces the Realm file with its compacted copy if one is ready. Must be called while holding the lock of the
+     * {@link RealmCache} of the file, after its last instance has been closed.
+     */
+    static void onAllInstancesClosed(String path) {
+        final PendingCompaction compaction = pendingCompactions.get(path);
+        if (compaction == null || !compaction.ready) {
+            return;
+        }
+        if (compaction.changed) {
+            pendingCompactions.remove(path, compaction);
+            //noinspection ResultOfMethodCallIgnored
+            compaction.copy.delete();
+            compaction.listener.onDiscarded();
+            return;
+        }
+
+        final File file = new File(path);
+        final long[] sizes = new long[2];
+        final boolean[] renamed = new boolean[1];
+        long startNanos = System.nanoTime();
+        boolean locked = OsObjectStore.callWithLock(compaction.configuration, new Runnable() {
+            @Override
+            public void run() {
+                sizes[0] = file.length();
+                sizes[1] = compaction.copy.length();
+                renamed[0] = compaction.copy.renameTo(file);
+            }
+        });
+        long pauseNanos = System.nanoTime() - startNanos;
+        pendingCompactions.remove(path, compaction);
+        if (!locked) {
+            // Still open by another process or the notifier. The copy can't be kept for a later attempt, since the
+            // next opening of the Realm in this process may write to it and marks the compaction as changed anyway.
+            RealmLog.debug("Realm '%s' is still in use, the compacted copy is discarded.", path);
+            //noinspection ResultOfMethodCallIgnored
+            compaction.copy.delete();
+            compaction.listener.onDiscarded();
+            return;
+        }
+
+        if (!renamed[0]) {
+            //noinspection ResultOfMethodCallIgnored
+            compaction.copy.delete();
+            compaction.listener.onError(new IllegalStateException("Could not replace " + path + " with the compacted copy."));
+            return;
+        }
+        RealmMetrics metrics = compaction.configuration.getMetrics();
+        if (metrics != null) {
+            metrics.increment(RealmMetrics.Counter.REALM_COMPACTED);
+            metrics.recordLatency(RealmMetrics.Timer.COMPACTION_PAUSE, null, pauseNanos);
+        }
+        compaction.listener.onCompacted(new CompactionResult(sizes[0], sizes[1], compaction.copyNanos, pauseNanos));
+    }
+
+    private static final class PendingCompaction {
+        private final RealmConfiguration configuration;
+        private final CompactionListener listener;
+        private final File copy;
+        private volatile long copyNanos;
+        private volatile boolean ready;
+        private volatile boolean changed;
+
+        PendingCompaction(RealmConfiguration configuration, CompactionListener listener, File copy) {
+            this.configuration = configuration;
+            this.listener = listener;
+            this.copy = copy;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+/**
+ * Receives the progress and outcome of a backup started with
+ * {@link Realm#backupInBackground(RealmConfiguration, java.nio.channels.WritableByteChannel, BackupOptions, BackupListener)}.
+ * <p>
+ * All methods are called on the background thread writing the backup. No method is called after the backup has
+ * been cancelled.
+ */
+public interface BackupListener {
+
+    /**
+     * Called after every chunk of the Realm file image has been written to the target. Writing the file image to a
+     * temporary file before it is streamed is not reported.
+     *
+     * @param bytesRead the number of bytes of the file image written so far, before compression.
+     * @param totalBytes the size of the file image.
+     */
+    void onProgress(long bytesRead, long totalBytes);
+
+    /**
+     * Called when the whole file image has been written to the target.
+     *
+     * @param bytesWritten the number of bytes written to the target, after compression.
+     */
+    void onSuccess(long bytesWritten);
+
+    /**
+     * Called when the backup could not be written. The target may contain an incomplete backup.
+     *
+     * @param error the cause of the failure.
+     */
+    void onError(Throwable error);
+}
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.Arrays;
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+
+
+/**
+ * Controls how a backup is written, see
+ * {@link Realm#backupInBackground(RealmConfiguration, java.nio.channels.WritableByteChannel, BackupOptions, BackupListener)}.
+ */
+public final class BackupOptions {
+
+    /**
+     * The options used when none are given: 1 MB chunks, no rate limit, no compression and no encryption.
+     */
+    public static final BackupOptions DEFAULT = new Builder().build();
+
+    private static final int DEFAULT_CHUNK_SIZE = 1024 * 1024;
+
+    private final int chunkSize;
+    private final long maxBytesPerSecond;
+    private final boolean compressed;
+    @Nullable
+    private final byte[] encryptionKey;
+
+    private BackupOptions(Builder builder) {
+        this.chunkSize = builder.chunkSize;
+        this.maxBytesPerSecond = builder.maxBytesPerSecond;
+        this.compressed = builder.compressed;
+        this.encryptionKey = builder.encryptionKey;
+    }
+
+    /**
+     * Returns the number of bytes of the file image written at a time.
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Returns the maximum number of bytes of the file image streamed to the target per second, {@code 0} if the
+     * backup is not throttled.
+     */
+    public long getMaxBytesPerSecond() {
+        return maxBytesPerSecond;
+    }
+
+    /**
+     * Returns whether the backup is compressed with GZIP.
+     */
+    public boolean isCompressed() {
+        return compressed;
+    }
+
+    /**
+     * Returns the key used to encrypt the backup, {@code null} if the backup is not encrypted.
+     */
+    @Nullable
+    public byte[] getEncryptionKey() {
+        return encryptionKey == null ? null : Arrays.copyOf(encryptionKey, encryptionKey.length);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "BackupOptions{chunkSize=%d, maxBytesPerSecond=%d, compressed=%s, encrypted=%s}",
+                chunkSize, maxBytesPerSecond, compressed, encryptionKey != null);
+    }
+
+    /**
+     * Builder for {@link BackupOptions}.
+     */
+    public static final class Builder {
+        private int chunkSize = DEFAULT_CHUNK_SIZE;
+        private long maxBytesPerSecond = 0;
+        private boolean compressed = false;
+        @Nullable
+        private byte[] encryptionKey;
+
+        /**
+         * Sets the number of bytes of the file image written at a time. Progress is reported and the rate limit is
+         * applied after every chunk.
+         *
+         * @param bytes the size of a chunk, 1 MB by default.
+         * @throws IllegalArgumentException if the size is not positive.
+         */
+        public Builder chunkSize(int bytes) {
+            if (bytes <= 0) {
+                throw new IllegalArgumentException("The chunk size must be positive: " + bytes);
+            }
+            this.chunkSize = bytes;
+            return this;
+        }
+
+        /**
+         * Limits how fast the file image is streamed to the target, e.g. to leave network bandwidth to the app. By
+         * default the backup is not throttled.
+         * <p>
+         * The file image is written to a temporary file next to the Realm at full speed before it is streamed, so
+         * this doesn't limit that disk I/O.
+         *
+         * @param bytes the maximum number of bytes of the file image per second.
+         * @throws IllegalArgumentException if the limit is not positive.
+         */
+        public Builder maxBytesPerSecond(long bytes) {
+            if (bytes <= 0) {
+                throw new IllegalArgumentException("The rate limit must be positive: " + bytes);
+            }
+            this.maxBytesPerSecond = bytes;
+            return this;
+        }
+
+        /**
+         * Compresses the backup with GZIP. A compressed backup must be decompressed before it can be opened as a
+         * Realm.
+         */
+        public Builder compress(boolean compressed) {
+            this.compressed = compressed;
+            return this;
+        }
+
+        /**
+         * Encrypts the backup with the given key. By default the backup is not encrypted, even if the Realm is.
+         *
+         * @param key a {@value io.realm.Realm#ENCRYPTION_KEY_LENGTH} bytes encryption key.
+         * @throws IllegalArgumentException if the key is {@code null} or has the wrong length.
+         */
+        public Builder encryptionKey(byte[] key) {
+            //noinspection ConstantConditions
+            if (key == null) {
+                throw new IllegalArgumentException("A non-null key must be provided");
+            }
+            if (key.length != Realm.ENCRYPTION_KEY_LENGTH) {
+                throw new IllegalArgumentException(String.format(Locale.US,
+                        "The provided key must be %s bytes. Yours was: %s",
+                        Realm.ENCRYPTION_KEY_LENGTH, key.length));
+            }
+            this.encryptionKey = Arrays.copyOf(key, key.length);
+            return this;
+        }
+
+        /**
+         * Creates the {@link BackupOptions}.
+         */
+        public BackupOptions build() {
+            return new BackupOptions(this);
+        }
+    }
+}
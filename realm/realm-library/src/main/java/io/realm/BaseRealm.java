@@ -23,7 +23,9 @@ import java.io.Closeable;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import javax.annotation.Nullable;
@@ -34,6 +36,7 @@ import io.realm.exceptions.RealmFileException;
 import io.realm.exceptions.RealmMigrationNeededException;
 import io.realm.internal.CheckedRow;
 import io.realm.internal.ColumnInfo;
+import io.realm.internal.ColumnInfoCache;
 import io.realm.internal.InvalidRow;
 import io.realm.internal.OsObjectStore;
 import io.realm.internal.OsRealmConfig;
@@ -341,6 +344,34 @@ abstract class BaseRealm implements Closeable {
         sharedRealm.writeCopy(destination, key);
     }
 
+    /**
+     * Returns statistics about the space used in the Realm file: the size of the file, the bytes used by the current
+     * version of the Realm and by the objects of each class. The difference is free space that can be reclaimed by
+     * compacting the file.
+     * <p>
+     * The used space is computed by walking the structure of the Realm, which is much cheaper than reading its
+     * objects, but grows with the amount of data. It should not be called on the UI thread for large Realms.
+     *
+     * @return the statistics of the version of the Realm read by this instance.
+     * @see Realm#compactRealmInBackground(RealmConfiguration, CompactionListener)
+     */
+    public RealmFileStats getFileStats() {
+        checkIfValid();
+        long[] usage = sharedRealm.getSpaceUsage();
+        String[] tableNames = sharedRealm.getTablesNames();
+        long[] tableSizes = sharedRealm.getTableByteSizes(tableNames);
+        Map<String, Long> classBytes = new LinkedHashMap<>();
+        for (int i = 0; i < tableNames.length; i++) {
+            String className = Table.getClassNameForTable(tableNames[i]);
+            // Skips internal tables, which are not prefixed like the tables of classes.
+            if (!className.equals(tableNames[i])) {
+                classBytes.put(className, tableSizes[i]);
+            }
+        }
+        long fileSize = new File(configuration.getPath()).length();
+        return new RealmFileStats(fileSize, usage[0], usage[1], usage[2], classBytes);
+    }
+
     /**
      * Blocks the current thread until new changes to the Realm are available or {@link #stopWaitForChange()}
      * is called from another thread. Once stopWaitForChange is called, all future calls to this method will
@@ -445,6 +476,7 @@ abstract class BaseRealm implements Closeable {
     public void commitTransaction() {
         checkIfValid();
         sharedRealm.commitTransaction();
+        BackgroundCompaction.markChanged(configuration.getPath());
     }
 
     /**
@@ -476,6 +508,10 @@ abstract class BaseRealm implements Closeable {
      */
     public abstract BaseRealm freeze();
 
+    // Returns a frozen Realm of exactly the current version, which is required to freeze objects and collections of
+    // this Realm. Unlike freeze(), this never returns an older version.
+    abstract BaseRealm freezeAtCurrentVersion();
+
     /**
      * Returns whether or not this Realm is frozen.
      *
@@ -519,6 +555,22 @@ abstract class BaseRealm implements Closeable {
         }
     }
 
+    /**
+     * Returns the version of the values cached by managed objects with {@link io.realm.annotations.Cached} fields.
+     * This is called on every read of a cached field, so it only performs the thread check of {@link #checkIfValid()}.
+     * A closed Realm never returns a version a value was cached with, so the proxy falls back to the regular getter
+     * which throws.
+     *
+     * @return the current value cache version or {@link OsSharedRealm#NO_VALUE_CACHE}.
+     */
+    long getValueCacheVersion() {
+        if (!frozen && threadId != Thread.currentThread().getId()) {
+            throw new IllegalStateException(BaseRealm.INCORRECT_THREAD_MESSAGE);
+        }
+        OsSharedRealm sharedRealm = this.sharedRealm;
+        return (sharedRealm != null) ? sharedRealm.getValueCacheVersion() : OsSharedRealm.NO_VALUE_CACHE;
+    }
+
     /**
      * Checks whether queries are allowed from the UI thread in the current RealmConfiguration.
      */
@@ -758,6 +810,7 @@ abstract class BaseRealm implements Closeable {
      * Deletes the Realm file defined by the given configuration.
      */
     static boolean deleteRealm(final RealmConfiguration configuration) {
+        BackgroundCompaction.markChanged(configuration.getPath());
         final AtomicBoolean realmDeleted = new AtomicBoolean(true);
         boolean callbackExecuted = OsObjectStore.callWithLock(configuration, new Runnable() {
             @Override
@@ -766,6 +819,8 @@ abstract class BaseRealm implements Closeable {
                 File realmFolder = configuration.getRealmDirectory();
                 String realmFileName = configuration.getRealmFileName();
                 realmDeleted.set(Util.deleteRealm(canonicalPath, realmFolder, realmFileName));
+                BackgroundCompaction.deleteCompactedCopy(canonicalPath);
+                RealmBackup.deleteTemporaryCopies(realmFolder, realmFileName);
             }
         });
         if (!callbackExecuted) {
@@ -783,6 +838,7 @@ abstract class BaseRealm implements Closeable {
      * @return {@code true} if compaction succeeded, {@code false} otherwise.
      */
     static boolean compactRealm(final RealmConfiguration configuration) {
+        BackgroundCompaction.markChanged(configuration.getPath());
         OsSharedRealm sharedRealm = OsSharedRealm.getInstance(configuration, OsSharedRealm.VersionID.LIVE);
         Boolean result = sharedRealm.compact();
         sharedRealm.close();
@@ -827,9 +883,10 @@ abstract class BaseRealm implements Closeable {
                     fileNotFound.set(true);
                     return;
                 }
+                BackgroundCompaction.markChanged(configuration.getPath());
 
                 RealmProxyMediator mediator = configuration.getSchemaMediator();
-                OsSchemaInfo schemaInfo = new OsSchemaInfo(mediator.getExpectedObjectSchemaInfoMap().values());
+                OsSchemaInfo schemaInfo = ColumnInfoCache.getExpectedSchemaInfo(mediator);
                 OsSharedRealm.MigrationCallback migrationCallback = null;
                 final RealmMigration migrationToBeApplied = migration != null ? migration : configuration.getMigration();
                 if (migrationToBeApplied != null) {
@@ -869,12 +926,18 @@ abstract class BaseRealm implements Closeable {
     @Override
     protected void finalize() throws Throwable {
         if (shouldCloseSharedRealm && sharedRealm != null && !sharedRealm.isClosed()) {
-            RealmLog.warn("Remember to call close() on all Realm instances. " +
-                    "Realm %s is being finalized without being closed, " +
-                    "this can lead to running out of native memory.", configuration.getPath()
-            );
-            if (realmCache != null) {
-                realmCache.leak();
+            if (frozen && realmCache != null && configuration.isCloseUnreferencedFrozenRealms()) {
+                // Nothing references this frozen Realm anymore. Closing it releases the version it pins right away
+                // instead of when the native finalizer gets to it.
+                sharedRealm.close();
+            } else {
+                RealmLog.warn("Remember to call close() on all Realm instances. " +
+                        "Realm %s is being finalized without being closed, " +
+                        "this can lead to running out of native memory.", configuration.getPath()
+                );
+                if (realmCache != null) {
+                    realmCache.leak();
+                }
             }
         }
         super.finalize();
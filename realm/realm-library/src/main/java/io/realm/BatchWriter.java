@@ -0,0 +1,537 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.io.Closeable;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+import io.realm.exceptions.RealmException;
+import io.realm.log.RealmLog;
+
+
+/**
+ * A BatchWriter inserts large amounts of unmanaged objects into a Realm while automatically splitting the work into
+ * several write transactions.
+ * <p>
+ * Writing everything in one transaction keeps a huge write set in memory and grows the file, while committing after
+ * each object pays the cost of a commit per object. The BatchWriter begins a transaction on the first write and
+ * commits it as soon as one of the thresholds of its {@link BatchWriterConfiguration} is reached.
+ * <p>
+ * By default objects are written on the thread that created the writer, which must then be used for all calls. If
+ * {@link BatchWriterConfiguration.Builder#background(int)} is set, the writer can be used from any thread and the
+ * objects are written by a dedicated thread. Errors on that thread are rethrown by the next call to the writer.
+ * <p>
+ * Objects written to the BatchWriter are only guaranteed to be persisted after {@link #flush()} or {@link #close()}
+ * returns. Closing the writer without calling one of those will still commit the last batch. The writer must always
+ * be closed: the objects of the last batch are lost otherwise, and a background writer keeps its Realm open.
+ * <p>
+ * If writing an object fails, the current batch is rolled back. All objects written since the last commit are
+ * discarded, not only the failing one, and {@link #getCommittedObjectCount()} tells how many objects have been
+ * persisted. A writer writing on the calling thread rethrows the error and can be used again for the next batch. A
+ * background writer stops and rethrows the error, wrapped in a {@link RealmException}, from every following call.
+ *
+ * @see Realm#newBatchWriter(BatchWriterConfiguration)
+ */
+public final class BatchWriter implements Closeable {
+
+    /**
+     * Listener notified after each committed batch.
+     */
+    public interface BatchCommitListener {
+        /**
+         * Called after a batch has been committed, on the thread that wrote the batch.
+         *
+         * @param batchInfo information about the committed batch.
+         */
+        void onBatchCommitted(BatchInfo batchInfo);
+    }
+
+    /**
+     * Information about a committed batch.
+     */
+    public static final class BatchInfo {
+        private final long objectCount;
+        private final long estimatedSizeInBytes;
+        private final long batchDurationNanos;
+        private final long commitDurationNanos;
+
+        BatchInfo(long objectCount, long estimatedSizeInBytes, long batchDurationNanos, long commitDurationNanos) {
+            this.objectCount = objectCount;
+            this.estimatedSizeInBytes = estimatedSizeInBytes;
+            this.batchDurationNanos = batchDurationNanos;
+            this.commitDurationNanos = commitDurationNanos;
+        }
+
+        /**
+         * Returns the number of objects written in the batch.
+         */
+        public long getObjectCount() {
+            return objectCount;
+        }
+
+        /**
+         * Returns the estimated size of the batch or {@code 0} if no size estimator has been configured.
+         */
+        public long getEstimatedSizeInBytes() {
+            return estimatedSizeInBytes;
+        }
+
+        /**
+         * Returns the time between the beginning of the transaction and the end of its commit.
+         */
+        public long getBatchDurationNanos() {
+            return batchDurationNanos;
+        }
+
+        /**
+         * Returns the time spent committing the transaction.
+         */
+        public long getCommitDurationNanos() {
+            return commitDurationNanos;
+        }
+
+        /**
+         * Returns the number of objects written per second over the lifetime of the batch.
+         */
+        public double getObjectsPerSecond() {
+            return (batchDurationNanos == 0) ? 0 : objectCount * (double) TimeUnit.SECONDS.toNanos(1) / batchDurationNanos;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US, "BatchInfo{objects=%d, estimatedBytes=%d, batchMs=%.3f, commitMs=%.3f}",
+                    objectCount, estimatedSizeInBytes, batchDurationNanos / 1e6, commitDurationNanos / 1e6);
+        }
+    }
+
+    private enum OperationType {
+        INSERT,
+        INSERT_OR_UPDATE,
+        FLUSH,
+        CLOSE
+    }
+
+    private static final class Operation {
+        final OperationType type;
+        @Nullable final RealmModel object;
+        @Nullable final Collection<? extends RealmModel> objects;
+        @Nullable final CountDownLatch done;
+
+        Operation(OperationType type, @Nullable RealmModel object, @Nullable Collection<? extends RealmModel> objects,
+                @Nullable CountDownLatch done) {
+            this.type = type;
+            this.object = object;
+            this.objects = objects;
+            this.done = done;
+        }
+    }
+
+    private static final long QUEUE_POLL_INTERVAL_MS = 100;
+
+    private final BatchWriterConfiguration configuration;
+    @Nullable
+    private final BlockingQueue<Operation> queue;
+    // Only accessed by the thread writing the batches.
+    private Realm realm;
+    private long batchObjectCount;
+    private long batchSizeInBytes;
+    private long batchStartNanos;
+
+    // Held while checking that the writer is open and enqueueing, so no operation can be queued behind CLOSE.
+    private final Object enqueueLock = new Object();
+    private volatile boolean closed;
+    private volatile boolean writerExited;
+    @Nullable
+    private volatile Throwable backgroundError;
+    private volatile long committedObjectCount;
+    private volatile long committedBatchCount;
+
+    BatchWriter(BatchWriterConfiguration configuration) {
+        this.configuration = configuration;
+        if (configuration.isBackground()) {
+            queue = new ArrayBlockingQueue<>(configuration.getQueueCapacity());
+            Thread writerThread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    runWriterLoop();
+                }
+            }, "RealmBatchWriter");
+            // Does not keep the process alive. Objects not flushed when the process exits are lost.
+            writerThread.setDaemon(true);
+            writerThread.start();
+        } else {
+            queue = null;
+            realm = Realm.getInstance(configuration.getRealmConfiguration());
+            try {
+                realm.checkAllowWritesOnUiThread();
+            } catch (RuntimeException e) {
+                realm.close();
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * Returns the configuration used by this writer.
+     */
+    public BatchWriterConfiguration getConfiguration() {
+        return configuration;
+    }
+
+    /**
+     * Inserts an unmanaged object. See {@link Realm#insert(RealmModel)}.
+     *
+     * @param object the object to insert.
+     * @throws IllegalArgumentException if the object is {@code null}.
+     * @throws IllegalStateException if the writer has been closed.
+     * @throws RealmException if writing a previous batch on the background thread failed.
+     * @throws RuntimeException if writing on the calling thread failed. The current batch has been rolled back.
+     */
+    public void insert(RealmModel object) {
+        //noinspection ConstantConditions
+        if (object == null) {
+            throw new IllegalArgumentException("Null object cannot be inserted into Realm.");
+        }
+        submit(new Operation(OperationType.INSERT, object, null, null));
+    }
+
+    /**
+     * Inserts a collection of unmanaged objects. All objects are added to the current batch, even if it makes the
+     * batch exceed the configured thresholds. See {@link Realm#insert(Collection)}.
+     *
+     * @param objects the objects to insert.
+     * @throws IllegalArgumentException if the collection is {@code null}.
+     * @throws IllegalStateException if the writer has been closed.
+     * @throws RealmException if writing a previous batch on the background thread failed.
+     * @throws RuntimeException if writing on the calling thread failed. The current batch has been rolled back.
+     */
+    public void insert(Collection<? extends RealmModel> objects) {
+        //noinspection ConstantConditions
+        if (objects == null) {
+            throw new IllegalArgumentException("Null objects cannot be inserted into Realm.");
+        }
+        if (objects.isEmpty()) {
+            return;
+        }
+        submit(new Operation(OperationType.INSERT, null, objects, null));
+    }
+
+    /**
+     * Inserts or updates an unmanaged object. See {@link Realm#insertOrUpdate(RealmModel)}.
+     *
+     * @param object the object to insert or update.
+     * @throws IllegalArgumentException if the object is {@code null}.
+     * @throws IllegalStateException if the writer has been closed.
+     * @throws RealmException if writing a previous batch on the background thread failed.
+     * @throws RuntimeException if writing on the calling thread failed. The current batch has been rolled back.
+     */
+    public void insertOrUpdate(RealmModel object) {
+        //noinspection ConstantConditions
+        if (object == null) {
+            throw new IllegalArgumentException("Null object cannot be inserted into Realm.");
+        }
+        submit(new Operation(OperationType.INSERT_OR_UPDATE, object, null, null));
+    }
+
+    /**
+     * Inserts or updates a collection of unmanaged objects. All objects are added to the current batch, even if it
+     * makes the batch exceed the configured thresholds. See {@link Realm#insertOrUpdate(Collection)}.
+     *
+     * @param objects the objects to insert or update.
+     * @throws IllegalArgumentException if the collection is {@code null}.
+     * @throws IllegalStateException if the writer has been closed.
+     * @throws RealmException if writing a previous batch on the background thread failed.
+     * @throws RuntimeException if writing on the calling thread failed. The current batch has been rolled back.
+     */
+    public void insertOrUpdate(Collection<? extends RealmModel> objects) {
+        //noinspection ConstantConditions
+        if (objects == null) {
+            throw new IllegalArgumentException("Null objects cannot be inserted into Realm.");
+        }
+        if (objects.isEmpty()) {
+            return;
+        }
+        submit(new Operation(OperationType.INSERT_OR_UPDATE, null, objects, null));
+    }
+
+    /**
+     * Commits the current batch and, for background writers, waits until all objects written so far are committed.
+     *
+     * @throws IllegalStateException if the writer has been closed.
+     * @throws RealmException if writing on the background thread failed.
+     */
+    public void flush() {
+        if (queue == null) {
+            checkNotClosed();
+            commitBatch();
+            return;
+        }
+        CountDownLatch done = new CountDownLatch(1);
+        enqueue(new Operation(OperationType.FLUSH, null, null, done));
+        awaitQuietly(done);
+        checkBackgroundError();
+    }
+
+    /**
+     * Commits the current batch and releases the Realm used by this writer. Calling this method more than once has no
+     * effect.
+     *
+     * @throws RealmException if writing on the background thread failed.
+     */
+    @Override
+    public void close() {
+        if (queue == null) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                commitBatch();
+            } finally {
+                realm.close();
+            }
+            return;
+        }
+        CountDownLatch done = null;
+        synchronized (enqueueLock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (backgroundError == null && !writerExited) {
+                done = new CountDownLatch(1);
+                putQuietly(new Operation(OperationType.CLOSE, null, null, done));
+            }
+        }
+        if (done != null) {
+            awaitQuietly(done);
+        }
+        checkBackgroundError();
+    }
+
+    /**
+     * Returns the number of objects committed by this writer so far.
+     */
+    public long getCommittedObjectCount() {
+        return committedObjectCount;
+    }
+
+    /**
+     * Returns the number of batches committed by this writer so far.
+     */
+    public long getCommittedBatchCount() {
+        return committedBatchCount;
+    }
+
+    private void submit(Operation operation) {
+        if (queue == null) {
+            checkNotClosed();
+            write(operation);
+        } else {
+            enqueue(operation);
+        }
+    }
+
+    private void enqueue(Operation operation) {
+        synchronized (enqueueLock) {
+            checkNotClosed();
+            checkWriterRunning();
+            putQuietly(operation);
+        }
+    }
+
+    // Blocks while the queue is full, but gives up if the writer thread stopped in the meantime. An operation that
+    // was queued after the writer thread stopped would never be processed, so that is reported as well.
+    private void putQuietly(Operation operation) {
+        //noinspection ConstantConditions
+        try {
+            while (!queue.offer(operation, QUEUE_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                checkWriterRunning();
+            }
+            checkWriterRunning();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RealmException("Interrupted while waiting for the batch writer.", e);
+        }
+    }
+
+    private void awaitQuietly(CountDownLatch latch) {
+        try {
+            while (!latch.await(QUEUE_POLL_INTERVAL_MS, TimeUnit.MILLISECONDS)) {
+                if (backgroundError != null) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RealmException("Interrupted while waiting for the batch writer.", e);
+        }
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new IllegalStateException("This BatchWriter has been closed.");
+        }
+    }
+
+    private void checkWriterRunning() {
+        checkBackgroundError();
+        if (writerExited) {
+            throw new IllegalStateException("The batch writer thread has stopped.");
+        }
+    }
+
+    private void checkBackgroundError() {
+        Throwable error = backgroundError;
+        if (error != null) {
+            throw new RealmException("Writing a batch on the background thread failed.", error);
+        }
+    }
+
+    private void runWriterLoop() {
+        //noinspection ConstantConditions
+        final BlockingQueue<Operation> queue = this.queue;
+        final long maxDurationNanos = configuration.getMaxDurationNanos();
+        Operation closeOperation = null;
+        try {
+            realm = Realm.getInstance(configuration.getRealmConfiguration());
+            while (true) {
+                Operation operation;
+                if (maxDurationNanos > 0 && realm.isInTransaction()) {
+                    long remainingNanos = batchStartNanos + maxDurationNanos - System.nanoTime();
+                    operation = queue.poll(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS);
+                    if (operation == null) {
+                        commitBatch();
+                        continue;
+                    }
+                } else {
+                    operation = queue.take();
+                }
+
+                if (operation.type == OperationType.FLUSH) {
+                    commitBatch();
+                    //noinspection ConstantConditions
+                    operation.done.countDown();
+                } else if (operation.type == OperationType.CLOSE) {
+                    closeOperation = operation;
+                    commitBatch();
+                    break;
+                } else {
+                    write(operation);
+                }
+            }
+        } catch (Throwable e) {
+            RealmLog.error(e, "The batch writer failed.");
+            backgroundError = e;
+        } finally {
+            writerExited = true;
+            if (realm != null) {
+                if (realm.isInTransaction()) {
+                    realm.cancelTransaction();
+                }
+                realm.close();
+            }
+            if (closeOperation != null) {
+                //noinspection ConstantConditions
+                closeOperation.done.countDown();
+            }
+        }
+    }
+
+    // Must be called on the thread owning the Realm.
+    private void write(Operation operation) {
+        if (!realm.isInTransaction()) {
+            realm.beginTransaction();
+            batchStartNanos = System.nanoTime();
+            batchObjectCount = 0;
+            batchSizeInBytes = 0;
+        }
+
+        final boolean update = operation.type == OperationType.INSERT_OR_UPDATE;
+        final BatchWriterConfiguration.ObjectSizeEstimator estimator = configuration.getSizeEstimator();
+        try {
+            if (operation.object != null) {
+                if (update) {
+                    realm.insertOrUpdate(operation.object);
+                } else {
+                    realm.insert(operation.object);
+                }
+                batchObjectCount++;
+                if (estimator != null) {
+                    batchSizeInBytes += estimator.estimateSize(operation.object);
+                }
+            } else {
+                //noinspection ConstantConditions
+                if (update) {
+                    realm.insertOrUpdate(operation.objects);
+                } else {
+                    realm.insert(operation.objects);
+                }
+                batchObjectCount += operation.objects.size();
+                if (estimator != null) {
+                    for (RealmModel object : operation.objects) {
+                        batchSizeInBytes += estimator.estimateSize(object);
+                    }
+                }
+            }
+        } catch (RuntimeException e) {
+            // Rolls back the whole batch, see the class documentation.
+            realm.cancelTransaction();
+            throw e;
+        }
+
+        if (isBatchFull()) {
+            commitBatch();
+        }
+    }
+
+    private boolean isBatchFull() {
+        if (batchObjectCount >= configuration.getMaxObjects()) {
+            return true;
+        }
+        long maxSize = configuration.getMaxSizeInBytes();
+        if (maxSize > 0 && batchSizeInBytes >= maxSize) {
+            return true;
+        }
+        long maxDuration = configuration.getMaxDurationNanos();
+        return maxDuration > 0 && System.nanoTime() - batchStartNanos >= maxDuration;
+    }
+
+    private void commitBatch() {
+        if (!realm.isInTransaction()) {
+            return;
+        }
+        long commitStartNanos = System.nanoTime();
+        realm.commitTransaction();
+        long commitEndNanos = System.nanoTime();
+
+        committedObjectCount += batchObjectCount;
+        committedBatchCount++;
+        BatchCommitListener listener = configuration.getCommitListener();
+        if (listener != null) {
+            listener.onBatchCommitted(new BatchInfo(batchObjectCount, batchSizeInBytes,
+                    commitEndNanos - batchStartNanos, commitEndNanos - commitStartNanos));
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+
+/**
+ * A BatchWriterConfiguration describes when a {@link BatchWriter} commits the objects written to it.
+ * <p>
+ * Instances can only be created using the {@link BatchWriterConfiguration.Builder}. A batch is committed as soon as
+ * any of the configured thresholds is reached:
+ * <ul>
+ * <li>The number of objects written in the batch, see {@link Builder#maxObjects(int)}.</li>
+ * <li>The estimated size of the objects written in the batch, see {@link Builder#maxSize(long, ObjectSizeEstimator)}.</li>
+ * <li>The time since the batch was started, see {@link Builder#maxDuration(long, TimeUnit)}.</li>
+ * </ul>
+ *
+ * @see Realm#newBatchWriter(BatchWriterConfiguration)
+ */
+public final class BatchWriterConfiguration {
+
+    /**
+     * Estimates the number of bytes an object will occupy once written to the Realm.
+     */
+    public interface ObjectSizeEstimator {
+        /**
+         * Returns the estimated size of the given unmanaged object.
+         *
+         * @param object the object being written.
+         * @return the estimated size in bytes.
+         */
+        long estimateSize(RealmModel object);
+    }
+
+    static final int DEFAULT_MAX_OBJECTS = 1000;
+
+    private final RealmConfiguration realmConfiguration;
+    private final int maxObjects;
+    private final long maxSizeInBytes;
+    @Nullable
+    private final ObjectSizeEstimator sizeEstimator;
+    private final long maxDurationNanos;
+    private final int queueCapacity;
+    @Nullable
+    private final BatchWriter.BatchCommitListener commitListener;
+
+    private BatchWriterConfiguration(Builder builder) {
+        this.realmConfiguration = builder.realmConfiguration;
+        this.maxObjects = builder.maxObjects;
+        this.maxSizeInBytes = builder.maxSizeInBytes;
+        this.sizeEstimator = builder.sizeEstimator;
+        this.maxDurationNanos = builder.maxDurationNanos;
+        this.queueCapacity = builder.queueCapacity;
+        this.commitListener = builder.commitListener;
+    }
+
+    /**
+     * Returns the configuration of the Realm the batches are written to.
+     */
+    public RealmConfiguration getRealmConfiguration() {
+        return realmConfiguration;
+    }
+
+    /**
+     * Returns the maximum number of objects in one batch.
+     */
+    public int getMaxObjects() {
+        return maxObjects;
+    }
+
+    /**
+     * Returns the maximum estimated size in bytes of one batch or {@code 0} if batches are not limited by size.
+     */
+    public long getMaxSizeInBytes() {
+        return maxSizeInBytes;
+    }
+
+    @Nullable
+    ObjectSizeEstimator getSizeEstimator() {
+        return sizeEstimator;
+    }
+
+    /**
+     * Returns the maximum time in nanoseconds a batch is kept open or {@code 0} if batches are not limited by time.
+     */
+    public long getMaxDurationNanos() {
+        return maxDurationNanos;
+    }
+
+    /**
+     * Returns the capacity of the queue feeding the background writer thread or {@code 0} if objects are written on
+     * the calling thread.
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Returns {@code true} if objects are written on a background thread.
+     */
+    public boolean isBackground() {
+        return queueCapacity > 0;
+    }
+
+    @Nullable
+    BatchWriter.BatchCommitListener getCommitListener() {
+        return commitListener;
+    }
+
+    /**
+     * Builder used to construct instances of a {@link BatchWriterConfiguration} in a fluent manner.
+     */
+    public static final class Builder {
+        private final RealmConfiguration realmConfiguration;
+        private int maxObjects = DEFAULT_MAX_OBJECTS;
+        private long maxSizeInBytes = 0;
+        @Nullable
+        private ObjectSizeEstimator sizeEstimator;
+        private long maxDurationNanos = 0;
+        private int queueCapacity = 0;
+        @Nullable
+        private BatchWriter.BatchCommitListener commitListener;
+
+        /**
+         * Creates a builder for batches written to the Realm described by the given configuration.
+         *
+         * @param realmConfiguration the configuration of the Realm to write to.
+         * @throws IllegalArgumentException if the configuration is {@code null}.
+         */
+        public Builder(RealmConfiguration realmConfiguration) {
+            //noinspection ConstantConditions
+            if (realmConfiguration == null) {
+                throw new IllegalArgumentException("Non-null 'realmConfiguration' required.");
+            }
+            this.realmConfiguration = realmConfiguration;
+        }
+
+        /**
+         * Sets the maximum number of objects written in one transaction. Objects referenced by the written objects are
+         * not counted. The default is {@value BatchWriterConfiguration#DEFAULT_MAX_OBJECTS}.
+         *
+         * @param maxObjects the maximum number of objects in a batch.
+         * @throws IllegalArgumentException if {@code maxObjects} is not positive.
+         */
+        public Builder maxObjects(int maxObjects) {
+            if (maxObjects < 1) {
+                throw new IllegalArgumentException("Only positive numbers above 0 are allowed. Yours was: " + maxObjects);
+            }
+            this.maxObjects = maxObjects;
+            return this;
+        }
+
+        /**
+         * Commits a batch once the estimated size of its objects reaches the given number of bytes.
+         *
+         * @param maxSizeInBytes the maximum estimated size of a batch.
+         * @param sizeEstimator the estimator used to compute the size of each written object.
+         * @throws IllegalArgumentException if {@code maxSizeInBytes} is not positive or {@code sizeEstimator} is
+         * {@code null}.
+         */
+        public Builder maxSize(long maxSizeInBytes, ObjectSizeEstimator sizeEstimator) {
+            if (maxSizeInBytes < 1) {
+                throw new IllegalArgumentException("Only positive numbers above 0 are allowed. Yours was: " + maxSizeInBytes);
+            }
+            //noinspection ConstantConditions
+            if (sizeEstimator == null) {
+                throw new IllegalArgumentException("Non-null 'sizeEstimator' required.");
+            }
+            this.maxSizeInBytes = maxSizeInBytes;
+            this.sizeEstimator = sizeEstimator;
+            return this;
+        }
+
+        /**
+         * Commits a batch once it has been open for the given amount of time. When writing on the calling thread, the
+         * time is only checked when objects are written. The background writer also checks it while waiting for new
+         * objects.
+         *
+         * @param duration the maximum time a batch is kept open.
+         * @param unit the unit of {@code duration}.
+         * @throws IllegalArgumentException if {@code duration} is not positive or {@code unit} is {@code null}.
+         */
+        public Builder maxDuration(long duration, TimeUnit unit) {
+            if (duration < 1) {
+                throw new IllegalArgumentException("Only positive numbers above 0 are allowed. Yours was: " + duration);
+            }
+            //noinspection ConstantConditions
+            if (unit == null) {
+                throw new IllegalArgumentException("Non-null 'unit' required.");
+            }
+            this.maxDurationNanos = unit.toNanos(duration);
+            return this;
+        }
+
+        /**
+         * Writes objects on a dedicated background thread fed by a bounded queue. Writing to the {@link BatchWriter}
+         * blocks while the queue is full. Objects handed to the writer must not be modified afterwards.
+         *
+         * @param queueCapacity the maximum number of pending write calls.
+         * @throws IllegalArgumentException if {@code queueCapacity} is not positive.
+         */
+        public Builder background(int queueCapacity) {
+            if (queueCapacity < 1) {
+                throw new IllegalArgumentException("Only positive numbers above 0 are allowed. Yours was: " + queueCapacity);
+            }
+            this.queueCapacity = queueCapacity;
+            return this;
+        }
+
+        /**
+         * Sets a listener notified after each committed batch. The listener is called on the thread writing the
+         * batches.
+         *
+         * @param listener the listener to notify or {@code null} to remove a previously set listener.
+         */
+        public Builder commitListener(@Nullable BatchWriter.BatchCommitListener listener) {
+            this.commitListener = listener;
+            return this;
+        }
+
+        /**
+         * Creates the {@link BatchWriterConfiguration} based on the builder parameters.
+         *
+         * @return the created {@link BatchWriterConfiguration}.
+         */
+        public BatchWriterConfiguration build() {
+            return new BatchWriterConfiguration(this);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+/**
+ * Receives the outcome of a background compaction started with
+ * {@link Realm#compactRealmInBackground(RealmConfiguration, CompactionListener)}.
+ * <p>
+ * The listener is called on the thread that completes the compaction: the background thread writing the compacted
+ * copy, or the thread closing the last Realm instance of the file.
+ */
+public interface CompactionListener {
+
+    /**
+     * Called when the compacted copy has replaced the Realm file.
+     *
+     * @param result the size of the file before and after, and the time it took.
+     */
+    void onCompacted(CompactionResult result);
+
+    /**
+     * Called when the compacted copy was discarded, because the Realm was written to after the copy was started or
+     * because another process still had the Realm open when the last instance in this process was closed. The file
+     * is left untouched and the compaction can be started again.
+     */
+    void onDiscarded();
+
+    /**
+     * Called when the compacted copy could not be written or could not replace the Realm file. The file is left
+     * untouched.
+     *
+     * @param error the cause of the failure.
+     */
+    void onError(Throwable error);
+}
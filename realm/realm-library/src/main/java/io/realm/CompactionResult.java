@@ -0,0 +1,87 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * The outcome of a background compaction, see {@link CompactionListener#onCompacted(CompactionResult)}.
+ */
+public final class CompactionResult {
+
+    private final long bytesBefore;
+    private final long bytesAfter;
+    private final long copyNanos;
+    private final long pauseNanos;
+
+    CompactionResult(long bytesBefore, long bytesAfter, long copyNanos, long pauseNanos) {
+        this.bytesBefore = bytesBefore;
+        this.bytesAfter = bytesAfter;
+        this.copyNanos = copyNanos;
+        this.pauseNanos = pauseNanos;
+    }
+
+    /**
+     * Returns the size of the Realm file before it was compacted.
+     */
+    public long getBytesBefore() {
+        return bytesBefore;
+    }
+
+    /**
+     * Returns the size of the compacted Realm file.
+     */
+    public long getBytesAfter() {
+        return bytesAfter;
+    }
+
+    /**
+     * Returns the number of bytes the compaction removed from the file.
+     */
+    public long getBytesReclaimed() {
+        return bytesBefore - bytesAfter;
+    }
+
+    /**
+     * Returns the time it took to write the compacted copy, while the Realm remained open.
+     *
+     * @param unit the unit of the returned time.
+     * @return the time spent writing the copy.
+     */
+    public long getCopyTime(TimeUnit unit) {
+        return unit.convert(copyNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the time the Realm file was locked to replace it with the compacted copy. Opening the Realm is blocked
+     * during this time.
+     *
+     * @param unit the unit of the returned time.
+     * @return the time spent replacing the file.
+     */
+    public long getPauseTime(TimeUnit unit) {
+        return unit.convert(pauseNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "CompactionResult{bytesBefore=%d, bytesAfter=%d, copyTime=%dms, pauseTime=%dus}",
+                bytesBefore, bytesAfter, getCopyTime(TimeUnit.MILLISECONDS), getPauseTime(TimeUnit.MICROSECONDS));
+    }
+}
@@ -548,17 +548,24 @@ public class DynamicRealm extends BaseRealm {
      */
     @Override
     public DynamicRealm freeze() {
+        return RealmCache.createFrozenRealmOrGetFromCache(configuration, DynamicRealm.class, getCurrentVersionID());
+    }
+
+    @Override
+    DynamicRealm freezeAtCurrentVersion() {
+        return RealmCache.createRealmOrGetFromCache(configuration, DynamicRealm.class, getCurrentVersionID());
+    }
+
+    private OsSharedRealm.VersionID getCurrentVersionID() {
         // In some cases a Read transaction has not begun for the Realm, which means
         // we cannot read the current version. In that case, do some work that will create the
         // read transaction.
-        OsSharedRealm.VersionID version;
         try {
-            version = sharedRealm.getVersionID();
+            return sharedRealm.getVersionID();
         } catch (IllegalStateException e) {
             getVersion();
-            version = sharedRealm.getVersionID();
+            return sharedRealm.getVersionID();
         }
-        return RealmCache.createRealmOrGetFromCache(configuration, DynamicRealm.class, version);
     }
 
     /**
@@ -1109,16 +1109,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
     @Override
     public int hashCode() {
         proxyState.getRealm$realm().checkIfValid();
-
-        String realmName = proxyState.getRealm$realm().getPath();
-        String tableName = proxyState.getRow$realm().getTable().getName();
-        long rowIndex = proxyState.getRow$realm().getObjectKey();
-
-        int result = 17;
-        result = 31 * result + ((realmName != null) ? realmName.hashCode() : 0);
-        result = 31 * result + ((tableName != null) ? tableName.hashCode() : 0);
-        result = 31 * result + (int) (rowIndex ^ (rowIndex >>> 32));
-        return result;
+        return proxyState.getIdentityHashCode();
     }
 
     @Override
@@ -1133,21 +1124,7 @@ public class DynamicRealmObject extends RealmObject implements RealmObjectProxy
         }
 
         DynamicRealmObject other = (DynamicRealmObject) o;
-
-        String path = proxyState.getRealm$realm().getPath();
-        String otherPath = other.proxyState.getRealm$realm().getPath();
-        if (path != null ? !path.equals(otherPath) : otherPath != null) {
-            return false;
-        }
-
-        String tableName = proxyState.getRow$realm().getTable().getName();
-        String otherTableName = other.proxyState.getRow$realm().getTable().getName();
-        //noinspection SimplifiableIfStatement
-        if (tableName != null ? !tableName.equals(otherTableName) : otherTableName != null) {
-            return false;
-        }
-
-        return proxyState.getRow$realm().getObjectKey() == other.proxyState.getRow$realm().getObjectKey();
+        return proxyState.isSameObject(other.proxyState);
     }
 
     @Override
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.Locale;
+
+
+/**
+ * Statistics about the frozen Realms of a Realm file held open by this process, as returned by
+ * {@link Realm#getFrozenRealmStats(RealmConfiguration)}.
+ * <p>
+ * Every open frozen Realm keeps its version alive in the file. Data written while old versions are alive cannot reuse
+ * the space of the data it replaces, so a growing number of pinned versions usually shows up as a growing file.
+ *
+ * @see RealmConfiguration.Builder#closeUnreferencedFrozenRealms(boolean)
+ * @see RealmConfiguration.Builder#maxFrozenRealmStaleness(long, java.util.concurrent.TimeUnit)
+ */
+public final class FrozenRealmStats {
+
+    private final int frozenRealmCount;
+    private final int pinnedVersionCount;
+    private final long oldestPinnedVersion;
+    private final long fileSize;
+
+    FrozenRealmStats(int frozenRealmCount, int pinnedVersionCount, long oldestPinnedVersion, long fileSize) {
+        this.frozenRealmCount = frozenRealmCount;
+        this.pinnedVersionCount = pinnedVersionCount;
+        this.oldestPinnedVersion = oldestPinnedVersion;
+        this.fileSize = fileSize;
+    }
+
+    /**
+     * Returns the number of open frozen {@link Realm} and {@link DynamicRealm} instances.
+     */
+    public int getFrozenRealmCount() {
+        return frozenRealmCount;
+    }
+
+    /**
+     * Returns the number of distinct versions kept alive by the open frozen Realms.
+     */
+    public int getPinnedVersionCount() {
+        return pinnedVersionCount;
+    }
+
+    /**
+     * Returns the oldest version kept alive by an open frozen Realm, or {@code -1} if no frozen Realm is open.
+     */
+    public long getOldestPinnedVersion() {
+        return oldestPinnedVersion;
+    }
+
+    /**
+     * Returns the size of the Realm file in bytes, or {@code 0} if the file does not exist.
+     */
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "FrozenRealmStats{frozenRealmCount=%d, pinnedVersionCount=%d, oldestPinnedVersion=%d, fileSize=%d}",
+                frozenRealmCount, pinnedVersionCount, oldestPinnedVersion, fileSize);
+    }
+}
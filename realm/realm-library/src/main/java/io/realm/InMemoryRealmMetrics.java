@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import io.realm.internal.NativeContext;
+
+
+/**
+ * A {@link RealmMetrics} keeping all counters and latencies in memory. Recording is lock-free and does not allocate,
+ * except the first time a class is queried.
+ * <p>
+ * The same instance can be shared by several {@link RealmConfiguration}s to aggregate their metrics.
+ *
+ * <pre>
+ * {@code
+ * InMemoryRealmMetrics metrics = new InMemoryRealmMetrics();
+ * RealmConfiguration config = new RealmConfiguration.Builder().metrics(metrics).build();
+ * // ...
+ * RealmMetricsSnapshot snapshot = metrics.snapshot();
+ * long p99CommitNanos = snapshot.getLatency(RealmMetrics.Timer.COMMIT).getValueAtPercentile(99);
+ * }
+ * </pre>
+ */
+public final class InMemoryRealmMetrics implements RealmMetrics {
+
+    private final EnumMap<Counter, AtomicLong> counters = new EnumMap<>(Counter.class);
+    private final EnumMap<Timer, LatencyHistogram> latencies = new EnumMap<>(Timer.class);
+    private final ConcurrentHashMap<String, LatencyHistogram> queryLatencies = new ConcurrentHashMap<>();
+
+    public InMemoryRealmMetrics() {
+        for (Counter counter : Counter.values()) {
+            counters.put(counter, new AtomicLong());
+        }
+        for (Timer timer : Timer.values()) {
+            latencies.put(timer, new LatencyHistogram());
+        }
+    }
+
+    @Override
+    public void increment(Counter counter) {
+        //noinspection ConstantConditions
+        counters.get(counter).incrementAndGet();
+    }
+
+    @Override
+    public void recordLatency(Timer timer, @Nullable String className, long durationNanos) {
+        //noinspection ConstantConditions
+        latencies.get(timer).record(durationNanos);
+        if (timer == Timer.QUERY && className != null) {
+            LatencyHistogram histogram = queryLatencies.get(className);
+            if (histogram == null) {
+                LatencyHistogram newHistogram = new LatencyHistogram();
+                histogram = queryLatencies.putIfAbsent(className, newHistogram);
+                if (histogram == null) {
+                    histogram = newHistogram;
+                }
+            }
+            histogram.record(durationNanos);
+        }
+    }
+
+    /**
+     * Returns a copy of all values recorded so far.
+     */
+    public RealmMetricsSnapshot snapshot() {
+        EnumMap<Counter, Long> counterValues = new EnumMap<>(Counter.class);
+        for (Map.Entry<Counter, AtomicLong> entry : counters.entrySet()) {
+            counterValues.put(entry.getKey(), entry.getValue().get());
+        }
+        EnumMap<Timer, RealmMetricsSnapshot.Latency> latencyValues = new EnumMap<>(Timer.class);
+        for (Map.Entry<Timer, LatencyHistogram> entry : latencies.entrySet()) {
+            latencyValues.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        Map<String, RealmMetricsSnapshot.Latency> queryLatencyValues = new HashMap<>();
+        for (Map.Entry<String, LatencyHistogram> entry : queryLatencies.entrySet()) {
+            queryLatencyValues.put(entry.getKey(), entry.getValue().snapshot());
+        }
+        return new RealmMetricsSnapshot(counterValues, latencyValues, queryLatencyValues,
+                NativeContext.getNativeReferenceCount());
+    }
+
+    /**
+     * Clears all recorded values.
+     */
+    public void reset() {
+        for (AtomicLong counter : counters.values()) {
+            counter.set(0);
+        }
+        for (LatencyHistogram histogram : latencies.values()) {
+            histogram.reset();
+        }
+        queryLatencies.clear();
+    }
+}
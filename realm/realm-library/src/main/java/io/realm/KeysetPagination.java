@@ -0,0 +1,353 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import android.util.Base64;
+
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import io.realm.internal.Row;
+import io.realm.internal.RowValues;
+import io.realm.internal.Table;
+import io.realm.internal.fields.FieldDescriptor;
+
+
+/**
+ * Keyset pagination for {@link RealmQuery#after(String)}.
+ * <p>
+ * The objects are sorted by the sort fields of the query followed by the primary key, which makes the order total.
+ * A cursor contains the values of these fields for the last object of a page. The next page is selected with a
+ * condition matching only the objects sorting after those values, so a page is found by evaluating the query instead
+ * of skipping all previous objects, and it stays correct if objects are inserted or deleted between pages.
+ * <p>
+ * Cursors are opaque URL-safe strings. They contain the class name and the sort order they were created for, and are
+ * rejected if used with a different query.
+ */
+final class KeysetPagination {
+
+    private static final int CURSOR_VERSION = 1;
+    private static final int BASE64_FLAGS = Base64.URL_SAFE | Base64.NO_WRAP | Base64.NO_PADDING;
+
+    // Strings are not supported since queries cannot compare them by order.
+    private static final Set<RealmFieldType> VALID_FIELD_TYPES = Collections.unmodifiableSet(EnumSet.of(
+            RealmFieldType.INTEGER, RealmFieldType.BOOLEAN, RealmFieldType.FLOAT, RealmFieldType.DOUBLE,
+            RealmFieldType.DATE, RealmFieldType.DECIMAL128, RealmFieldType.OBJECT_ID));
+
+    private final String className;
+    private final String[] fieldNames;
+    private final Sort[] sortOrders;
+    private final RealmFieldType[] fieldTypes;
+    private final boolean[] nullable;
+    private final long[] columnKeys;
+
+    /**
+     * Creates the pagination for a query sorted by the given fields.
+     *
+     * @throws IllegalArgumentException if a field is a link path or has a type which is not supported, including a
+     * string primary key.
+     * @throws IllegalStateException if the class has no primary key.
+     */
+    static KeysetPagination create(RealmObjectSchema schema, Table table, String[] sortFieldNames, Sort[] sortOrders) {
+        if (!schema.hasPrimaryKey()) {
+            throw new IllegalStateException("Keyset pagination requires a primary key, but '" +
+                    schema.getClassName() + "' doesn't have one.");
+        }
+        String primaryKey = schema.getPrimaryKey();
+        if (schema.getFieldType(primaryKey) == RealmFieldType.STRING) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    "Keyset pagination does not support the string primary key '%s' of '%s'.",
+                    primaryKey, schema.getClassName()));
+        }
+        boolean sortedByPrimaryKey = Arrays.asList(sortFieldNames).contains(primaryKey);
+        int size = sortedByPrimaryKey ? sortFieldNames.length : sortFieldNames.length + 1;
+        String[] fieldNames = Arrays.copyOf(sortFieldNames, size);
+        Sort[] orders = Arrays.copyOf(sortOrders, size);
+        if (!sortedByPrimaryKey) {
+            fieldNames[size - 1] = primaryKey;
+            orders[size - 1] = Sort.ASCENDING;
+        }
+        return new KeysetPagination(schema, table, fieldNames, orders);
+    }
+
+    private KeysetPagination(RealmObjectSchema schema, Table table, String[] fieldNames, Sort[] sortOrders) {
+        this.className = schema.getClassName();
+        this.fieldNames = fieldNames;
+        this.sortOrders = sortOrders;
+        this.fieldTypes = new RealmFieldType[fieldNames.length];
+        this.nullable = new boolean[fieldNames.length];
+        this.columnKeys = new long[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            FieldDescriptor fd = schema.getFieldDescriptors(fieldNames[i]);
+            if (fd.length() > 1) {
+                throw new IllegalArgumentException(String.format(Locale.US,
+                        "Keyset pagination does not support sorting by the linked field '%s'.", fieldNames[i]));
+            }
+            fieldTypes[i] = fd.getFinalColumnType();
+            if (!VALID_FIELD_TYPES.contains(fieldTypes[i])) {
+                throw new IllegalArgumentException(String.format(Locale.US,
+                        "Keyset pagination does not support sorting by the %s field '%s'.", fieldTypes[i], fieldNames[i]));
+            }
+            columnKeys[i] = fd.getColumnKeys()[0];
+            nullable[i] = table.isColumnNullable(columnKeys[i]);
+        }
+    }
+
+    String[] getFieldNames() {
+        return fieldNames;
+    }
+
+    Sort[] getSortOrders() {
+        return sortOrders;
+    }
+
+    /**
+     * Restricts the query to the objects sorting after the position of the cursor. For sort fields {@code a} and
+     * {@code b} this adds {@code (a after x) OR (a == x AND b after y) OR (a == x AND b == y AND key after z)}.
+     */
+    void applyCursor(RealmQuery<?> query, String cursor) {
+        Object[] values = decode(cursor);
+        query.beginGroup();
+        boolean first = true;
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (!canSortAfter(i, values[i])) {
+                continue;
+            }
+            if (!first) {
+                query.or();
+            }
+            first = false;
+            query.beginGroup();
+            for (int j = 0; j < i; j++) {
+                equalTo(query, j, values[j]);
+            }
+            sortsAfter(query, i, values[i]);
+            query.endGroup();
+        }
+        query.endGroup();
+    }
+
+    String createCursor(Row row) {
+        RowValues rowValues = RowValues.read(row, columnKeys);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeByte(CURSOR_VERSION);
+            out.writeUTF(className);
+            out.writeInt(fieldNames.length);
+            for (int i = 0; i < fieldNames.length; i++) {
+                out.writeUTF(fieldNames[i]);
+                out.writeBoolean(sortOrders[i].getValue());
+                boolean isNull = rowValues.isNull(i);
+                out.writeBoolean(isNull);
+                if (!isNull) {
+                    writeValue(out, fieldTypes[i], rowValues, i);
+                }
+            }
+            out.flush();
+        } catch (IOException e) {
+            // Cannot happen when writing to memory.
+            throw new IllegalStateException(e);
+        }
+        return Base64.encodeToString(bytes.toByteArray(), BASE64_FLAGS);
+    }
+
+    private Object[] decode(String cursor) {
+        Object[] values = new Object[fieldNames.length];
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(Base64.decode(cursor, BASE64_FLAGS)));
+            if (in.readByte() != CURSOR_VERSION || !className.equals(in.readUTF()) || in.readInt() != fieldNames.length) {
+                throw invalidCursor(cursor);
+            }
+            for (int i = 0; i < fieldNames.length; i++) {
+                if (!fieldNames[i].equals(in.readUTF()) || in.readBoolean() != sortOrders[i].getValue()) {
+                    throw invalidCursor(cursor);
+                }
+                values[i] = in.readBoolean() ? null : readValue(in, fieldTypes[i]);
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            throw invalidCursor(cursor);
+        }
+        return values;
+    }
+
+    private IllegalArgumentException invalidCursor(String cursor) {
+        return new IllegalArgumentException(String.format(Locale.US,
+                "'%s' is not a valid cursor for a query on '%s' sorted by %s.", cursor, className, Arrays.toString(fieldNames)));
+    }
+
+    private static void writeValue(DataOutputStream out, RealmFieldType type, RowValues values, int index) throws IOException {
+        switch (type) {
+            case INTEGER:
+            case DATE:
+                out.writeLong(values.getLong(index));
+                break;
+            case BOOLEAN:
+                out.writeBoolean(values.getBoolean(index));
+                break;
+            case FLOAT:
+                out.writeFloat(values.getFloat(index));
+                break;
+            case DOUBLE:
+                out.writeDouble(values.getDouble(index));
+                break;
+            case DECIMAL128:
+                //noinspection ConstantConditions
+                out.writeLong(values.getDecimal128(index).getHigh());
+                //noinspection ConstantConditions
+                out.writeLong(values.getDecimal128(index).getLow());
+                break;
+            case OBJECT_ID:
+                //noinspection ConstantConditions
+                out.write(values.getObjectId(index).toByteArray());
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported type: " + type);
+        }
+    }
+
+    private static Object readValue(DataInputStream in, RealmFieldType type) throws IOException {
+        switch (type) {
+            case INTEGER:
+                return in.readLong();
+            case DATE:
+                return new Date(in.readLong());
+            case BOOLEAN:
+                return in.readBoolean();
+            case FLOAT:
+                return in.readFloat();
+            case DOUBLE:
+                return in.readDouble();
+            case DECIMAL128:
+                return Decimal128.fromIEEE754BIDEncoding(in.readLong(), in.readLong());
+            case OBJECT_ID:
+                byte[] bytes = new byte[12];
+                in.readFully(bytes);
+                return new ObjectId(bytes);
+            default:
+                throw new IllegalArgumentException("Unsupported type: " + type);
+        }
+    }
+
+    // Nulls sort before all other values, so nothing sorts after null in descending order and only true sorts after
+    // false in ascending order.
+    private boolean canSortAfter(int index, @Nullable Object value) {
+        boolean ascending = sortOrders[index] == Sort.ASCENDING;
+        if (value == null) {
+            return ascending;
+        }
+        if (fieldTypes[index] == RealmFieldType.BOOLEAN) {
+            return ascending ? !((Boolean) value) : ((Boolean) value || nullable[index]);
+        }
+        return true;
+    }
+
+    private void sortsAfter(RealmQuery<?> query, int index, @Nullable Object value) {
+        String fieldName = fieldNames[index];
+        if (sortOrders[index] == Sort.ASCENDING) {
+            if (value == null) {
+                query.isNotNull(fieldName);
+            } else {
+                greaterThan(query, fieldName, value);
+            }
+            return;
+        }
+
+        //noinspection ConstantConditions
+        boolean hasSmallerValue = fieldTypes[index] != RealmFieldType.BOOLEAN || (Boolean) value;
+        if (nullable[index] && hasSmallerValue) {
+            query.beginGroup();
+            lessThan(query, fieldName, value);
+            query.or().isNull(fieldName).endGroup();
+        } else if (hasSmallerValue) {
+            lessThan(query, fieldName, value);
+        } else {
+            query.isNull(fieldName);
+        }
+    }
+
+    private void equalTo(RealmQuery<?> query, int index, @Nullable Object value) {
+        String fieldName = fieldNames[index];
+        if (value == null) {
+            query.isNull(fieldName);
+            return;
+        }
+        switch (fieldTypes[index]) {
+            case INTEGER: query.equalTo(fieldName, (Long) value); break;
+            case BOOLEAN: query.equalTo(fieldName, (Boolean) value); break;
+            case FLOAT: query.equalTo(fieldName, (Float) value); break;
+            case DOUBLE: query.equalTo(fieldName, (Double) value); break;
+            case DATE: query.equalTo(fieldName, (Date) value); break;
+            case DECIMAL128: query.equalTo(fieldName, (Decimal128) value); break;
+            case OBJECT_ID: query.equalTo(fieldName, (ObjectId) value); break;
+            default:
+                throw new IllegalArgumentException("Unsupported type: " + fieldTypes[index]);
+        }
+    }
+
+    private static void greaterThan(RealmQuery<?> query, String fieldName, Object value) {
+        if (value instanceof Long) {
+            query.greaterThan(fieldName, (long) (Long) value);
+        } else if (value instanceof Boolean) {
+            // Only reached for false.
+            query.equalTo(fieldName, true);
+        } else if (value instanceof Float) {
+            query.greaterThan(fieldName, (float) (Float) value);
+        } else if (value instanceof Double) {
+            query.greaterThan(fieldName, (double) (Double) value);
+        } else if (value instanceof Date) {
+            query.greaterThan(fieldName, (Date) value);
+        } else if (value instanceof Decimal128) {
+            query.greaterThan(fieldName, (Decimal128) value);
+        } else {
+            query.greaterThan(fieldName, (ObjectId) value);
+        }
+    }
+
+    private static void lessThan(RealmQuery<?> query, String fieldName, Object value) {
+        if (value instanceof Long) {
+            query.lessThan(fieldName, (long) (Long) value);
+        } else if (value instanceof Boolean) {
+            // Only reached for true.
+            query.equalTo(fieldName, false);
+        } else if (value instanceof Float) {
+            query.lessThan(fieldName, (float) (Float) value);
+        } else if (value instanceof Double) {
+            query.lessThan(fieldName, (double) (Double) value);
+        } else if (value instanceof Date) {
+            query.lessThan(fieldName, (Date) value);
+        } else if (value instanceof Decimal128) {
+            query.lessThan(fieldName, (Decimal128) value);
+        } else {
+            query.lessThan(fieldName, (ObjectId) value);
+        }
+    }
+}
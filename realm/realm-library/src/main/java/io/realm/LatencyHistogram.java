@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * Lock-free latency histogram with log-linear buckets, similar to an HDR histogram.
+ * <p>
+ * Values below {@code 2^SUB_BUCKET_BITS} are recorded exactly. Larger values are grouped in buckets that are at most
+ * {@code 1 / 2^(SUB_BUCKET_BITS - 1)} (about 6%) wide relative to their value. Values above {@link #MAX_VALUE} are
+ * recorded in the last bucket, but the exact maximum is still tracked.
+ */
+final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << (SUB_BUCKET_BITS - 1);
+    // 2^40 ns is about 18 minutes, more than enough for anything we measure.
+    static final long MAX_VALUE = (1L << 40) - 1;
+    private static final int BUCKET_COUNT = bucketIndex(MAX_VALUE) + 1;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(Long.MIN_VALUE);
+
+    void record(long value) {
+        if (value < 0) {
+            value = 0;
+        }
+        buckets.incrementAndGet(bucketIndex(Math.min(value, MAX_VALUE)));
+        sum.addAndGet(value);
+        long currentMin = min.get();
+        while (value < currentMin && !min.compareAndSet(currentMin, value)) {
+            currentMin = min.get();
+        }
+        long currentMax = max.get();
+        while (value > currentMax && !max.compareAndSet(currentMax, value)) {
+            currentMax = max.get();
+        }
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        sum.set(0);
+        min.set(Long.MAX_VALUE);
+        max.set(Long.MIN_VALUE);
+    }
+
+    /**
+     * Copies the current state of the histogram. Values recorded concurrently might only be partially included.
+     */
+    RealmMetricsSnapshot.Latency snapshot() {
+        long[] counts = new long[BUCKET_COUNT];
+        int usedBuckets = 0;
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+            if (counts[i] > 0) {
+                usedBuckets++;
+                total += counts[i];
+            }
+        }
+        if (total == 0) {
+            return RealmMetricsSnapshot.Latency.EMPTY;
+        }
+
+        // Only keep the buckets that contain values.
+        long[] upperBounds = new long[usedBuckets];
+        long[] bucketCounts = new long[usedBuckets];
+        int j = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] > 0) {
+                upperBounds[j] = bucketUpperBound(i);
+                bucketCounts[j] = counts[i];
+                j++;
+            }
+        }
+        return new RealmMetricsSnapshot.Latency(total, sum.get(), min.get(), max.get(), upperBounds, bucketCounts);
+    }
+
+    // Values below 2^SUB_BUCKET_BITS map to their own bucket. Above that every power of two is split into
+    // SUB_BUCKET_HALF_COUNT buckets, indexed by the SUB_BUCKET_BITS most significant bits of the value.
+    static int bucketIndex(long value) {
+        int highestBit = 63 - Long.numberOfLeadingZeros(value | 1);
+        int shift = Math.max(0, highestBit - SUB_BUCKET_BITS + 1);
+        return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+    }
+
+    static long bucketUpperBound(int index) {
+        int shift = Math.max(0, index / SUB_BUCKET_HALF_COUNT - 1);
+        long lowerBound = (long) (index - shift * SUB_BUCKET_HALF_COUNT) << shift;
+        return lowerBound + (1L << shift) - 1;
+    }
+}
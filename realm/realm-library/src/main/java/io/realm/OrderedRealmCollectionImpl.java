@@ -1,11 +1,21 @@
 package io.realm;
 
+import android.annotation.TargetApi;
+import android.os.Build;
+
 import java.util.AbstractList;
 import java.util.ConcurrentModificationException;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.Locale;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 import javax.annotation.Nullable;
 
@@ -271,6 +281,72 @@ abstract class OrderedRealmCollectionImpl<E> extends AbstractList<E> implements
         return new RealmCollectionListIterator(location);
     }
 
+    /**
+     * Returns a {@link Spliterator} over the elements of this collection which knows its exact size and is split by
+     * index range.
+     * <p>
+     * If the collection is frozen the spliterator can be split, so {@link #parallelStream()} creates the objects of
+     * each range on its own thread. A collection which is not frozen can only be traversed on the thread of its Realm,
+     * so its spliterator cannot be split and traverses a snapshot of the collection taken when it is created.
+     *
+     * @return a spliterator over the elements of this collection.
+     */
+    @TargetApi(Build.VERSION_CODES.N)
+    @Override
+    public Spliterator<E> spliterator() {
+        baseRealm.checkIfValid();
+        OsResults results = baseRealm.isFrozen() ? osResults : osResults.createSnapshot();
+        return new RealmCollectionSpliterator(results, 0, size());
+    }
+
+    /**
+     * Returns the non-null values of an integer field of the objects in this collection as a {@link LongStream}.
+     * <p>
+     * The values are read in chunks with a single native call per chunk without creating any objects. If the
+     * collection is frozen the stream can be made parallel, see {@link #spliterator()}.
+     *
+     * @param fieldName the integer field to read. Does not support dotted field notation.
+     * @return a sequential stream of the values of the field, in the order of the collection.
+     * @throws IllegalArgumentException if the field does not exist or is not an integer field.
+     */
+    @TargetApi(Build.VERSION_CODES.N)
+    public LongStream longStream(String fieldName) {
+        long columnKey = getColumnKeyForStream(fieldName, RealmFieldType.INTEGER, null);
+        return StreamSupport.longStream(new LongColumnSpliterator(streamResults(), columnKey, 0, size()), false);
+    }
+
+    /**
+     * Returns the non-null values of a float or double field of the objects in this collection as a
+     * {@link DoubleStream}.
+     * <p>
+     * The values are read in chunks with a single native call per chunk without creating any objects. If the
+     * collection is frozen the stream can be made parallel, see {@link #spliterator()}.
+     *
+     * @param fieldName the float or double field to read. Does not support dotted field notation.
+     * @return a sequential stream of the values of the field, in the order of the collection.
+     * @throws IllegalArgumentException if the field does not exist or is not a float or double field.
+     */
+    @TargetApi(Build.VERSION_CODES.N)
+    public DoubleStream doubleStream(String fieldName) {
+        long columnKey = getColumnKeyForStream(fieldName, RealmFieldType.FLOAT, RealmFieldType.DOUBLE);
+        return StreamSupport.doubleStream(new DoubleColumnSpliterator(streamResults(), columnKey, 0, size()), false);
+    }
+
+    private OsResults streamResults() {
+        return baseRealm.isFrozen() ? osResults : osResults.createSnapshot();
+    }
+
+    private long getColumnKeyForStream(String fieldName, RealmFieldType type, @Nullable RealmFieldType otherType) {
+        baseRealm.checkIfValid();
+        long columnKey = getColumnKeyForSort(fieldName);
+        RealmFieldType columnType = osResults.getTable().getColumnType(columnKey);
+        if (columnType != type && columnType != otherType) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    "Field '%s' is of type %s and cannot be streamed as a number.", fieldName, columnType));
+        }
+        return columnKey;
+    }
+
     // Sorting
 
     // aux. method used by sort methods
@@ -604,6 +680,183 @@ abstract class OrderedRealmCollectionImpl<E> extends AbstractList<E> implements
         return (Realm) baseRealm;
     }
 
+    // Splits by index range. Only frozen collections are split, since the objects of a live collection cannot be
+    // created on other threads.
+    @TargetApi(Build.VERSION_CODES.N)
+    private class RealmCollectionSpliterator implements Spliterator<E> {
+        private final OsResults results;
+        private int index;
+        private final int fence;
+
+        RealmCollectionSpliterator(OsResults results, int index, int fence) {
+            this.results = results;
+            this.index = index;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (index >= fence) {
+                return false;
+            }
+            baseRealm.checkIfValid();
+            //noinspection unchecked
+            action.accept((E) baseRealm.get((Class<? extends RealmModel>) classSpec, className, results.getUncheckedRow(index++)));
+            return true;
+        }
+
+        @Override
+        @Nullable
+        public Spliterator<E> trySplit() {
+            int mid = (index + fence) >>> 1;
+            if (!baseRealm.isFrozen() || mid <= index) {
+                return null;
+            }
+            Spliterator<E> prefix = new RealmCollectionSpliterator(results, index, mid);
+            index = mid;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            return fence - index;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+        }
+    }
+
+    // Reads the values of a number column in chunks of CHUNK_SIZE objects. Null values are skipped, so the exact size
+    // is only known for required columns.
+    private abstract class ColumnSpliterator {
+        private static final int CHUNK_SIZE = 1024;
+
+        final OsResults results;
+        final long columnKey;
+        private final boolean nullable;
+        // Index of the next object to read from native.
+        int index;
+        final int fence;
+        long[] values;
+        private boolean[] nulls;
+        private int position;
+        private int count;
+
+        ColumnSpliterator(OsResults results, long columnKey, int index, int fence) {
+            this.results = results;
+            this.columnKey = columnKey;
+            this.nullable = results.getTable().isColumnNullable(columnKey);
+            this.index = index;
+            this.fence = fence;
+        }
+
+        // Returns the position of the next non-null value in the buffer, or -1 if all values were read.
+        int next() {
+            while (true) {
+                while (position < count) {
+                    int current = position++;
+                    if (!nulls[current]) {
+                        return current;
+                    }
+                }
+                if (index >= fence) {
+                    return -1;
+                }
+                baseRealm.checkIfValid();
+                int chunkSize = Math.min(CHUNK_SIZE, fence - index);
+                if (values == null || values.length < chunkSize) {
+                    values = new long[chunkSize];
+                    nulls = new boolean[chunkSize];
+                }
+                count = results.getColumnValues(columnKey, index, chunkSize, values, nulls);
+                position = 0;
+                if (count == 0) {
+                    index = fence;
+                    return -1;
+                }
+                index += count;
+            }
+        }
+
+        // Returns the index the remaining range can be split at, or -1 if it cannot be split.
+        int splitIndex() {
+            int mid = (index + fence) >>> 1;
+            if (!baseRealm.isFrozen() || position < count || mid <= index) {
+                return -1;
+            }
+            return mid;
+        }
+
+        public long estimateSize() {
+            return (fence - index) + (count - position);
+        }
+
+        public int characteristics() {
+            int characteristics = Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+            return nullable ? characteristics : characteristics | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
+    }
+
+    @TargetApi(Build.VERSION_CODES.N)
+    private class LongColumnSpliterator extends ColumnSpliterator implements Spliterator.OfLong {
+        LongColumnSpliterator(OsResults results, long columnKey, int index, int fence) {
+            super(results, columnKey, index, fence);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            int current = next();
+            if (current < 0) {
+                return false;
+            }
+            action.accept(values[current]);
+            return true;
+        }
+
+        @Override
+        @Nullable
+        public Spliterator.OfLong trySplit() {
+            int mid = splitIndex();
+            if (mid < 0) {
+                return null;
+            }
+            Spliterator.OfLong prefix = new LongColumnSpliterator(results, columnKey, index, mid);
+            index = mid;
+            return prefix;
+        }
+    }
+
+    @TargetApi(Build.VERSION_CODES.N)
+    private class DoubleColumnSpliterator extends ColumnSpliterator implements Spliterator.OfDouble {
+        DoubleColumnSpliterator(OsResults results, long columnKey, int index, int fence) {
+            super(results, columnKey, index, fence);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            int current = next();
+            if (current < 0) {
+                return false;
+            }
+            action.accept(Double.longBitsToDouble(values[current]));
+            return true;
+        }
+
+        @Override
+        @Nullable
+        public Spliterator.OfDouble trySplit() {
+            int mid = splitIndex();
+            if (mid < 0) {
+                return null;
+            }
+            Spliterator.OfDouble prefix = new DoubleColumnSpliterator(results, columnKey, index, mid);
+            index = mid;
+            return prefix;
+        }
+    }
+
     // Custom RealmResults list iterator.
     private class RealmCollectionListIterator extends OsResults.ListIterator<E> {
         RealmCollectionListIterator(int start) {
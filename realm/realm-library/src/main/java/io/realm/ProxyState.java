@@ -82,6 +82,12 @@ public final class ProxyState<E extends RealmModel> implements PendingRow.FrontE
     private boolean acceptDefaultValue;
     private List<String> excludeFields;
 
+    // Identity of the object used by hashCode() and equals(). It is computed on first use and reset whenever the row
+    // changes, so it only costs native calls once per accessor. Frozen objects can be used by several threads, so it
+    // is published as one immutable object.
+    @Nullable
+    private volatile Identity identity;
+
     private ObserverPairList<OsObject.ObjectObserverPair> observerPairs =
             new ObserverPairList<OsObject.ObjectObserverPair>();
     private static QueryCallback queryCallback = new QueryCallback();
@@ -106,6 +112,7 @@ public final class ProxyState<E extends RealmModel> implements PendingRow.FrontE
 
     public void setRow$realm(Row row) {
         this.row = row;
+        identity = null;
     }
 
     public boolean getAcceptDefaultValue$realm() {
@@ -195,6 +202,7 @@ public final class ProxyState<E extends RealmModel> implements PendingRow.FrontE
     @Override
     public void onQueryFinished(Row row) {
         this.row = row;
+        identity = null;
         // getTable should return a non-null table since the row should always be valid here.
         notifyQueryFinished();
         if (row.isValid()) {
@@ -216,4 +224,74 @@ public final class ProxyState<E extends RealmModel> implements PendingRow.FrontE
             throw new IllegalArgumentException("'value' belongs to a different Realm.");
         }
     }
+
+    /**
+     * Returns the hash code of the managed object, based on the Realm file, the table and the object key.
+     * It is computed the first time it is requested and cached for the lifetime of the row.
+     *
+     * @return the hash code to return from {@code hashCode()} of the object.
+     */
+    public int getIdentityHashCode() {
+        return getIdentity().hashCode;
+    }
+
+    /**
+     * Checks if this and the other managed object point to the same object in the same version of the same Realm.
+     *
+     * @param other the state of the object to compare with.
+     * @return {@code true} if both objects represent the same Realm object, {@code false} otherwise.
+     */
+    public boolean isSameObject(ProxyState<?> other) {
+        Identity identity = getIdentity();
+        Identity otherIdentity = other.getIdentity();
+        if (identity.objectKey != otherIdentity.objectKey || identity.tableKey != otherIdentity.tableKey) {
+            return false;
+        }
+
+        BaseRealm otherRealm = other.realm;
+        if (realm == otherRealm) {
+            return true;
+        }
+        String path = realm.getPath();
+        String otherPath = otherRealm.getPath();
+        if (path != null ? !path.equals(otherPath) : otherPath != null) {
+            return false;
+        }
+        if (realm.isFrozen() != otherRealm.isFrozen()) {
+            return false;
+        }
+        return realm.sharedRealm.getVersionID().equals(otherRealm.sharedRealm.getVersionID());
+    }
+
+    private Identity getIdentity() {
+        Identity current = identity;
+        if (current != null) {
+            return current;
+        }
+        // Throws for rows of queries that have not completed yet, so nothing is cached for them.
+        long tableKey = row.getTable().getKey();
+        long objectKey = row.getObjectKey();
+        String path = realm.getPath();
+
+        int result = 17;
+        result = 31 * result + ((path != null) ? path.hashCode() : 0);
+        result = 31 * result + (int) (tableKey ^ (tableKey >>> 32));
+        result = 31 * result + (int) (objectKey ^ (objectKey >>> 32));
+
+        current = new Identity(tableKey, objectKey, result);
+        identity = current;
+        return current;
+    }
+
+    private static final class Identity {
+        final long tableKey;
+        final long objectKey;
+        final int hashCode;
+
+        Identity(long tableKey, long objectKey, int hashCode) {
+            this.tableKey = tableKey;
+            this.objectKey = objectKey;
+            this.hashCode = hashCode;
+        }
+    }
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * Describes how a query is evaluated, see {@link RealmQuery#explain()}.
+ * <p>
+ * The plan lists the conditions of the query with the access path each of them allows, and the number of objects
+ * and time measured while evaluating the query once. The access path is derived from the schema: equality conditions
+ * on indexed fields of the queried class can be answered by the search index, all other conditions are checked
+ * object by object. This includes conditions on indexed fields of linked classes, since the index of the linked
+ * class does not tell which objects of the queried class match.
+ */
+public final class QueryPlan {
+
+    /**
+     * How the objects matching a condition are found.
+     */
+    public enum AccessPath {
+        /**
+         * The condition is an equality condition on an indexed field and can be answered by the search index.
+         */
+        INDEX,
+        /**
+         * The condition is checked for every candidate object.
+         */
+        SCAN
+    }
+
+    /**
+     * A condition of the query.
+     */
+    public static final class Condition {
+        private final String fieldName;
+        private final int linkCount;
+        private final boolean indexed;
+        private final AccessPath accessPath;
+
+        Condition(String fieldName, int linkCount, boolean indexed, boolean equality) {
+            this.fieldName = fieldName;
+            this.linkCount = linkCount;
+            this.indexed = indexed;
+            this.accessPath = (indexed && equality && linkCount == 0) ? AccessPath.INDEX : AccessPath.SCAN;
+        }
+
+        /**
+         * Returns the field name or link path used by the condition.
+         *
+         * @return the name of the field.
+         */
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        /**
+         * Returns the number of links followed to reach the field, {@code 0} for fields of the queried class.
+         *
+         * @return the number of links traversed for every candidate object.
+         */
+        public int getLinkCount() {
+            return linkCount;
+        }
+
+        /**
+         * Returns whether the field has a search index. For a link path this is the index of the field in the linked
+         * class, which is reported even though the condition cannot use it.
+         *
+         * @return {@code true} if the field is indexed.
+         */
+        public boolean isIndexed() {
+            return indexed;
+        }
+
+        /**
+         * Returns how the objects matching this condition are found.
+         *
+         * @return the access path of the condition.
+         */
+        public AccessPath getAccessPath() {
+            return accessPath;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US, "%s: %s%s%s", fieldName, accessPath, indexed ? ", indexed" : "",
+                    linkCount > 0 ? ", " + linkCount + " link(s)" : "");
+        }
+    }
+
+    private final String className;
+    private final String description;
+    private final List<Condition> conditions;
+    private final long tableSize;
+    private final long matchedCount;
+    private final long resultCount;
+    private final long queryNanos;
+    private final long descriptorNanos;
+
+    QueryPlan(String className, String description, List<Condition> conditions, long tableSize, long matchedCount,
+              long resultCount, long queryNanos, long descriptorNanos) {
+        this.className = className;
+        this.description = description;
+        this.conditions = Collections.unmodifiableList(conditions);
+        this.tableSize = tableSize;
+        this.matchedCount = matchedCount;
+        this.resultCount = resultCount;
+        this.queryNanos = queryNanos;
+        this.descriptorNanos = descriptorNanos;
+    }
+
+    /**
+     * Returns the internal name of the class being queried.
+     *
+     * @return the name of the queried class.
+     */
+    public String getClassName() {
+        return className;
+    }
+
+    /**
+     * Returns the textual description of the query, see {@link RealmQuery#getDescription()}.
+     *
+     * @return the description of the query.
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Returns the conditions of the query in the order they were added.
+     *
+     * @return the conditions of the query.
+     */
+    public List<Condition> getConditions() {
+        return conditions;
+    }
+
+    /**
+     * Returns whether at least one condition can be answered by a search index.
+     *
+     * @return {@code true} if an index can be used, {@code false} if all candidate objects are scanned.
+     */
+    public boolean usesIndex() {
+        for (Condition condition : conditions) {
+            if (condition.getAccessPath() == AccessPath.INDEX) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of objects of the queried class. Without an index all of them are candidates.
+     *
+     * @return the number of objects in the table.
+     */
+    public long getTableSize() {
+        return tableSize;
+    }
+
+    /**
+     * Returns the number of objects matching the conditions, before sort, distinct and limit are applied.
+     *
+     * @return the number of matching objects.
+     */
+    public long getMatchedCount() {
+        return matchedCount;
+    }
+
+    /**
+     * Returns the number of objects returned by the query, after distinct and limit are applied.
+     *
+     * @return the number of objects in the result.
+     */
+    public long getResultCount() {
+        return resultCount;
+    }
+
+    /**
+     * Returns the time it took to evaluate the conditions.
+     *
+     * @param unit the unit of the returned time.
+     * @return the time spent finding the matching objects.
+     */
+    public long getQueryTime(TimeUnit unit) {
+        return unit.convert(queryNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the additional time it took to apply sort, distinct and limit, {@code 0} if the query has none.
+     *
+     * @param unit the unit of the returned time.
+     * @return the time spent applying sort, distinct and limit.
+     */
+    public long getDescriptorTime(TimeUnit unit) {
+        return unit.convert(descriptorNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US,
+                "QueryPlan{class=%s, query='%s', conditions=%s, tableSize=%d, matched=%d, results=%d, queryTime=%dus, descriptorTime=%dus}",
+                className, description, conditions, tableSize, matchedCount, resultCount,
+                getQueryTime(TimeUnit.MICROSECONDS), getDescriptorTime(TimeUnit.MICROSECONDS));
+    }
+}
@@ -30,17 +30,23 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Scanner;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -53,6 +59,7 @@ import io.realm.exceptions.RealmFileException;
 import io.realm.exceptions.RealmMigrationNeededException;
 import io.realm.exceptions.RealmPrimaryKeyConstraintException;
 import io.realm.internal.ColumnIndices;
+import io.realm.internal.ColumnInfoCache;
 import io.realm.internal.ObjectServerFacade;
 import io.realm.internal.OsObject;
 import io.realm.internal.OsObjectSchemaInfo;
@@ -166,9 +173,11 @@ public class Realm extends BaseRealm {
         if (configuration.isReadOnly()) {
             RealmProxyMediator mediator = configuration.getSchemaMediator();
             Set<Class<? extends RealmModel>> classes = mediator.getModelClasses();
+            // Fetches all table names with one call instead of looking up every model class in the file.
+            Set<String> tableNames = new HashSet<>(Arrays.asList(sharedRealm.getTablesNames()));
             for (Class<? extends RealmModel> clazz  : classes) {
                 String tableName = Table.getTableNameForClass(mediator.getSimpleClassName(clazz));
-                if (!sharedRealm.hasTable(tableName)) {
+                if (!tableNames.contains(tableName)) {
                     sharedRealm.close();
                     throw new RealmMigrationNeededException(configuration.getPath(),
                             String.format(Locale.US, "Cannot open the read only Realm. '%s' is missing.",
@@ -185,7 +194,7 @@ public class Realm extends BaseRealm {
     }
 
     private static OsSchemaInfo createExpectedSchemaInfo(RealmProxyMediator mediator) {
-        return new OsSchemaInfo(mediator.getExpectedObjectSchemaInfoMap().values());
+        return ColumnInfoCache.getExpectedSchemaInfo(mediator);
     }
 
     /**
@@ -446,6 +455,129 @@ public class Realm extends BaseRealm {
         return RealmCache.createRealmOrGetFromCacheAsync(configuration, callback, Realm.class);
     }
 
+    /**
+     * Prepares Realm files so they can be opened quickly later, and waits until all of them are ready.
+     * <p>
+     * The Realms are opened concurrently on background threads and on the calling thread. Opening a Realm file for the
+     * first time in a process creates or migrates it, and the column information of all model classes is built from
+     * its schema. The column information is cached and shared by all Realm instances opened later for files with the
+     * same schema, so they don't have to look up the columns of each class again.
+     *
+     * @param configurations the configurations of the Realms to prepare.
+     * @throws IllegalArgumentException if a {@code null} configuration is provided.
+     * @throws RealmMigrationNeededException if a Realm needs a migration which is not provided by its configuration.
+     * @throws RealmFileException if an error happened when accessing a Realm file.
+     * @see #warmUpAsync(Collection)
+     */
+    public static void warmUp(Collection<RealmConfiguration> configurations) {
+        List<RealmConfiguration> pending = checkWarmUpConfigurations(configurations);
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Future<?>> futures = new ArrayList<>(pending.size() - 1);
+        for (int i = 1; i < pending.size(); i++) {
+            final RealmConfiguration configuration = pending.get(i);
+            futures.add(asyncTaskExecutor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    warmUp(configuration);
+                }
+            }));
+        }
+        RuntimeException error = null;
+        try {
+            warmUp(pending.get(0));
+        } catch (RuntimeException e) {
+            error = e;
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RealmException("Interrupted while waiting for Realms to be prepared.", e);
+            } catch (ExecutionException e) {
+                if (error == null) {
+                    error = (e.getCause() instanceof RuntimeException)
+                            ? (RuntimeException) e.getCause() : new RealmException("Could not prepare Realm.", e.getCause());
+                }
+            }
+        }
+        if (error != null) {
+            throw error;
+        }
+    }
+
+    /**
+     * Prepares Realm files in the background so they can be opened quickly later, see {@link #warmUp(Collection)}.
+     * <p>
+     * Errors are logged and thrown again when the Realm is opened.
+     *
+     * @param configurations the configurations of the Realms to prepare.
+     * @return a {@link RealmAsyncTask} which can be used to cancel preparing Realms which haven't been started yet.
+     * @throws IllegalArgumentException if a {@code null} configuration is provided.
+     */
+    public static RealmAsyncTask warmUpAsync(Collection<RealmConfiguration> configurations) {
+        List<RealmConfiguration> pending = checkWarmUpConfigurations(configurations);
+        final List<RealmAsyncTask> tasks = new ArrayList<>(pending.size());
+        for (final RealmConfiguration configuration : pending) {
+            Future<?> future = asyncTaskExecutor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        warmUp(configuration);
+                    } catch (Throwable e) {
+                        RealmLog.warn(e, "Could not prepare Realm '%s'.", configuration.getPath());
+                    }
+                }
+            });
+            tasks.add(new RealmAsyncTaskImpl(future, asyncTaskExecutor));
+        }
+        return new RealmAsyncTask() {
+            private volatile boolean cancelled;
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                for (RealmAsyncTask task : tasks) {
+                    task.cancel();
+                }
+            }
+
+            @Override
+            public boolean isCancelled() {
+                return cancelled;
+            }
+        };
+    }
+
+    private static List<RealmConfiguration> checkWarmUpConfigurations(Collection<RealmConfiguration> configurations) {
+        //noinspection ConstantConditions
+        if (configurations == null) {
+            throw new IllegalArgumentException("Non-null 'configurations' required.");
+        }
+        List<RealmConfiguration> pending = new ArrayList<>(configurations);
+        for (RealmConfiguration configuration : pending) {
+            //noinspection ConstantConditions
+            if (configuration == null) {
+                throw new IllegalArgumentException(NULL_CONFIG_MSG);
+            }
+        }
+        return pending;
+    }
+
+    // Opens the Realm and builds the column information of all model classes, which is cached by ColumnInfoCache.
+    private static void warmUp(RealmConfiguration configuration) {
+        Realm realm = Realm.getInstance(configuration);
+        try {
+            for (Class<? extends RealmModel> clazz : configuration.getSchemaMediator().getModelClasses()) {
+                realm.getSchema().getColumnInfo(clazz);
+            }
+        } finally {
+            realm.close();
+        }
+    }
+
     /**
      * Sets the {@link io.realm.RealmConfiguration} used when calling {@link #getDefaultInstance()}.
      *
@@ -1510,6 +1642,27 @@ public class Realm extends BaseRealm {
         removeAllListeners();
     }
 
+    /**
+     * Creates a {@link BatchWriter} that inserts objects into the Realm described by the configuration, committing
+     * them in batches according to the thresholds of the configuration.
+     * <p>
+     * The writer opens its own Realm instance, either on the calling thread or on a background thread if
+     * {@link BatchWriterConfiguration.Builder#background(int)} is used. It must be closed when no longer needed.
+     *
+     * @param configuration the {@link BatchWriterConfiguration} describing the Realm and how to batch writes.
+     * @return the {@link BatchWriter}.
+     * @throws IllegalArgumentException if the {@code configuration} is {@code null}.
+     * @throws RealmException if writing on the calling thread and it is the UI thread, unless an explicit opt-in has
+     * been declared in {@link RealmConfiguration.Builder#allowWritesOnUiThread(boolean)}.
+     */
+    public static BatchWriter newBatchWriter(BatchWriterConfiguration configuration) {
+        //noinspection ConstantConditions
+        if (configuration == null) {
+            throw new IllegalArgumentException(NULL_CONFIG_MSG);
+        }
+        return new BatchWriter(configuration);
+    }
+
     /**
      * Executes a given transaction on the Realm. {@link #beginTransaction()} and {@link #commitTransaction()} will be
      * called automatically. If any exception is thrown during the transaction {@link #cancelTransaction()} will be
@@ -1823,7 +1976,10 @@ public class Realm extends BaseRealm {
 
     /**
      * Deletes the Realm file along with the related temporary files specified by the given {@link RealmConfiguration}
-     * from the filesystem. Temporary file with ".lock" extension won't be deleted.
+     * from the filesystem. Temporary file with ".lock" extension won't be deleted. Compacted copies and backup files
+     * left behind by {@link #compactRealmInBackground(RealmConfiguration, CompactionListener)} and
+     * {@link #backupInBackground(RealmConfiguration, WritableByteChannel, BackupOptions, BackupListener)} in a process
+     * which ended before they were done are deleted as well.
      * <p>
      * All Realm instances must be closed before calling this method.
      * <p>
@@ -1856,11 +2012,116 @@ public class Realm extends BaseRealm {
         return BaseRealm.compactRealm(configuration);
     }
 
+    /**
+     * Compacts a Realm file without having to close it first. Unlike {@link #compactRealm(RealmConfiguration)} the
+     * compacted copy is written while the Realm is open.
+     * <p>
+     * A compacted copy of the Realm is written on a background thread while the Realm stays open and can be read
+     * and written as usual. The copy only replaces the Realm file once every Realm and DynamicRealm instance of the
+     * file in this process has been closed, including frozen ones. Replacing the file then only blocks opening the
+     * Realm for as long as it takes to rename the copy. A process which never closes all of its instances, such as a
+     * long-running service holding the Realm open, never gets its file replaced and keeps the copy on disk until it
+     * exits. Use {@link Realm#getFileStats()} to decide if compacting the file is worth it.
+     * <p>
+     * If the Realm is written to after the copy was started, replacing the file would lose the new data, so the copy is
+     * discarded instead and {@link CompactionListener#onDiscarded()} is called. The copy is discarded the same way if
+     * another process still has the Realm open when the last instance in this process is closed. Writes from other
+     * processes are not detected, so this must not be used for Realms written by several processes.
+     * <p>
+     * The file system should have free space for the compacted copy of the Realm file.
+     *
+     * @param configuration a {@link RealmConfiguration} pointing to a Realm file.
+     * @param listener the listener notified when the file has been replaced or the copy was discarded.
+     * @return a {@link RealmAsyncTask} that can cancel the compaction before the copy has been started.
+     * @throws IllegalArgumentException if the Realm is read-only, in-memory or synchronized.
+     */
+    public static RealmAsyncTask compactRealmInBackground(RealmConfiguration configuration, CompactionListener listener) {
+        //noinspection ConstantConditions
+        if (configuration == null) {
+            throw new IllegalArgumentException("A non-null RealmConfiguration must be provided");
+        }
+        //noinspection ConstantConditions
+        if (listener == null) {
+            throw new IllegalArgumentException("A non-null CompactionListener must be provided");
+        }
+        return BackgroundCompaction.start(configuration, listener);
+    }
+
+    /**
+     * Writes a backup of a Realm file to a stream on a background thread, while the Realm stays open and can be read
+     * and written as usual.
+     *
+     * @param configuration a {@link RealmConfiguration} pointing to a Realm file.
+     * @param target the stream the backup is written to. It is not closed when the backup is done.
+     * @param options how the backup is written.
+     * @param listener the listener notified about the progress and outcome of the backup.
+     * @return a {@link RealmAsyncTask} that can cancel the backup.
+     * @see #backupInBackground(RealmConfiguration, WritableByteChannel, BackupOptions, BackupListener)
+     */
+    public static RealmAsyncTask backupInBackground(RealmConfiguration configuration, OutputStream target,
+            BackupOptions options, BackupListener listener) {
+        //noinspection ConstantConditions
+        if (target == null) {
+            throw new IllegalArgumentException("A non-null OutputStream must be provided");
+        }
+        return backupInBackground(configuration, Channels.newChannel(target), options, listener);
+    }
+
+    /**
+     * Writes a backup of a Realm file to a channel on a background thread, while the Realm stays open and can be read
+     * and written as usual. Unlike {@link #writeCopyTo(File)} this doesn't block the calling thread, and the backup
+     * can be throttled and compressed with {@link BackupOptions}.
+     * <p>
+     * The backup contains the latest version of the Realm when this method is called. Transactions committed
+     * afterwards, even before the background thread starts writing, are not part of it. The Realm file is opened on
+     * the calling thread to keep that version readable until its copy has been written. A copy of that version is first written to a temporary file next to the Realm
+     * file, so the file system should have free space for a compacted copy of the Realm file. This copy is written at
+     * full speed. Throttling, progress and compression only apply to streaming it to the target.
+     * <p>
+     * Cancelling the returned task doesn't interrupt the background thread, so the target stays open. The backup
+     * stops before the next chunk is written, or after the temporary copy if it is being written.
+     * <p>
+     * The backup is a compacted Realm file which can be opened with a {@link RealmConfiguration} once it has been
+     * decompressed, if {@link BackupOptions.Builder#compress(boolean)} was used.
+     *
+     * @param configuration a {@link RealmConfiguration} pointing to a Realm file.
+     * @param target the channel the backup is written to. It is not closed when the backup is done.
+     * @param options how the backup is written.
+     * @param listener the listener notified about the progress and outcome of the backup.
+     * @return a {@link RealmAsyncTask} that can cancel the backup.
+     * @throws RealmFileException if an error happened when accessing the underlying Realm file.
+     */
+    public static RealmAsyncTask backupInBackground(RealmConfiguration configuration, WritableByteChannel target,
+            BackupOptions options, BackupListener listener) {
+        //noinspection ConstantConditions
+        if (configuration == null) {
+            throw new IllegalArgumentException("A non-null RealmConfiguration must be provided");
+        }
+        //noinspection ConstantConditions
+        if (target == null) {
+            throw new IllegalArgumentException("A non-null WritableByteChannel must be provided");
+        }
+        //noinspection ConstantConditions
+        if (options == null) {
+            throw new IllegalArgumentException("Non-null BackupOptions must be provided");
+        }
+        //noinspection ConstantConditions
+        if (listener == null) {
+            throw new IllegalArgumentException("A non-null BackupListener must be provided");
+        }
+        return RealmBackup.start(configuration, target, options, listener);
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Realm freeze() {
+        return RealmCache.createFrozenRealmOrGetFromCache(configuration, Realm.class, sharedRealm.getVersionID());
+    }
+
+    @Override
+    Realm freezeAtCurrentVersion() {
         return RealmCache.createRealmOrGetFromCache(configuration, Realm.class, sharedRealm.getVersionID());
     }
 
@@ -1926,6 +2187,18 @@ public class Realm extends BaseRealm {
         return RealmCache.getLocalThreadCount(configuration);
     }
 
+    /**
+     * Returns statistics about the frozen Realms that are open in the current process for the given configuration,
+     * including the versions they keep alive and the current size of the Realm file. This includes both dynamic and
+     * normal Realms.
+     *
+     * @param configuration the {@link io.realm.RealmConfiguration} for the Realm.
+     * @return the statistics at the time of the call.
+     */
+    public static FrozenRealmStats getFrozenRealmStats(RealmConfiguration configuration) {
+        return RealmCache.getFrozenRealmStats(configuration);
+    }
+
     /**
      * Get the application context used when initializing Realm with {@link Realm#init(Context)} or
      * {@link Realm#init(Context, String)}.
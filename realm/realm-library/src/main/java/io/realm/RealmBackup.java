@@ -0,0 +1,262 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FilenameFilter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+import javax.annotation.Nullable;
+
+import io.realm.internal.OsObjectStore;
+import io.realm.internal.OsSharedRealm;
+import io.realm.log.RealmLog;
+
+/**
+ * Writes backups of Realm files while they are open.
+ * <p>
+ * The version to back up is the latest one when the backup is requested. It is pinned on the calling thread by a
+ * frozen Realm, which is handed to the background thread and closed once the copy is written, so other threads and
+ * processes can continue to commit in the meantime. Core can only write a copy of a version to a file, so the copy
+ * is written next to the Realm file first, at full speed, and then streamed to the target in chunks. Only streaming can be throttled, reports
+ * progress and is compressed.
+ * <p>
+ * Cancelling doesn't interrupt the thread, which would close the channel of the caller. The backup stops before the
+ * next chunk instead, or once the copy has been written if it is cancelled while the copy is written.
+ */
+final class RealmBackup {
+
+    private static final String BACKUP_FILE_SUFFIX = ".backup";
+
+    private RealmBackup() {
+    }
+
+    /**
+     * Deletes the temporary copies left behind by backups of a Realm which were interrupted by the end of the process.
+     */
+    static void deleteTemporaryCopies(File realmDirectory, final String realmFileName) {
+        File[] copies = realmDirectory.listFiles(new FilenameFilter() {
+            @Override
+            public boolean accept(File dir, String name) {
+                return name.startsWith(realmFileName + ".") && name.endsWith(BACKUP_FILE_SUFFIX);
+            }
+        });
+        if (copies == null) {
+            return;
+        }
+        for (File copy : copies) {
+            if (!copy.delete()) {
+                RealmLog.warn("Temporary backup file at %s cannot be deleted", copy.getAbsolutePath());
+            }
+        }
+    }
+
+    static RealmAsyncTask start(final RealmConfiguration configuration, final WritableByteChannel target,
+            final BackupOptions options, final BackupListener listener) {
+        final BackupTask task = new BackupTask(pinLatestVersion(configuration));
+        try {
+            task.future = BaseRealm.asyncTaskExecutor.submit(new Runnable() {
+                @Override
+                public void run() {
+                    write(configuration, target, options, listener, task);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            task.releaseSnapshot();
+            throw e;
+        }
+        return task;
+    }
+
+    // Returns a frozen Realm of the latest version, which keeps that version readable until it is closed.
+    private static OsSharedRealm pinLatestVersion(RealmConfiguration configuration) {
+        OsSharedRealm liveRealm = OsSharedRealm.getInstance(configuration, OsSharedRealm.VersionID.LIVE);
+        try {
+            try {
+                return liveRealm.freeze();
+            } catch (IllegalStateException e) {
+                // No read transaction has begun yet, reading the schema version begins one.
+                OsObjectStore.getSchemaVersion(liveRealm);
+                return liveRealm.freeze();
+            }
+        } finally {
+            liveRealm.close();
+        }
+    }
+
+    private static void write(RealmConfiguration configuration, WritableByteChannel target, BackupOptions options,
+            BackupListener listener, BackupTask task) {
+        File image = new File(configuration.getRealmDirectory(),
+                configuration.getRealmFileName() + "." + UUID.randomUUID() + BACKUP_FILE_SUFFIX);
+        try {
+            task.checkCancelled();
+            task.snapshot.writeCopy(image, options.getEncryptionKey());
+            FileChannel source = new FileInputStream(image).getChannel();
+            // Keeps the Realm open until the copy is opened, so Realm.deleteRealm() can't delete it before.
+            task.releaseSnapshot();
+            long bytesWritten = stream(source, image, target, options, listener, task);
+            task.checkCancelled();
+            listener.onSuccess(bytesWritten);
+        } catch (CancellationException ignored) {
+            // The backup was cancelled.
+        } catch (InterruptedException ignored) {
+            // The executor is shutting down.
+            Thread.currentThread().interrupt();
+        } catch (Throwable e) {
+            listener.onError(e);
+        } finally {
+            task.releaseSnapshot();
+            //noinspection ResultOfMethodCallIgnored
+            image.delete();
+        }
+    }
+
+    private static long stream(FileChannel source, File image, WritableByteChannel target, BackupOptions options,
+            BackupListener listener, BackupTask task) throws IOException, InterruptedException {
+        try {
+            long totalBytes = source.size();
+            CountingChannel counter = new CountingChannel(target);
+            WritableByteChannel output = counter;
+            GZIPOutputStream gzip = null;
+            if (options.isCompressed()) {
+                gzip = new GZIPOutputStream(Channels.newOutputStream(counter), options.getChunkSize());
+                output = Channels.newChannel(gzip);
+            }
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect((int) Math.max(1, Math.min(options.getChunkSize(), totalBytes)));
+            long bytesRead = 0;
+            long startNanos = System.nanoTime();
+            while (bytesRead < totalBytes) {
+                task.checkCancelled();
+                buffer.clear();
+                int read = source.read(buffer);
+                if (read < 0) {
+                    throw new IOException("Unexpected end of the file image after " + bytesRead + " bytes: " + image);
+                }
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    output.write(buffer);
+                }
+                bytesRead += read;
+                listener.onProgress(bytesRead, totalBytes);
+                throttle(options.getMaxBytesPerSecond(), bytesRead, startNanos, task);
+            }
+            if (gzip != null) {
+                // Writes the trailer without closing the target, which is owned by the caller.
+                gzip.finish();
+            }
+            return counter.bytesWritten;
+        } finally {
+            source.close();
+        }
+    }
+
+    // Sleeps until reading the given number of bytes has taken as long as the rate limit allows, or the backup is
+    // cancelled.
+    private static void throttle(long maxBytesPerSecond, long bytesRead, long startNanos, BackupTask task)
+            throws InterruptedException {
+        if (maxBytesPerSecond <= 0) {
+            return;
+        }
+        long expectedNanos = (long) (bytesRead * (TimeUnit.SECONDS.toNanos(1) / (double) maxBytesPerSecond));
+        long aheadNanos = expectedNanos - (System.nanoTime() - startNanos);
+        if (aheadNanos > 0) {
+            task.cancelled.await(aheadNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static final class BackupTask implements RealmAsyncTask {
+        private final CountDownLatch cancelled = new CountDownLatch(1);
+        private final OsSharedRealm snapshot;
+        private final AtomicBoolean snapshotReleased = new AtomicBoolean();
+        @Nullable
+        private volatile Future<?> future;
+
+        BackupTask(OsSharedRealm snapshot) {
+            this.snapshot = snapshot;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled.countDown();
+            // Only removes the task if it hasn't started yet, a running backup stops before its next chunk.
+            Future<?> pendingTask = future;
+            if (pendingTask != null && pendingTask.cancel(false)) {
+                BaseRealm.asyncTaskExecutor.getQueue().remove(pendingTask);
+                // The task will never run, so the version it pinned is released here.
+                releaseSnapshot();
+            }
+        }
+
+        // Frozen Realms can be closed on any thread. Closed by whichever of the task and cancel() is done with it first.
+        void releaseSnapshot() {
+            if (snapshotReleased.compareAndSet(false, true)) {
+                snapshot.close();
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled.getCount() == 0;
+        }
+
+        void checkCancelled() {
+            if (isCancelled()) {
+                throw new CancellationException();
+            }
+        }
+    }
+
+    private static final class CountingChannel implements WritableByteChannel {
+        private final WritableByteChannel target;
+        private long bytesWritten;
+
+        CountingChannel(WritableByteChannel target) {
+            this.target = target;
+        }
+
+        @Override
+        public int write(ByteBuffer source) throws IOException {
+            int written = target.write(source);
+            bytesWritten += written;
+            return written;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return target.isOpen();
+        }
+
+        @Override
+        public void close() {
+            // The target is closed by the caller.
+        }
+    }
+}
@@ -15,10 +15,11 @@
  */
 package io.realm;
 
+import android.content.res.AssetManager;
+
 import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.InputStream;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -27,6 +28,7 @@ import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Future;
@@ -34,7 +36,10 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.annotation.Nullable;
+
 import io.realm.exceptions.RealmFileException;
+import io.realm.internal.AssetFiles;
 import io.realm.internal.Capabilities;
 import io.realm.internal.ObjectServerFacade;
 import io.realm.internal.OsObjectStore;
@@ -110,6 +115,8 @@ final class RealmCache {
     // Reference counter for Realms that are accessible across all threads
     private static class GlobalReferenceCounter extends ReferenceCounter {
         private BaseRealm cachedRealm;
+        // When the frozen Realm was created. Used to find a recent frozen Realm that can be reused.
+        protected long createdAtNanos;
 
         @Override
         boolean hasInstanceAvailableForThread() {
@@ -125,6 +132,7 @@ final class RealmCache {
         void onRealmCreated(BaseRealm realm) {
             // The Realm instance has been created without exceptions. Cache and reference count can be updated now.
             cachedRealm = realm;
+            createdAtNanos = System.nanoTime();
 
             localCount.set(0);
             // This is the first instance in current thread, increase the global count.
@@ -156,6 +164,76 @@ final class RealmCache {
         }
     }
 
+    // Reference to a frozen Realm that is only kept alive by the objects and collections using it. See
+    // RealmConfiguration.Builder#closeUnreferencedFrozenRealms(boolean).
+    private static class FrozenRealmReference extends WeakReference<BaseRealm> {
+        private final Pair<RealmCacheType, OsSharedRealm.VersionID> key;
+        @Nullable
+        private final RealmMetrics metrics;
+
+        FrozenRealmReference(BaseRealm realm, Pair<RealmCacheType, OsSharedRealm.VersionID> key,
+                ReferenceQueue<BaseRealm> queue) {
+            super(realm, queue);
+            this.key = key;
+            this.metrics = realm.getConfiguration().getMetrics();
+        }
+    }
+
+    // Reference counter for frozen Realms that are released once they are garbage collected. The version they pin is
+    // released by BaseRealm#finalize(), the counter is removed from the cache when the reference is enqueued.
+    private static class WeakGlobalReferenceCounter extends GlobalReferenceCounter {
+        private final Pair<RealmCacheType, OsSharedRealm.VersionID> key;
+        private final ReferenceQueue<BaseRealm> queue;
+        @Nullable
+        private FrozenRealmReference realmRef;
+
+        WeakGlobalReferenceCounter(Pair<RealmCacheType, OsSharedRealm.VersionID> key,
+                ReferenceQueue<BaseRealm> queue) {
+            this.key = key;
+            this.queue = queue;
+        }
+
+        @Override
+        boolean hasInstanceAvailableForThread() {
+            return getRealmInstance() != null;
+        }
+
+        @Override
+        @Nullable
+        BaseRealm getRealmInstance() {
+            return (realmRef != null) ? realmRef.get() : null;
+        }
+
+        @Override
+        void onRealmCreated(BaseRealm realm) {
+            realmRef = new FrozenRealmReference(realm, key, queue);
+            createdAtNanos = System.nanoTime();
+
+            localCount.set(0);
+            globalCount.incrementAndGet();
+        }
+
+        @Override
+        public void clearThreadLocalCache() {
+            localCount.set(null);
+            realmRef = null;
+
+            if (globalCount.decrementAndGet() < 0) {
+                // Should never happen.
+                throw new IllegalStateException("Global reference counter of frozen Realm " + key.second + " can not be negative.");
+            }
+        }
+
+        // Returns true if the Realm has been garbage collected without being closed.
+        boolean isCollected() {
+            return realmRef != null && realmRef.get() == null;
+        }
+
+        boolean isCountedBy(FrozenRealmReference ref) {
+            return realmRef == ref;
+        }
+    }
+
     // Reference counter for Realms that are thread confined
     private static class ThreadConfinedReferenceCounter extends ReferenceCounter {
         // The Realm instance in this thread.
@@ -318,6 +396,9 @@ final class RealmCache {
     // Separated references and counters for typed Realm and dynamic Realm.
     private final Map<Pair<RealmCacheType, OsSharedRealm.VersionID>, ReferenceCounter> refAndCountMap = new HashMap<>();
 
+    // Frozen Realms that were garbage collected without being closed. See WeakGlobalReferenceCounter.
+    private final ReferenceQueue<BaseRealm> collectedFrozenRealms = new ReferenceQueue<>();
+
     // Path to the Realm file to identify this cache.
     private final String realmPath;
 
@@ -417,12 +498,68 @@ final class RealmCache {
         return cache.doCreateRealmOrGetFromCache(configuration, realmClass, version);
     }
 
+    /**
+     * Returns a frozen Realm for the given version. If {@link RealmConfiguration#getMaxFrozenRealmStalenessMs()} allows
+     * it, a recently created frozen Realm of an older version is returned instead.
+     *
+     * @param configuration {@link RealmConfiguration} will be used to create or get the instance.
+     * @param realmClass class of {@link Realm} or {@link DynamicRealm} to be created in or gotten from the cache.
+     * @param version the current version of the Realm being frozen.
+     * @return the frozen {@link Realm} or {@link DynamicRealm} instance.
+     */
+    static <E extends BaseRealm> E createFrozenRealmOrGetFromCache(RealmConfiguration configuration, Class<E> realmClass, OsSharedRealm.VersionID version) {
+        RealmCache cache = getCache(configuration.getPath(), true);
+        return cache.doCreateFrozenRealmOrGetFromCache(configuration, realmClass, version);
+    }
+
+    private synchronized <E extends BaseRealm> E doCreateFrozenRealmOrGetFromCache(RealmConfiguration configuration, Class<E> realmClass, OsSharedRealm.VersionID version) {
+        long maxStalenessMs = configuration.getMaxFrozenRealmStalenessMs();
+        if (maxStalenessMs > 0) {
+            OsSharedRealm.VersionID recentVersion = findRecentFrozenVersion(realmClass, version, TimeUnit.MILLISECONDS.toNanos(maxStalenessMs));
+            if (recentVersion != null && !recentVersion.equals(version)) {
+                RealmMetrics metrics = configuration.getMetrics();
+                if (metrics != null) {
+                    metrics.increment(RealmMetrics.Counter.FROZEN_REALM_REUSED);
+                }
+                version = recentVersion;
+            }
+        }
+        return doCreateRealmOrGetFromCache(configuration, realmClass, version);
+    }
+
+    // Returns the newest version, not newer than the given one, of an open frozen Realm created within the given time.
+    // A frozen Realm of exactly the given version is always used, no matter its age.
+    @Nullable
+    private OsSharedRealm.VersionID findRecentFrozenVersion(Class<? extends BaseRealm> realmClass, OsSharedRealm.VersionID maxVersion, long maxAgeNanos) {
+        RealmCacheType cacheType = RealmCacheType.valueOf(realmClass);
+        long now = System.nanoTime();
+        OsSharedRealm.VersionID recentVersion = null;
+        for (Map.Entry<Pair<RealmCacheType, OsSharedRealm.VersionID>, ReferenceCounter> entry : refAndCountMap.entrySet()) {
+            OsSharedRealm.VersionID version = entry.getKey().second;
+            ReferenceCounter counter = entry.getValue();
+            if (entry.getKey().first != cacheType
+                    || !(counter instanceof GlobalReferenceCounter)
+                    || !counter.hasInstanceAvailableForThread()
+                    || (now - ((GlobalReferenceCounter) counter).createdAtNanos > maxAgeNanos && !version.equals(maxVersion))
+                    || version.compareTo(maxVersion) > 0) {
+                continue;
+            }
+            if (recentVersion == null || version.compareTo(recentVersion) > 0) {
+                recentVersion = version;
+            }
+        }
+        return recentVersion;
+    }
+
     private synchronized <E extends BaseRealm> E doCreateRealmOrGetFromCache(RealmConfiguration configuration, Class<E> realmClass, OsSharedRealm.VersionID version) {
-        ReferenceCounter referenceCounter = getRefCounter(realmClass, version);
+        removeCollectedFrozenRealms();
+        ReferenceCounter referenceCounter = getRefCounter(realmClass, version, configuration);
         boolean firstRealmInstanceInProcess = (getTotalGlobalRefCount() == 0);
         boolean realmFileIsBeingCreated = !configuration.realmExists();
 
         if (firstRealmInstanceInProcess) {
+            // Opening the file can migrate it, which a compacted copy written before would not contain.
+            BackgroundCompaction.markChanged(configuration.getPath());
             copyAssetFileIfNeeded(configuration);
             // If waitForInitialRemoteData() was enabled, we need to make sure that all data is downloaded
             // before proceeding. We need to open the Realm instance first to start any potential underlying
@@ -454,13 +591,20 @@ final class RealmCache {
         return (E) referenceCounter.getRealmInstance();
     }
 
-    private <E extends BaseRealm> ReferenceCounter getRefCounter(Class<E> realmClass, OsSharedRealm.VersionID version) {
+    private <E extends BaseRealm> ReferenceCounter getRefCounter(Class<E> realmClass, OsSharedRealm.VersionID version, RealmConfiguration configuration) {
         RealmCacheType cacheType = RealmCacheType.valueOf(realmClass);
         Pair<RealmCacheType, OsSharedRealm.VersionID> key = new Pair<>(cacheType, version);
         ReferenceCounter refCounter = refAndCountMap.get(key);
+        if (refCounter instanceof WeakGlobalReferenceCounter && ((WeakGlobalReferenceCounter) refCounter).isCollected()) {
+            // The frozen Realm was collected, but its reference has not been enqueued yet.
+            releaseCollectedFrozenRealm(key, configuration.getMetrics());
+            refCounter = null;
+        }
         if (refCounter == null) {
             if (version.equals(OsSharedRealm.VersionID.LIVE)) {
                 refCounter = new ThreadConfinedReferenceCounter();
+            } else if (configuration.isCloseUnreferencedFrozenRealms()) {
+                refCounter = new WeakGlobalReferenceCounter(key, collectedFrozenRealms);
             } else {
                 refCounter = new GlobalReferenceCounter();
             }
@@ -498,7 +642,7 @@ final class RealmCache {
      */
     synchronized void release(BaseRealm realm) {
         String canonicalPath = realm.getPath();
-        ReferenceCounter referenceCounter = getRefCounter(realm.getClass(), (realm.isFrozen()) ? realm.sharedRealm.getVersionID() : OsSharedRealm.VersionID.LIVE);
+        ReferenceCounter referenceCounter = getRefCounter(realm.getClass(), (realm.isFrozen()) ? realm.sharedRealm.getVersionID() : OsSharedRealm.VersionID.LIVE, realm.getConfiguration());
         int refCount = referenceCounter.getThreadLocalCount();
 
         if (refCount <= 0) {
@@ -514,6 +658,8 @@ final class RealmCache {
 
             // No more local reference to this Realm in current thread, close the instance.
             realm.doClose();
+            // Frozen Realms collected without being closed must not keep the file in use.
+            removeCollectedFrozenRealms();
 
             // No more instance of typed Realm and dynamic Realm.
             if (getTotalLiveRealmGlobalRefCount() == 0) {
@@ -537,6 +683,11 @@ final class RealmCache {
                     }
                 }
                 ObjectServerFacade.getFacade(realm.getConfiguration().isSyncConfiguration()).realmClosed(realm.getConfiguration());
+
+                // The file is not in use by this process anymore, replace it if a compacted copy is ready.
+                if (getTotalGlobalRefCount() == 0) {
+                    BackgroundCompaction.onAllInstancesClosed(canonicalPath);
+                }
             }
 
         } else {
@@ -544,6 +695,55 @@ final class RealmCache {
         }
     }
 
+    // Removes the reference counters of frozen Realms that were garbage collected without being closed.
+    private void removeCollectedFrozenRealms() {
+        Reference<? extends BaseRealm> ref;
+        while ((ref = collectedFrozenRealms.poll()) != null) {
+            FrozenRealmReference frozenRealmRef = (FrozenRealmReference) ref;
+            ReferenceCounter counter = refAndCountMap.get(frozenRealmRef.key);
+            // The counter might already have been replaced by one for a new instance of the same version.
+            if (counter instanceof WeakGlobalReferenceCounter && ((WeakGlobalReferenceCounter) counter).isCountedBy(frozenRealmRef)) {
+                releaseCollectedFrozenRealm(frozenRealmRef.key, frozenRealmRef.metrics);
+            }
+        }
+    }
+
+    private void releaseCollectedFrozenRealm(Pair<RealmCacheType, OsSharedRealm.VersionID> key, @Nullable RealmMetrics metrics) {
+        refAndCountMap.remove(key);
+        if (metrics != null) {
+            metrics.increment(RealmMetrics.Counter.FROZEN_REALM_RELEASED);
+        }
+    }
+
+    /**
+     * Returns statistics about the frozen Realms of the given configuration.
+     *
+     * @param configuration the {@link RealmConfiguration} of the Realm file.
+     * @return the statistics at the time of the call.
+     */
+    static FrozenRealmStats getFrozenRealmStats(RealmConfiguration configuration) {
+        RealmCache cache = getCache(configuration.getPath(), false);
+        long fileSize = new File(configuration.getPath()).length();
+        if (cache == null) {
+            return new FrozenRealmStats(0, 0, -1, fileSize);
+        }
+        return cache.doGetFrozenRealmStats(fileSize);
+    }
+
+    private synchronized FrozenRealmStats doGetFrozenRealmStats(long fileSize) {
+        removeCollectedFrozenRealms();
+        int realmCount = 0;
+        TreeSet<Long> versions = new TreeSet<>();
+        for (Map.Entry<Pair<RealmCacheType, OsSharedRealm.VersionID>, ReferenceCounter> entry : refAndCountMap.entrySet()) {
+            ReferenceCounter counter = entry.getValue();
+            if (counter instanceof GlobalReferenceCounter && counter.hasInstanceAvailableForThread()) {
+                realmCount++;
+                versions.add(entry.getKey().second.version);
+            }
+        }
+        return new FrozenRealmStats(realmCount, versions.size(), versions.isEmpty() ? -1 : versions.first(), fileSize);
+    }
+
     /**
      * Makes sure that the new configuration doesn't clash with any cached configurations for the
      * Realm.
@@ -602,6 +802,7 @@ final class RealmCache {
     }
 
     private synchronized void doInvokeWithGlobalRefCount(Callback callback) {
+        removeCollectedFrozenRealms();
         callback.onResult(getTotalGlobalRefCount());
     }
 
@@ -616,7 +817,8 @@ final class RealmCache {
 
     /**
      * Copies Realm database file from Android asset directory to the directory given in the {@link RealmConfiguration}.
-     * Copy is performed only at the first time when there is no Realm database file.
+     * Copy is performed only at the first time when there is no Realm database file. Read-only configurations opening
+     * the asset in place map it instead if it is stored uncompressed.
      *
      * WARNING: This method is not thread-safe so external synchronization is required before using it.
      *
@@ -624,7 +826,14 @@ final class RealmCache {
      * @throws RealmFileException if copying the file fails.
      */
     private static void copyAssetFileIfNeeded(final RealmConfiguration configuration) {
-        final File realmFileFromAsset = configuration.hasAssetFile() ?
+        final AssetManager assets = BaseRealm.applicationContext.getAssets();
+        // Read-only Realms can be opened directly on the asset if it is stored uncompressed. Encrypted Realms cannot
+        // be opened from memory and are always copied.
+        final boolean mappedInPlace = configuration.hasAssetFile()
+                && configuration.isAssetFileInPlace()
+                && configuration.getEncryptionKey() == null
+                && AssetFiles.mapInPlace(assets, configuration.getAssetFilePath(), configuration);
+        final File realmFileFromAsset = configuration.hasAssetFile() && !mappedInPlace ?
                 new File(configuration.getRealmDirectory(), configuration.getRealmFileName())
                 : null;
         final String syncServerCertificateAssetName = ObjectServerFacade.getFacade(
@@ -636,7 +845,8 @@ final class RealmCache {
                 @Override
                 public void run() {
                     if (realmFileFromAsset != null) {
-                        copyFileIfNeeded(configuration.getAssetFilePath(), realmFileFromAsset);
+                        AssetFiles.copyIfNeeded(assets, configuration.getAssetFilePath(), realmFileFromAsset,
+                                configuration.getAssetFileCopyListener());
                     }
 
                     // Copy Sync Server certificate path if available
@@ -645,63 +855,13 @@ final class RealmCache {
                                 configuration.isSyncConfiguration()).getSyncServerCertificateFilePath(configuration);
 
                         File certificateFile = new File(syncServerCertificateFilePath);
-                        copyFileIfNeeded(syncServerCertificateAssetName, certificateFile);
+                        AssetFiles.copyIfNeeded(assets, syncServerCertificateAssetName, certificateFile, null);
                     }
                 }
             });
         }
     }
 
-    private static void copyFileIfNeeded(String assetFileName, File file) {
-        if (file.exists()) {
-            return;
-        }
-
-        IOException exceptionWhenClose = null;
-        InputStream inputStream = null;
-        FileOutputStream outputStream = null;
-        try {
-            inputStream = BaseRealm.applicationContext.getAssets().open(assetFileName);
-            if (inputStream == null) {
-                throw new RealmFileException(RealmFileException.Kind.ACCESS_ERROR,
-                        "Invalid input stream to the asset file: " + assetFileName);
-            }
-
-            outputStream = new FileOutputStream(file);
-            byte[] buf = new byte[4096];
-            int bytesRead;
-            while ((bytesRead = inputStream.read(buf)) > -1) {
-                outputStream.write(buf, 0, bytesRead);
-            }
-        } catch (IOException e) {
-            throw new RealmFileException(RealmFileException.Kind.ACCESS_ERROR,
-                    "Could not resolve the path to the asset file: " + assetFileName, e);
-        } finally {
-            if (inputStream != null) {
-                try {
-                    inputStream.close();
-                } catch (IOException e) {
-                    exceptionWhenClose = e;
-                }
-            }
-            if (outputStream != null) {
-                try {
-                    outputStream.close();
-                } catch (IOException e) {
-                    // Ignores this one if there was an exception when close inputStream.
-                    if (exceptionWhenClose == null) {
-                        exceptionWhenClose = e;
-                    }
-                }
-            }
-        }
-
-        // No other exception has been thrown, only the exception when close. So, throw it.
-        if (exceptionWhenClose != null) {
-            throw new RealmFileException(RealmFileException.Kind.ACCESS_ERROR, exceptionWhenClose);
-        }
-    }
-
     static int getLocalThreadCount(RealmConfiguration configuration) {
         RealmCache cache = getCache(configuration.getPath(), false);
         if (cache == null) {
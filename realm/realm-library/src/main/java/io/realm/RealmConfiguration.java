@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -90,6 +91,9 @@ public class RealmConfiguration {
     private final String realmFileName;
     private final String canonicalPath;
     private final String assetFilePath;
+    private final boolean assetFileInPlace;
+    @Nullable
+    private final AssetFileCopyListener assetFileCopyListener;
     private final byte[] key;
     private final long schemaVersion;
     private final RealmMigration migration;
@@ -104,6 +108,11 @@ public class RealmConfiguration {
     private final long maxNumberOfActiveVersions;
     private final boolean allowWritesOnUiThread;
     private final boolean allowQueriesOnUiThread;
+    @Nullable
+    private final RealmMetrics metrics;
+    private final boolean closeUnreferencedFrozenRealms;
+    private final long maxFrozenRealmStalenessMs;
+    private final long slowQueryThresholdNanos;
 
     /**
      * Whether this RealmConfiguration is intended to open a
@@ -129,7 +138,13 @@ public class RealmConfiguration {
             boolean isRecoveryConfiguration,
             long maxNumberOfActiveVersions,
             boolean allowWritesOnUiThread,
-            boolean allowQueriesOnUiThread) {
+            boolean allowQueriesOnUiThread,
+            @Nullable RealmMetrics metrics,
+            boolean closeUnreferencedFrozenRealms,
+            long maxFrozenRealmStalenessMs,
+            long slowQueryThresholdNanos,
+            boolean assetFileInPlace,
+            @Nullable AssetFileCopyListener assetFileCopyListener) {
         this.realmDirectory = realmPath.getParentFile();
         this.realmFileName = realmPath.getName();
         this.canonicalPath = realmPath.getAbsolutePath();
@@ -149,6 +164,12 @@ public class RealmConfiguration {
         this.maxNumberOfActiveVersions = maxNumberOfActiveVersions;
         this.allowWritesOnUiThread = allowWritesOnUiThread;
         this.allowQueriesOnUiThread = allowQueriesOnUiThread;
+        this.metrics = metrics;
+        this.closeUnreferencedFrozenRealms = closeUnreferencedFrozenRealms;
+        this.maxFrozenRealmStalenessMs = maxFrozenRealmStalenessMs;
+        this.slowQueryThresholdNanos = slowQueryThresholdNanos;
+        this.assetFileInPlace = assetFileInPlace;
+        this.assetFileCopyListener = assetFileCopyListener;
     }
 
     public File getRealmDirectory() {
@@ -216,6 +237,25 @@ public class RealmConfiguration {
         return assetFilePath;
     }
 
+    /**
+     * Indicates if the asset file should be opened in place instead of being copied when possible.
+     *
+     * @return {@code true} if the asset file is opened in place, {@code false} if it is always copied.
+     */
+    boolean isAssetFileInPlace() {
+        return assetFileInPlace;
+    }
+
+    /**
+     * Returns the listener receiving the progress of copying the asset file.
+     *
+     * @return the listener, or {@code null} if none was set.
+     */
+    @Nullable
+    AssetFileCopyListener getAssetFileCopyListener() {
+        return assetFileCopyListener;
+    }
+
     /**
      * Returns a callback to determine if the Realm file should be compacted before being returned to the user.
      *
@@ -337,6 +377,47 @@ public class RealmConfiguration {
         return allowQueriesOnUiThread;
     }
 
+    /**
+     * Returns the {@link RealmMetrics} receiving the metrics of Realms opened with this configuration.
+     *
+     * @return the configured metrics or {@code null} if no metrics are recorded.
+     */
+    @Nullable
+    public RealmMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Returns whether frozen Realms are closed automatically once they are no longer referenced.
+     *
+     * @return {@code true} if unreferenced frozen Realms are closed, {@code false} otherwise.
+     * @see Builder#closeUnreferencedFrozenRealms(boolean)
+     */
+    public boolean isCloseUnreferencedFrozenRealms() {
+        return closeUnreferencedFrozenRealms;
+    }
+
+    /**
+     * Returns how old, in milliseconds, a frozen Realm can be and still be returned by {@code freeze()}.
+     *
+     * @return the maximum staleness of frozen Realms in milliseconds, {@code 0} if {@code freeze()} always returns the
+     * current version.
+     * @see Builder#maxFrozenRealmStaleness(long, TimeUnit)
+     */
+    public long getMaxFrozenRealmStalenessMs() {
+        return maxFrozenRealmStalenessMs;
+    }
+
+    /**
+     * Returns how long, in nanoseconds, a query can take before it is logged as slow.
+     *
+     * @return the slow query threshold in nanoseconds, {@code 0} if slow queries are not logged.
+     * @see Builder#slowQueryThreshold(long, TimeUnit)
+     */
+    public long getSlowQueryThresholdNanos() {
+        return slowQueryThresholdNanos;
+    }
+
     @Override
     public boolean equals(Object obj) {
         if (this == obj) { return true; }
@@ -347,6 +428,7 @@ public class RealmConfiguration {
         if (schemaVersion != that.schemaVersion) { return false; }
         if (deleteRealmIfMigrationNeeded != that.deleteRealmIfMigrationNeeded) { return false; }
         if (readOnly != that.readOnly) { return false; }
+        if (assetFileInPlace != that.assetFileInPlace) { return false; }
         if (isRecoveryConfiguration != that.isRecoveryConfiguration) { return false; }
         if (realmDirectory != null ? !realmDirectory.equals(that.realmDirectory) : that.realmDirectory != null) {
             return false;
@@ -391,6 +473,7 @@ public class RealmConfiguration {
         result = 31 * result + (rxObservableFactory != null ? rxObservableFactory.hashCode() : 0);
         result = 31 * result + (initialDataTransaction != null ? initialDataTransaction.hashCode() : 0);
         result = 31 * result + (readOnly ? 1 : 0);
+        result = 31 * result + (assetFileInPlace ? 1 : 0);
         result = 31 * result + (compactOnLaunch != null ? compactOnLaunch.hashCode() : 0);
         result = 31 * result + (isRecoveryConfiguration ? 1 : 0);
         result = 31 * result + (int) (maxNumberOfActiveVersions ^ (maxNumberOfActiveVersions >>> 32));
@@ -468,9 +551,19 @@ public class RealmConfiguration {
         stringBuilder.append("\n");
         stringBuilder.append("readOnly: ").append(readOnly);
         stringBuilder.append("\n");
+        stringBuilder.append("assetFileInPlace: ").append(assetFileInPlace);
+        stringBuilder.append("\n");
         stringBuilder.append("compactOnLaunch: ").append(compactOnLaunch);
         stringBuilder.append("\n");
         stringBuilder.append("maxNumberOfActiveVersions: ").append(maxNumberOfActiveVersions);
+        stringBuilder.append("\n");
+        stringBuilder.append("metrics: ").append(metrics);
+        stringBuilder.append("\n");
+        stringBuilder.append("closeUnreferencedFrozenRealms: ").append(closeUnreferencedFrozenRealms);
+        stringBuilder.append("\n");
+        stringBuilder.append("maxFrozenRealmStalenessMs: ").append(maxFrozenRealmStalenessMs);
+        stringBuilder.append("\n");
+        stringBuilder.append("slowQueryThresholdNanos: ").append(slowQueryThresholdNanos);
 
         return stringBuilder.toString();
     }
@@ -481,7 +574,7 @@ public class RealmConfiguration {
     }
 
     protected static RealmConfiguration forRecovery(String canonicalPath, @Nullable byte[] encryptionKey, RealmProxyMediator schemaMediator) {
-        return new RealmConfiguration(new File(canonicalPath),null, encryptionKey, 0, null, false, OsRealmConfig.Durability.FULL, schemaMediator, null, null, null, true, null, true, Long.MAX_VALUE, false, true);
+        return new RealmConfiguration(new File(canonicalPath),null, encryptionKey, 0, null, false, OsRealmConfig.Durability.FULL, schemaMediator, null, null, null, true, null, true, Long.MAX_VALUE, false, true, null, false, 0, 0, false, null);
     }
 
     /**
@@ -492,6 +585,9 @@ public class RealmConfiguration {
         private File directory;
         private String fileName;
         private String assetFilePath;
+        private boolean assetFileInPlace;
+        @Nullable
+        private AssetFileCopyListener assetFileCopyListener;
         private byte[] key;
         private long schemaVersion;
         private RealmMigration migration;
@@ -509,6 +605,11 @@ public class RealmConfiguration {
         private long maxNumberOfActiveVersions = Long.MAX_VALUE;
         private boolean allowWritesOnUiThread;
         private boolean allowQueriesOnUiThread;
+        @Nullable
+        private RealmMetrics metrics;
+        private boolean closeUnreferencedFrozenRealms;
+        private long maxFrozenRealmStalenessMs;
+        private long slowQueryThresholdNanos;
 
         /**
          * Creates an instance of the Builder for the RealmConfiguration.
@@ -787,6 +888,43 @@ public class RealmConfiguration {
             return this;
         }
 
+        /**
+         * Opens the asset file of a read-only Realm in place instead of copying it, which saves the time of the copy
+         * and the disk space of a second copy of the file.
+         * <p>
+         * This is only possible if the asset is stored uncompressed in the APK, e.g. by adding
+         * {@code aaptOptions { noCompress 'realm' }} to the build file of the app, and its data is aligned to 8
+         * bytes. The asset is then memory-mapped from the APK and opened as an immutable Realm. Otherwise, or if the
+         * Realm is encrypted, the asset is copied like without this option.
+         * <p>
+         * A Realm opened in place never changes, so it cannot be written to by other processes either.
+         *
+         * @throws IllegalStateException when building the configuration if it isn't read-only or has no asset file.
+         * @see #assetFile(String)
+         * @see #readOnly()
+         */
+        public Builder assetFileInPlace() {
+            this.assetFileInPlace = true;
+            return this;
+        }
+
+        /**
+         * Sets a listener receiving the progress of copying the asset file when the Realm is opened for the first
+         * time.
+         *
+         * @param listener the listener to notify.
+         * @throws IllegalArgumentException if {@code listener} is {@code null}.
+         * @see #assetFile(String)
+         */
+        public Builder assetFileCopyListener(AssetFileCopyListener listener) {
+            //noinspection ConstantConditions
+            if (listener == null) {
+                throw new IllegalArgumentException("A non-null listener must be provided");
+            }
+            this.assetFileCopyListener = listener;
+            return this;
+        }
+
         /**
          * Setting this will cause the Realm to become read only and all write transactions made against this Realm will
          * fail with an {@link IllegalStateException}.
@@ -894,6 +1032,85 @@ public class RealmConfiguration {
             return this;
         }
 
+        /**
+         * Sets the {@link RealmMetrics} that will receive counters and latencies of the Realms opened with this
+         * configuration, e.g. an {@link InMemoryRealmMetrics}. By default no metrics are recorded and no time is spent
+         * measuring anything.
+         * <p>
+         * The metrics are not considered when comparing configurations, so Realm instances opened on the same file
+         * report to the metrics of the configuration used to open the file first.
+         *
+         * @param metrics the metrics to record to or {@code null} to disable recording.
+         */
+        public Builder metrics(@Nullable RealmMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Sets whether frozen Realms are closed automatically once nothing references them anymore.
+         * <p>
+         * All frozen Realms of the same version share one instance across all threads. Every open frozen Realm keeps
+         * its version alive in the file, which makes the file grow while data is being written. By default a frozen
+         * Realm stays open until it is closed or the last live Realm of the file is closed. When enabled, a frozen
+         * Realm is closed as soon as it, and all frozen objects and collections from it, have been garbage collected.
+         * <p>
+         * Like {@link #metrics(RealmMetrics)}, this is decided by the configuration used to open the file first.
+         *
+         * @param closeUnreferencedFrozenRealms {@code true} to close frozen Realms that are no longer referenced.
+         */
+        public Builder closeUnreferencedFrozenRealms(boolean closeUnreferencedFrozenRealms) {
+            this.closeUnreferencedFrozenRealms = closeUnreferencedFrozenRealms;
+            return this;
+        }
+
+        /**
+         * Allows {@link Realm#freeze()} and {@link DynamicRealm#freeze()} to return a frozen Realm of an older version
+         * if it was created within the given time, instead of pinning the current version of the Realm. This reduces the
+         * number of versions kept alive when data is written often and frozen Realms are emitted for every change, at
+         * the cost of returning data that can be up to the given time old.
+         * <p>
+         * Freezing an object or a collection always uses the current version of its Realm. By default frozen Realms
+         * are never reused across versions.
+         *
+         * @param staleness how old a frozen Realm can be to be reused. {@code 0} disables reuse.
+         * @param unit the unit of {@code staleness}.
+         * @throws IllegalArgumentException if {@code staleness} is negative.
+         */
+        public Builder maxFrozenRealmStaleness(long staleness, TimeUnit unit) {
+            if (staleness < 0) {
+                throw new IllegalArgumentException("Only positive numbers or 0 are allowed. Yours was: " + staleness);
+            }
+            //noinspection ConstantConditions
+            if (unit == null) {
+                throw new IllegalArgumentException("Non-null 'unit' required.");
+            }
+            this.maxFrozenRealmStalenessMs = unit.toMillis(staleness);
+            return this;
+        }
+
+        /**
+         * Logs queries that take at least the given time through {@link io.realm.log.RealmLog} as warnings, together
+         * with their description. This covers {@code findAll()}, {@code findFirst()}, {@code count()} and
+         * {@code select()} of {@link RealmQuery}. Use {@link RealmQuery#explain()} to investigate a slow query. By
+         * default no queries are logged and no time is spent measuring them.
+         *
+         * @param threshold how long a query can take before it is logged. {@code 0} disables logging.
+         * @param unit the unit of {@code threshold}.
+         * @throws IllegalArgumentException if {@code threshold} is negative.
+         */
+        public Builder slowQueryThreshold(long threshold, TimeUnit unit) {
+            if (threshold < 0) {
+                throw new IllegalArgumentException("Only positive numbers or 0 are allowed. Yours was: " + threshold);
+            }
+            //noinspection ConstantConditions
+            if (unit == null) {
+                throw new IllegalArgumentException("Non-null 'unit' required.");
+            }
+            this.slowQueryThresholdNanos = unit.toNanos(threshold);
+            return this;
+        }
+
         /**
          * Creates the RealmConfiguration based on the builder parameters.
          *
@@ -915,6 +1132,8 @@ public class RealmConfiguration {
                 if (compactOnLaunch != null) {
                     throw new IllegalStateException("'compactOnLaunch()' and read-only Realms cannot be combined");
                 }
+            } else if (assetFileInPlace) {
+                throw new IllegalStateException("Only read-only Realms can open their asset file in place. Call 'readOnly()'.");
             }
 
             if (rxFactory == null && Util.isRxJavaAvailable()) {
@@ -941,7 +1160,13 @@ public class RealmConfiguration {
                     false,
                     maxNumberOfActiveVersions,
                     allowWritesOnUiThread,
-                    allowQueriesOnUiThread
+                    allowQueriesOnUiThread,
+                    metrics,
+                    closeUnreferencedFrozenRealms,
+                    maxFrozenRealmStalenessMs,
+                    slowQueryThresholdNanos,
+                    assetFileInPlace,
+                    assetFileCopyListener
             );
         }
 
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+
+
+/**
+ * Statistics about the space used in a Realm file, as returned by {@link Realm#getFileStats()}.
+ * <p>
+ * Realm files don't shrink when data is deleted. The space is reused by later writes, but a file which has held much
+ * more data than it does now contains a lot of free space, which can be reclaimed by compacting it. See
+ * {@link Realm#compactRealmInBackground(RealmConfiguration, CompactionListener)}.
+ * <p>
+ * The used bytes are computed by walking the structure of the version of the Realm read by the instance, without
+ * reading the values of objects. The file size includes space used by other versions still kept alive, e.g. by frozen
+ * Realms, which counts as free space here.
+ */
+public final class RealmFileStats {
+
+    private final long fileSize;
+    private final long dataBytes;
+    private final long historyBytes;
+    private final long freeListBytes;
+    private final Map<String, Long> classBytes;
+
+    RealmFileStats(long fileSize, long dataBytes, long historyBytes, long freeListBytes, Map<String, Long> classBytes) {
+        this.fileSize = fileSize;
+        this.dataBytes = dataBytes;
+        this.historyBytes = historyBytes;
+        this.freeListBytes = freeListBytes;
+        this.classBytes = Collections.unmodifiableMap(classBytes);
+    }
+
+    /**
+     * Returns the size of the Realm file in bytes.
+     */
+    public long getFileSize() {
+        return fileSize;
+    }
+
+    /**
+     * Returns the bytes used by the data of all classes and the schema.
+     */
+    public long getDataBytes() {
+        return dataBytes;
+    }
+
+    /**
+     * Returns the bytes used by the history of changes kept for synchronization and notifications.
+     */
+    public long getHistoryBytes() {
+        return historyBytes;
+    }
+
+    /**
+     * Returns the bytes used by the list of free space in the file.
+     */
+    public long getFreeListBytes() {
+        return freeListBytes;
+    }
+
+    /**
+     * Returns the bytes in use: data, history and the list of free space.
+     */
+    public long getUsedBytes() {
+        return dataBytes + historyBytes + freeListBytes;
+    }
+
+    /**
+     * Returns the bytes of the file not used by the current version, which compacting the file would reclaim.
+     */
+    public long getFreeBytes() {
+        return Math.max(0, fileSize - getUsedBytes());
+    }
+
+    /**
+     * Returns the share of the file not used by the current version, between {@code 0} and {@code 1}.
+     */
+    public double getFreeRatio() {
+        return fileSize > 0 ? (double) getFreeBytes() / fileSize : 0;
+    }
+
+    /**
+     * Returns the bytes used by the objects of each class, by internal class name.
+     */
+    public Map<String, Long> getClassBytes() {
+        return classBytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "RealmFileStats{fileSize=%d, dataBytes=%d, historyBytes=%d, freeListBytes=%d, freeBytes=%d, classBytes=%s}",
+                fileSize, dataBytes, historyBytes, freeListBytes, getFreeBytes(), classBytes);
+    }
+}
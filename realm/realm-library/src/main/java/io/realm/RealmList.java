@@ -168,7 +168,7 @@ public class RealmList<E> extends AbstractList<E> implements OrderedRealmCollect
                 throw new IllegalStateException("Only valid, managed RealmLists can be frozen.");
             }
 
-            BaseRealm frozenRealm = baseRealm.freeze();
+            BaseRealm frozenRealm = baseRealm.freezeAtCurrentVersion();
             OsList frozenList = getOsList().freeze(frozenRealm.sharedRealm);
             if (className != null) {
                 return new RealmList<>(className, frozenList, frozenRealm);
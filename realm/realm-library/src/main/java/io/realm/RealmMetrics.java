@@ -0,0 +1,122 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm;
+
+import javax.annotation.Nullable;
+
+
+/**
+ * Receives counters and latencies recorded by Realm on its core paths. A RealmMetrics instance is set with
+ * {@link RealmConfiguration.Builder#metrics(RealmMetrics)} and used by all Realm instances opened with that
+ * configuration.
+ * <p>
+ * Implementations are called on the thread performing the operation, often while holding the write lock, and must
+ * therefore be thread safe and return quickly. When no RealmMetrics is configured nothing is measured.
+ * <p>
+ * {@link InMemoryRealmMetrics} provides an implementation that aggregates everything into histograms that can be read
+ * using {@link InMemoryRealmMetrics#snapshot()}.
+ */
+public interface RealmMetrics {
+
+    /**
+     * Events counted by Realm.
+     */
+    enum Counter {
+        /**
+         * A Realm file was opened by a new Realm instance, including frozen Realms.
+         */
+        REALM_OPENED,
+        /**
+         * A Realm instance closed its underlying Realm file.
+         */
+        REALM_CLOSED,
+        /**
+         * A write transaction was committed.
+         */
+        TRANSACTION_COMMITTED,
+        /**
+         * A write transaction was cancelled.
+         */
+        TRANSACTION_CANCELLED,
+        /**
+         * {@code freeze()} returned an existing frozen Realm of an older version instead of pinning a new version. See
+         * {@link RealmConfiguration.Builder#maxFrozenRealmStaleness(long, java.util.concurrent.TimeUnit)}.
+         */
+        FROZEN_REALM_REUSED,
+        /**
+         * A frozen Realm was released from the cache after being garbage collected without being closed. See
+         * {@link RealmConfiguration.Builder#closeUnreferencedFrozenRealms(boolean)}.
+         */
+        FROZEN_REALM_RELEASED,
+        /**
+         * A Realm file was replaced by the compacted copy written by a background compaction. See
+         * {@link Realm#compactRealmInBackground(RealmConfiguration, CompactionListener)}.
+         */
+        REALM_COMPACTED
+    }
+
+    /**
+     * Operations timed by Realm.
+     */
+    enum Timer {
+        /**
+         * Time spent opening the Realm file for a new Realm instance.
+         */
+        REALM_OPEN,
+        /**
+         * Time spent in {@code beginTransaction()} waiting for the write lock and advancing to the latest version.
+         */
+        WRITE_LOCK_WAIT,
+        /**
+         * Time a write transaction was held, from acquiring the write lock until it was committed or cancelled.
+         */
+        TRANSACTION_HOLD,
+        /**
+         * Time spent committing a write transaction.
+         */
+        COMMIT,
+        /**
+         * Time spent executing a synchronous query. This is reported together with the internal name of the queried
+         * class.
+         */
+        QUERY,
+        /**
+         * Time spent delivering the change notifications for one new version of the Realm.
+         */
+        NOTIFICATION_DISPATCH,
+        /**
+         * Time the Realm file was locked to replace it with the compacted copy written by a background compaction.
+         */
+        COMPACTION_PAUSE
+    }
+
+    /**
+     * Increments the given counter by one.
+     *
+     * @param counter the counter to increment.
+     */
+    void increment(Counter counter);
+
+    /**
+     * Records the duration of an operation.
+     *
+     * @param timer the timed operation.
+     * @param className the internal name of the class involved in the operation, or {@code null} if the operation is
+     * not tied to a single class.
+     * @param durationNanos the duration of the operation in nanoseconds.
+     */
+    void recordLatency(Timer timer, @Nullable String className, long durationNanos);
+}
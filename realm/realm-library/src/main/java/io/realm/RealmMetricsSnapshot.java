@@ -0,0 +1,193 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.realm;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+
+/**
+ * An immutable copy of the values recorded by an {@link InMemoryRealmMetrics}.
+ *
+ * @see InMemoryRealmMetrics#snapshot()
+ */
+public final class RealmMetricsSnapshot {
+
+    private final Map<RealmMetrics.Counter, Long> counters;
+    private final Map<RealmMetrics.Timer, Latency> latencies;
+    private final Map<String, Latency> queryLatencies;
+    private final long nativeReferenceCount;
+
+    RealmMetricsSnapshot(EnumMap<RealmMetrics.Counter, Long> counters,
+            EnumMap<RealmMetrics.Timer, Latency> latencies,
+            Map<String, Latency> queryLatencies,
+            long nativeReferenceCount) {
+        this.counters = counters;
+        this.latencies = latencies;
+        this.queryLatencies = Collections.unmodifiableMap(queryLatencies);
+        this.nativeReferenceCount = nativeReferenceCount;
+    }
+
+    /**
+     * Returns the value of the given counter.
+     *
+     * @param counter the counter to return.
+     * @return the number of times the counter was incremented.
+     */
+    public long getCount(RealmMetrics.Counter counter) {
+        Long count = counters.get(counter);
+        return (count != null) ? count : 0;
+    }
+
+    /**
+     * Returns the latencies recorded for the given operation. For {@link RealmMetrics.Timer#QUERY} this covers the
+     * queries on all classes.
+     *
+     * @param timer the timed operation.
+     * @return the recorded latencies.
+     */
+    public Latency getLatency(RealmMetrics.Timer timer) {
+        Latency latency = latencies.get(timer);
+        return (latency != null) ? latency : Latency.EMPTY;
+    }
+
+    /**
+     * Returns the internal names of all classes that have been queried.
+     */
+    public Set<String> getQueriedClassNames() {
+        return queryLatencies.keySet();
+    }
+
+    /**
+     * Returns the latencies of the queries on the given class.
+     *
+     * @param className the internal name of the class.
+     * @return the recorded latencies.
+     */
+    public Latency getQueryLatency(String className) {
+        Latency latency = queryLatencies.get(className);
+        return (latency != null) ? latency : Latency.EMPTY;
+    }
+
+    /**
+     * Returns the number of native objects held by Java objects across all Realms in the process at the time of the
+     * snapshot. Native objects are released once their Java counterparts are garbage collected.
+     */
+    public long getNativeReferenceCount() {
+        return nativeReferenceCount;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("RealmMetricsSnapshot{");
+        for (RealmMetrics.Counter counter : RealmMetrics.Counter.values()) {
+            sb.append(counter).append('=').append(getCount(counter)).append(", ");
+        }
+        for (RealmMetrics.Timer timer : RealmMetrics.Timer.values()) {
+            sb.append(timer).append('=').append(getLatency(timer)).append(", ");
+        }
+        sb.append("nativeReferenceCount=").append(nativeReferenceCount).append('}');
+        return sb.toString();
+    }
+
+    /**
+     * The distribution of the recorded durations of an operation. All values are in nanoseconds.
+     */
+    public static final class Latency {
+
+        static final Latency EMPTY = new Latency(0, 0, 0, 0, new long[0], new long[0]);
+
+        private final long count;
+        private final long sum;
+        private final long min;
+        private final long max;
+        // Upper bounds and counts of the non-empty histogram buckets in ascending order.
+        private final long[] upperBounds;
+        private final long[] bucketCounts;
+
+        Latency(long count, long sum, long min, long max, long[] upperBounds, long[] bucketCounts) {
+            this.count = count;
+            this.sum = sum;
+            this.min = min;
+            this.max = max;
+            this.upperBounds = upperBounds;
+            this.bucketCounts = bucketCounts;
+        }
+
+        /**
+         * Returns the number of recorded durations.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the shortest recorded duration or {@code 0} if nothing was recorded.
+         */
+        public long getMin() {
+            return min;
+        }
+
+        /**
+         * Returns the longest recorded duration or {@code 0} if nothing was recorded.
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * Returns the average of the recorded durations or {@code 0} if nothing was recorded.
+         */
+        public double getMean() {
+            return (count == 0) ? 0 : (double) sum / count;
+        }
+
+        /**
+         * Returns the duration below which the given percentage of the recorded durations fall. The value is accurate
+         * to about 6% of the returned duration.
+         *
+         * @param percentile the percentile between 0 and 100, e.g. {@code 99.9}.
+         * @return the duration at the given percentile or {@code 0} if nothing was recorded.
+         * @throws IllegalArgumentException if {@code percentile} is outside the range 0-100.
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (percentile < 0 || percentile > 100) {
+                throw new IllegalArgumentException("Percentile must be between 0 and 100. Yours was: " + percentile);
+            }
+            if (count == 0) {
+                return 0;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+            long seen = 0;
+            for (int i = 0; i < bucketCounts.length; i++) {
+                seen += bucketCounts[i];
+                if (seen >= rank) {
+                    return Math.max(min, Math.min(upperBounds[i], max));
+                }
+            }
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US, "{count=%d, mean=%.0f, p50=%d, p99=%d, max=%d}",
+                    count, getMean(), getValueAtPercentile(50), getValueAtPercentile(99), max);
+        }
+    }
+}
@@ -233,7 +233,7 @@ public abstract class RealmObject implements RealmModel, ManageableObject {
         if (object instanceof RealmObjectProxy) {
             RealmObjectProxy proxy = (RealmObjectProxy) object;
             BaseRealm realm = proxy.realmGet$proxyState().getRealm$realm();
-            BaseRealm frozenRealm = (realm.isFrozen()) ? realm : realm.freeze();
+            BaseRealm frozenRealm = (realm.isFrozen()) ? realm : realm.freezeAtCurrentVersion();
 
             Row frozenRow = proxy.realmGet$proxyState().getRow$realm().freeze(frozenRealm.sharedRealm);
             if (frozenRealm instanceof DynamicRealm) {
@@ -0,0 +1,337 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm;
+
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.RandomAccess;
+
+import javax.annotation.Nullable;
+
+import io.realm.internal.OsResults;
+
+
+/**
+ * The values of selected fields of the objects matching a query, see {@link RealmQuery#select(String...)}.
+ * <p>
+ * All values are read from the Realm when the projection is created, with a single native call for all objects
+ * instead of creating a managed object per match. A projection is immutable and not connected to the Realm: it doesn't
+ * change when the Realm is updated, and it can be used on any thread and after the Realm has been closed.
+ * <p>
+ * As every value is held in memory at once, the memory used by a projection grows with the number of matches times
+ * the number of selected fields, and strings and binary values are copied in full. Use {@link RealmQuery#limit(long)}
+ * or page with {@link RealmQuery#after(String)} to bound it for large results.
+ * <p>
+ * Each object is represented by a {@link Record}. Fields are accessed by the name they were selected with, including
+ * link paths like {@code "owner.city"}. A field reached through a link is {@code null} if any link on the path is
+ * {@code null}.
+ */
+public final class RealmProjection extends AbstractList<RealmProjection.Record> implements RandomAccess {
+
+    private final List<String> fieldNames;
+    private final RealmFieldType[] fieldTypes;
+    private final Map<String, Integer> fieldIndices;
+    private final int size;
+    // Values of all objects, stored object by object. Integers, booleans, dates and the bits of floating point numbers
+    // are stored in values, all other types in objects.
+    private final long[] values;
+    private final Object[] objects;
+    private final boolean[] nulls;
+
+    static RealmProjection create(OsResults results, String[] fieldNames, RealmFieldType[] fieldTypes,
+                                  long[][] columnKeyPaths) {
+        long count = results.size();
+        long length = count * fieldNames.length;
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalStateException(String.format(Locale.US,
+                    "Too many values to select: %d objects with %d fields.", count, fieldNames.length));
+        }
+        long[] values = new long[(int) length];
+        Object[] objects = new Object[(int) length];
+        boolean[] nulls = new boolean[(int) length];
+        int size = results.getProjectionValues(columnKeyPaths, 0, (int) count, values, objects, nulls);
+        return new RealmProjection(fieldNames, fieldTypes, size, values, objects, nulls);
+    }
+
+    private RealmProjection(String[] fieldNames, RealmFieldType[] fieldTypes, int size, long[] values,
+                            Object[] objects, boolean[] nulls) {
+        // The array is passed on from the varargs of RealmQuery.select(), which the caller can still modify.
+        this.fieldNames = Collections.unmodifiableList(Arrays.asList(fieldNames.clone()));
+        this.fieldTypes = fieldTypes;
+        this.fieldIndices = new HashMap<>(fieldNames.length * 2);
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldIndices.put(fieldNames[i], i);
+        }
+        this.size = size;
+        this.values = values;
+        this.objects = objects;
+        this.nulls = nulls;
+    }
+
+    /**
+     * Returns the names of the selected fields, in the order they were selected.
+     *
+     * @return the selected field names.
+     */
+    public List<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    /**
+     * Returns the type of a selected field.
+     *
+     * @param fieldName the name the field was selected with.
+     * @return the type of the field.
+     * @throws IllegalArgumentException if the field was not selected.
+     */
+    public RealmFieldType getFieldType(String fieldName) {
+        return fieldTypes[getFieldIndex(fieldName)];
+    }
+
+    @Override
+    public Record get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return new Record(index * fieldTypes.length);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private int getFieldIndex(String fieldName) {
+        Integer index = fieldIndices.get(fieldName);
+        if (index == null) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    "Field '%s' is not part of this projection. Selected fields: %s", fieldName, fieldNames));
+        }
+        return index;
+    }
+
+    // Binary values are copied, so callers cannot modify the projection.
+    @Nullable
+    private static byte[] copyOf(@Nullable byte[] value) {
+        return (value == null) ? null : Arrays.copyOf(value, value.length);
+    }
+
+    /**
+     * The selected values of one object.
+     */
+    public final class Record {
+
+        private final int offset;
+
+        private Record(int offset) {
+            this.offset = offset;
+        }
+
+        /**
+         * Checks if the value of a selected field is {@code null}.
+         *
+         * @param fieldName the name the field was selected with.
+         * @return {@code true} if the value, or a link leading to it, is {@code null}.
+         * @throws IllegalArgumentException if the field was not selected.
+         */
+        public boolean isNull(String fieldName) {
+            return nulls[offset + getFieldIndex(fieldName)];
+        }
+
+        /**
+         * Returns the value of a selected field as the type used by model classes for it, e.g. {@code Long} for
+         * integer fields.
+         *
+         * @param fieldName the name the field was selected with.
+         * @return the value, or {@code null}.
+         * @throws IllegalArgumentException if the field was not selected.
+         */
+        @Nullable
+        public Object get(String fieldName) {
+            int field = getFieldIndex(fieldName);
+            int index = offset + field;
+            if (nulls[index]) {
+                return null;
+            }
+            switch (fieldTypes[field]) {
+                case INTEGER:
+                    return values[index];
+                case BOOLEAN:
+                    return values[index] != 0;
+                case FLOAT:
+                    return Float.intBitsToFloat((int) values[index]);
+                case DOUBLE:
+                    return Double.longBitsToDouble(values[index]);
+                case DATE:
+                    return new Date(values[index]);
+                case BINARY:
+                    return copyOf((byte[]) objects[index]);
+                default:
+                    return objects[index];
+            }
+        }
+
+        /**
+         * Returns the value of a selected integer field.
+         *
+         * @param fieldName the name the field was selected with.
+         * @return the value.
+         * @throws IllegalArgumentException if the field was not selected or is not an integer field.
+         * @throws IllegalStateException if the value is {@code null}, use {@link #isNull(String)} to check.
+         */
+        public long getLong(String fieldName) {
+            return values[getNonNullIndex(fieldName, RealmFieldType.INTEGER)];
+        }
+
+        /**
+         * Returns the value of a selected boolean field.
+         *
+         * @param fieldName the name the field was selected with.
+         * @return the value.
+         * @throws IllegalArgumentException if the field was not selected or is not a boolean field.
+         * @throws IllegalStateException if the value is {@code null}, use {@link #isNull(String)} to check.
+         */
+        public boolean getBoolean(String fieldName) {
+            return values[getNonNullIndex(fieldName, RealmFieldType.BOOLEAN)] != 0;
+        }
+
+        /**
+         * Returns the value of a selected float field.
+         *
+         * @param fieldName the name the field was selected with.
+         * @return the value.
+         * @throws IllegalArgumentException if the field was not selected or is not a float field.
+         * @throws IllegalStateException if the value is {@code null}, use {@link #isNull(String)} to check.
+         */
+        public float getFloat(String fieldName) {
+            return Float.intBitsToFloat((int) values[getNonNullIndex(fieldName, RealmFieldType.FLOAT)]);
+        }
+
+        /**
+         * Returns the value of a selected double field.
+         *
+         * @param fieldName the name the field was selected with.
+         * @return the value.
+         * @throws IllegalArgumentException if the field was not selected or is not a double field.
+         * @throws IllegalStateException if the value is {@code null}, use {@link #isNull(String)} to check.
+         */
+        public double getDouble(String fieldName) {
+            return Double.longBitsToDouble(values[getNonNullIndex(fieldName, RealmFieldType.DOUBLE)]);
+        }
+
+        /**
+         * Returns the value of a selected date field.
+         *
+         * @param fieldName the name the field was selected with.
+         * @return the value, or {@code null}.
+         * @throws IllegalArgumentException if the field was not selected or is not a date field.
+         */
+        @Nullable
+        public Date getDate(String fieldName) {
+            int index = getIndex(fieldName, RealmFieldType.DATE);
+            return nulls[index] ? null : new Date(values[index]);
+        }
+
+        /**
+         * Returns the value of a selected string field.
+         *
+         * @param fieldName the name the field was selected with.
+         * @return the value, or {@code null}.
+         * @throws IllegalArgumentException if the field was not selected or is not a string field.
+         */
+        @Nullable
+        public String getString(String fieldName) {
+            return (String) objects[getIndex(fieldName, RealmFieldType.STRING)];
+        }
+
+        /**
+         * Returns the value of a selected binary field.
+         *
+         * @param fieldName the name the field was selected with.
+         * @return a copy of the value, or {@code null}.
+         * @throws IllegalArgumentException if the field was not selected or is not a binary field.
+         */
+        @Nullable
+        public byte[] getBlob(String fieldName) {
+            return copyOf((byte[]) objects[getIndex(fieldName, RealmFieldType.BINARY)]);
+        }
+
+        /**
+         * Returns the value of a selected {@link Decimal128} field.
+         *
+         * @param fieldName the name the field was selected with.
+         * @return the value, or {@code null}.
+         * @throws IllegalArgumentException if the field was not selected or is not a {@link Decimal128} field.
+         */
+        @Nullable
+        public Decimal128 getDecimal128(String fieldName) {
+            return (Decimal128) objects[getIndex(fieldName, RealmFieldType.DECIMAL128)];
+        }
+
+        /**
+         * Returns the value of a selected {@link ObjectId} field.
+         *
+         * @param fieldName the name the field was selected with.
+         * @return the value, or {@code null}.
+         * @throws IllegalArgumentException if the field was not selected or is not an {@link ObjectId} field.
+         */
+        @Nullable
+        public ObjectId getObjectId(String fieldName) {
+            return (ObjectId) objects[getIndex(fieldName, RealmFieldType.OBJECT_ID)];
+        }
+
+        private int getIndex(String fieldName, RealmFieldType expectedType) {
+            int field = getFieldIndex(fieldName);
+            if (fieldTypes[field] != expectedType) {
+                throw new IllegalArgumentException(String.format(Locale.US,
+                        "Field '%s': type mismatch. Was %s, expected %s.", fieldName, fieldTypes[field], expectedType));
+            }
+            return offset + field;
+        }
+
+        private int getNonNullIndex(String fieldName, RealmFieldType expectedType) {
+            int index = getIndex(fieldName, expectedType);
+            if (nulls[index]) {
+                throw new IllegalStateException(String.format(Locale.US, "Field '%s' is null.", fieldName));
+            }
+            return index;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("{");
+            for (int i = 0; i < fieldNames.size(); i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                String fieldName = fieldNames.get(i);
+                Object value = get(fieldName);
+                sb.append(fieldName).append(':').append(value instanceof byte[] ? "binary(" + ((byte[]) value).length + ")" : value);
+            }
+            return sb.append('}').toString();
+        }
+    }
+}
@@ -20,16 +20,24 @@ package io.realm;
 import org.bson.types.Decimal128;
 import org.bson.types.ObjectId;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
 import io.realm.annotations.Required;
 import io.realm.exceptions.RealmException;
+import io.realm.internal.NativeObject;
 import io.realm.internal.OsList;
 import io.realm.internal.OsResults;
+import io.realm.internal.ParallelQuery;
 import io.realm.internal.PendingRow;
 import io.realm.internal.RealmObjectProxy;
 import io.realm.internal.Row;
@@ -38,6 +46,7 @@ import io.realm.internal.TableQuery;
 import io.realm.internal.core.DescriptorOrdering;
 import io.realm.internal.core.QueryDescriptor;
 import io.realm.internal.fields.FieldDescriptor;
+import io.realm.log.RealmLog;
 
 
 /**
@@ -74,11 +83,29 @@ public class RealmQuery<E> {
     private String className;
     private final boolean forValues;
     private final OsList osList;
+    // True if the query is evaluated on a whole table, false if it is restricted to a RealmResults or RealmList.
+    private final boolean onTable;
     private DescriptorOrdering queryDescriptors = new DescriptorOrdering();
+    // The sort order defined with sort(), used by after() to create the keyset pagination.
+    @Nullable
+    private String[] sortFieldNames;
+    @Nullable
+    private Sort[] sortOrders;
+    @Nullable
+    private KeysetPagination pagination;
+    // Tracks where or() was used, since after() can only add its conditions to a query without a top-level or().
+    private int groupDepth;
+    private boolean hasTopLevelOr;
+    // The fields used by the conditions of the query, reported by explain().
+    private final List<QueryCondition> conditions = new ArrayList<>();
 
     private static final String TYPE_MISMATCH = "Field '%s': type mismatch - %s expected.";
     private static final String EMPTY_VALUES = "Non-empty 'values' must be provided.";
     private static final String ASYNC_QUERY_WRONG_THREAD_MESSAGE = "Async query cannot be created on current thread.";
+    private static final Set<RealmFieldType> SELECT_VALID_FIELD_TYPES = Collections.unmodifiableSet(EnumSet.of(
+            RealmFieldType.INTEGER, RealmFieldType.BOOLEAN, RealmFieldType.FLOAT, RealmFieldType.DOUBLE,
+            RealmFieldType.DATE, RealmFieldType.STRING, RealmFieldType.BINARY, RealmFieldType.DECIMAL128,
+            RealmFieldType.OBJECT_ID));
 
     /**
      * Creates a query for objects of a given class from a {@link Realm}.
@@ -140,6 +167,7 @@ public class RealmQuery<E> {
 
     private RealmQuery(Realm realm, Class<E> clazz) {
         this.realm = realm;
+        this.onTable = isClassForRealmModel(clazz);
         this.clazz = clazz;
         this.forValues = !isClassForRealmModel(clazz);
         if (forValues) {
@@ -159,6 +187,7 @@ public class RealmQuery<E> {
 
     private RealmQuery(RealmResults<E> queryResults, Class<E> clazz) {
         this.realm = queryResults.baseRealm;
+        this.onTable = false;
         this.clazz = clazz;
         this.forValues = !isClassForRealmModel(clazz);
         if (forValues) {
@@ -178,6 +207,7 @@ public class RealmQuery<E> {
 
     private RealmQuery(BaseRealm realm, OsList osList, Class<E> clazz) {
         this.realm = realm;
+        this.onTable = false;
         this.clazz = clazz;
         this.forValues = !isClassForRealmModel(clazz);
         if (forValues) {
@@ -197,6 +227,7 @@ public class RealmQuery<E> {
 
     private RealmQuery(BaseRealm realm, String className) {
         this.realm = realm;
+        this.onTable = true;
         this.className = className;
         this.forValues = false;
         this.schema = realm.getSchema().getSchemaForClass(className);
@@ -207,6 +238,7 @@ public class RealmQuery<E> {
 
     private RealmQuery(RealmResults<DynamicRealmObject> queryResults, String className) {
         this.realm = queryResults.baseRealm;
+        this.onTable = false;
         this.className = className;
         this.forValues = false;
         this.schema = realm.getSchema().getSchemaForClass(className);
@@ -217,6 +249,7 @@ public class RealmQuery<E> {
 
     private RealmQuery(BaseRealm realm, OsList osList, String className) {
         this.realm = realm;
+        this.onTable = false;
         this.className = className;
         this.forValues = false;
         this.schema = realm.getSchema().getSchemaForClass(className);
@@ -257,7 +290,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> isNull(String fieldName) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName);
+        FieldDescriptor fd = getEqualityFieldDescriptors(fieldName);
 
         // Checks that fieldName has the correct type is done in C++.
         this.query.isNull(fd.getColumnKeys(), fd.getNativeTablePointers());
@@ -275,7 +308,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> isNotNull(String fieldName) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName);
 
         // Checks that fieldName has the correct type is done in C++.
         this.query.isNotNull(fd.getColumnKeys(), fd.getNativeTablePointers());
@@ -336,7 +369,7 @@ public class RealmQuery<E> {
     }
 
     private RealmQuery<E> equalToWithoutThreadValidation(String fieldName, @Nullable String value, Case casing) {
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.STRING);
+        FieldDescriptor fd = getEqualityFieldDescriptors(fieldName, RealmFieldType.STRING);
         this.query.equalTo(fd.getColumnKeys(), fd.getNativeTablePointers(), value, casing);
         return this;
     }
@@ -356,7 +389,7 @@ public class RealmQuery<E> {
     }
 
     private RealmQuery<E> equalToWithoutThreadValidation(String fieldName, @Nullable Byte value) {
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getEqualityFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         if (value == null) {
             this.query.isNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -376,7 +409,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> equalTo(String fieldName, @Nullable byte[] value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.BINARY);
+        FieldDescriptor fd = getEqualityFieldDescriptors(fieldName, RealmFieldType.BINARY);
         if (value == null) {
             this.query.isNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -399,7 +432,7 @@ public class RealmQuery<E> {
     }
 
     private RealmQuery<E> equalToWithoutThreadValidation(String fieldName, @Nullable Short value) {
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getEqualityFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         if (value == null) {
             this.query.isNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -423,7 +456,7 @@ public class RealmQuery<E> {
     }
 
     private RealmQuery<E> equalToWithoutThreadValidation(String fieldName, @Nullable Integer value) {
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getEqualityFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         if (value == null) {
             this.query.isNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -447,7 +480,7 @@ public class RealmQuery<E> {
     }
 
     private RealmQuery<E> equalToWithoutThreadValidation(String fieldName, @Nullable Long value) {
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getEqualityFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         if (value == null) {
             this.query.isNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -471,7 +504,7 @@ public class RealmQuery<E> {
     }
 
     private RealmQuery<E> equalToWithoutThreadValidation(String fieldName, @Nullable Double value) {
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DOUBLE);
+        FieldDescriptor fd = getEqualityFieldDescriptors(fieldName, RealmFieldType.DOUBLE);
         if (value == null) {
             this.query.isNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -495,7 +528,7 @@ public class RealmQuery<E> {
     }
 
     private RealmQuery<E> equalToWithoutThreadValidation(String fieldName, @Nullable Float value) {
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.FLOAT);
+        FieldDescriptor fd = getEqualityFieldDescriptors(fieldName, RealmFieldType.FLOAT);
         if (value == null) {
             this.query.isNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -519,7 +552,7 @@ public class RealmQuery<E> {
     }
 
     private RealmQuery<E> equalToWithoutThreadValidation(String fieldName, @Nullable Boolean value) {
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.BOOLEAN);
+        FieldDescriptor fd = getEqualityFieldDescriptors(fieldName, RealmFieldType.BOOLEAN);
         if (value == null) {
             this.query.isNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -543,13 +576,13 @@ public class RealmQuery<E> {
     }
 
     private RealmQuery<E> equalToWithoutThreadValidation(String fieldName, @Nullable Date value) {
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DATE);
+        FieldDescriptor fd = getEqualityFieldDescriptors(fieldName, RealmFieldType.DATE);
         this.query.equalTo(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
 
     private RealmQuery<E> equalToWithoutThreadValidation(String fieldName, @Nullable Decimal128 value) {
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DECIMAL128);
+        FieldDescriptor fd = getEqualityFieldDescriptors(fieldName, RealmFieldType.DECIMAL128);
         if (value == null) {
             this.query.isNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -559,7 +592,7 @@ public class RealmQuery<E> {
     }
 
     private RealmQuery<E> equalToWithoutThreadValidation(String fieldName, @Nullable ObjectId value) {
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.OBJECT_ID);
+        FieldDescriptor fd = getEqualityFieldDescriptors(fieldName, RealmFieldType.OBJECT_ID);
         if (value == null) {
             this.query.isNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -826,7 +859,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable String value, Case casing) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.STRING);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.STRING);
         if (fd.length() > 1 && !casing.getValue()) {
             throw new IllegalArgumentException("Link queries cannot be case insensitive - coming soon.");
         }
@@ -844,7 +877,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> notEqualTo(String fieldName, Decimal128 value) {
         realm.checkIfValid();
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DECIMAL128);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DECIMAL128);
         if (value == null) {
             this.query.isNotNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -863,7 +896,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> notEqualTo(String fieldName, ObjectId value) {
         realm.checkIfValid();
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.OBJECT_ID);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.OBJECT_ID);
         if (value == null) {
             this.query.isNotNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -883,7 +916,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Byte value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         if (value == null) {
             this.query.isNotNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -903,7 +936,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable byte[] value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.BINARY);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.BINARY);
         if (value == null) {
             this.query.isNotNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -923,7 +956,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Short value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         if (value == null) {
             this.query.isNotNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -943,7 +976,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Integer value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         if (value == null) {
             this.query.isNotNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -963,7 +996,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Long value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         if (value == null) {
             this.query.isNotNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -983,7 +1016,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Double value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DOUBLE);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DOUBLE);
         if (value == null) {
             this.query.isNotNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -1003,7 +1036,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Float value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.FLOAT);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.FLOAT);
         if (value == null) {
             this.query.isNotNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -1023,7 +1056,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Boolean value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.BOOLEAN);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.BOOLEAN);
         if (value == null) {
             this.query.isNotNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -1043,7 +1076,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> notEqualTo(String fieldName, @Nullable Date value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DATE);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DATE);
         if (value == null) {
             this.query.isNotNull(fd.getColumnKeys(), fd.getNativeTablePointers());
         } else {
@@ -1063,7 +1096,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> greaterThan(String fieldName, int value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         this.query.greaterThan(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1079,7 +1112,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> greaterThan(String fieldName, long value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         this.query.greaterThan(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1095,7 +1128,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> greaterThan(String fieldName, double value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DOUBLE);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DOUBLE);
         this.query.greaterThan(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1111,7 +1144,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> greaterThan(String fieldName, float value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.FLOAT);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.FLOAT);
         this.query.greaterThan(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1127,7 +1160,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> greaterThan(String fieldName, Date value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DATE);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DATE);
         this.query.greaterThan(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1142,7 +1175,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThan(String fieldName, Decimal128 value) {
         realm.checkIfValid();
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DECIMAL128);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DECIMAL128);
         this.query.greaterThan(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1157,7 +1190,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThan(String fieldName, ObjectId value) {
         realm.checkIfValid();
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.OBJECT_ID);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.OBJECT_ID);
         this.query.greaterThan(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1173,7 +1206,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> greaterThanOrEqualTo(String fieldName, int value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         this.query.greaterThanOrEqual(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1189,7 +1222,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> greaterThanOrEqualTo(String fieldName, long value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         this.query.greaterThanOrEqual(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1205,7 +1238,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> greaterThanOrEqualTo(String fieldName, double value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DOUBLE);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DOUBLE);
         this.query.greaterThanOrEqual(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1221,7 +1254,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> greaterThanOrEqualTo(String fieldName, float value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.FLOAT);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.FLOAT);
         this.query.greaterThanOrEqual(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1237,7 +1270,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> greaterThanOrEqualTo(String fieldName, Date value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DATE);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DATE);
         this.query.greaterThanOrEqual(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1252,7 +1285,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThanOrEqualTo(String fieldName, Decimal128 value) {
         realm.checkIfValid();
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DECIMAL128);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DECIMAL128);
         this.query.greaterThanOrEqual(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1267,7 +1300,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> greaterThanOrEqualTo(String fieldName, ObjectId value) {
         realm.checkIfValid();
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.OBJECT_ID);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.OBJECT_ID);
         this.query.greaterThanOrEqual(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1283,7 +1316,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> lessThan(String fieldName, int value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         this.query.lessThan(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1299,7 +1332,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> lessThan(String fieldName, long value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         this.query.lessThan(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1314,7 +1347,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThan(String fieldName, Decimal128 value) {
         realm.checkIfValid();
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DECIMAL128);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DECIMAL128);
         this.query.lessThan(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1329,7 +1362,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThan(String fieldName, ObjectId value) {
         realm.checkIfValid();
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.OBJECT_ID);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.OBJECT_ID);
         this.query.lessThan(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1345,7 +1378,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> lessThan(String fieldName, double value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DOUBLE);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DOUBLE);
         this.query.lessThan(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1361,7 +1394,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> lessThan(String fieldName, float value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.FLOAT);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.FLOAT);
         this.query.lessThan(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1376,7 +1409,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThan(String fieldName, Date value) {
         realm.checkIfValid();
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DATE);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DATE);
         this.query.lessThan(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1392,7 +1425,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> lessThanOrEqualTo(String fieldName, int value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         this.query.lessThanOrEqual(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1407,7 +1440,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThanOrEqualTo(String fieldName, long value) {
         realm.checkIfValid();
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         this.query.lessThanOrEqual(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1422,7 +1455,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThanOrEqualTo(String fieldName, Decimal128 value) {
         realm.checkIfValid();
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DECIMAL128);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DECIMAL128);
         this.query.lessThanOrEqual(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1437,7 +1470,7 @@ public class RealmQuery<E> {
      */
     public RealmQuery<E> lessThanOrEqualTo(String fieldName, ObjectId value) {
         realm.checkIfValid();
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.OBJECT_ID);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.OBJECT_ID);
         this.query.lessThanOrEqual(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1453,7 +1486,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> lessThanOrEqualTo(String fieldName, double value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DOUBLE);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DOUBLE);
         this.query.lessThanOrEqual(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1469,7 +1502,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> lessThanOrEqualTo(String fieldName, float value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.FLOAT);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.FLOAT);
         this.query.lessThanOrEqual(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1485,7 +1518,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> lessThanOrEqualTo(String fieldName, Date value) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DATE);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DATE);
         this.query.lessThanOrEqual(fd.getColumnKeys(), fd.getNativeTablePointers(), value);
         return this;
     }
@@ -1502,7 +1535,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> between(String fieldName, int from, int to) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         this.query.between(fd.getColumnKeys(), from, to);
         return this;
     }
@@ -1519,7 +1552,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> between(String fieldName, long from, long to) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.INTEGER);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.INTEGER);
         this.query.between(fd.getColumnKeys(), from, to);
         return this;
     }
@@ -1536,7 +1569,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> between(String fieldName, double from, double to) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DOUBLE);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DOUBLE);
         this.query.between(fd.getColumnKeys(), from, to);
         return this;
     }
@@ -1553,7 +1586,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> between(String fieldName, float from, float to) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.FLOAT);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.FLOAT);
         this.query.between(fd.getColumnKeys(), from, to);
         return this;
     }
@@ -1570,7 +1603,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> between(String fieldName, Date from, Date to) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DATE);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DATE);
         this.query.between(fd.getColumnKeys(), from, to);
         return this;
     }
@@ -1587,7 +1620,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> between(String fieldName, Decimal128 from, Decimal128 to) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.DECIMAL128);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.DECIMAL128);
         this.query.between(fd.getColumnKeys(), from, to);
         return this;
     }
@@ -1616,7 +1649,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> contains(String fieldName, String value, Case casing) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.STRING);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.STRING);
         this.query.contains(fd.getColumnKeys(), fd.getNativeTablePointers(), value, casing);
         return this;
     }
@@ -1645,7 +1678,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> beginsWith(String fieldName, String value, Case casing) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.STRING);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.STRING);
         this.query.beginsWith(fd.getColumnKeys(), fd.getNativeTablePointers(), value, casing);
         return this;
     }
@@ -1674,7 +1707,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> endsWith(String fieldName, String value, Case casing) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.STRING);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.STRING);
         this.query.endsWith(fd.getColumnKeys(), fd.getNativeTablePointers(), value, casing);
         return this;
     }
@@ -1711,7 +1744,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> like(String fieldName, String value, Case casing) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.STRING);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.STRING);
         this.query.like(fd.getColumnKeys(), fd.getNativeTablePointers(), value, casing);
         return this;
     }
@@ -1731,6 +1764,7 @@ public class RealmQuery<E> {
 
     private RealmQuery<E> beginGroupWithoutThreadValidation() {
         this.query.group();
+        groupDepth++;
         return this;
     }
 
@@ -1748,6 +1782,7 @@ public class RealmQuery<E> {
 
     private RealmQuery<E> endGroupWithoutThreadValidation() {
         this.query.endGroup();
+        groupDepth--;
         return this;
     }
 
@@ -1755,6 +1790,7 @@ public class RealmQuery<E> {
      * Logical-or two conditions.
      *
      * @return the query object.
+     * @throws IllegalStateException if used outside of a group after {@link #after(String)}.
      */
     public RealmQuery<E> or() {
         realm.checkIfValid();
@@ -1763,6 +1799,13 @@ public class RealmQuery<E> {
     }
 
     private RealmQuery<E> orWithoutThreadValidation() {
+        if (groupDepth == 0) {
+            if (pagination != null) {
+                // Would only combine the conditions of after() with the conditions before or().
+                throw new IllegalStateException("or() cannot be used outside of a group after after().");
+            }
+            hasTopLevelOr = true;
+        }
         this.query.or();
         return this;
     }
@@ -1801,7 +1844,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> isEmpty(String fieldName) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.STRING, RealmFieldType.BINARY, RealmFieldType.LIST, RealmFieldType.LINKING_OBJECTS);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.STRING, RealmFieldType.BINARY, RealmFieldType.LIST, RealmFieldType.LINKING_OBJECTS);
         this.query.isEmpty(fd.getColumnKeys(), fd.getNativeTablePointers());
 
         return this;
@@ -1818,7 +1861,7 @@ public class RealmQuery<E> {
     public RealmQuery<E> isNotEmpty(String fieldName) {
         realm.checkIfValid();
 
-        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, RealmFieldType.STRING, RealmFieldType.BINARY, RealmFieldType.LIST, RealmFieldType.LINKING_OBJECTS);
+        FieldDescriptor fd = getConditionFieldDescriptors(fieldName, RealmFieldType.STRING, RealmFieldType.BINARY, RealmFieldType.LIST, RealmFieldType.LINKING_OBJECTS);
         this.query.isNotEmpty(fd.getColumnKeys(), fd.getNativeTablePointers());
 
         return this;
@@ -2014,7 +2057,166 @@ public class RealmQuery<E> {
         // some queries constructs, like doing distinct is not easily supported this way.
         // In order to get the best of both worlds we thus need to create a Java RealmResults object
         // and then directly access the `Results` class from Object Store.
-        return lazyFindAll().size();
+        if (!isQueryTimed()) {
+            return lazyFindAll().size();
+        }
+        long startNanos = System.nanoTime();
+        long count = lazyFindAll().size();
+        recordQueryTime(startNanos);
+        return count;
+    }
+
+    /**
+     * Counts the number of objects that fulfill the query conditions using multiple threads.
+     * <p>
+     * The objects of the table are split into partitions which are evaluated concurrently by a shared thread pool and
+     * the calling thread. This is only possible on frozen Realms, as they can be read from any thread. Queries on a
+     * {@link RealmResults} or {@link RealmList}, and queries with a sort, distinct or limit, are evaluated on the
+     * calling thread like {@link #count()}.
+     *
+     * @return the number of matching objects.
+     * @throws IllegalStateException if the Realm is not frozen.
+     * @throws java.lang.UnsupportedOperationException if the query is not valid ("syntax error").
+     * @see Realm#freeze()
+     */
+    public long parallelCount() {
+        checkParallelQueryAllowed();
+        if (!onTable || !queryDescriptors.isEmpty()) {
+            return count();
+        }
+        return ParallelQuery.count(query);
+    }
+
+    /**
+     * Calculates the sum of a given field using multiple threads, see {@link #parallelCount()}.
+     *
+     * @param fieldName the field to sum. Only int, float and double fields are supported.
+     * @return the sum of fields of the matching objects. If no objects exist or they all have {@code null} as the value
+     * for the given field, {@code 0} will be returned. When computing the sum, objects with {@code null} values are
+     * ignored.
+     * @throws IllegalStateException if the Realm is not frozen.
+     * @throws java.lang.IllegalArgumentException if the field is not a number type.
+     * @see #sum(String)
+     */
+    public Number parallelSum(String fieldName) {
+        checkParallelQueryAllowed();
+        if (!onTable) {
+            return sum(fieldName);
+        }
+
+        long columnKey = schema.getAndCheckFieldColumnKey(fieldName);
+        switch (table.getColumnType(columnKey)) {
+            case INTEGER:
+                return ParallelQuery.aggregateInt(query, columnKey)[1];
+            case FLOAT:
+            case DOUBLE:
+                return ParallelQuery.aggregateDouble(query, columnKey)[1];
+            default:
+                throw new IllegalArgumentException(String.format(Locale.US,
+                        TYPE_MISMATCH, fieldName, "int, float or double"));
+        }
+    }
+
+    /**
+     * Returns the average of a given field using multiple threads, see {@link #parallelCount()}.
+     *
+     * @param fieldName the field to calculate average on. Only int, float and double fields are supported.
+     * @return the average for the given field amongst objects in query results. If no objects exist or they all have
+     * {@code null} as the value for the given field, {@code 0} will be returned. When computing the average, objects
+     * with {@code null} values are ignored.
+     * @throws IllegalStateException if the Realm is not frozen.
+     * @throws java.lang.IllegalArgumentException if the field is not a number type.
+     * @see #average(String)
+     */
+    public double parallelAverage(String fieldName) {
+        checkParallelQueryAllowed();
+        if (!onTable) {
+            return average(fieldName);
+        }
+
+        long columnKey = schema.getAndCheckFieldColumnKey(fieldName);
+        switch (table.getColumnType(columnKey)) {
+            case INTEGER: {
+                long[] aggregate = ParallelQuery.aggregateInt(query, columnKey);
+                return (aggregate[0] == 0) ? 0 : (double) aggregate[1] / aggregate[0];
+            }
+            case FLOAT:
+            case DOUBLE: {
+                double[] aggregate = ParallelQuery.aggregateDouble(query, columnKey);
+                return (aggregate[0] == 0) ? 0 : aggregate[1] / aggregate[0];
+            }
+            default:
+                throw new IllegalArgumentException(String.format(Locale.US,
+                        TYPE_MISMATCH, fieldName, "int, float or double"));
+        }
+    }
+
+    /**
+     * Finds the minimum value of a field using multiple threads, see {@link #parallelCount()}.
+     *
+     * @param fieldName the field to look for a minimum on. Only int, float and double fields are supported.
+     * @return if no objects exist or they all have {@code null} as the value for the given field, {@code null} will be
+     * returned. Otherwise the minimum value is returned. When determining the minimum value, objects with {@code null}
+     * values are ignored.
+     * @throws IllegalStateException if the Realm is not frozen.
+     * @throws java.lang.IllegalArgumentException if the field is not a number type.
+     * @see #min(String)
+     */
+    @Nullable
+    public Number parallelMin(String fieldName) {
+        return parallelMinOrMax(fieldName, 2);
+    }
+
+    /**
+     * Finds the maximum value of a field using multiple threads, see {@link #parallelCount()}.
+     *
+     * @param fieldName the field to look for a maximum on. Only int, float and double fields are supported.
+     * @return if no objects exist or they all have {@code null} as the value for the given field, {@code null} will be
+     * returned. Otherwise the maximum value is returned. When determining the maximum value, objects with {@code null}
+     * values are ignored.
+     * @throws IllegalStateException if the Realm is not frozen.
+     * @throws java.lang.IllegalArgumentException if the field is not a number type.
+     * @see #max(String)
+     */
+    @Nullable
+    public Number parallelMax(String fieldName) {
+        return parallelMinOrMax(fieldName, 3);
+    }
+
+    // aggregateIndex is the index of the minimum or maximum in the partition aggregates of ParallelQuery.
+    @Nullable
+    private Number parallelMinOrMax(String fieldName, int aggregateIndex) {
+        checkParallelQueryAllowed();
+        if (!onTable) {
+            return (aggregateIndex == 2) ? min(fieldName) : max(fieldName);
+        }
+
+        long columnKey = schema.getAndCheckFieldColumnKey(fieldName);
+        switch (table.getColumnType(columnKey)) {
+            case INTEGER: {
+                long[] aggregate = ParallelQuery.aggregateInt(query, columnKey);
+                return (aggregate[0] == 0) ? null : Long.valueOf(aggregate[aggregateIndex]);
+            }
+            case FLOAT: {
+                double[] aggregate = ParallelQuery.aggregateDouble(query, columnKey);
+                return (aggregate[0] == 0) ? null : Float.valueOf((float) aggregate[aggregateIndex]);
+            }
+            case DOUBLE: {
+                double[] aggregate = ParallelQuery.aggregateDouble(query, columnKey);
+                return (aggregate[0] == 0) ? null : Double.valueOf(aggregate[aggregateIndex]);
+            }
+            default:
+                throw new IllegalArgumentException(String.format(Locale.US,
+                        TYPE_MISMATCH, fieldName, "int, float or double"));
+        }
+    }
+
+    private void checkParallelQueryAllowed() {
+        realm.checkIfValid();
+        realm.checkAllowQueriesOnUiThread();
+        if (!realm.isFrozen()) {
+            throw new IllegalStateException("Parallel queries are only supported on frozen Realms.");
+        }
     }
 
     /**
@@ -2036,7 +2238,64 @@ public class RealmQuery<E> {
     public RealmResults<E> findAll() {
         realm.checkIfValid();
         realm.checkAllowQueriesOnUiThread();
-        return createRealmResults(query, queryDescriptors, true);
+        if (!isQueryTimed()) {
+            return createRealmResults(query, queryDescriptors, true);
+        }
+        long startNanos = System.nanoTime();
+        RealmResults<E> results = createRealmResults(query, queryDescriptors, true);
+        recordQueryTime(startNanos);
+        return results;
+    }
+
+    /**
+     * Finds all objects that fulfill the query conditions and reads only the values of the given fields. This avoids
+     * creating a managed object per match when only a few fields of each object are needed, e.g. to display a list
+     * or build a response.
+     * <p>
+     * All values are read with a single native call and returned as an immutable {@link RealmProjection} which is not
+     * connected to the Realm. Fields of linked objects can be selected using link paths like {@code "owner.city"}.
+     * Sorting and distinct conditions of the query are applied.
+     * <p>
+     * The values of all matches are held in memory at once, so memory grows with the size of the result. Use
+     * {@link #limit(long)} to bound it for queries that can match many objects.
+     *
+     * @param fieldNames the fields to read. Only fields of types that can be read as a single value are supported,
+     * and link paths can only follow {@link RealmObject} links.
+     * @return the values of the selected fields of the matching objects.
+     * @throws IllegalArgumentException if no fields are given, a field doesn't exist, is selected twice or has a type
+     * which is not supported.
+     * @throws RealmException if called from the UI thread after opting out via {@link RealmConfiguration.Builder#allowQueriesOnUiThread(boolean)}.
+     */
+    public RealmProjection select(String... fieldNames) {
+        realm.checkIfValid();
+        realm.checkAllowQueriesOnUiThread();
+        //noinspection ConstantConditions
+        if (fieldNames == null || fieldNames.length == 0) {
+            throw new IllegalArgumentException("You must provide at least one field name.");
+        }
+
+        SchemaConnector schemaConnector = getSchemaConnector();
+        Set<String> selected = new HashSet<>();
+        RealmFieldType[] fieldTypes = new RealmFieldType[fieldNames.length];
+        long[][] columnKeyPaths = new long[fieldNames.length][];
+        for (int i = 0; i < fieldNames.length; i++) {
+            if (!selected.add(fieldNames[i])) {
+                throw new IllegalArgumentException("Field '" + fieldNames[i] + "' is selected more than once.");
+            }
+            FieldDescriptor fd = FieldDescriptor.createFieldDescriptor(schemaConnector, table, fieldNames[i],
+                    FieldDescriptor.OBJECT_LINK_FIELD_TYPE, SELECT_VALID_FIELD_TYPES);
+            fieldTypes[i] = fd.getFinalColumnType();
+            columnKeyPaths[i] = fd.getColumnKeys();
+        }
+
+        boolean timed = isQueryTimed();
+        long startNanos = timed ? System.nanoTime() : 0;
+        OsResults osResults = OsResults.createFromQuery(realm.sharedRealm, query, queryDescriptors);
+        RealmProjection projection = RealmProjection.create(osResults, fieldNames, fieldTypes, columnKeyPaths);
+        if (timed) {
+            recordQueryTime(startNanos);
+        }
+        return projection;
     }
 
     /**
@@ -2134,9 +2393,101 @@ public class RealmQuery<E> {
         realm.checkIfValid();
         QueryDescriptor sortDescriptor = QueryDescriptor.getInstanceForSort(getSchemaConnector(), query.getTable(), fieldNames, sortOrders);
         queryDescriptors.appendSort(sortDescriptor);
+        this.sortFieldNames = fieldNames.clone();
+        this.sortOrders = sortOrders.clone();
+        return this;
+    }
+
+    /**
+     * Restricts the query to the objects after the position of a cursor in the sort order, to page through the
+     * results without skipping all previous objects. Combined with {@link #limit(long)} each page is found by
+     * evaluating the query, so the cost of a page doesn't grow with its position. Pages remain consistent when objects
+     * are inserted or deleted between them.
+     * <p>
+     * The objects are sorted by the fields given to {@link #sort(String[], Sort[])} followed by the primary key, so
+     * objects with equal sort values are paged in a stable order. Use {@link #getCursor(Object)} with the last
+     * object of a page to create the cursor for the next page:
+     * <pre>
+     * {@code
+     * RealmQuery<Order> query = realm.where(Order.class).sort("created", Sort.DESCENDING).after(cursor).limit(50);
+     * RealmResults<Order> page = query.findAll();
+     * String nextCursor = page.isEmpty() ? null : query.getCursor(page.last());
+     * }
+     * </pre>
+     * Cursors are opaque URL-safe strings which can be stored or sent to clients, and are only valid for queries on
+     * the same class with the same sort order.
+     * <p>
+     * The conditions of {@code after} are combined with all previous conditions of the query. Conditions combined
+     * with {@link #or()} must be enclosed in {@link #beginGroup()} and {@link #endGroup()}, otherwise the position of
+     * the cursor would only restrict the last alternative.
+     *
+     * @param cursor the cursor returned by {@link #getCursor(Object)} for the last object of the previous page, or
+     * {@code null} for the first page.
+     * @throws IllegalStateException if no sort order was defined, if a distinct or limit was already defined, if
+     * {@code after} was already called, if a group is open or {@link #or()} was used outside of a group, or if the
+     * class has no primary key.
+     * @throws IllegalArgumentException if the cursor is not valid for this query, if the query is sorted by a
+     * string field or a linked field, or if the primary key of the class is a string.
+     */
+    public RealmQuery<E> after(@Nullable String cursor) {
+        realm.checkIfValid();
+        if (sortFieldNames == null || sortOrders == null) {
+            throw new IllegalStateException("A sort order must be defined before calling after().");
+        }
+        if (pagination != null) {
+            throw new IllegalStateException("after() was already called. It cannot be redefined.");
+        }
+        if (queryDescriptors.hasDistinctOrLimit()) {
+            throw new IllegalStateException("after() must be called before distinct() and limit().");
+        }
+        if (schema == null) {
+            throw new IllegalStateException("after() is not supported on queries of primitive values.");
+        }
+        if (groupDepth != 0) {
+            throw new IllegalStateException("after() cannot be called inside a group.");
+        }
+        if (hasTopLevelOr) {
+            throw new IllegalStateException("Conditions combined with or() must be enclosed in beginGroup() and " +
+                    "endGroup() before calling after().");
+        }
+
+        KeysetPagination pagination = KeysetPagination.create(schema, table, sortFieldNames, sortOrders);
+        if (cursor != null) {
+            pagination.applyCursor(this, cursor);
+        }
+        // The sort order is replaced by one including the primary key.
+        queryDescriptors = new DescriptorOrdering();
+        queryDescriptors.appendSort(QueryDescriptor.getInstanceForSort(getSchemaConnector(), query.getTable(),
+                pagination.getFieldNames(), pagination.getSortOrders()));
+        this.pagination = pagination;
         return this;
     }
 
+    /**
+     * Returns the cursor for the position after the given object, to get the next page with {@link #after(String)}.
+     *
+     * @param object a managed object matched by this query, usually the last object of the current page.
+     * @return an opaque cursor.
+     * @throws IllegalStateException if {@link #after(String)} was not called on this query.
+     * @throws IllegalArgumentException if the object is not managed, not valid or not of the class of this query.
+     */
+    public String getCursor(E object) {
+        realm.checkIfValid();
+        if (pagination == null) {
+            throw new IllegalStateException("after() must be called before creating a cursor.");
+        }
+        if (!(object instanceof RealmObjectProxy) || !RealmObject.isValid((RealmModel) object)) {
+            throw new IllegalArgumentException("Cursors can only be created for valid managed objects.");
+        }
+        Row row = ((RealmObjectProxy) object).realmGet$proxyState().getRow$realm();
+        if (!table.getName().equals(row.getTable().getName())) {
+            throw new IllegalArgumentException(String.format(Locale.US,
+                    "Cursors of a query on '%s' cannot be created for an object of '%s'.",
+                    table.getClassName(), row.getTable().getClassName()));
+        }
+        return pagination.createCursor(row);
+    }
+
     /**
      * Selects a distinct set of objects of a specific class. If the result is sorted, the first object will be
      * returned in case of multiple occurrences, otherwise it is undefined which object is returned.
@@ -2247,6 +2598,41 @@ public class RealmQuery<E> {
         return nativeSerializeQuery(query.getNativePtr(), queryDescriptors.getNativePtr());
     }
 
+    /**
+     * Evaluates the query and describes how it was evaluated: the conditions and whether a search index can be used
+     * for them, the number of objects matched and returned, and the time spent evaluating the conditions and applying
+     * sort, distinct and limit.
+     * <p>
+     * The query is run to collect the numbers, so this is meant for finding slow queries during development, not
+     * for production code. See also {@link RealmConfiguration.Builder#slowQueryThreshold(long, TimeUnit)}.
+     *
+     * @return the plan of the query.
+     * @throws RealmException if called from the UI thread after opting out via {@link RealmConfiguration.Builder#allowQueriesOnUiThread(boolean)}.
+     */
+    public QueryPlan explain() {
+        realm.checkIfValid();
+        realm.checkAllowQueriesOnUiThread();
+
+        List<QueryPlan.Condition> planConditions = new ArrayList<>(conditions.size());
+        for (QueryCondition condition : conditions) {
+            planConditions.add(condition.toPlanCondition(table));
+        }
+
+        long startNanos = System.nanoTime();
+        long matchedCount = query.count();
+        long queryNanos = System.nanoTime() - startNanos;
+        long resultCount = matchedCount;
+        long descriptorNanos = 0;
+        if (!queryDescriptors.isEmpty()) {
+            startNanos = System.nanoTime();
+            resultCount = OsResults.createFromQuery(realm.sharedRealm, query, queryDescriptors).size();
+            // The results are evaluated from scratch, so the time of the conditions is subtracted.
+            descriptorNanos = Math.max(0, System.nanoTime() - startNanos - queryNanos);
+        }
+        return new QueryPlan(table.getClassName(), getDescription(), planConditions, table.size(), matchedCount,
+                resultCount, queryNanos, descriptorNanos);
+    }
+
     /**
      * Returns the internal Realm name of the type being queried.
      *
@@ -2285,7 +2671,12 @@ public class RealmQuery<E> {
             return null;
         }
 
+        boolean timed = isQueryTimed();
+        long startNanos = timed ? System.nanoTime() : 0;
         long tableRowIndex = getSourceRowIndexForFirstObject();
+        if (timed) {
+            recordQueryTime(startNanos);
+        }
         //noinspection unchecked
         return (tableRowIndex < 0) ? null : (E) realm.get((Class<? extends RealmModel>) clazz, className, tableRowIndex);
     }
@@ -2363,9 +2754,68 @@ public class RealmQuery<E> {
         return results;
     }
 
+    // Queries are only timed if the time is recorded to metrics or compared to the slow query threshold.
+    private boolean isQueryTimed() {
+        return realm.sharedRealm.getMetrics() != null || realm.getConfiguration().getSlowQueryThresholdNanos() > 0;
+    }
+
+    private void recordQueryTime(long startNanos) {
+        long durationNanos = System.nanoTime() - startNanos;
+        RealmMetrics metrics = realm.sharedRealm.getMetrics();
+        if (metrics != null) {
+            metrics.recordLatency(RealmMetrics.Timer.QUERY, table.getClassName(), durationNanos);
+        }
+        long thresholdNanos = realm.getConfiguration().getSlowQueryThresholdNanos();
+        if (thresholdNanos > 0 && durationNanos >= thresholdNanos) {
+            RealmLog.warn("Slow query on '%s' took %.3f ms: %s", table.getClassName(), durationNanos / 1e6,
+                    getDescription());
+        }
+    }
+
+    private FieldDescriptor getEqualityFieldDescriptors(String fieldName, RealmFieldType... validColumnTypes) {
+        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, validColumnTypes);
+        conditions.add(new QueryCondition(fieldName, fd, true));
+        return fd;
+    }
+
+    private FieldDescriptor getConditionFieldDescriptors(String fieldName, RealmFieldType... validColumnTypes) {
+        FieldDescriptor fd = schema.getFieldDescriptors(fieldName, validColumnTypes);
+        conditions.add(new QueryCondition(fieldName, fd, false));
+        return fd;
+    }
+
+    private static final class QueryCondition {
+        final String fieldName;
+        final FieldDescriptor descriptor;
+        // Equality conditions can be answered by a search index.
+        final boolean equality;
+
+        QueryCondition(String fieldName, FieldDescriptor descriptor, boolean equality) {
+            this.fieldName = fieldName;
+            this.descriptor = descriptor;
+            this.equality = equality;
+        }
+
+        QueryPlan.Condition toPlanCondition(Table table) {
+            long[] columnKeys = descriptor.getColumnKeys();
+            long[] tablePointers = descriptor.getNativeTablePointers();
+            Table target = table;
+            for (int i = 0; i < columnKeys.length - 1; i++) {
+                if (tablePointers[i] != NativeObject.NULLPTR) {
+                    // Backlinks don't expose their source table, so the index cannot be checked.
+                    return new QueryPlan.Condition(fieldName, columnKeys.length - 1, false, equality);
+                }
+                target = target.getLinkTarget(columnKeys[i]);
+            }
+            boolean indexed = target.hasSearchIndex(columnKeys[columnKeys.length - 1]);
+            return new QueryPlan.Condition(fieldName, columnKeys.length - 1, indexed, equality);
+        }
+    }
+
     private long getSourceRowIndexForFirstObject() {
         if (!queryDescriptors.isEmpty()) {
-            RealmObjectProxy obj = (RealmObjectProxy) findAll().first(null);
+            // Not using findAll() so the query is only reported once to the metrics.
+            RealmObjectProxy obj = (RealmObjectProxy) createRealmResults(query, queryDescriptors, true).first(null);
             if (obj != null) {
                 return obj.realmGet$proxyState().getRow$realm().getObjectKey();
             } else {
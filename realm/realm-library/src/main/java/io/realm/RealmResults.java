@@ -596,7 +596,7 @@ public class RealmResults<E> extends OrderedRealmCollectionImpl<E> {
             throw new IllegalStateException("Only valid, managed RealmResults can be frozen.");
         }
 
-        BaseRealm frozenRealm = baseRealm.freeze();
+        BaseRealm frozenRealm = baseRealm.freezeAtCurrentVersion();
         OsResults frozenResults = osResults.freeze(frozenRealm.sharedRealm);
         if (className != null) {
             return new RealmResults<>(frozenRealm, frozenResults, className);
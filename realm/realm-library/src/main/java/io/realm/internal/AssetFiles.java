@@ -0,0 +1,242 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.internal;
+
+import android.content.res.AssetFileDescriptor;
+import android.content.res.AssetManager;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+import io.realm.AssetFileCopyListener;
+import io.realm.RealmConfiguration;
+import io.realm.exceptions.RealmFileException;
+import io.realm.log.RealmLog;
+
+
+/**
+ * Makes Realm files bundled as assets available to Realm, either by mapping them in place or by copying them.
+ * <p>
+ * An asset which is stored uncompressed in the APK can be memory-mapped directly from the APK, and an immutable Realm
+ * can be opened on the mapped data without copying the file. The mapping is kept for the life of the process and
+ * found by the configuration of the Realm when it is opened, see {@link #getMappedData(RealmConfiguration)}. Other
+ * configurations of the same path, e.g. without {@code assetFileInPlace()}, never use the mapped data.
+ * <p>
+ * All other assets are copied. Uncompressed assets are copied by the kernel with {@link FileChannel#transferFrom}, and
+ * compressed assets through a large buffer. The copy is written to a temporary file which is only renamed to the
+ * Realm file once it is complete, so an interrupted copy is never opened as a Realm.
+ */
+public final class AssetFiles {
+
+    // Realm files are read in place and must be aligned to 8 bytes in memory.
+    private static final int MAPPING_ALIGNMENT = 8;
+    // Bytes copied between two progress reports.
+    static final int COPY_CHUNK_SIZE = 8 * 1024 * 1024;
+    private static final int COPY_BUFFER_SIZE = 1024 * 1024;
+    private static final String TEMP_FILE_SUFFIX = ".copy";
+
+    private static final ConcurrentMap<RealmConfiguration, ByteBuffer> mappedFiles = new ConcurrentHashMap<>();
+
+    private AssetFiles() {
+    }
+
+    /**
+     * Maps an asset in place and registers it as the data of the Realm opened with the given configuration.
+     *
+     * @param assets the asset manager of the app.
+     * @param assetFile the path of the asset.
+     * @param configuration the read-only configuration opening the asset in place.
+     * @return {@code true} if the asset was mapped, {@code false} if it is compressed or not aligned and must be copied.
+     */
+    public static boolean mapInPlace(AssetManager assets, String assetFile, RealmConfiguration configuration) {
+        if (mappedFiles.containsKey(configuration)) {
+            return true;
+        }
+        AssetFileDescriptor fd;
+        try {
+            fd = assets.openFd(assetFile);
+        } catch (FileNotFoundException e) {
+            // Compressed assets cannot be opened as a file descriptor.
+            RealmLog.debug("Asset '%s' is compressed and will be copied.", assetFile);
+            return false;
+        } catch (IOException e) {
+            throw new RealmFileException(RealmFileException.Kind.ACCESS_ERROR,
+                    "Could not open the asset file: " + assetFile, e);
+        }
+        try {
+            if (fd.getStartOffset() % MAPPING_ALIGNMENT != 0) {
+                RealmLog.debug("Asset '%s' is not aligned to %d bytes and will be copied.", assetFile, MAPPING_ALIGNMENT);
+                return false;
+            }
+            FileInputStream in = fd.createInputStream();
+            try {
+                ByteBuffer data = in.getChannel().map(FileChannel.MapMode.READ_ONLY, fd.getStartOffset(), fd.getLength());
+                mappedFiles.putIfAbsent(configuration, data);
+                return true;
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new RealmFileException(RealmFileException.Kind.ACCESS_ERROR,
+                    "Could not map the asset file: " + assetFile, e);
+        } finally {
+            closeQuietly(fd);
+        }
+    }
+
+    /**
+     * Returns the data mapped for the given configuration by
+     * {@link #mapInPlace(AssetManager, String, RealmConfiguration)}.
+     *
+     * @param configuration the configuration of the Realm.
+     * @return the mapped data, or {@code null} if the Realm is not opened from a mapped asset.
+     */
+    @Nullable
+    public static ByteBuffer getMappedData(RealmConfiguration configuration) {
+        return mappedFiles.get(configuration);
+    }
+
+    /**
+     * Copies an asset to a file, unless the file already exists.
+     *
+     * @param assets the asset manager of the app.
+     * @param assetFile the path of the asset.
+     * @param file the file to copy the asset to.
+     * @param listener receives the progress of the copy, or {@code null}.
+     * @throws RealmFileException if the asset cannot be read or the file cannot be written.
+     */
+    public static void copyIfNeeded(AssetManager assets, String assetFile, File file,
+                                    @Nullable AssetFileCopyListener listener) {
+        if (file.exists()) {
+            return;
+        }
+        File tempFile = new File(file.getPath() + TEMP_FILE_SUFFIX);
+        boolean copied = false;
+        try {
+            copy(assets, assetFile, tempFile, listener);
+            if (!tempFile.renameTo(file)) {
+                throw new IOException("Could not rename " + tempFile + " to " + file);
+            }
+            copied = true;
+        } catch (IOException e) {
+            throw new RealmFileException(RealmFileException.Kind.ACCESS_ERROR,
+                    "Could not copy the asset file: " + assetFile, e);
+        } finally {
+            if (!copied) {
+                //noinspection ResultOfMethodCallIgnored
+                tempFile.delete();
+            }
+        }
+    }
+
+    private static void copy(AssetManager assets, String assetFile, File file,
+                             @Nullable AssetFileCopyListener listener) throws IOException {
+        AssetFileDescriptor fd = null;
+        try {
+            fd = assets.openFd(assetFile);
+        } catch (FileNotFoundException ignored) {
+            // Compressed asset, only readable as a stream.
+        }
+
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            FileChannel target = out.getChannel();
+            if (fd != null) {
+                FileInputStream in = fd.createInputStream();
+                try {
+                    FileChannel source = in.getChannel();
+                    source.position(fd.getStartOffset());
+                    transfer(source, target, fd.getLength(), listener);
+                } finally {
+                    in.close();
+                }
+            } else {
+                InputStream in = assets.open(assetFile);
+                try {
+                    // The remaining bytes of an asset stream are its uncompressed size.
+                    int available = in.available();
+                    copy(Channels.newChannel(in), target, available > 0 ? available : -1, listener);
+                } finally {
+                    in.close();
+                }
+            }
+            out.getFD().sync();
+        } finally {
+            out.close();
+            if (fd != null) {
+                closeQuietly(fd);
+            }
+        }
+    }
+
+    // Copies a file region without going through the Java heap.
+    static void transfer(FileChannel source, FileChannel target, long length,
+                         @Nullable AssetFileCopyListener listener) throws IOException {
+        long position = 0;
+        while (position < length) {
+            long transferred = target.transferFrom(source, position, Math.min(COPY_CHUNK_SIZE, length - position));
+            if (transferred <= 0) {
+                throw new IOException("Unexpected end of the asset after " + position + " of " + length + " bytes.");
+            }
+            position += transferred;
+            if (listener != null) {
+                listener.onProgress(position, length);
+            }
+        }
+    }
+
+    static void copy(ReadableByteChannel source, FileChannel target, long length,
+                     @Nullable AssetFileCopyListener listener) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(COPY_BUFFER_SIZE);
+        long position = 0;
+        long reported = 0;
+        while (source.read(buffer) != -1) {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                position += target.write(buffer);
+            }
+            buffer.clear();
+            if (listener != null && position - reported >= COPY_CHUNK_SIZE) {
+                listener.onProgress(position, length);
+                reported = position;
+            }
+        }
+        if (listener != null && reported != position) {
+            listener.onProgress(position, length);
+        }
+    }
+
+    private static void closeQuietly(AssetFileDescriptor fd) {
+        try {
+            fd.close();
+        } catch (IOException e) {
+            RealmLog.warn(e, "Could not close the asset file descriptor.");
+        }
+    }
+}
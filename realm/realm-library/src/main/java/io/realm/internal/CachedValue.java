@@ -0,0 +1,39 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.internal;
+
+import javax.annotation.Nullable;
+
+
+/**
+ * A field value cached by a generated proxy for a field marked with {@link io.realm.annotations.Cached}.
+ * <p>
+ * The value is only valid as long as the value cache version of the Realm it was read from is {@link #version}, see
+ * {@link OsSharedRealm#getValueCacheVersion()}. Instances are immutable so they can be published without
+ * synchronization when frozen objects are read from multiple threads.
+ */
+public final class CachedValue {
+
+    public final long version;
+    @Nullable
+    public final Object value;
+
+    public CachedValue(long version, @Nullable Object value) {
+        this.version = version;
+        this.value = value;
+    }
+}
@@ -16,6 +16,8 @@
 
 package io.realm.internal;
 
+import org.bson.types.Decimal128;
+
 import java.util.Locale;
 
 import io.realm.RealmFieldType;
@@ -191,14 +193,14 @@ public class CheckedRow extends UncheckedRow {
     protected native void nativeNullifyLink(long nativeRowPtr, long columnIndex);
 
     @Override
-    protected native long[] nativeGetDecimal128(long nativePtr, long columnKey);
+    protected native Decimal128 nativeGetDecimal128(long nativePtr, long columnKey);
 
     @Override
-    protected native String nativeGetObjectId(long nativePtr, long columnKey);
+    protected native byte[] nativeGetObjectId(long nativePtr, long columnKey);
 
     @Override
     protected native void nativeSetDecimal128(long nativePtr, long columnKey, long low, long high);
 
     @Override
-    protected native void nativeSetObjectId(long nativePtr, long columnKey, String value);
+    protected native void nativeSetObjectId(long nativePtr, long columnKey, byte[] value);
 }
@@ -17,10 +17,8 @@
 package io.realm.internal;
 
 
-import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import javax.annotation.Nonnull;
@@ -32,7 +30,9 @@ import io.realm.exceptions.RealmException;
  * Utility class used to cache the mapping between object field names and their column indices. The
  * {@code ColumnIndices} instance is dedicated to a single {@link io.realm.BaseRealm} instance. Different Realm
  * instances will never share the same column indices cache. The column info cache is loaded lazily. A
- * {@link ColumnInfo} will be added to the cache when the relevant Realm object gets accessed.
+ * {@link ColumnInfo} will be added to the cache when the relevant Realm object gets accessed. It is copied from the
+ * immutable instance shared by all Realms with the same schema through {@link ColumnInfoCache}, and only built from
+ * the schema if no other Realm has used the class yet.
  * <p>
  * This class can be mutated, after construction, in two ways:
  * <ul>
@@ -53,11 +53,13 @@ public final class ColumnIndices {
             new ConcurrentHashMap<Class<? extends RealmModel>, ColumnInfo>();
     // Class name to ColumnInfo map. All the elements in this map should be existing in classToColumnInfoMap.
     private final Map<String, ColumnInfo> simpleClassNameToColumnInfoMap =
-            new HashMap<String, ColumnInfo>();
+            new ConcurrentHashMap<String, ColumnInfo>();
 
     private final RealmProxyMediator mediator;
     // Due to the nature of Object Store's Realm::m_schema, OsSharedRealm's OsObjectSchemaInfo object is fixed after set.
     private final OsSchemaInfo osSchemaInfo;
+    // The immutable column infos shared by all Realms with the current schema.
+    private volatile Map<Class<? extends RealmModel>, ColumnInfo> sharedColumnInfos;
 
 
     /**
@@ -69,6 +71,7 @@ public final class ColumnIndices {
     public ColumnIndices(RealmProxyMediator mediator, OsSchemaInfo osSchemaInfo) {
         this.mediator = mediator;
         this.osSchemaInfo = osSchemaInfo;
+        this.sharedColumnInfos = ColumnInfoCache.getColumnInfos(mediator, osSchemaInfo);
     }
 
     /**
@@ -82,7 +85,7 @@ public final class ColumnIndices {
     public ColumnInfo getColumnInfo(Class<? extends RealmModel> clazz) {
         ColumnInfo columnInfo = classToColumnInfoMap.get(clazz);
         if (columnInfo == null) {
-            columnInfo = mediator.createColumnInfo(clazz, osSchemaInfo);
+            columnInfo = ColumnInfoCache.getColumnInfo(sharedColumnInfos, mediator, osSchemaInfo, clazz);
             classToColumnInfoMap.put(clazz, columnInfo);
         }
         return columnInfo;
@@ -99,13 +102,10 @@ public final class ColumnIndices {
     public ColumnInfo getColumnInfo(String simpleClassName) {
         ColumnInfo columnInfo = simpleClassNameToColumnInfoMap.get(simpleClassName);
         if (columnInfo == null) {
-            Set<Class<? extends RealmModel>> modelClasses = mediator.getModelClasses();
-            for (Class<? extends RealmModel> modelClass : modelClasses) {
-                if (mediator.getSimpleClassName(modelClass).equals(simpleClassName)) {
-                    columnInfo = getColumnInfo(modelClass);
-                    simpleClassNameToColumnInfoMap.put(simpleClassName, columnInfo);
-                    break;
-                }
+            Class<? extends RealmModel> modelClass = ColumnInfoCache.getModelClass(mediator, simpleClassName);
+            if (modelClass != null) {
+                columnInfo = getColumnInfo(modelClass);
+                simpleClassNameToColumnInfoMap.put(simpleClassName, columnInfo);
             }
         }
         if (columnInfo == null) {
@@ -119,8 +119,9 @@ public final class ColumnIndices {
      * Refreshes all the existing {@link ColumnInfo} in the cache.
      */
     public void refresh() {
+        sharedColumnInfos = ColumnInfoCache.getColumnInfos(mediator, osSchemaInfo);
         for (Map.Entry<Class<? extends RealmModel>, ColumnInfo> entry : classToColumnInfoMap.entrySet()) {
-            ColumnInfo newColumnInfo = mediator.createColumnInfo(entry.getKey(), osSchemaInfo);
+            ColumnInfo newColumnInfo = ColumnInfoCache.getColumnInfo(sharedColumnInfos, mediator, osSchemaInfo, entry.getKey());
             entry.getValue().copyFrom(newColumnInfo);
         }
     }
@@ -0,0 +1,196 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.internal;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import io.realm.RealmModel;
+
+
+/**
+ * Caches the column information of model classes across Realm instances and files.
+ * <p>
+ * Building a {@link ColumnInfo} looks up the column key of every field of the class through JNI. The column keys only
+ * change with the schema of the Realm file, so all Realm instances of files with the same model classes and the same
+ * table layout can share them. They are cached as immutable {@link ColumnInfo} per schema mediator and
+ * {@link OsSchemaInfo#getFingerprint() schema fingerprint}, and each {@link ColumnIndices} works on mutable copies.
+ * <p>
+ * The column info of a class is only built when the class is first used, and at most once per schema, so the cost of
+ * opening a Realm depends on the classes used rather than on the size of the schema.
+ * <p>
+ * The expected schema built from the model classes and the lookup of model classes by name are cached per schema
+ * mediator as well. All caches only keep the most recently used schemas.
+ */
+public final class ColumnInfoCache {
+
+    static final int MAX_SCHEMAS = 16;
+
+    private static final Map<SchemaKey, ConcurrentMap<Class<? extends RealmModel>, ColumnInfo>> columnInfos =
+            new LinkedHashMap<SchemaKey, ConcurrentMap<Class<? extends RealmModel>, ColumnInfo>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<SchemaKey, ConcurrentMap<Class<? extends RealmModel>, ColumnInfo>> eldest) {
+                    return size() > MAX_SCHEMAS;
+                }
+            };
+
+    private static final Map<RealmProxyMediator, OsSchemaInfo> expectedSchemaInfos =
+            new LinkedHashMap<RealmProxyMediator, OsSchemaInfo>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<RealmProxyMediator, OsSchemaInfo> eldest) {
+                    return size() > MAX_SCHEMAS;
+                }
+            };
+
+    private static final Map<RealmProxyMediator, Map<String, Class<? extends RealmModel>>> modelClassesByName =
+            new LinkedHashMap<RealmProxyMediator, Map<String, Class<? extends RealmModel>>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<RealmProxyMediator, Map<String, Class<? extends RealmModel>>> eldest) {
+                    return size() > MAX_SCHEMAS;
+                }
+            };
+
+    private ColumnInfoCache() {
+    }
+
+    /**
+     * Returns the schema expected by the model classes of a mediator. The native schema is copied when a Realm is
+     * opened with it, so the same instance can be used to open any number of Realms.
+     *
+     * @param mediator the schema mediator of the configuration.
+     * @return the expected schema.
+     */
+    public static OsSchemaInfo getExpectedSchemaInfo(RealmProxyMediator mediator) {
+        synchronized (expectedSchemaInfos) {
+            OsSchemaInfo schemaInfo = expectedSchemaInfos.get(mediator);
+            if (schemaInfo == null) {
+                schemaInfo = new OsSchemaInfo(mediator.getExpectedObjectSchemaInfoMap().values());
+                expectedSchemaInfos.put(mediator, schemaInfo);
+            }
+            return schemaInfo;
+        }
+    }
+
+    /**
+     * Returns the model class with the given internal class name.
+     *
+     * @param mediator the schema mediator of the Realm.
+     * @param simpleClassName the internal name of the class.
+     * @return the model class, or {@code null} if the mediator has no class with that name.
+     */
+    static Class<? extends RealmModel> getModelClass(RealmProxyMediator mediator, String simpleClassName) {
+        Map<String, Class<? extends RealmModel>> classes;
+        synchronized (modelClassesByName) {
+            classes = modelClassesByName.get(mediator);
+            if (classes == null) {
+                classes = new HashMap<>();
+                for (Class<? extends RealmModel> modelClass : mediator.getModelClasses()) {
+                    classes.put(mediator.getSimpleClassName(modelClass), modelClass);
+                }
+                modelClassesByName.put(mediator, classes);
+            }
+        }
+        return classes.get(simpleClassName);
+    }
+
+    /**
+     * Returns the shared column infos of a Realm file schema. Column infos are added by
+     * {@link #getColumnInfo(Map, RealmProxyMediator, OsSchemaInfo, Class)} when they are first used.
+     *
+     * @param mediator the schema mediator of the Realm.
+     * @param osSchemaInfo the schema of the Realm file.
+     * @return the immutable column infos by model class.
+     */
+    static ConcurrentMap<Class<? extends RealmModel>, ColumnInfo> getColumnInfos(RealmProxyMediator mediator,
+                                                                               OsSchemaInfo osSchemaInfo) {
+        SchemaKey key = new SchemaKey(mediator, osSchemaInfo.getFingerprint());
+        synchronized (columnInfos) {
+            ConcurrentMap<Class<? extends RealmModel>, ColumnInfo> infos = columnInfos.get(key);
+            if (infos == null) {
+                infos = new ConcurrentHashMap<>();
+                columnInfos.put(key, infos);
+            }
+            return infos;
+        }
+    }
+
+    /**
+     * Returns a mutable copy of the column info of a class, creating the shared immutable one if needed. Threads
+     * using a class for the first time at the same time wait for a single thread to create it.
+     */
+    static ColumnInfo getColumnInfo(Map<Class<? extends RealmModel>, ColumnInfo> sharedColumnInfos,
+                                    RealmProxyMediator mediator, OsSchemaInfo osSchemaInfo,
+                                    Class<? extends RealmModel> clazz) {
+        ColumnInfo shared = sharedColumnInfos.get(clazz);
+        if (shared == null) {
+            synchronized (sharedColumnInfos) {
+                shared = sharedColumnInfos.get(clazz);
+                if (shared == null) {
+                    ColumnInfo created = mediator.createColumnInfo(clazz, osSchemaInfo);
+                    sharedColumnInfos.put(clazz, created.copy(false));
+                    return created;
+                }
+            }
+        }
+        return shared.copy(true);
+    }
+
+    /**
+     * Removes all cached schemas.
+     */
+    public static void clear() {
+        synchronized (columnInfos) {
+            columnInfos.clear();
+        }
+        synchronized (expectedSchemaInfos) {
+            expectedSchemaInfos.clear();
+        }
+        synchronized (modelClassesByName) {
+            modelClassesByName.clear();
+        }
+    }
+
+    private static final class SchemaKey {
+        private final RealmProxyMediator mediator;
+        private final long fingerprint;
+
+        SchemaKey(RealmProxyMediator mediator, long fingerprint) {
+            this.mediator = mediator;
+            this.fingerprint = fingerprint;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SchemaKey)) {
+                return false;
+            }
+            SchemaKey other = (SchemaKey) o;
+            return fingerprint == other.fingerprint && mediator.equals(other.mediator);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * mediator.hashCode() + (int) (fingerprint ^ (fingerprint >>> 32));
+        }
+    }
+}
@@ -40,4 +40,12 @@ public class NativeContext {
     public void addReference(NativeObject referent) {
         new NativeObjectReference(this, referent, referenceQueue);
     }
+
+    /**
+     * Returns the number of native objects which are still referenced from Java or waiting to be freed by the
+     * finalizing daemon.
+     */
+    public static long getNativeReferenceCount() {
+        return NativeObjectReference.getReferenceCount();
+    }
 }
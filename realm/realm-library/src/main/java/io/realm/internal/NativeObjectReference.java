@@ -33,8 +33,10 @@ final class NativeObjectReference extends PhantomReference<NativeObject> {
     // Linked list to keep the reference of the PhantomReference
     private static class ReferencePool {
         NativeObjectReference head;
+        long size;
 
         synchronized void add(NativeObjectReference ref) {
+            size++;
             ref.prev = null;
             ref.next = head;
             if (head != null) {
@@ -44,6 +46,7 @@ final class NativeObjectReference extends PhantomReference<NativeObject> {
         }
 
         synchronized void remove(NativeObjectReference ref) {
+            size--;
             NativeObjectReference next = ref.next;
             NativeObjectReference prev = ref.prev;
             ref.next = null;
@@ -57,6 +60,10 @@ final class NativeObjectReference extends PhantomReference<NativeObject> {
                 next.prev = prev;
             }
         }
+
+        synchronized long size() {
+            return size;
+        }
     }
 
     // The pointer to the native object to be handled
@@ -90,6 +97,10 @@ final class NativeObjectReference extends PhantomReference<NativeObject> {
         referencePool.remove(this);
     }
 
+    static long getReferenceCount() {
+        return referencePool.size();
+    }
+
     /**
      * Calls the native finalizer function to free the given native pointer.
      */
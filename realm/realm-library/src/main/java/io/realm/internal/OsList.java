@@ -207,7 +207,7 @@ public class OsList implements NativeObject, ObservableCollection {
         if (value == null) {
             nativeAddNull(nativePtr);
         } else {
-            nativeAddObjectId(nativePtr, value.toString());
+            nativeAddObjectId(nativePtr, value.toByteArray());
         }
     }
 
@@ -215,7 +215,7 @@ public class OsList implements NativeObject, ObservableCollection {
         if (value == null) {
             nativeInsertNull(nativePtr, pos);
         } else {
-            nativeInsertObjectId(nativePtr, pos, value.toString());
+            nativeInsertObjectId(nativePtr, pos, value.toByteArray());
         }
     }
 
@@ -223,7 +223,7 @@ public class OsList implements NativeObject, ObservableCollection {
         if (value == null) {
             nativeSetNull(nativePtr, pos);
         } else {
-            nativeSetObjectId(nativePtr, pos, value.toString());
+            nativeSetObjectId(nativePtr, pos, value.toByteArray());
         }
     }
 
@@ -418,11 +418,11 @@ public class OsList implements NativeObject, ObservableCollection {
 
     private static native void nativeSetDecimal128(long nativePtr, long pos, long low, long high);
 
-    private static native void nativeAddObjectId(long nativePtr, String data);
+    private static native void nativeAddObjectId(long nativePtr, byte[] data);
 
-    private static native void nativeInsertObjectId(long nativePtr, long pos, String data);
+    private static native void nativeInsertObjectId(long nativePtr, long pos, byte[] data);
 
-    private static native void nativeSetObjectId(long nativePtr, long pos, String data);
+    private static native void nativeSetObjectId(long nativePtr, long pos, byte[] data);
 
     private static native Object nativeGetValue(long nativePtr, long pos);
 
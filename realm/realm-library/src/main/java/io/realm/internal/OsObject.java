@@ -207,7 +207,7 @@ public class OsObject implements NativeObject {
                     nativeCreateNewObjectWithLongPrimaryKey(sharedRealm.getNativePtr(), table.getNativePtr(),
                             primaryKeyColumnKey, value, primaryKeyValue == null));
         } else if (type == RealmFieldType.OBJECT_ID) {
-            String objectIdValue = primaryKeyValue == null ? null : primaryKeyValue.toString();
+            byte[] objectIdValue = primaryKeyValue == null ? null : objectIdBytes(primaryKeyValue);
             return new UncheckedRow(sharedRealm.context, table,
                     nativeCreateNewObjectWithObjectIdPrimaryKey(sharedRealm.getNativePtr(), table.getNativePtr(),
                             primaryKeyColumnKey, objectIdValue));
@@ -246,7 +246,7 @@ public class OsObject implements NativeObject {
             if (primaryKeyValue != null && !(primaryKeyValue instanceof ObjectId)) {
                 throw new IllegalArgumentException("Primary key value is not an ObjectId: " + primaryKeyValue);
             }
-            String objectIdValue = primaryKeyValue == null ? null : primaryKeyValue.toString();
+            byte[] objectIdValue = primaryKeyValue == null ? null : ((ObjectId) primaryKeyValue).toByteArray();
             return nativeCreateRowWithObjectIdPrimaryKey(sharedRealm.getNativePtr(), table.getNativePtr(),
                     primaryKeyColumnIndex, objectIdValue);
         } else {
@@ -254,6 +254,13 @@ public class OsObject implements NativeObject {
         }
     }
 
+    private static byte[] objectIdBytes(Object primaryKeyValue) {
+        if (primaryKeyValue instanceof ObjectId) {
+            return ((ObjectId) primaryKeyValue).toByteArray();
+        }
+        return new ObjectId(primaryKeyValue.toString()).toByteArray();
+    }
+
     public static long createEmbeddedObject(Table parentTable, long parentObjectKey, long parentColumnKey) {
         return nativeCreateEmbeddedObject(parentTable.getNativePtr(), parentObjectKey, parentColumnKey);
     }
@@ -299,11 +306,11 @@ public class OsObject implements NativeObject {
 
     private static native long nativeCreateRowWithObjectIdPrimaryKey(long sharedRealmPtr,
                                                                      long tableRefPtr, long pk_column_index,
-                                                                     @Nullable String primaryKeyValue);
+                                                                     @Nullable byte[] primaryKeyValue);
 
     private static native long nativeCreateNewObjectWithObjectIdPrimaryKey(long sharedRealmPtr,
                                                                            long tableRefPtr, long pk_column_index,
-                                                                           @Nullable String data);
+                                                                           @Nullable byte[] data);
 
     private static native long nativeCreateEmbeddedObject(long parentTablePtr, long parentObjectKey, long parentObjectColumnKey);
 
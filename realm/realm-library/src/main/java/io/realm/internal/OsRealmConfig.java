@@ -20,6 +20,7 @@ import java.io.File;
 import java.net.ProxySelector;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Map;
 
@@ -194,6 +195,10 @@ public class OsRealmConfig implements NativeObject {
     // JNI should only hold a weak ref in the lambda functions.
     @SuppressWarnings({"FieldCanBeLocal", "unused"})
     private final CompactOnLaunchCallback compactOnLaunchCallback;
+    // Keeps the data of a Realm opened from memory alive while the native config uses it.
+    @SuppressWarnings({"FieldCanBeLocal", "unused"})
+    @Nullable
+    private final ByteBuffer realmData;
     @SuppressWarnings({"FieldCanBeLocal", "unused"})
     private final OsSharedRealm.MigrationCallback migrationCallback;
     @SuppressWarnings({"FieldCanBeLocal", "unused"})
@@ -263,6 +268,12 @@ public class OsRealmConfig implements NativeObject {
         } else if (config.shouldDeleteRealmIfMigrationNeeded()) {
             schemaMode = SchemaMode.SCHEMA_MODE_RESET_FILE;
         }
+        // A read-only Realm whose asset has been mapped in place is opened as an immutable Realm on the mapped data.
+        this.realmData = AssetFiles.getMappedData(config);
+        if (realmData != null) {
+            schemaMode = SchemaMode.SCHEMA_MODE_IMMUTABLE;
+            nativeSetRealmData(nativePtr, realmData);
+        }
         final long schemaVersion = config.getSchemaVersion();
         final long nativeSchemaPtr = schemaInfo == null ? 0 : schemaInfo.getNativePtr();
         this.migrationCallback = migrationCallback;
@@ -380,6 +391,8 @@ public class OsRealmConfig implements NativeObject {
 
     private static native void nativeSetInMemory(long nativePtr, boolean inMem);
 
+    private static native void nativeSetRealmData(long nativePtr, ByteBuffer data);
+
     private native void nativeSetSchemaConfig(long nativePtr, byte schemaMode, long schemaVersion,
                                               long schemaInfoPtr,
                                               @Nullable OsSharedRealm.MigrationCallback migrationCallback);
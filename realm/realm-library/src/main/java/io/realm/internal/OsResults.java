@@ -386,6 +386,41 @@ public class OsResults implements NativeObject, ObservableCollection {
         return nativeSize(nativePtr);
     }
 
+    /**
+     * Reads the values of an integer, float or double column of the objects starting at {@code start} with a single
+     * native call. Float and double values are stored as the bits of a double, see
+     * {@link Double#longBitsToDouble(long)}.
+     *
+     * @param columnKey the column to read.
+     * @param start the index of the first object to read.
+     * @param count the maximum number of objects to read.
+     * @param values receives the values, at least {@code count} long.
+     * @param nulls receives {@code true} for null values, at least {@code count} long.
+     * @return the number of objects read, which is less than {@code count} if the end of the results was reached.
+     */
+    public int getColumnValues(long columnKey, int start, int count, long[] values, boolean[] nulls) {
+        return nativeGetColumnValues(nativePtr, columnKey, start, count, values, nulls);
+    }
+
+    /**
+     * Reads the values of the given fields of the objects starting at {@code start} with a single native call. Each
+     * field is described by the column keys of its link path, the last key being the column to read. Values are stored
+     * row by row, the same way as {@link RowValues} stores the values of a single object. A field is {@code null} if
+     * its value or one of the links leading to it is {@code null}.
+     *
+     * @param columnKeyPaths the column keys of each field.
+     * @param start the index of the first object to read.
+     * @param count the maximum number of objects to read.
+     * @param values receives the integer, boolean, date and floating point values.
+     * @param objects receives all other values.
+     * @param nulls receives {@code true} for null values.
+     * @return the number of objects read, which is less than {@code count} if the end of the results was reached.
+     */
+    public int getProjectionValues(long[][] columnKeyPaths, int start, int count, long[] values, Object[] objects,
+            boolean[] nulls) {
+        return nativeGetProjectionValues(nativePtr, columnKeyPaths, start, count, values, objects, nulls);
+    }
+
     public void clear() {
         nativeClear(nativePtr);
     }
@@ -467,7 +502,7 @@ public class OsResults implements NativeObject, ObservableCollection {
         if (value == null) {
             nativeSetNull(nativePtr, fieldName);
         } else {
-            nativeSetObjectId(nativePtr, fieldName, value.toString());
+            nativeSetObjectId(nativePtr, fieldName, value.toByteArray());
         }
     }
 
@@ -712,6 +747,12 @@ public class OsResults implements NativeObject, ObservableCollection {
 
     private static native long nativeGetRow(long nativePtr, int index);
 
+    private static native int nativeGetColumnValues(long nativePtr, long columnKey, int start, int count, long[] values,
+                                                    boolean[] nulls);
+
+    private static native int nativeGetProjectionValues(long nativePtr, long[][] columnKeyPaths, int start, int count,
+                                                        long[] values, Object[] objects, boolean[] nulls);
+
     private static native long nativeFirstRow(long nativePtr);
 
     private static native long nativeLastRow(long nativePtr);
@@ -752,7 +793,7 @@ public class OsResults implements NativeObject, ObservableCollection {
 
     private static native void nativeSetDecimal128(long nativePtr, String fieldName, long low, long high);
 
-    private static native void nativeSetObjectId(long nativePtr, String fieldName, String data);
+    private static native void nativeSetObjectId(long nativePtr, String fieldName, byte[] data);
 
     private static native void nativeSetObject(long nativePtr, String fieldName, long rowNativePtr);
 
@@ -74,6 +74,16 @@ public class OsSchemaInfo implements NativeObject {
         return new OsObjectSchemaInfo(nativeGetObjectSchemaInfo(nativePtr, className));
     }
 
+    /**
+     * Returns a hash of the table and column keys of all classes in the schema. Two schemas with the same fingerprint
+     * have the same column keys for the same fields, so their column information can be shared.
+     *
+     * @return the fingerprint of the schema.
+     */
+    public long getFingerprint() {
+        return nativeGetFingerprint(nativePtr);
+    }
+
     @Override
     public long getNativePtr() {
         return nativePtr;
@@ -90,4 +100,6 @@ public class OsSchemaInfo implements NativeObject {
 
     // Throw ISE if the object schema doesn't exist.
     private static native long nativeGetObjectSchemaInfo(long nativePtr, String className);
+
+    private static native long nativeGetFingerprint(long nativePtr);
 }
@@ -27,6 +27,7 @@ import javax.annotation.Nullable;
 
 import io.realm.RealmConfiguration;
 import io.realm.RealmFieldType;
+import io.realm.RealmMetrics;
 import io.realm.internal.android.AndroidCapabilities;
 import io.realm.internal.android.AndroidRealmNotifier;
 import io.realm.internal.annotations.ObjectServer;
@@ -140,6 +141,9 @@ public final class OsSharedRealm implements Closeable, NativeObject {
     public static final byte FILE_EXCEPTION_KIND_FORMAT_UPGRADE_REQUIRED = 6;
     public static final byte FILE_EXCEPTION_INCOMPATIBLE_SYNC_FILE = 7;
 
+    // Returned by getValueCacheVersion() when values read from this Realm must not be cached.
+    public static final long NO_VALUE_CACHE = -1;
+
     private static final long nativeFinalizerPtr = nativeGetFinalizerPtr();
     private final long nativePtr;
     private final OsRealmConfig osRealmConfig;
@@ -149,6 +153,17 @@ public final class OsSharedRealm implements Closeable, NativeObject {
     // JNI will only hold a weak global ref to this.
     public final RealmNotifier realmNotifier;
     public final Capabilities capabilities;
+    // Null unless metrics are enabled in the configuration. All measurements must be guarded by a null check so they
+    // cost nothing when disabled.
+    @Nullable
+    private final RealmMetrics metrics;
+    private long transactionStartNanos;
+    // Version of the field values cached by managed objects, see CachedValue. It changes every time the Realm might
+    // have moved to another version and is NO_VALUE_CACHE while values cannot be cached. Volatile since frozen Realms
+    // are read from any thread.
+    private volatile long valueCacheVersion = 0;
+    private long lastValueCacheVersion = 0;
+    private boolean valueCacheSuspended = false;
     // For the Java callbacks during constructing in Object Store, some temporary OsSharedRealm objects need to be
     // created as the parameter of the callback. The native pointers of those temp OsSharedRealm objects have to be
     // valid during the whole life cycle of the Java object. The living native pointers still hold a ref-count to the
@@ -166,6 +181,9 @@ public final class OsSharedRealm implements Closeable, NativeObject {
         Capabilities capabilities = new AndroidCapabilities();
         RealmNotifier realmNotifier = new AndroidRealmNotifier(this, capabilities);
 
+        this.metrics = osRealmConfig.getRealmConfiguration().getMetrics();
+        long openStartNanos = (metrics != null) ? System.nanoTime() : 0;
+
         // SharedRealms under constructions are identified by the Context.
         this.context = osRealmConfig.getContext();
         sharedRealmsUnderConstruction.add(this);
@@ -192,6 +210,10 @@ public final class OsSharedRealm implements Closeable, NativeObject {
         if (version.equals(VersionID.LIVE)) {
             nativeSetAutoRefresh(nativePtr, capabilities.canDeliverNotification());
         }
+        if (metrics != null) {
+            metrics.increment(RealmMetrics.Counter.REALM_OPENED);
+            metrics.recordLatency(RealmMetrics.Timer.REALM_OPEN, null, System.nanoTime() - openStartNanos);
+        }
     }
 
     /**
@@ -211,6 +233,10 @@ public final class OsSharedRealm implements Closeable, NativeObject {
         this.capabilities = new AndroidCapabilities();
         // This instance should never need notifications.
         this.realmNotifier = null;
+        // Only lives for the duration of a callback, so it is not reported as an opened Realm.
+        this.metrics = null;
+        // Callbacks run inside a write transaction, values must never be cached.
+        suspendValueCache(true);
         nativeSetAutoRefresh(nativePtr, false);
 
         boolean foundParentSharedRealm = false;
@@ -274,15 +300,49 @@ public final class OsSharedRealm implements Closeable, NativeObject {
     public void beginTransaction() {
         detachIterators();
         executePendingRowQueries();
-        nativeBeginTransaction(nativePtr);
+        // Suspended before beginning, the Realm is advanced to the latest version as part of it.
+        suspendValueCache(true);
+        if (metrics == null) {
+            beginTransactionOrResumeValueCache();
+            return;
+        }
+        long startNanos = System.nanoTime();
+        beginTransactionOrResumeValueCache();
+        transactionStartNanos = System.nanoTime();
+        metrics.recordLatency(RealmMetrics.Timer.WRITE_LOCK_WAIT, null, transactionStartNanos - startNanos);
+    }
+
+    private void beginTransactionOrResumeValueCache() {
+        try {
+            nativeBeginTransaction(nativePtr);
+        } catch (Throwable t) {
+            suspendValueCache(false);
+            throw t;
+        }
     }
 
     public void commitTransaction() {
+        if (metrics == null) {
+            nativeCommitTransaction(nativePtr);
+            suspendValueCache(false);
+            return;
+        }
+        long startNanos = System.nanoTime();
         nativeCommitTransaction(nativePtr);
+        suspendValueCache(false);
+        long endNanos = System.nanoTime();
+        metrics.increment(RealmMetrics.Counter.TRANSACTION_COMMITTED);
+        metrics.recordLatency(RealmMetrics.Timer.COMMIT, null, endNanos - startNanos);
+        metrics.recordLatency(RealmMetrics.Timer.TRANSACTION_HOLD, null, endNanos - transactionStartNanos);
     }
 
     public void cancelTransaction() {
         nativeCancelTransaction(nativePtr);
+        suspendValueCache(false);
+        if (metrics != null) {
+            metrics.increment(RealmMetrics.Counter.TRANSACTION_CANCELLED);
+            metrics.recordLatency(RealmMetrics.Timer.TRANSACTION_HOLD, null, System.nanoTime() - transactionStartNanos);
+        }
     }
 
     public boolean isInTransaction() {
@@ -358,6 +418,29 @@ public final class OsSharedRealm implements Closeable, NativeObject {
             throw new IllegalStateException("It is not possible to refresh frozen Realms.");
         }
         nativeRefresh(nativePtr);
+        invalidateValueCache();
+    }
+
+    /**
+     * Returns the version of the field values cached by managed objects of this Realm. A cached value can be used as
+     * long as it was read when this returned the same version.
+     *
+     * @return the current value cache version, or {@link #NO_VALUE_CACHE} if values must not be cached, i.e. inside a
+     * write transaction or after the Realm was closed.
+     */
+    public long getValueCacheVersion() {
+        return valueCacheVersion;
+    }
+
+    // Called whenever the Realm might have moved to another version. Package protected for RealmNotifier.
+    void invalidateValueCache() {
+        lastValueCacheVersion++;
+        valueCacheVersion = valueCacheSuspended ? NO_VALUE_CACHE : lastValueCacheVersion;
+    }
+
+    private void suspendValueCache(boolean suspended) {
+        valueCacheSuspended = suspended;
+        invalidateValueCache();
     }
 
     public OsSharedRealm.VersionID getVersionID() {
@@ -400,6 +483,25 @@ public final class OsSharedRealm implements Closeable, NativeObject {
         return nativeCompact(nativePtr);
     }
 
+    /**
+     * Returns the bytes used by the version of the Realm read by this instance, by walking its structure.
+     *
+     * @return the bytes used by data, history and the list of free space, in that order.
+     */
+    public long[] getSpaceUsage() {
+        return nativeGetSpaceUsage(nativePtr);
+    }
+
+    /**
+     * Returns the bytes used by the given tables. Tables which don't exist use {@code 0} bytes.
+     *
+     * @param tableNames the names of the tables.
+     * @return the bytes used by each table, in the order of {@code tableNames}.
+     */
+    public long[] getTableByteSizes(String[] tableNames) {
+        return nativeGetTableByteSizes(nativePtr, tableNames);
+    }
+
     public void setAutoRefresh(boolean enabled) {
         capabilities.checkCanDeliverNotification(null);
         nativeSetAutoRefresh(nativePtr, enabled);
@@ -421,6 +523,14 @@ public final class OsSharedRealm implements Closeable, NativeObject {
         return osRealmConfig.getRealmConfiguration();
     }
 
+    /**
+     * Returns the metrics this Realm reports to or {@code null} if metrics are disabled.
+     */
+    @Nullable
+    public RealmMetrics getMetrics() {
+        return metrics;
+    }
+
     public long getNumberOfVersions() {
         return nativeNumberOfVersions(nativePtr);
     }
@@ -430,6 +540,11 @@ public final class OsSharedRealm implements Closeable, NativeObject {
         if (realmNotifier != null) {
             realmNotifier.close();
         }
+        // Never resumed, the transaction methods cannot be called on a closed Realm.
+        suspendValueCache(true);
+        if (metrics != null && !isClosed()) {
+            metrics.increment(RealmMetrics.Counter.REALM_CLOSED);
+        }
         synchronized (context) {
             nativeCloseSharedRealm(nativePtr);
             // Don't reset the nativePtr since we still rely on Object Store to check if the given OsSharedRealm ptr
@@ -620,6 +735,10 @@ public final class OsSharedRealm implements Closeable, NativeObject {
 
     private static native boolean nativeCompact(long nativeSharedRealmPtr);
 
+    private static native long[] nativeGetSpaceUsage(long nativeSharedRealmPtr);
+
+    private static native long[] nativeGetTableByteSizes(long nativeSharedRealmPtr, String[] tableNames);
+
     private static native void nativeSetAutoRefresh(long nativePtr, boolean enabled);
 
     private static native boolean nativeIsAutoRefresh(long nativePtr);
@@ -0,0 +1,174 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import io.realm.exceptions.RealmException;
+import io.realm.internal.async.RealmThreadPoolExecutor;
+
+
+/**
+ * Evaluates a {@link TableQuery} on a frozen Realm by splitting the table into partitions which are evaluated
+ * concurrently, and merging the partial results.
+ * <p>
+ * The calling thread evaluates the first partition itself. If the executor cannot accept more work the remaining
+ * partitions are evaluated on the calling thread as well, so a parallel query never fails because the pool is busy.
+ */
+public final class ParallelQuery {
+
+    // Partitions smaller than this are not worth the cost of handing them to another thread.
+    private static final long MIN_PARTITION_SIZE = 10000;
+    private static final int MAX_PARTITIONS = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    private static final RealmThreadPoolExecutor executor = RealmThreadPoolExecutor.newDefaultExecutor();
+
+    private interface Partition<T> {
+        T evaluate(long start, long end);
+    }
+
+    private ParallelQuery() {
+    }
+
+    /**
+     * Counts the objects matching the query.
+     */
+    public static long count(final TableQuery query) {
+        long count = 0;
+        for (Long partitionCount : evaluate(query, query::countInRange)) {
+            count += partitionCount;
+        }
+        return count;
+    }
+
+    /**
+     * Aggregates the non-null values of an integer column of the objects matching the query.
+     *
+     * @return an array of [value count, sum, minimum, maximum]. Sum, minimum and maximum are 0 if the value count is 0.
+     */
+    public static long[] aggregateInt(final TableQuery query, final long columnKey) {
+        long[] result = new long[4];
+        for (long[] partition : evaluate(query, (start, end) -> query.aggregateIntInRange(columnKey, start, end))) {
+            if (partition[0] == 0) {
+                continue;
+            }
+            result[2] = (result[0] == 0) ? partition[2] : Math.min(result[2], partition[2]);
+            result[3] = (result[0] == 0) ? partition[3] : Math.max(result[3], partition[3]);
+            result[0] += partition[0];
+            result[1] += partition[1];
+        }
+        return result;
+    }
+
+    /**
+     * Aggregates the non-null values of a float or double column of the objects matching the query.
+     *
+     * @return an array of [value count, sum, minimum, maximum]. Sum, minimum and maximum are 0 if the value count is 0.
+     */
+    public static double[] aggregateDouble(final TableQuery query, final long columnKey) {
+        double[] result = new double[4];
+        for (double[] partition : evaluate(query, (start, end) -> query.aggregateDoubleInRange(columnKey, start, end))) {
+            if (partition[0] == 0) {
+                continue;
+            }
+            result[2] = (result[0] == 0) ? partition[2] : Math.min(result[2], partition[2]);
+            result[3] = (result[0] == 0) ? partition[3] : Math.max(result[3], partition[3]);
+            result[0] += partition[0];
+            result[1] += partition[1];
+        }
+        return result;
+    }
+
+    // Returns the partial results in partition order.
+    private static <T> List<T> evaluate(TableQuery query, final Partition<T> partition) {
+        query.validateQuery();
+        long size = query.getTable().size();
+        int partitions = (int) Math.max(1, Math.min(MAX_PARTITIONS, size / MIN_PARTITION_SIZE));
+        long partitionSize = (size + partitions - 1) / partitions;
+
+        List<FutureTask<T>> tasks = new ArrayList<>(partitions - 1);
+        // Counts down when a partition task has finished or will never run.
+        final CountDownLatch finished = new CountDownLatch(partitions - 1);
+        for (int i = 1; i < partitions; i++) {
+            final long start = i * partitionSize;
+            final long end = Math.min(size, start + partitionSize);
+            FutureTask<T> task = new FutureTask<>(() -> {
+                try {
+                    return partition.evaluate(start, end);
+                } finally {
+                    finished.countDown();
+                }
+            });
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException ignored) {
+                task.run();
+            }
+            tasks.add(task);
+        }
+
+        List<T> results = new ArrayList<>(partitions);
+        try {
+            results.add(partition.evaluate(0, Math.min(size, partitionSize)));
+            for (FutureTask<T> task : tasks) {
+                results.add(task.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RealmException("Interrupted while waiting for a parallel query.", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RealmException("Parallel query failed.", cause);
+        } finally {
+            // The partitions use the native query, which can be released as soon as this returns. Partitions still
+            // queued are dropped, but the running ones must complete first.
+            for (FutureTask<T> task : tasks) {
+                if (executor.remove(task)) {
+                    finished.countDown();
+                }
+            }
+            awaitUninterruptibly(finished);
+        }
+        return results;
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        boolean interrupted = false;
+        while (true) {
+            try {
+                latch.await();
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
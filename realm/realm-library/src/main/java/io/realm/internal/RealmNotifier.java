@@ -23,6 +23,7 @@ import java.util.List;
 import javax.annotation.Nullable;
 
 import io.realm.RealmChangeListener;
+import io.realm.RealmMetrics;
 
 
 /**
@@ -96,6 +97,9 @@ public abstract class RealmNotifier implements Closeable {
     // version of the Realm on this thread.
     private List<Runnable> finishedSendingNotificationsCallbacks = new ArrayList<>();
 
+    // Start of the current notification round, only tracked when metrics are enabled.
+    private long notificationStartNanos;
+
     // Called from JavaBindingContext::did_change.
     // This will be called in the caller thread when:
     // - A committed remote transaction, called from changed event handler.
@@ -106,6 +110,9 @@ public abstract class RealmNotifier implements Closeable {
     @SuppressWarnings("unused")
     // called from java_binding_context.cpp
     void didChange() {
+        if (sharedRealm != null) {
+            sharedRealm.invalidateValueCache();
+        }
         realmObserverPairs.foreach(onChangeCallBack);
 
         if (!transactionCallbacks.isEmpty()) {
@@ -129,12 +136,17 @@ public abstract class RealmNotifier implements Closeable {
     void beforeNotify() {
         // For the stable iteration.
         sharedRealm.invalidateIterators();
+        // The Realm is about to move to a new version.
+        sharedRealm.invalidateValueCache();
     }
 
     // Called from JavaBindingContext::will_send_notifications
     // This will be called before any change notifications are delivered when updating a
     // Realm version. This will be triggered even if no change listeners are registered.
     void willSendNotifications() {
+        if (sharedRealm != null && sharedRealm.getMetrics() != null) {
+            notificationStartNanos = System.nanoTime();
+        }
         for (int i = 0; i < startSendingNotificationsCallbacks.size(); i++) {
             startSendingNotificationsCallbacks.get(i).run();
         }
@@ -145,6 +157,11 @@ public abstract class RealmNotifier implements Closeable {
         for (int i = 0; i < startSendingNotificationsCallbacks.size(); i++) {
             finishedSendingNotificationsCallbacks.get(i).run();
         }
+        RealmMetrics metrics = (sharedRealm != null) ? sharedRealm.getMetrics() : null;
+        if (metrics != null && notificationStartNanos != 0) {
+            metrics.recordLatency(RealmMetrics.Timer.NOTIFICATION_DISPATCH, null, System.nanoTime() - notificationStartNanos);
+            notificationStartNanos = 0;
+        }
     }
 
     /**
@@ -44,6 +44,11 @@ import io.realm.exceptions.RealmException;
  */
 public abstract class RealmProxyMediator {
 
+    /**
+     * Id returned by {@link #getClassId(Class)} for classes that are not part of this mediator.
+     */
+    public static final int UNKNOWN_CLASS_ID = -1;
+
     /**
      * Returns a map of model classes to their schema information which are defined in this mediator. Classes which have
      * same class name but in different packages should have different names in the {@code OsObjectSchemaInfo}.
@@ -61,6 +66,16 @@ public abstract class RealmProxyMediator {
      */
     public abstract ColumnInfo createColumnInfo(Class<? extends RealmModel> clazz, OsSchemaInfo osSchemaInfo);
 
+    /**
+     * Returns the id of a model class in this mediator. Ids are dense, i.e. in the range {@code [0, n)} where
+     * {@code n} is the number of model classes known by the mediator that defined them. This allows generated
+     * mediators to dispatch calls with a {@code switch} instead of comparing the class against every model class.
+     *
+     * @param clazz the {@link RealmModel} class reference.
+     * @return the id of the class or {@link #UNKNOWN_CLASS_ID} if the class is not part of this mediator.
+     */
+    public abstract int getClassId(Class<? extends RealmModel> clazz);
+
     /**
      * Returns the name that Realm should use for all its internal tables. This is the un-obfuscated simple name of the
      * class.
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.internal;
+
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+
+import java.util.Date;
+
+import javax.annotation.Nullable;
+
+import io.realm.RealmFieldType;
+
+
+/**
+ * A snapshot of the scalar columns of one object, read with a single native call instead of one call per field.
+ * <p>
+ * The generated proxies use this to implement {@code createDetachedCopy()} and {@code toString()}. Values are
+ * accessed by their position in the array of column keys they were read with. Integers, booleans, dates and the bits
+ * of floating point numbers are stored in a {@code long[]}, all other values in an {@code Object[]}.
+ * <p>
+ * Only {@link RealmFieldType#INTEGER}, {@link RealmFieldType#BOOLEAN}, {@link RealmFieldType#FLOAT},
+ * {@link RealmFieldType#DOUBLE}, {@link RealmFieldType#DATE}, {@link RealmFieldType#STRING},
+ * {@link RealmFieldType#BINARY}, {@link RealmFieldType#DECIMAL128} and {@link RealmFieldType#OBJECT_ID} columns can
+ * be read this way.
+ */
+public final class RowValues {
+
+    private final long[] values;
+    private final Object[] objects;
+    private final boolean[] nulls;
+
+    private RowValues(int size) {
+        this.values = new long[size];
+        this.objects = new Object[size];
+        this.nulls = new boolean[size];
+    }
+
+    /**
+     * Reads the values of the given columns.
+     *
+     * @param row the row to read.
+     * @param columnKeys the keys of the scalar columns to read.
+     * @return the values of the columns, in the order of {@code columnKeys}.
+     */
+    public static RowValues read(Row row, long[] columnKeys) {
+        RowValues rowValues = new RowValues(columnKeys.length);
+        if (row instanceof UncheckedRow) {
+            ((UncheckedRow) row).getValues(columnKeys, rowValues.values, rowValues.objects, rowValues.nulls);
+        } else {
+            for (int i = 0; i < columnKeys.length; i++) {
+                rowValues.readColumn(row, i, columnKeys[i]);
+            }
+        }
+        return rowValues;
+    }
+
+    // Fallback for rows which are not backed by a native object.
+    private void readColumn(Row row, int index, long columnKey) {
+        if (row.isNull(columnKey)) {
+            nulls[index] = true;
+            return;
+        }
+        RealmFieldType fieldType = row.getColumnType(columnKey);
+        switch (fieldType) {
+            case INTEGER:
+                values[index] = row.getLong(columnKey);
+                break;
+            case BOOLEAN:
+                values[index] = row.getBoolean(columnKey) ? 1 : 0;
+                break;
+            case FLOAT:
+                values[index] = Float.floatToRawIntBits(row.getFloat(columnKey));
+                break;
+            case DOUBLE:
+                values[index] = Double.doubleToRawLongBits(row.getDouble(columnKey));
+                break;
+            case DATE:
+                values[index] = row.getDate(columnKey).getTime();
+                break;
+            case STRING:
+                objects[index] = row.getString(columnKey);
+                break;
+            case BINARY:
+                objects[index] = row.getBinaryByteArray(columnKey);
+                break;
+            case DECIMAL128:
+                objects[index] = row.getDecimal128(columnKey);
+                break;
+            case OBJECT_ID:
+                objects[index] = row.getObjectId(columnKey);
+                break;
+            default:
+                throw new IllegalArgumentException("Column type " + fieldType + " cannot be read as a value.");
+        }
+    }
+
+    public boolean isNull(int index) {
+        return nulls[index];
+    }
+
+    public long getLong(int index) {
+        return values[index];
+    }
+
+    public boolean getBoolean(int index) {
+        return values[index] != 0;
+    }
+
+    public float getFloat(int index) {
+        return Float.intBitsToFloat((int) values[index]);
+    }
+
+    public double getDouble(int index) {
+        return Double.longBitsToDouble(values[index]);
+    }
+
+    @Nullable
+    public Date getDate(int index) {
+        return nulls[index] ? null : new Date(values[index]);
+    }
+
+    @Nullable
+    public String getString(int index) {
+        return (String) objects[index];
+    }
+
+    @Nullable
+    public byte[] getBinaryByteArray(int index) {
+        return (byte[]) objects[index];
+    }
+
+    @Nullable
+    public Decimal128 getDecimal128(int index) {
+        return (Decimal128) objects[index];
+    }
+
+    @Nullable
+    public ObjectId getObjectId(int index) {
+        return (ObjectId) objects[index];
+    }
+}
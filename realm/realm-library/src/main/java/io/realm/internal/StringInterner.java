@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.internal;
+
+import javax.annotation.Nullable;
+
+
+/**
+ * The canonical values of a string field marked with {@link io.realm.annotations.Interned}.
+ * <p>
+ * Generated proxies keep one interner per field. Reading the field through it returns the same {@code String}
+ * instance for equal values, and no new string is created on the Java side for a value already in the interner. The
+ * first {@link #MAX_VALUES} distinct values read are kept; values seen after that are returned as new strings.
+ * Values longer than 64 UTF-8 bytes read from the Realm are not interned.
+ * <p>
+ * The interner is safe to use from multiple threads. Entries are only ever added, and an entry lost to a concurrent
+ * update is simply added again on a later read.
+ */
+public final class StringInterner {
+
+    public static final int MAX_VALUES = 32;
+
+    private final String[] values = new String[MAX_VALUES];
+
+    /**
+     * Reads a string column of the given row and returns the canonical instance of its value.
+     *
+     * @param row the row to read.
+     * @param columnKey the key of the string column.
+     * @return the interned value, or {@code null}.
+     */
+    @Nullable
+    public String getString(Row row, long columnKey) {
+        if (row instanceof UncheckedRow) {
+            return ((UncheckedRow) row).getInternedString(columnKey, values);
+        }
+        return intern(row.getString(columnKey));
+    }
+
+    /**
+     * Returns the canonical instance of a string value.
+     *
+     * @param value the value to intern.
+     * @return an instance equal to {@code value}.
+     */
+    @Nullable
+    public String intern(@Nullable String value) {
+        if (value == null) {
+            return null;
+        }
+        for (int i = 0; i < MAX_VALUES; i++) {
+            String cached = values[i];
+            if (cached == null) {
+                values[i] = value;
+                return value;
+            }
+            if (cached.equals(value)) {
+                return cached;
+            }
+        }
+        return value;
+    }
+}
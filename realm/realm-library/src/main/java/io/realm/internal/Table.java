@@ -41,6 +41,7 @@ public class Table implements NativeObject {
     public static final boolean NULLABLE = true;
     public static final boolean NOT_NULLABLE = false;
     public static final int NO_MATCH = -1;
+    private static final long NO_KEY = -1;
 
     public static final int MAX_BINARY_SIZE = 0xFFFFF8 - 8/*array header size*/;
     public static final int MAX_STRING_SIZE = 0xFFFFF8 - 8/*array header size*/ - 1;
@@ -52,6 +53,9 @@ public class Table implements NativeObject {
 
     private final OsSharedRealm sharedRealm;
 
+    // The key of a table never changes, not even when the table is renamed, so it is only fetched once.
+    private long key = NO_KEY;
+
     Table(OsSharedRealm sharedRealm, long nativeTableRefPointer) {
         this.context = sharedRealm.context;
         this.sharedRealm = sharedRealm;
@@ -499,7 +503,7 @@ public class Table implements NativeObject {
         if (value == null) {
             nativeSetNull(nativeTableRefPtr, columnKey, rowKey, isDefault);
         } else {
-            nativeSetObjectId(nativeTableRefPtr, columnKey, rowKey, value.toString(), isDefault);
+            nativeSetObjectId(nativeTableRefPtr, columnKey, rowKey, value.toByteArray(), isDefault);
         }
     }
 
@@ -617,7 +621,7 @@ public class Table implements NativeObject {
         if (value == null) {
             throw new IllegalArgumentException("null is not supported");
         }
-        return nativeFindFirstObjectId(nativeTableRefPtr, columnKey, value.toString());
+        return nativeFindFirstObjectId(nativeTableRefPtr, columnKey, value.toByteArray());
     }
 
     /**
@@ -642,6 +646,24 @@ public class Table implements NativeObject {
         return nativeGetName(nativeTableRefPtr);
     }
 
+    /**
+     * Returns the key of the table in the associated group. Unlike the name, the key stays the same if the table is
+     * renamed.
+     *
+     * @return the key of the table.
+     * @throws IllegalStateException if the table is no longer part of the group.
+     */
+    public long getKey() {
+        if (key == NO_KEY) {
+            long tableKey = nativeGetKey(nativeTableRefPtr);
+            if (tableKey == NO_KEY) {
+                throw new IllegalStateException("This object class is no longer part of the schema for the Realm file.");
+            }
+            key = tableKey;
+        }
+        return key;
+    }
+
     /**
      * Returns the class name for the table.
      *
@@ -792,9 +814,9 @@ public class Table implements NativeObject {
 
     private native long nativeGetLinkTarget(long nativePtr, long columnKey);
 
-    private native long[] nativeGetDecimal128(long nativePtr, long columnKey, long rowKey);
+    private native Decimal128 nativeGetDecimal128(long nativePtr, long columnKey, long rowKey);
 
-    private native String nativeGetObjectId(long nativePtr, long columnKey, long rowKey);
+    private native byte[] nativeGetObjectId(long nativePtr, long columnKey, long rowKey);
 
     private native boolean nativeIsNull(long nativePtr, long columnKey, long rowKey);
 
@@ -820,7 +842,7 @@ public class Table implements NativeObject {
 
     public static native void nativeSetDecimal128(long nativeTableRefPtr, long columnKey, long rowKey, long low, long high, boolean isDefault);
 
-    public static native void nativeSetObjectId(long nativeTableRefPtr, long columnKey, long rowKey, String data, boolean isDefault);
+    public static native void nativeSetObjectId(long nativeTableRefPtr, long columnKey, long rowKey, byte[] data, boolean isDefault);
 
     public static native void nativeSetLink(long nativeTableRefPtr, long columnKey, long rowKey, long value, boolean isDefault);
 
@@ -858,12 +880,14 @@ public class Table implements NativeObject {
 
     public static native long nativeFindFirstDecimal128(long nativeTableRefPtr, long columnKey, long low, long high);
 
-    public static native long nativeFindFirstObjectId(long nativeTableRefPtr, long columnKey, String value);
+    public static native long nativeFindFirstObjectId(long nativeTableRefPtr, long columnKey, byte[] value);
 
     public static native long nativeFindFirstNull(long nativeTableRefPtr, long columnKey);
 
     private native String nativeGetName(long nativeTableRefPtr);
 
+    private native long nativeGetKey(long nativeTableRefPtr);
+
     private native boolean nativeHasSameSchema(long thisTable, long otherTable);
 
     private static native long nativeGetFinalizerPtr();
@@ -464,37 +464,37 @@ public class TableQuery implements NativeObject {
     // Queries for ObjectId
 
     public TableQuery equalTo(long[] columnKeys, long[] tablePtrs, ObjectId value) {
-        nativeEqualObjectId(nativePtr, columnKeys, tablePtrs, value.toString());
+        nativeEqualObjectId(nativePtr, columnKeys, tablePtrs, value.toByteArray());
         queryValidated = false;
         return this;
     }
 
     public TableQuery notEqualTo(long[] columnKeys, long[] tablePtrs, ObjectId value) {
-        nativeNotEqualObjectId(nativePtr, columnKeys, tablePtrs, value.toString());
+        nativeNotEqualObjectId(nativePtr, columnKeys, tablePtrs, value.toByteArray());
         queryValidated = false;
         return this;
     }
 
     public TableQuery lessThan(long[] columnKeys, long[] tablePtrs, ObjectId value) {
-        nativeLessObjectId(nativePtr, columnKeys, tablePtrs, value.toString());
+        nativeLessObjectId(nativePtr, columnKeys, tablePtrs, value.toByteArray());
         queryValidated = false;
         return this;
     }
 
     public TableQuery lessThanOrEqual(long[] columnKeys, long[] tablePtrs, ObjectId value) {
-        nativeLessEqualObjectId(nativePtr, columnKeys, tablePtrs, value.toString());
+        nativeLessEqualObjectId(nativePtr, columnKeys, tablePtrs, value.toByteArray());
         queryValidated = false;
         return this;
     }
 
     public TableQuery greaterThan(long[] columnKeys, long[] tablePtrs, ObjectId value) {
-        nativeGreaterObjectId(nativePtr, columnKeys, tablePtrs, value.toString());
+        nativeGreaterObjectId(nativePtr, columnKeys, tablePtrs, value.toByteArray());
         queryValidated = false;
         return this;
     }
 
     public TableQuery greaterThanOrEqual(long[] columnKeys, long[] tablePtrs, ObjectId value) {
-        nativeGreaterEqualObjectId(nativePtr, columnKeys, tablePtrs,  value.toString());
+        nativeGreaterEqualObjectId(nativePtr, columnKeys, tablePtrs, value.toByteArray());
         queryValidated = false;
         return this;
     }
@@ -663,6 +663,34 @@ public class TableQuery implements NativeObject {
         return nativeCount(nativePtr);
     }
 
+    // Partitioned evaluation
+    //
+    // The partition methods evaluate a copy of the query on the objects with a position in [start, end) of the table,
+    // so they can be called concurrently from multiple threads on a frozen Realm. The query must be validated by
+    // calling validateQuery() on the thread that built it before any partition is evaluated.
+
+    public long countInRange(long start, long end) {
+        return nativeCountInRange(nativePtr, start, end);
+    }
+
+    /**
+     * Aggregates the non-null values of an integer column in a partition.
+     *
+     * @return an array of [value count, sum, minimum, maximum]. Sum, minimum and maximum are 0 if the value count is 0.
+     */
+    public long[] aggregateIntInRange(long columnKey, long start, long end) {
+        return nativeAggregateIntInRange(nativePtr, columnKey, start, end);
+    }
+
+    /**
+     * Aggregates the non-null values of a float or double column in a partition.
+     *
+     * @return an array of [value count, sum, minimum, maximum]. Sum, minimum and maximum are 0 if the value count is 0.
+     */
+    public double[] aggregateDoubleInRange(long columnKey, long start, long end) {
+        return nativeAggregateDoubleInRange(nativePtr, columnKey, start, end);
+    }
+
     public long remove() {
         validateQuery();
         if (table.isImmutable()) { throwImmutable(); }
@@ -779,17 +807,17 @@ public class TableQuery implements NativeObject {
 
     private native void nativeLessEqualDecimal128(long nativeQueryPtr, long[] columnIndex, long[] tablePtrs, long low, long high);
 
-    private native void nativeEqualObjectId(long nativeQueryPtr, long[] columnIndex, long[] tablePtrs, String data);
+    private native void nativeEqualObjectId(long nativeQueryPtr, long[] columnIndex, long[] tablePtrs, byte[] data);
 
-    private native void nativeNotEqualObjectId(long nativeQueryPtr, long[] columnIndex, long[] tablePtrs, String data);
+    private native void nativeNotEqualObjectId(long nativeQueryPtr, long[] columnIndex, long[] tablePtrs, byte[] data);
 
-    private native void nativeGreaterObjectId(long nativeQueryPtr, long[] columnIndex, long[] tablePtrs, String data);
+    private native void nativeGreaterObjectId(long nativeQueryPtr, long[] columnIndex, long[] tablePtrs, byte[] data);
 
-    private native void nativeGreaterEqualObjectId(long nativeQueryPtr, long[] columnIndex, long[] tablePtrs, String data);
+    private native void nativeGreaterEqualObjectId(long nativeQueryPtr, long[] columnIndex, long[] tablePtrs, byte[] data);
 
-    private native void nativeLessObjectId(long nativeQueryPtr, long[] columnIndex, long[] tablePtrs, String data);
+    private native void nativeLessObjectId(long nativeQueryPtr, long[] columnIndex, long[] tablePtrs, byte[] data);
 
-    private native void nativeLessEqualObjectId(long nativeQueryPtr, long[] columnIndex, long[] tablePtrs, String data);
+    private native void nativeLessEqualObjectId(long nativeQueryPtr, long[] columnIndex, long[] tablePtrs, byte[] data);
 
     private native void nativeIsEmpty(long nativePtr, long[] columnKeys, long[] tablePtrs);
 
@@ -845,5 +873,11 @@ public class TableQuery implements NativeObject {
 
     private native long nativeRemove(long nativeQueryPtr);
 
+    private native long nativeCountInRange(long nativeQueryPtr, long start, long end);
+
+    private native long[] nativeAggregateIntInRange(long nativeQueryPtr, long columnKey, long start, long end);
+
+    private native double[] nativeAggregateDoubleInRange(long nativeQueryPtr, long columnKey, long start, long end);
+
     private static native long nativeGetFinalizerPtr();
 }
@@ -159,6 +159,13 @@ public class UncheckedRow implements NativeObject, Row {
         return nativeGetString(nativePtr, columnKey);
     }
 
+    /**
+     * Reads a string column through the given cache, see {@link StringInterner}.
+     */
+    String getInternedString(long columnKey, String[] cache) {
+        return nativeGetInternedString(nativePtr, columnKey, cache);
+    }
+
     @Override
     public byte[] getBinaryByteArray(long columnKey) {
         return nativeGetByteArray(nativePtr, columnKey);
@@ -166,12 +173,7 @@ public class UncheckedRow implements NativeObject, Row {
 
     @Override
     public Decimal128 getDecimal128(long columnKey) {
-        long[] data = nativeGetDecimal128(nativePtr, columnKey);
-        if (data != null) {
-            return Decimal128.fromIEEE754BIDEncoding(data[1]/*high*/, data[0]/*low*/);
-        } else {
-            return null;
-        }
+        return nativeGetDecimal128(nativePtr, columnKey);
     }
 
     @Override
@@ -179,6 +181,13 @@ public class UncheckedRow implements NativeObject, Row {
         return new ObjectId(nativeGetObjectId(nativePtr, columnKey));
     }
 
+    /**
+     * Reads the given scalar columns with one native call. See {@link RowValues} for how the values are stored.
+     */
+    void getValues(long[] columnKeys, long[] values, Object[] objects, boolean[] nulls) {
+        nativeGetValues(nativePtr, columnKeys, values, objects, nulls);
+    }
+
     @Override
     public long getLink(long columnKey) {
         return nativeGetLink(nativePtr, columnKey);
@@ -302,7 +311,7 @@ public class UncheckedRow implements NativeObject, Row {
         if (value == null) {
             nativeSetNull(nativePtr, columnKey);
         } else {
-            nativeSetObjectId(nativePtr, columnKey, value.toString());
+            nativeSetObjectId(nativePtr, columnKey, value.toByteArray());
         }
     }
 
@@ -380,14 +389,17 @@ public class UncheckedRow implements NativeObject, Row {
 
     protected native String nativeGetString(long nativePtr, long columnKey);
 
+    protected native String nativeGetInternedString(long nativePtr, long columnKey, String[] cache);
+
     protected native boolean nativeIsNullLink(long nativeRowPtr, long columnKey);
 
     protected native byte[] nativeGetByteArray(long nativePtr, long columnKey);
 
-    // Returns String representation for Decimal128()
-    protected native long[] nativeGetDecimal128(long nativePtr, long columnKey);
+    protected native Decimal128 nativeGetDecimal128(long nativePtr, long columnKey);
+
+    protected native byte[] nativeGetObjectId(long nativePtr, long columnKey);
 
-    protected native String nativeGetObjectId(long nativePtr, long columnKey);
+    protected native void nativeGetValues(long nativeRowPtr, long[] columnKeys, long[] values, Object[] objects, boolean[] nulls);
 
     protected native void nativeSetLong(long nativeRowPtr, long columnKey, long value);
 
@@ -407,7 +419,7 @@ public class UncheckedRow implements NativeObject, Row {
 
     protected native void nativeSetDecimal128(long nativePtr, long columnKey, long low, long high);
 
-    protected native void nativeSetObjectId(long nativePtr, long columnKey, String value);
+    protected native void nativeSetObjectId(long nativePtr, long columnKey, byte[] value);
 
     protected native void nativeSetLink(long nativeRowPtr, long columnKey, long value);
 
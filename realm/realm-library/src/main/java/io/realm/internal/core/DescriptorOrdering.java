@@ -99,6 +99,13 @@ public class DescriptorOrdering implements NativeObject {
         limitDefined = true;
     }
 
+    /**
+     * Returns true if a distinct criteria or a limit has been added.
+     */
+    public boolean hasDistinctOrLimit() {
+        return distinctDefined || limitDefined;
+    }
+
     /**
      * Returns true if no descriptors or limits have been added.
      */
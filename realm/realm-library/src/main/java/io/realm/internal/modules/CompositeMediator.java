@@ -94,6 +94,12 @@ public class CompositeMediator extends RealmProxyMediator {
         return mediator.createColumnInfo(clazz, osSchemaInfo);
     }
 
+    @Override
+    public int getClassId(Class<? extends RealmModel> clazz) {
+        RealmProxyMediator mediator = mediators.get(clazz);
+        return (mediator != null) ? mediator.getClassId(clazz) : UNKNOWN_CLASS_ID;
+    }
+
     @Override
     protected String getSimpleClassNameImpl(Class<? extends RealmModel> clazz) {
         RealmProxyMediator mediator = getMediator(clazz);
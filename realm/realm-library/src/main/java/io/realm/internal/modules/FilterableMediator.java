@@ -92,6 +92,11 @@ public class FilterableMediator extends RealmProxyMediator {
         return originalMediator.createColumnInfo(clazz, osSchemaInfo);
     }
 
+    @Override
+    public int getClassId(Class<? extends RealmModel> clazz) {
+        return allowedClasses.contains(clazz) ? originalMediator.getClassId(clazz) : UNKNOWN_CLASS_ID;
+    }
+
     @Override
     protected String getSimpleClassNameImpl(Class<? extends RealmModel> clazz) {
         checkSchemaHasClass(clazz);
@@ -173,7 +173,7 @@ public class OsObjectBuilder implements Closeable {
     private static ItemCallback<ObjectId> objectIdItemCallback = new ItemCallback<ObjectId>() {
         @Override
         public void handleItem(long listPtr, ObjectId item) {
-            nativeAddObjectIdListItem(listPtr, item.toString());
+            nativeAddObjectIdListItem(listPtr, item.toByteArray());
         }
     };
 
@@ -291,7 +291,7 @@ public class OsObjectBuilder implements Closeable {
         if (val == null) {
             nativeAddNull(builderPtr, columnKey);
         } else {
-            nativeAddObjectId(builderPtr, columnKey, val.toString());
+            nativeAddObjectId(builderPtr, columnKey, val.toByteArray());
         }
     }
 
@@ -491,7 +491,7 @@ public class OsObjectBuilder implements Closeable {
     private static native void nativeAddDate(long builderPtr, long columnKey, long val);
     private static native void nativeAddObject(long builderPtr, long columnKey, long rowPtr);
     private static native void nativeAddDecimal128(long builderPtr, long columnKey, long low, long high);
-    private static native void nativeAddObjectId(long builderPtr, long columnKey, String data);
+    private static native void nativeAddObjectId(long builderPtr, long columnKey, byte[] data);
 
     // Methods for adding lists
     // Lists sent across JNI one element at a time
@@ -506,7 +506,7 @@ public class OsObjectBuilder implements Closeable {
     private static native void nativeAddByteArrayListItem(long listPtr, byte[] val);
     private static native void nativeAddDateListItem(long listPtr, long val);
     private static native void nativeAddDecimal128ListItem(long listPtr, long low, long high);
-    private static native void nativeAddObjectIdListItem(long listPtr, String data);
+    private static native void nativeAddObjectIdListItem(long listPtr, byte[] data);
     private static native void nativeAddObjectListItem(long listPtr, long rowPtr);
     private static native void nativeAddObjectList(long builderPtr, long columnKey, long[] rowPtrs);
 }
@@ -17,6 +17,9 @@
 package io.realm.internal.async;
 
 import java.io.IOException;
+import java.util.List;
+
+import javax.annotation.Nullable;
 
 import io.realm.internal.Util;
 import io.realm.internal.objectserver.EventStream;
@@ -44,7 +47,18 @@ public class RealmEventStreamAsyncTaskImpl<T> implements RealmEventStreamAsyncTa
     @Override
     public synchronized void get(App.Callback<BaseChangeEvent<T>> callback) throws IllegalStateException {
         Util.checkNull(callback, "callback");
+        start(callback, null);
+    }
 
+    @Override
+    public synchronized void getBatches(App.Callback<List<BaseChangeEvent<T>>> callback) throws IllegalStateException {
+        Util.checkNull(callback, "callback");
+        start(null, callback);
+    }
+
+    // Reads the stream in batches on a dedicated thread, delivering them either event by event or as a whole.
+    private void start(@Nullable final App.Callback<BaseChangeEvent<T>> eventCallback,
+                       @Nullable final App.Callback<List<BaseChangeEvent<T>>> batchCallback) {
         if (thread != null) {
             throw new IllegalStateException("Resource already open");
         } else {
@@ -55,14 +69,27 @@ public class RealmEventStreamAsyncTaskImpl<T> implements RealmEventStreamAsyncTa
                         eventStream = executor.run();
 
                         while (true) {
-                            BaseChangeEvent<T> nextEvent = eventStream.getNextEvent();
-                            callback.onResult(App.Result.withResult(nextEvent));
+                            List<BaseChangeEvent<T>> nextEvents = eventStream.getNextEvents();
+                            if (batchCallback != null) {
+                                batchCallback.onResult(App.Result.withResult(nextEvents));
+                            } else {
+                                for (BaseChangeEvent<T> nextEvent : nextEvents) {
+                                    eventCallback.onResult(App.Result.withResult(nextEvent));
+                                }
+                            }
                         }
                     } catch (AppException exception) {
-                        callback.onResult(App.Result.withError(exception));
+                        onError(exception);
                     } catch (IOException exception) {
-                        AppException appException = new AppException(ErrorCode.NETWORK_IO_EXCEPTION, exception);
-                        callback.onResult(App.Result.withError(appException));
+                        onError(new AppException(ErrorCode.NETWORK_IO_EXCEPTION, exception));
+                    }
+                }
+
+                private void onError(AppException exception) {
+                    if (batchCallback != null) {
+                        batchCallback.onResult(App.Result.<List<BaseChangeEvent<T>>>withError(exception));
+                    } else {
+                        eventCallback.onResult(App.Result.<BaseChangeEvent<T>>withError(exception));
                     }
                 }
             }, String.format("RealmStreamTask|%s", name));
@@ -17,6 +17,7 @@
 package io.realm.internal.async;
 
 import java.io.IOException;
+import java.util.List;
 
 import io.realm.internal.Util;
 import io.realm.internal.objectserver.EventStream;
@@ -52,6 +53,12 @@ public class RealmEventStreamTaskImpl<T> implements RealmEventStreamTask<T> {
         return eventStream.getNextEvent();
     }
 
+    @Override
+    public synchronized List<BaseChangeEvent<T>> getNextBatch() throws AppException, IOException {
+        eventStream = getEventStream();
+        return eventStream.getNextEvents();
+    }
+
     @Override
     public boolean isOpen() {
         return (eventStream != null) && eventStream.isOpen();
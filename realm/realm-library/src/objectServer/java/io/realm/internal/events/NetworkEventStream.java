@@ -3,22 +3,23 @@ package io.realm.internal.events;
 import org.bson.codecs.configuration.CodecRegistry;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 
 import io.realm.internal.objectserver.EventStream;
 import io.realm.internal.objectstore.OsJavaNetworkTransport;
-import io.realm.internal.objectstore.OsWatchStream;
 import io.realm.mongodb.AppException;
 import io.realm.mongodb.mongo.events.BaseChangeEvent;
 
 public class NetworkEventStream<T> implements EventStream<T> {
     private final OsJavaNetworkTransport.Response response;
-    private final OsWatchStream watchStream;
+    private final ServerSentEventParser parser;
     private final CodecRegistry codecRegistry;
     private final Class<T> documentClass;
 
     public NetworkEventStream(OsJavaNetworkTransport.Response response, CodecRegistry codecRegistry, Class<T> documentClass) {
         this.response = response;
-        this.watchStream = new OsWatchStream(codecRegistry);
+        this.parser = new ServerSentEventParser(codecRegistry);
         this.codecRegistry = codecRegistry;
         this.documentClass = documentClass;
     }
@@ -30,19 +31,42 @@ public class NetworkEventStream<T> implements EventStream<T> {
      * @throws AppException on a stream error
      */
     @Override
-    public BaseChangeEvent<T> getNextEvent() throws AppException, IOException {
-        while (true) {
-            watchStream.feedLine(response.readBodyLine());
-            String watchStreamState = watchStream.getState();
+    public synchronized BaseChangeEvent<T> getNextEvent() throws AppException, IOException {
+        readEvents();
+        return ChangeEvent.fromBsonDocument(parser.nextEvent(), documentClass, codecRegistry);
+    }
 
-            if (watchStreamState.equals(OsWatchStream.HAVE_EVENT)) {
-                return ChangeEvent.fromBsonDocument(watchStream.getNextEvent(), documentClass, codecRegistry);
-            }
-            if (watchStreamState.equals(OsWatchStream.HAVE_ERROR)) {
+    /**
+     * Fetch all events which have been received, waiting for at least one. Events are parsed from the response in
+     * chunks, so a busy stream yields several events per call.
+     *
+     * @return the next events
+     * @throws AppException on a stream error
+     */
+    @Override
+    public synchronized List<BaseChangeEvent<T>> getNextEvents() throws AppException, IOException {
+        readEvents();
+        List<BaseChangeEvent<T>> events = new ArrayList<>();
+        while (parser.hasEvent()) {
+            events.add(ChangeEvent.fromBsonDocument(parser.nextEvent(), documentClass, codecRegistry));
+        }
+        return events;
+    }
+
+    private void readEvents() throws AppException, IOException {
+        if (!parser.hasEvent()) {
+            try {
+                parser.readEvents(response);
+            } catch (AppException e) {
                 response.close();
-                throw watchStream.getError();
+                throw e;
             }
         }
+        AppException error = parser.getError();
+        if (error != null) {
+            response.close();
+            throw error;
+        }
     }
 
     /**
@@ -0,0 +1,251 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.internal.events;
+
+import org.bson.BsonDocument;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.bson.codecs.configuration.CodecRegistry;
+import org.bson.json.JsonReader;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Locale;
+
+import javax.annotation.Nullable;
+
+import io.realm.internal.jni.JniBsonProtocol;
+import io.realm.internal.objectstore.OsJavaNetworkTransport;
+import io.realm.mongodb.AppException;
+import io.realm.mongodb.ErrorCode;
+
+/**
+ * Parses the server-sent events of a change stream.
+ * <p>
+ * The response is read in chunks and split into lines and events in Java, instead of feeding the native watch stream
+ * one line at a time. The data of {@code message} events is decoded to a {@link BsonDocument} with the codec registry
+ * of the stream, {@code error} events are turned into an {@link AppException}. Other events and comments are ignored.
+ * <p>
+ * Parsers are not thread safe.
+ */
+class ServerSentEventParser {
+
+    static final int READ_BUFFER_SIZE = 16 * 1024;
+
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final String MESSAGE_EVENT = "message";
+    private static final String ERROR_EVENT = "error";
+
+    private final Decoder<BsonDocument> documentDecoder;
+    private final byte[] readBuffer = new byte[READ_BUFFER_SIZE];
+
+    // The bytes of the line being read, lines are only decoded once complete so multi-byte characters split between
+    // two reads are handled.
+    private byte[] lineBuffer = new byte[1024];
+    private int lineLength;
+
+    private String eventType = MESSAGE_EVENT;
+    private final StringBuilder eventData = new StringBuilder();
+    private boolean hasEventData;
+
+    private final ArrayDeque<BsonDocument> events = new ArrayDeque<>();
+    @Nullable
+    private AppException error;
+
+    ServerSentEventParser(CodecRegistry codecRegistry) {
+        this.documentDecoder = JniBsonProtocol.getCodec(BsonDocument.class, codecRegistry);
+    }
+
+    /**
+     * Reads from the response until at least one event or an error is available.
+     *
+     * @param response the streaming response.
+     * @throws IOException if the stream was closed or failed.
+     */
+    void readEvents(OsJavaNetworkTransport.Response response) throws IOException {
+        while (events.isEmpty() && error == null) {
+            int read = response.readBody(readBuffer);
+            if (read < 0) {
+                throw new EOFException("The server closed the change stream.");
+            }
+            feed(readBuffer, 0, read);
+        }
+    }
+
+    /**
+     * Parses a chunk of the response.
+     */
+    void feed(byte[] bytes, int offset, int length) {
+        int end = offset + length;
+        int lineStart = offset;
+        for (int i = offset; i < end; i++) {
+            if (bytes[i] == '\n') {
+                appendToLine(bytes, lineStart, i - lineStart);
+                processLine();
+                lineStart = i + 1;
+            }
+        }
+        appendToLine(bytes, lineStart, end - lineStart);
+    }
+
+    boolean hasEvent() {
+        return !events.isEmpty();
+    }
+
+    BsonDocument nextEvent() {
+        return events.removeFirst();
+    }
+
+    /**
+     * Returns the error sent by the server, once all events before it have been consumed.
+     */
+    @Nullable
+    AppException getError() {
+        return events.isEmpty() ? error : null;
+    }
+
+    private void appendToLine(byte[] bytes, int offset, int length) {
+        if (lineLength + length > lineBuffer.length) {
+            byte[] newBuffer = new byte[Math.max(lineBuffer.length * 2, lineLength + length)];
+            System.arraycopy(lineBuffer, 0, newBuffer, 0, lineLength);
+            lineBuffer = newBuffer;
+        }
+        System.arraycopy(bytes, offset, lineBuffer, lineLength, length);
+        lineLength += length;
+    }
+
+    private void processLine() {
+        int length = lineLength;
+        if (length > 0 && lineBuffer[length - 1] == '\r') {
+            length--;
+        }
+        lineLength = 0;
+
+        if (length == 0) {
+            dispatchEvent();
+            return;
+        }
+        if (lineBuffer[0] == ':') {
+            return;
+        }
+        String line = new String(lineBuffer, 0, length, UTF_8);
+        int colon = line.indexOf(':');
+        String field = (colon < 0) ? line : line.substring(0, colon);
+        String value = "";
+        if (colon >= 0) {
+            int valueStart = colon + 1;
+            if (valueStart < line.length() && line.charAt(valueStart) == ' ') {
+                valueStart++;
+            }
+            value = line.substring(valueStart);
+        }
+
+        if (field.equals("event")) {
+            eventType = value;
+        } else if (field.equals("data")) {
+            if (hasEventData) {
+                eventData.append('\n');
+            }
+            eventData.append(value);
+            hasEventData = true;
+        }
+    }
+
+    private void dispatchEvent() {
+        if (hasEventData && error == null) {
+            String data = unescape(eventData);
+            if (eventType.equals(MESSAGE_EVENT)) {
+                events.addLast(decodeDocument(data));
+            } else if (eventType.equals(ERROR_EVENT)) {
+                error = decodeError(data);
+            }
+        }
+        eventType = MESSAGE_EVENT;
+        eventData.setLength(0);
+        hasEventData = false;
+    }
+
+    private BsonDocument decodeDocument(String json) {
+        try {
+            return documentDecoder.decode(new JsonReader(json), DecoderContext.builder().build());
+        } catch (Exception e) {
+            throw new AppException(ErrorCode.BSON_DECODING, "Error decoding change event " + json, e);
+        }
+    }
+
+    private AppException decodeError(String json) {
+        BsonDocument document = decodeDocument(json);
+        String message = document.containsKey("error") ? document.getString("error").getValue() : json;
+        String code = document.containsKey("error_code") ? document.getString("error_code").getValue() : "";
+        return new AppException(toServiceErrorCode(code), message);
+    }
+
+    // The server sends service error codes by name, e.g. "InvalidSession" for ErrorCode.INVALID_SESSION.
+    static ErrorCode toServiceErrorCode(String name) {
+        StringBuilder sb = new StringBuilder(name.length() + 8);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (Character.isUpperCase(c) && i > 0) {
+                sb.append('_');
+            }
+            sb.append(Character.toUpperCase(c));
+        }
+        try {
+            ErrorCode errorCode = ErrorCode.valueOf(sb.toString());
+            if (errorCode.getType().equals(ErrorCode.Type.SERVICE)) {
+                return errorCode;
+            }
+        } catch (IllegalArgumentException ignored) {
+        }
+        return ErrorCode.SERVICE_UNKNOWN;
+    }
+
+    // The server percent-encodes '%', '\n' and '\r' in the data of events.
+    static String unescape(CharSequence data) {
+        int length = data.length();
+        StringBuilder sb = null;
+        for (int i = 0; i < length; i++) {
+            char c = data.charAt(i);
+            if (c == '%' && i + 2 < length) {
+                String escaped = data.subSequence(i + 1, i + 3).toString().toUpperCase(Locale.US);
+                char decoded = 0;
+                if (escaped.equals("25")) {
+                    decoded = '%';
+                } else if (escaped.equals("0A")) {
+                    decoded = '\n';
+                } else if (escaped.equals("0D")) {
+                    decoded = '\r';
+                }
+                if (decoded != 0) {
+                    if (sb == null) {
+                        sb = new StringBuilder(length);
+                        sb.append(data, 0, i);
+                    }
+                    sb.append(decoded);
+                    i += 2;
+                    continue;
+                }
+            }
+            if (sb != null) {
+                sb.append(c);
+            }
+        }
+        return (sb == null) ? data.toString() : sb.toString();
+    }
+}
@@ -0,0 +1,372 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.internal.events;
+
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+import org.bson.codecs.configuration.CodecRegistry;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import javax.annotation.Nullable;
+
+import io.realm.internal.objectserver.EventStream;
+import io.realm.internal.objectstore.OsJavaNetworkTransport;
+import io.realm.log.RealmLog;
+import io.realm.mongodb.AppException;
+import io.realm.mongodb.mongo.events.BaseChangeEvent;
+
+/**
+ * Shares one change stream of a collection between all shared watches of it.
+ * <p>
+ * Each subscriber watches either the whole collection or a set of document ids. The multiplexer keeps a reference
+ * count per id and opens a single stream for the union of them, or for the whole collection if any subscriber needs
+ * it. Events are dispatched locally to the subscribers whose ids match the document key. When the union changes, a new
+ * stream is opened and the previous one is closed once the new one is in place; when the last subscriber leaves, the
+ * stream is closed.
+ * <p>
+ * A stream which is interrupted by a network error is reopened with exponential backoff. Events of the collection
+ * that happen while no stream is open are not delivered. Errors reported by the server are delivered to and close all
+ * subscribers.
+ */
+public final class WatchMultiplexer {
+
+    static final long INITIAL_BACKOFF_MS = 500;
+    static final long MAX_BACKOFF_MS = 30_000;
+
+    /**
+     * Opens the change stream of the collection.
+     */
+    public interface StreamOpener {
+        /**
+         * Opens a change stream.
+         *
+         * @param ids the ids of the documents to watch, or {@code null} to watch the whole collection.
+         * @return the streaming response.
+         */
+        OsJavaNetworkTransport.Response open(@Nullable List<BsonValue> ids) throws IOException, AppException;
+    }
+
+    private static final Object CLOSED = new Object();
+
+    private final String name;
+    private final StreamOpener opener;
+    private final CodecRegistry codecRegistry;
+
+    // All fields below are guarded by this.
+    private final Set<SharedEventStream<?>> subscribers = new HashSet<>();
+    private final Map<BsonValue, Integer> idCounts = new HashMap<>();
+    private int watchAllCount;
+    // The generation of the newest reader, and of the reader whose events are dispatched. They differ while a new
+    // reader is connecting, during which the events of the previous one are still delivered.
+    private int generation;
+    private int activeGeneration;
+    @Nullable
+    private Reader reader;
+    @Nullable
+    private Reader activeReader;
+
+    public WatchMultiplexer(String name, StreamOpener opener, CodecRegistry codecRegistry) {
+        this.name = name;
+        this.opener = opener;
+        this.codecRegistry = codecRegistry;
+    }
+
+    /**
+     * Subscribes to change events.
+     *
+     * @param ids the ids of the documents to watch, or {@code null} to watch the whole collection.
+     * @param documentClass the class the documents of the events are decoded to.
+     * @param codecRegistry the codecs used to decode the events.
+     * @return the stream of events of the subscriber. Closing it ends the subscription.
+     */
+    public synchronized <T> EventStream<T> subscribe(@Nullable Collection<? extends BsonValue> ids,
+                                                     Class<T> documentClass, CodecRegistry codecRegistry) {
+        SharedEventStream<T> stream = new SharedEventStream<>(ids, documentClass, codecRegistry);
+        boolean unionChanged = false;
+        if (ids == null) {
+            unionChanged = (watchAllCount++ == 0);
+        } else {
+            for (BsonValue id : stream.ids) {
+                Integer count = idCounts.get(id);
+                idCounts.put(id, (count == null) ? 1 : count + 1);
+                unionChanged |= (count == null && watchAllCount == 0);
+            }
+        }
+        subscribers.add(stream);
+        if (unionChanged || reader == null) {
+            restartReader();
+        }
+        return stream;
+    }
+
+    /**
+     * Returns the number of subscribers.
+     *
+     * @return the number of open shared streams.
+     */
+    public synchronized int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private synchronized void unsubscribe(SharedEventStream<?> stream) {
+        if (!subscribers.remove(stream)) {
+            return;
+        }
+        boolean unionChanged = false;
+        if (stream.ids == null) {
+            unionChanged = (--watchAllCount == 0);
+        } else {
+            for (BsonValue id : stream.ids) {
+                int count = idCounts.get(id);
+                if (count == 1) {
+                    idCounts.remove(id);
+                    unionChanged |= (watchAllCount == 0);
+                } else {
+                    idCounts.put(id, count - 1);
+                }
+            }
+        }
+        if (subscribers.isEmpty()) {
+            stopReader();
+        } else if (unionChanged) {
+            restartReader();
+        }
+    }
+
+    private void restartReader() {
+        List<BsonValue> ids = (watchAllCount > 0) ? null : new ArrayList<>(idCounts.keySet());
+        if (reader != null && reader != activeReader) {
+            // Replaced before it connected, the active reader keeps delivering events until the new one connects.
+            reader.close();
+        }
+        reader = new Reader(++generation, ids);
+        reader.start();
+    }
+
+    private void stopReader() {
+        generation++;
+        if (reader != null) {
+            reader.close();
+            reader = null;
+        }
+        if (activeReader != null) {
+            activeReader.close();
+            activeReader = null;
+        }
+    }
+
+    // Switches dispatching to a reader which just connected and closes the one it replaces. Returns false if the
+    // reader has been replaced itself in the meantime.
+    private synchronized boolean activate(Reader connectedReader) {
+        if (generation != connectedReader.readerGeneration) {
+            return false;
+        }
+        if (activeReader != null && activeReader != connectedReader) {
+            activeReader.close();
+        }
+        activeReader = connectedReader;
+        activeGeneration = connectedReader.readerGeneration;
+        return true;
+    }
+
+    // Whether the stream covering all current subscribers is open.
+    private synchronized boolean isConnected() {
+        return reader != null && reader.connected;
+    }
+
+    private synchronized boolean isCurrent(int readerGeneration) {
+        return generation == readerGeneration;
+    }
+
+    private void dispatch(int readerGeneration, BsonDocument event) {
+        BsonValue id = null;
+        BsonDocument documentKey = event.getDocument("documentKey", null);
+        if (documentKey != null) {
+            id = documentKey.get("_id");
+        }
+        synchronized (this) {
+            if (activeGeneration != readerGeneration) {
+                return;
+            }
+            for (SharedEventStream<?> subscriber : subscribers) {
+                if (subscriber.ids == null || (id != null && subscriber.ids.contains(id))) {
+                    subscriber.queue.offer(event);
+                }
+            }
+        }
+    }
+
+    private synchronized void fail(int readerGeneration, AppException error) {
+        if (generation != readerGeneration) {
+            return;
+        }
+        for (SharedEventStream<?> subscriber : subscribers) {
+            subscriber.closed = true;
+            subscriber.queue.offer(error);
+        }
+        subscribers.clear();
+        idCounts.clear();
+        watchAllCount = 0;
+        stopReader();
+    }
+
+    // Reads one stream. A reader replacing another one closes it once its own stream is open, so subscribers don't
+    // miss events while the stream is switched.
+    private final class Reader extends Thread {
+        private final int readerGeneration;
+        @Nullable
+        private final List<BsonValue> ids;
+        @Nullable
+        private volatile OsJavaNetworkTransport.Response response;
+        private volatile boolean connected;
+
+        Reader(int readerGeneration, @Nullable List<BsonValue> ids) {
+            super(String.format("RealmWatchMultiplexer|%s", name));
+            setDaemon(true);
+            this.readerGeneration = readerGeneration;
+            this.ids = ids;
+        }
+
+        void close() {
+            OsJavaNetworkTransport.Response currentResponse = response;
+            if (currentResponse != null) {
+                currentResponse.close();
+            }
+        }
+
+        @Override
+        public void run() {
+            long backoffMs = INITIAL_BACKOFF_MS;
+            while (isCurrent(readerGeneration)) {
+                try {
+                    response = opener.open(ids);
+                    if (!activate(this)) {
+                        close();
+                        break;
+                    }
+                    connected = true;
+                    ServerSentEventParser parser = new ServerSentEventParser(codecRegistry);
+                    boolean receivedData = false;
+                    while (true) {
+                        parser.readEvents(response);
+                        if (!receivedData) {
+                            receivedData = true;
+                            backoffMs = INITIAL_BACKOFF_MS;
+                        }
+                        while (parser.hasEvent()) {
+                            dispatch(readerGeneration, parser.nextEvent());
+                        }
+                        AppException error = parser.getError();
+                        if (error != null) {
+                            close();
+                            throw error;
+                        }
+                    }
+                } catch (AppException e) {
+                    fail(readerGeneration, e);
+                    break;
+                } catch (IOException e) {
+                    connected = false;
+                    if (!isCurrent(readerGeneration)) {
+                        break;
+                    }
+                    RealmLog.debug("Shared change stream of '%s' interrupted, reconnecting in %d ms: %s", name,
+                            backoffMs, e.getMessage());
+                    try {
+                        Thread.sleep(backoffMs);
+                    } catch (InterruptedException ignored) {
+                        break;
+                    }
+                    backoffMs = Math.min(backoffMs * 2, MAX_BACKOFF_MS);
+                }
+            }
+        }
+    }
+
+    /**
+     * The events of one subscriber. It is open while the shared stream covering it is connected.
+     */
+    private final class SharedEventStream<T> implements EventStream<T> {
+        @Nullable
+        private final Set<BsonValue> ids;
+        private final Class<T> documentClass;
+        private final CodecRegistry codecRegistry;
+        private final BlockingQueue<Object> queue = new LinkedBlockingQueue<>();
+        private volatile boolean closed;
+
+        SharedEventStream(@Nullable Collection<? extends BsonValue> ids, Class<T> documentClass,
+                          CodecRegistry codecRegistry) {
+            this.ids = (ids == null) ? null : new HashSet<BsonValue>(ids);
+            this.documentClass = documentClass;
+            this.codecRegistry = codecRegistry;
+        }
+
+        @Override
+        public synchronized BaseChangeEvent<T> getNextEvent() throws AppException, IOException {
+            Object item;
+            try {
+                item = queue.take();
+            } catch (InterruptedException e) {
+                throw new IOException("Interrupted while waiting for the next event.", e);
+            }
+            if (item == CLOSED) {
+                // Wake up other threads waiting on the closed stream as well.
+                queue.offer(CLOSED);
+                throw new IOException("Stream closed");
+            }
+            if (item instanceof AppException) {
+                queue.offer(CLOSED);
+                throw (AppException) item;
+            }
+            return ChangeEvent.fromBsonDocument((BsonDocument) item, documentClass, codecRegistry);
+        }
+
+        @Override
+        public synchronized List<BaseChangeEvent<T>> getNextEvents() throws AppException, IOException {
+            List<BaseChangeEvent<T>> events = new ArrayList<>();
+            events.add(getNextEvent());
+            Object item;
+            while ((item = queue.peek()) instanceof BsonDocument) {
+                queue.poll();
+                events.add(ChangeEvent.fromBsonDocument((BsonDocument) item, documentClass, codecRegistry));
+            }
+            return events;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            unsubscribe(this);
+            queue.offer(CLOSED);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return !closed && isConnected();
+        }
+    }
+}
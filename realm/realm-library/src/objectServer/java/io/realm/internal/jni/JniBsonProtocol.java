@@ -31,6 +31,7 @@ import org.bson.json.JsonWriterSettings;
 
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.List;
 
 import io.realm.mongodb.ErrorCode;
 import io.realm.mongodb.AppException;
@@ -55,13 +56,43 @@ public class JniBsonProtocol {
     }
 
     public static <T> String encode(T value, Encoder<T> encoder) {
+        return encode(value, encoder, true);
+    }
+
+    /**
+     * Encodes a document without encapsulating it. Documents encoded this way can be passed to JNI as an array with
+     * {@link #encodeDocumentArray(List)}, so the size of each document can be determined without encoding it twice.
+     */
+    public static <T> String encodeDocument(T document, CodecRegistry registry) {
+        return encode(document, (Encoder<T>) getCodec(document.getClass(), registry), false);
+    }
+
+    /**
+     * Combines documents encoded with {@link #encodeDocument(Object, CodecRegistry)} into an encoded array.
+     */
+    public static String encodeDocumentArray(List<String> encodedDocuments) {
+        StringBuilder builder = new StringBuilder("{\"" + VALUE + "\" : [");
+        for (int i = 0; i < encodedDocuments.size(); i++) {
+            if (i > 0) {
+                builder.append(", ");
+            }
+            builder.append(encodedDocuments.get(i));
+        }
+        return builder.append("]}").toString();
+    }
+
+    private static <T> String encode(T value, Encoder<T> encoder, boolean encapsulate) {
         try {
             StringWriter stringWriter = new StringWriter();
             JsonWriter jsonWriter = new JsonWriter(stringWriter, writerSettings);
-            jsonWriter.writeStartDocument();
-            jsonWriter.writeName(VALUE);
+            if (encapsulate) {
+                jsonWriter.writeStartDocument();
+                jsonWriter.writeName(VALUE);
+            }
             encoder.encode(jsonWriter, value, EncoderContext.builder().build());
-            jsonWriter.writeEndDocument();
+            if (encapsulate) {
+                jsonWriter.writeEndDocument();
+            }
             return stringWriter.toString();
         } catch (CodecConfigurationException e) {
             // same exception as in the guard above, but needed here as well nonetheless as the
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.internal.mongodb;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.annotation.Nullable;
+
+import io.realm.mongodb.AppException;
+import io.realm.mongodb.ErrorCode;
+import io.realm.mongodb.functions.FunctionCallPolicy;
+import io.realm.mongodb.functions.FunctionCallStats;
+
+/**
+ * Deduplicates and caches the encoded results of function calls according to their {@link FunctionCallPolicy}.
+ * <p>
+ * Calls are identified by a key built from the user, the function name and the encoded arguments. The first of
+ * several identical concurrent calls sends the request, the others wait for its result. Successful results are cached
+ * per function in an LRU map until they expire.
+ */
+public class FunctionCallCache {
+
+    /**
+     * Sends the request of a call.
+     */
+    public interface Call {
+        String execute() throws AppException;
+    }
+
+    private final ConcurrentMap<String, FunctionCallPolicy> policies = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ResultCache> caches = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, InFlightCall> inFlightCalls = new ConcurrentHashMap<>();
+
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong coalescedCalls = new AtomicLong();
+
+    public void setPolicy(String name, @Nullable FunctionCallPolicy policy) {
+        if (policy == null) {
+            policies.remove(name);
+        } else {
+            // Copy the policy, so later changes to it only apply once it is set again.
+            policies.put(name, new FunctionCallPolicy()
+                    .coalesceCalls(policy.isCoalesceCalls())
+                    .cacheTtl(policy.getCacheTtlMs(), TimeUnit.MILLISECONDS)
+                    .maxCacheEntries(policy.getMaxCacheEntries()));
+        }
+        caches.remove(name);
+    }
+
+    @Nullable
+    public FunctionCallPolicy getPolicy(String name) {
+        return policies.get(name);
+    }
+
+    /**
+     * Returns the encoded result of a call, from the cache, from an identical call in flight or by executing it.
+     *
+     * @param name the name of the function.
+     * @param key identifies identical calls of the function.
+     * @param call sends the request.
+     * @return the encoded result.
+     */
+    public String call(String name, String key, Call call) {
+        FunctionCallPolicy policy = policies.get(name);
+        if (policy == null) {
+            return call.execute();
+        }
+
+        ResultCache cache = null;
+        if (policy.getCacheTtlMs() > 0) {
+            cache = getCache(name, policy);
+            String cached = cache.get(key);
+            if (cached != null) {
+                cacheHits.incrementAndGet();
+                return cached;
+            }
+        }
+
+        if (!policy.isCoalesceCalls()) {
+            cacheMisses.incrementAndGet();
+            return execute(call, key, cache);
+        }
+
+        InFlightCall inFlightCall = new InFlightCall();
+        InFlightCall existing = inFlightCalls.putIfAbsent(key, inFlightCall);
+        if (existing != null) {
+            coalescedCalls.incrementAndGet();
+            return existing.await();
+        }
+        cacheMisses.incrementAndGet();
+        String result = null;
+        RuntimeException error = null;
+        try {
+            result = execute(call, key, cache);
+            return result;
+        } catch (RuntimeException e) {
+            error = e;
+            throw e;
+        } finally {
+            // Also release the waiting calls if an Error is thrown, they fail as the result is missing.
+            if (result == null && error == null) {
+                error = new AppException(ErrorCode.UNKNOWN, "The identical function call failed.");
+            }
+            inFlightCall.complete(result, error);
+            inFlightCalls.remove(key, inFlightCall);
+        }
+    }
+
+    public FunctionCallStats getStats() {
+        return new FunctionCallStats(cacheHits.get(), cacheMisses.get(), coalescedCalls.get());
+    }
+
+    public void clear() {
+        caches.clear();
+    }
+
+    private static String execute(Call call, String key, @Nullable ResultCache cache) {
+        String result = call.execute();
+        if (cache != null) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+
+    private ResultCache getCache(String name, FunctionCallPolicy policy) {
+        ResultCache cache = caches.get(name);
+        if (cache == null) {
+            ResultCache newCache = new ResultCache(policy.getCacheTtlMs(), policy.getMaxCacheEntries());
+            cache = caches.putIfAbsent(name, newCache);
+            if (cache == null) {
+                cache = newCache;
+            }
+        }
+        return cache;
+    }
+
+    private static class InFlightCall {
+        private final CountDownLatch done = new CountDownLatch(1);
+        @Nullable
+        private String result;
+        @Nullable
+        private RuntimeException error;
+
+        void complete(@Nullable String result, @Nullable RuntimeException error) {
+            this.result = result;
+            this.error = error;
+            done.countDown();
+        }
+
+        String await() {
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AppException(ErrorCode.NETWORK_INTERRUPTED, "Interrupted while waiting for an identical function call.", e);
+            }
+            if (error != null) {
+                throw error;
+            }
+            return result;
+        }
+    }
+
+    // LRU map of encoded results with the System.nanoTime() they expire at, so changes of the wall clock don't affect
+    // how long they are cached.
+    private static class ResultCache {
+        private final long ttlMs;
+        private final Map<String, Entry> entries;
+
+        ResultCache(long ttlMs, final int maxEntries) {
+            this.ttlMs = ttlMs;
+            this.entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                    return size() > maxEntries;
+                }
+            };
+        }
+
+        @Nullable
+        synchronized String get(String key) {
+            Entry entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            if (entry.expiresAtNanos - System.nanoTime() <= 0) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.result;
+        }
+
+        synchronized void put(String key, String result) {
+            entries.put(key, new Entry(result, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMs)));
+        }
+    }
+
+    private static class Entry {
+        final String result;
+        final long expiresAtNanos;
+
+        Entry(String result, long expiresAtNanos) {
+            this.result = result;
+            this.expiresAtNanos = expiresAtNanos;
+        }
+    }
+}
@@ -213,6 +213,16 @@ public class OkHttpNetworkTransport extends OsJavaNetworkTransport {
             }
         }
 
+        @Override
+        public int readBody(byte[] buffer) throws IOException {
+            if (!closed) {
+                return bufferedSource.read(buffer);
+            } else {
+                bufferedSource.close();
+                throw new IOException("Stream closed");
+            }
+        }
+
         /**
          * Closes the current stream.
          *
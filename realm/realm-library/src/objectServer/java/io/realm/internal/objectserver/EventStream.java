@@ -17,6 +17,7 @@
 package io.realm.internal.objectserver;
 
 import java.io.IOException;
+import java.util.List;
 
 import io.realm.mongodb.AppException;
 import io.realm.mongodb.mongo.events.BaseChangeEvent;
@@ -30,6 +31,14 @@ public interface EventStream<T> {
      */
     BaseChangeEvent<T> getNextEvent() throws AppException, IOException;
 
+    /**
+     * Fetch all events which are available without blocking, waiting for at least one.
+     *
+     * @return the next events, never empty.
+     * @throws IOException any io exception that could occur
+     */
+    List<BaseChangeEvent<T>> getNextEvents() throws AppException, IOException;
+
     /**
      * Closes the current stream.
      *
@@ -0,0 +1,281 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.internal.objectstore;
+
+import org.bson.BsonValue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.realm.internal.Util;
+import io.realm.internal.jni.JniBsonProtocol;
+import io.realm.mongodb.AppException;
+import io.realm.mongodb.ErrorCode;
+import io.realm.mongodb.mongo.options.BulkWriteOptions;
+import io.realm.mongodb.mongo.options.DeleteManyModel;
+import io.realm.mongodb.mongo.options.DeleteOneModel;
+import io.realm.mongodb.mongo.options.InsertManyResult;
+import io.realm.mongodb.mongo.options.InsertOneModel;
+import io.realm.mongodb.mongo.options.UpdateManyModel;
+import io.realm.mongodb.mongo.options.UpdateOneModel;
+import io.realm.mongodb.mongo.options.WriteModel;
+import io.realm.mongodb.mongo.result.BulkWriteResult;
+import io.realm.mongodb.mongo.result.UpdateResult;
+
+/**
+ * Executes the operations of a bulk write with as few requests as the MongoDB service allows.
+ * <p>
+ * The service has no bulk write endpoint, so only documents to insert can share a request: runs of
+ * {@link InsertOneModel}s are sent with {@code insertMany} in batches limited by document count and encoded size. Every
+ * update and delete is a request of its own. Ordered bulk writes keep the order of the operations and stop at the
+ * first failed request. Unordered bulk writes group all inserts together and send up to
+ * {@link BulkWriteOptions#getMaxConcurrentRequests()} requests at the same time. The service may have inserted some of
+ * the documents of a failed {@code insertMany} request, so their operations are reported as having an unknown outcome.
+ *
+ * @param <DocumentT> the type of documents written to the collection.
+ */
+class BulkWriteExecutor<DocumentT> {
+
+    private final OsMongoCollection<DocumentT> collection;
+    private final BulkWriteOptions options;
+    private final ThreadPoolExecutor threadPoolExecutor;
+
+    // Aggregated results, guarded by this.
+    private final Map<Integer, BsonValue> insertedIds = new HashMap<>();
+    private final Map<Integer, BsonValue> upsertedIds = new HashMap<>();
+    private final Map<Integer, AppException> errors = new HashMap<>();
+    private final Set<Integer> unknownOutcomes = new HashSet<>();
+    private long matchedCount;
+    private long modifiedCount;
+    private long deletedCount;
+    private int requestCount;
+
+    BulkWriteExecutor(OsMongoCollection<DocumentT> collection, BulkWriteOptions options,
+                      ThreadPoolExecutor threadPoolExecutor) {
+        this.collection = collection;
+        this.options = options;
+        this.threadPoolExecutor = threadPoolExecutor;
+    }
+
+    BulkWriteResult execute(List<? extends WriteModel<? extends DocumentT>> requests) {
+        Util.checkNull(requests, "requests");
+        List<Batch> batches = createBatches(requests);
+        if (options.isOrdered() || batches.size() < 2 || options.getMaxConcurrentRequests() < 2) {
+            for (Batch batch : batches) {
+                if (!batch.execute() && options.isOrdered()) {
+                    break;
+                }
+            }
+        } else {
+            executeConcurrently(batches);
+        }
+        synchronized (this) {
+            return new BulkWriteResult(insertedIds, matchedCount, modifiedCount, deletedCount, upsertedIds, errors,
+                    unknownOutcomes, requestCount);
+        }
+    }
+
+    private List<Batch> createBatches(List<? extends WriteModel<? extends DocumentT>> requests) {
+        List<Batch> batches = new ArrayList<>();
+        InsertBatch insertBatch = null;
+        for (int i = 0; i < requests.size(); i++) {
+            WriteModel<? extends DocumentT> request = requests.get(i);
+            Util.checkNull(request, "requests[" + i + "]");
+            if (request instanceof InsertOneModel) {
+                DocumentT document = ((InsertOneModel<? extends DocumentT>) request).getDocument();
+                String encodedDocument = JniBsonProtocol.encodeDocument(document, collection.getCodecRegistry());
+                if (insertBatch == null || !insertBatch.fits(encodedDocument)) {
+                    insertBatch = new InsertBatch();
+                    batches.add(insertBatch);
+                }
+                insertBatch.add(i, encodedDocument);
+            } else if (request instanceof UpdateOneModel || request instanceof UpdateManyModel
+                    || request instanceof DeleteOneModel || request instanceof DeleteManyModel) {
+                batches.add(new SingleBatch(i, request));
+                // Unordered inserts are all sent together, ordered ones only while no other operation is in between.
+                if (options.isOrdered()) {
+                    insertBatch = null;
+                }
+            } else {
+                throw new IllegalArgumentException("Unknown write model: " + request);
+            }
+        }
+        return batches;
+    }
+
+    // The calling thread sends requests together with up to maxConcurrentRequests - 1 threads of the pool. Batches
+    // are claimed from a shared counter, so all batches are executed even if the pool has no thread to spare.
+    private void executeConcurrently(final List<Batch> batches) {
+        final AtomicInteger nextBatch = new AtomicInteger(0);
+        final CountDownLatch executed = new CountDownLatch(batches.size());
+        Runnable worker = new Runnable() {
+            @Override
+            public void run() {
+                int index;
+                while ((index = nextBatch.getAndIncrement()) < batches.size()) {
+                    try {
+                        batches.get(index).execute();
+                    } finally {
+                        executed.countDown();
+                    }
+                }
+            }
+        };
+
+        int helpers = Math.min(options.getMaxConcurrentRequests(), batches.size()) - 1;
+        List<Future<?>> futures = new ArrayList<>(helpers);
+        for (int i = 0; i < helpers; i++) {
+            try {
+                futures.add(threadPoolExecutor.submit(worker));
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        worker.run();
+        try {
+            executed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AppException(ErrorCode.UNKNOWN, "Interrupted while waiting for the bulk write to complete.", e);
+        } finally {
+            // Helpers which didn't start yet have nothing left to do.
+            for (Future<?> future : futures) {
+                future.cancel(false);
+            }
+        }
+    }
+
+    private abstract class Batch {
+        // Returns false if the request failed. Unexpected exceptions are recorded like errors of the service, so they
+        // are not lost on the threads of the pool.
+        final boolean execute() {
+            try {
+                send();
+                return true;
+            } catch (AppException e) {
+                fail(e);
+                return false;
+            } catch (RuntimeException e) {
+                fail(new AppException(ErrorCode.UNKNOWN, "The request of the bulk write failed.", e));
+                return false;
+            }
+        }
+
+        abstract void send();
+
+        abstract void fail(AppException error);
+    }
+
+    private final class InsertBatch extends Batch {
+        private final List<Integer> indices = new ArrayList<>();
+        private final List<String> encodedDocuments = new ArrayList<>();
+        private long size;
+
+        boolean fits(String encodedDocument) {
+            return encodedDocuments.size() < options.getMaxBatchSize()
+                    && size + encodedDocument.length() <= options.getMaxBatchBytes();
+        }
+
+        void add(int index, String encodedDocument) {
+            indices.add(index);
+            encodedDocuments.add(encodedDocument);
+            size += encodedDocument.length();
+        }
+
+        @Override
+        void send() {
+            InsertManyResult result = collection.insertManyEncoded(JniBsonProtocol.encodeDocumentArray(encodedDocuments));
+            synchronized (BulkWriteExecutor.this) {
+                requestCount++;
+                for (Map.Entry<Long, BsonValue> entry : result.getInsertedIds().entrySet()) {
+                    insertedIds.put(indices.get(entry.getKey().intValue()), entry.getValue());
+                }
+            }
+        }
+
+        @Override
+        void fail(AppException error) {
+            synchronized (BulkWriteExecutor.this) {
+                requestCount++;
+                for (Integer index : indices) {
+                    errors.put(index, error);
+                    unknownOutcomes.add(index);
+                }
+            }
+        }
+    }
+
+    private final class SingleBatch extends Batch {
+        private final int index;
+        private final WriteModel<? extends DocumentT> request;
+
+        SingleBatch(int index, WriteModel<? extends DocumentT> request) {
+            this.index = index;
+            this.request = request;
+        }
+
+        @Override
+        void send() {
+            if (request instanceof UpdateOneModel) {
+                UpdateOneModel<? extends DocumentT> update = (UpdateOneModel<? extends DocumentT>) request;
+                addUpdateResult(collection.updateOne(update.getFilter(), update.getUpdate(), update.getOptions()));
+            } else if (request instanceof UpdateManyModel) {
+                UpdateManyModel<? extends DocumentT> update = (UpdateManyModel<? extends DocumentT>) request;
+                addUpdateResult(collection.updateMany(update.getFilter(), update.getUpdate(), update.getOptions()));
+            } else if (request instanceof DeleteOneModel) {
+                addDeletedCount(collection.deleteOne(((DeleteOneModel<? extends DocumentT>) request).getFilter()).getDeletedCount());
+            } else {
+                addDeletedCount(collection.deleteMany(((DeleteManyModel<? extends DocumentT>) request).getFilter()).getDeletedCount());
+            }
+        }
+
+        @Override
+        void fail(AppException error) {
+            synchronized (BulkWriteExecutor.this) {
+                requestCount++;
+                errors.put(index, error);
+            }
+        }
+
+        private void addUpdateResult(UpdateResult result) {
+            synchronized (BulkWriteExecutor.this) {
+                requestCount++;
+                matchedCount += result.getMatchedCount();
+                modifiedCount += result.getModifiedCount();
+                if (result.getUpsertedId() != null) {
+                    upsertedIds.put(index, result.getUpsertedId());
+                }
+            }
+        }
+
+        private void addDeletedCount(long count) {
+            synchronized (BulkWriteExecutor.this) {
+                requestCount++;
+                deletedCount += count;
+            }
+        }
+    }
+}
@@ -140,6 +140,16 @@ public abstract class OsJavaNetworkTransport {
             return null;
         }
 
+        /**
+         * Reads the next chunk of a streaming body.
+         *
+         * @param buffer the buffer to read into.
+         * @return the number of bytes read, or {@code -1} if the body is exhausted.
+         */
+        public int readBody(byte[] buffer) throws IOException {
+            return -1;
+        }
+
         public boolean isOpen() {
             return false;
         }
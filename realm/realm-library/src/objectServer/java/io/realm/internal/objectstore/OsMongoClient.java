@@ -18,9 +18,12 @@ package io.realm.internal.objectstore;
 
 import org.bson.codecs.configuration.CodecRegistry;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import io.realm.internal.NativeObject;
+import io.realm.internal.events.WatchMultiplexer;
 import io.realm.internal.network.StreamNetworkTransport;
 
 public class OsMongoClient implements NativeObject {
@@ -30,6 +33,8 @@ public class OsMongoClient implements NativeObject {
     private final long nativePtr;
     private final String serviceName;
     private final StreamNetworkTransport streamNetworkTransport;
+    // Shared change streams of this client, by full collection namespace.
+    private final ConcurrentMap<String, WatchMultiplexer> watchMultiplexers = new ConcurrentHashMap<>();
 
     public OsMongoClient(final OsSyncUser osSyncUser,
                          final String serviceName,
@@ -42,7 +47,7 @@ public class OsMongoClient implements NativeObject {
     public OsMongoDatabase getDatabase(final String databaseName,
                                        final CodecRegistry codecRegistry) {
         long nativeDatabasePtr = nativeCreateDatabase(nativePtr, databaseName);
-        return new OsMongoDatabase(nativeDatabasePtr, serviceName, codecRegistry, streamNetworkTransport);
+        return new OsMongoDatabase(nativeDatabasePtr, serviceName, codecRegistry, streamNetworkTransport, watchMultiplexers);
     }
 
     public String getServiceName() {
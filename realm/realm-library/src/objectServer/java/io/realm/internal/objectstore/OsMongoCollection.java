@@ -29,8 +29,10 @@ import org.bson.types.ObjectId;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicReference;
 
@@ -39,6 +41,7 @@ import javax.annotation.Nullable;
 import io.realm.internal.NativeObject;
 import io.realm.internal.Util;
 import io.realm.internal.events.NetworkEventStream;
+import io.realm.internal.events.WatchMultiplexer;
 import io.realm.internal.jni.JniBsonProtocol;
 import io.realm.internal.jni.OsJNIResultCallback;
 import io.realm.internal.network.ResultHandler;
@@ -49,11 +52,14 @@ import io.realm.mongodb.AppException;
 import io.realm.mongodb.mongo.MongoNamespace;
 import io.realm.mongodb.mongo.iterable.AggregateIterable;
 import io.realm.mongodb.mongo.iterable.FindIterable;
+import io.realm.mongodb.mongo.options.BulkWriteOptions;
 import io.realm.mongodb.mongo.options.CountOptions;
 import io.realm.mongodb.mongo.options.FindOneAndModifyOptions;
 import io.realm.mongodb.mongo.options.FindOptions;
 import io.realm.mongodb.mongo.options.InsertManyResult;
 import io.realm.mongodb.mongo.options.UpdateOptions;
+import io.realm.mongodb.mongo.options.WriteModel;
+import io.realm.mongodb.mongo.result.BulkWriteResult;
 import io.realm.mongodb.mongo.result.DeleteResult;
 import io.realm.mongodb.mongo.result.InsertOneResult;
 import io.realm.mongodb.mongo.result.UpdateResult;
@@ -89,13 +95,15 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
     private final String serviceName;
     private final MongoNamespace namespace;
     private final StreamNetworkTransport streamNetworkTransport;
+    private final ConcurrentMap<String, WatchMultiplexer> watchMultiplexers;
 
     OsMongoCollection(final long nativeCollectionPtr,
                       final MongoNamespace namespace,
                       final String serviceName,
                       final Class<DocumentT> documentClass,
                       final CodecRegistry codecRegistry,
-                      final StreamNetworkTransport streamNetworkTransport) {
+                      final StreamNetworkTransport streamNetworkTransport,
+                      final ConcurrentMap<String, WatchMultiplexer> watchMultiplexers) {
         this.nativePtr = nativeCollectionPtr;
         this.namespace = namespace;
         this.serviceName = serviceName;
@@ -103,6 +111,7 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
         this.codecRegistry = codecRegistry;
         this.encodedEmptyDocument = JniBsonProtocol.encode(new Document(), codecRegistry);
         this.streamNetworkTransport = streamNetworkTransport;
+        this.watchMultiplexers = watchMultiplexers;
     }
 
     @Override
@@ -125,11 +134,11 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
 
     public <NewDocumentT> OsMongoCollection<NewDocumentT> withDocumentClass(
             final Class<NewDocumentT> clazz) {
-        return new OsMongoCollection<>(nativePtr, namespace, serviceName, clazz, codecRegistry, streamNetworkTransport);
+        return new OsMongoCollection<>(nativePtr, namespace, serviceName, clazz, codecRegistry, streamNetworkTransport, watchMultiplexers);
     }
 
     public OsMongoCollection<DocumentT> withCodecRegistry(final CodecRegistry codecRegistry) {
-        return new OsMongoCollection<>(nativePtr, namespace, serviceName, documentClass, codecRegistry, streamNetworkTransport);
+        return new OsMongoCollection<>(nativePtr, namespace, serviceName, documentClass, codecRegistry, streamNetworkTransport, watchMultiplexers);
     }
 
     public Long count() {
@@ -300,6 +309,11 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
     }
 
     public InsertManyResult insertMany(final List<? extends DocumentT> documents) {
+        return insertManyEncoded(JniBsonProtocol.encode(documents, codecRegistry));
+    }
+
+    // Inserts documents already encoded with JniBsonProtocol.encodeDocumentArray().
+    InsertManyResult insertManyEncoded(final String encodedDocumentArray) {
         AtomicReference<InsertManyResult> success = new AtomicReference<>(null);
         AtomicReference<AppException> error = new AtomicReference<>(null);
         OsJNIResultCallback<InsertManyResult> callback = new OsJNIResultCallback<InsertManyResult>(success, error) {
@@ -315,7 +329,6 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
             }
         };
 
-        final String encodedDocumentArray = JniBsonProtocol.encode(documents, codecRegistry);
         nativeInsertMany(nativePtr, encodedDocumentArray, callback);
         return ResultHandler.handleResult(success, error);
     }
@@ -412,6 +425,12 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
         return ResultHandler.handleResult(success, error);
     }
 
+    public BulkWriteResult bulkWrite(final List<? extends WriteModel<? extends DocumentT>> requests,
+                                     final BulkWriteOptions options) {
+        Util.checkNull(options, "options");
+        return new BulkWriteExecutor<>(this, options, threadPoolExecutor).execute(requests);
+    }
+
     public DocumentT findOneAndUpdate(final Bson filter, final Bson update) {
         return findOneAndUpdate(filter, update, documentClass);
     }
@@ -549,6 +568,11 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
     }
 
     private EventStream<DocumentT> watchInternal(int type, @Nullable List<?> ids, @Nullable BsonDocument matchFilter) throws IOException {
+        OsJavaNetworkTransport.Response response = openWatchStream(type, ids, matchFilter);
+        return new NetworkEventStream<>(response, codecRegistry, documentClass);
+    }
+
+    private OsJavaNetworkTransport.Response openWatchStream(int type, @Nullable List<?> ids, @Nullable BsonDocument matchFilter) throws IOException {
         List<Document> args = new ArrayList<>();
 
         Document watchArgs = new Document("database", namespace.getDatabaseName());
@@ -572,9 +596,7 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
         String encodedArguments = JniBsonProtocol.encode(args, codecRegistry);
 
         OsJavaNetworkTransport.Request request = streamNetworkTransport.makeStreamingRequest("watch", encodedArguments, serviceName);
-        OsJavaNetworkTransport.Response response = streamNetworkTransport.sendRequest(request);
-
-        return new NetworkEventStream<>(response, codecRegistry, documentClass);
+        return streamNetworkTransport.sendRequest(request);
     }
 
     public EventStream<DocumentT> watch() throws IOException {
@@ -585,6 +607,31 @@ public class OsMongoCollection<DocumentT> implements NativeObject {
         return watchInternal(WATCH_IDS, ids, null);
     }
 
+    /**
+     * Subscribes to the change stream of this collection shared by all shared watches of the same collection of the
+     * user, see {@link WatchMultiplexer}.
+     *
+     * @param ids the ids of the documents to watch, or {@code null} to watch the whole collection.
+     */
+    public EventStream<DocumentT> watchShared(@Nullable Collection<? extends BsonValue> ids) {
+        String name = namespace.getFullName();
+        WatchMultiplexer multiplexer = watchMultiplexers.get(name);
+        if (multiplexer == null) {
+            WatchMultiplexer.StreamOpener opener = new WatchMultiplexer.StreamOpener() {
+                @Override
+                public OsJavaNetworkTransport.Response open(@Nullable List<BsonValue> ids) throws IOException {
+                    return (ids == null) ? openWatchStream(WATCH, null, null) : openWatchStream(WATCH_IDS, ids, null);
+                }
+            };
+            WatchMultiplexer newMultiplexer = new WatchMultiplexer(name, opener, codecRegistry);
+            multiplexer = watchMultiplexers.putIfAbsent(name, newMultiplexer);
+            if (multiplexer == null) {
+                multiplexer = newMultiplexer;
+            }
+        }
+        return multiplexer.subscribe(ids, documentClass, codecRegistry);
+    }
+
     public EventStream<DocumentT> watchWithFilter(Document matchFilter) throws IOException {
         return watchInternal(WATCH_WITH_FILTER, null, matchFilter.toBsonDocument(getDocumentClass(), getCodecRegistry()));
     }
@@ -19,9 +19,11 @@ package io.realm.internal.objectstore;
 import org.bson.Document;
 import org.bson.codecs.configuration.CodecRegistry;
 
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import io.realm.internal.NativeObject;
+import io.realm.internal.events.WatchMultiplexer;
 import io.realm.internal.network.StreamNetworkTransport;
 import io.realm.mongodb.mongo.MongoNamespace;
 
@@ -33,15 +35,18 @@ public class OsMongoDatabase implements NativeObject {
     private final String serviceName;
     private final CodecRegistry codecRegistry;
     private final StreamNetworkTransport streamNetworkTransport;
+    private final ConcurrentMap<String, WatchMultiplexer> watchMultiplexers;
 
     OsMongoDatabase(final long nativeDatabasePtr,
                     final String serviceName,
                     final CodecRegistry codecRegistry,
-                    final StreamNetworkTransport streamNetworkTransport) {
+                    final StreamNetworkTransport streamNetworkTransport,
+                    final ConcurrentMap<String, WatchMultiplexer> watchMultiplexers) {
         this.nativePtr = nativeDatabasePtr;
         this.serviceName = serviceName;
         this.codecRegistry = codecRegistry;
         this.streamNetworkTransport = streamNetworkTransport;
+        this.watchMultiplexers = watchMultiplexers;
     }
 
     public OsMongoCollection<Document> getCollection(final String collectionName, final MongoNamespace namespace) {
@@ -52,7 +57,7 @@ public class OsMongoDatabase implements NativeObject {
                                                                   final MongoNamespace namespace,
                                                                   final Class<DocumentT> documentClass) {
         long nativeCollectionPtr = nativeGetCollection(nativePtr, collectionName);
-        return new OsMongoCollection<>(nativeCollectionPtr, namespace, serviceName, documentClass, codecRegistry, streamNetworkTransport);
+        return new OsMongoCollection<>(nativeCollectionPtr, namespace, serviceName, documentClass, codecRegistry, streamNetworkTransport, watchMultiplexers);
     }
 
     @Override
@@ -27,6 +27,8 @@ import java.io.IOException;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ThreadPoolExecutor;
 
@@ -40,6 +42,7 @@ import io.realm.annotations.Beta;
 import io.realm.internal.KeepMember;
 import io.realm.internal.Util;
 import io.realm.internal.async.RealmThreadPoolExecutor;
+import io.realm.internal.mongodb.FunctionCallCache;
 import io.realm.internal.mongodb.Request;
 import io.realm.internal.objectstore.OsApp;
 import io.realm.internal.objectstore.OsJavaNetworkTransport;
@@ -164,6 +167,8 @@ public class App {
     private final EmailPasswordAuth emailAuthProvider = new EmailPasswordAuthImpl(this);
     private CopyOnWriteArrayList<AuthenticationListener> authListeners = new CopyOnWriteArrayList<>();
     private Handler mainHandler = new Handler(Looper.getMainLooper());
+    // Function call policies and cached results per user id, shared by all Functions instances of a user.
+    private final ConcurrentMap<String, FunctionCallCache> functionCallCaches = new ConcurrentHashMap<>();
 
     public App(String appId) {
         this(new AppConfiguration.Builder(appId).build());
@@ -376,6 +381,7 @@ public class App {
     }
 
     void notifyUserLoggedOut(User user) {
+        functionCallCaches.remove(user.getId());
         mainHandler.post(new Runnable() {
             @Override
             public void run() {
@@ -485,6 +491,19 @@ public class App {
         return new FunctionsImpl(user, codecRegistry);
     }
 
+    FunctionCallCache getFunctionCallCache(User user) {
+        String id = user.getId();
+        FunctionCallCache cache = functionCallCaches.get(id);
+        if (cache == null) {
+            FunctionCallCache newCache = new FunctionCallCache();
+            cache = functionCallCaches.putIfAbsent(id, newCache);
+            if (cache == null) {
+                cache = newCache;
+            }
+        }
+        return cache;
+    }
+
     /**
      * Returns the configuration object for this app.
      *
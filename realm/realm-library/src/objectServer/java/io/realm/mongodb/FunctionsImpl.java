@@ -41,7 +41,7 @@ class FunctionsImpl extends Functions {
     }
 
     FunctionsImpl(User user, CodecRegistry codecRegistry) {
-        super(user, codecRegistry);
+        super(user, codecRegistry, user.getApp().getFunctionCallCache(user));
     }
 
     // Invokes actual MongoDB Realm Function in the context of the associated user/app.
@@ -50,6 +50,13 @@ class FunctionsImpl extends Functions {
         Util.checkEmpty(name, "name");
 
         String encodedArgs = JniBsonProtocol.encode(args, codecRegistry);
+        String encodedResponse = invokeEncoded(name, encodedArgs);
+        return JniBsonProtocol.decode(encodedResponse, resultDecoder);
+    }
+
+    @Override
+    protected String invokeEncoded(String name, String encodedArgs) {
+        Util.checkEmpty(name, "name");
 
         // NativePO calling scheme is actually synchronous
         AtomicReference<String> success = new AtomicReference<>(null);
@@ -61,8 +68,7 @@ class FunctionsImpl extends Functions {
             }
         };
         nativeCallFunction(user.getApp().osApp.getNativePtr(), user.osUser.getNativePtr(), name, encodedArgs, callback);
-        String encodedResponse = ResultHandler.handleResult(success, error);
-        return JniBsonProtocol.decode(encodedResponse, resultDecoder);
+        return ResultHandler.handleResult(success, error);
     }
 
     private static native void nativeCallFunction(long nativeAppPtr, long nativeUserPtr, String name, String args_json, OsJavaNetworkTransport.NetworkTransportJNIResultCallback callback);
@@ -16,6 +16,8 @@
 
 package io.realm.mongodb;
 
+import java.util.List;
+
 import io.realm.RealmAsyncTask;
 import io.realm.mongodb.mongo.events.BaseChangeEvent;
 
@@ -36,6 +38,16 @@ public interface RealmEventStreamAsyncTask<T> extends RealmAsyncTask {
      */
     void get(App.Callback<BaseChangeEvent<T>> callback) throws IllegalStateException;
 
+    /**
+     * Subscribes to batches of events. The callback is called with all events received since the previous batch,
+     * which avoids calling it for every single event of a busy stream. Errors are delivered like in
+     * {@link #get(App.Callback)}.
+     *
+     * @param callback the {@link App.Callback} designed to receive batches of events.
+     * @throws IllegalStateException if the stream is already open.
+     */
+    void getBatches(App.Callback<List<BaseChangeEvent<T>>> callback) throws IllegalStateException;
+
     /**
      * Whether or not the stream is currently open.
      * @return true if open, false if not.
@@ -17,6 +17,7 @@
 package io.realm.mongodb;
 
 import java.io.IOException;
+import java.util.List;
 
 import io.realm.RealmAsyncTask;
 import io.realm.mongodb.mongo.events.BaseChangeEvent;
@@ -39,6 +40,16 @@ public interface RealmEventStreamTask<T> extends RealmAsyncTask {
      */
     BaseChangeEvent<T> getNext() throws AppException, IOException;
 
+    /**
+     * Blocks the thread on which the call is made until at least one event arrives, and returns all events which have
+     * been received. Consuming a busy stream in batches avoids waking up the consumer for every single event.
+     *
+     * @return the next events in the stream, in the order they were received.
+     * @throws AppException if the server raises an error
+     * @throws IOException if something is wrong with the input stream
+     */
+    List<BaseChangeEvent<T>> getNextBatch() throws AppException, IOException;
+
     /**
      * Whether or not the stream is currently open.
      *
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.mongodb.functions;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import io.realm.annotations.Beta;
+
+/**
+ * How calls to a Realm function are deduplicated and cached, see {@link Functions#setCallPolicy(String, FunctionCallPolicy)}.
+ * <p>
+ * A policy should only be set for functions which are idempotent and whose result only depends on their arguments and
+ * the calling user, e.g. configuration or price lookups. Calls are considered identical if they are made by the same
+ * user with the same function name and the same encoded arguments.
+ */
+@Beta
+public class FunctionCallPolicy {
+
+    private boolean coalesceCalls = true;
+    private long cacheTtlMs = 0;
+    private int maxCacheEntries = 100;
+
+    /**
+     * Returns whether identical calls made while one of them is in flight share its result. The default is
+     * {@code true}.
+     *
+     * @return {@code true} if identical concurrent calls are coalesced.
+     */
+    public boolean isCoalesceCalls() {
+        return coalesceCalls;
+    }
+
+    /**
+     * Sets whether identical calls made while one of them is in flight share its result instead of sending a request
+     * of their own. A failed call fails all calls coalesced with it.
+     *
+     * @param coalesceCalls {@code true} to coalesce identical concurrent calls.
+     * @return this
+     */
+    public FunctionCallPolicy coalesceCalls(final boolean coalesceCalls) {
+        this.coalesceCalls = coalesceCalls;
+        return this;
+    }
+
+    /**
+     * Returns for how long results are cached in milliseconds. The default is {@code 0}, results are not cached.
+     *
+     * @return the time to live of cached results in milliseconds.
+     */
+    public long getCacheTtlMs() {
+        return cacheTtlMs;
+    }
+
+    /**
+     * Sets for how long successful results are cached. Identical calls made within this time return the cached result
+     * without sending a request. Errors are never cached.
+     *
+     * @param ttl the time to live of cached results, {@code 0} disables the cache.
+     * @param unit the unit of {@code ttl}.
+     * @return this
+     * @throws IllegalArgumentException if the time is negative.
+     */
+    public FunctionCallPolicy cacheTtl(final long ttl, final TimeUnit unit) {
+        if (ttl < 0) {
+            throw new IllegalArgumentException("Only positive numbers are allowed. Yours was: " + ttl);
+        }
+        this.cacheTtlMs = unit.toMillis(ttl);
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of results cached for the function. The default is 100.
+     *
+     * @return the maximum number of cached results.
+     */
+    public int getMaxCacheEntries() {
+        return maxCacheEntries;
+    }
+
+    /**
+     * Sets the maximum number of results cached for the function. When the cache is full, the least recently used
+     * result is evicted.
+     *
+     * @param maxCacheEntries the maximum number of cached results.
+     * @return this
+     * @throws IllegalArgumentException if the number is not positive.
+     */
+    public FunctionCallPolicy maxCacheEntries(final int maxCacheEntries) {
+        if (maxCacheEntries <= 0) {
+            throw new IllegalArgumentException("Only positive numbers are allowed. Yours was: " + maxCacheEntries);
+        }
+        this.maxCacheEntries = maxCacheEntries;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "FunctionCallPolicy{coalesceCalls=%s, cacheTtlMs=%d, maxCacheEntries=%d}",
+                coalesceCalls, cacheTtlMs, maxCacheEntries);
+    }
+}
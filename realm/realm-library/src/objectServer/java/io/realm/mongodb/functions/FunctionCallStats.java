@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.mongodb.functions;
+
+import java.util.Locale;
+
+import io.realm.annotations.Beta;
+
+/**
+ * Counters of the calls to functions with a {@link FunctionCallPolicy}, see {@link Functions#getCallStats()}.
+ */
+@Beta
+public class FunctionCallStats {
+
+    private final long cacheHits;
+    private final long cacheMisses;
+    private final long coalescedCalls;
+
+    public FunctionCallStats(long cacheHits, long cacheMisses, long coalescedCalls) {
+        this.cacheHits = cacheHits;
+        this.cacheMisses = cacheMisses;
+        this.coalescedCalls = coalescedCalls;
+    }
+
+    /**
+     * Returns the number of calls answered from the result cache.
+     *
+     * @return the number of cache hits.
+     */
+    public long getCacheHits() {
+        return cacheHits;
+    }
+
+    /**
+     * Returns the number of calls which sent a request, because no result was cached and no identical call was in
+     * flight.
+     *
+     * @return the number of requests sent.
+     */
+    public long getCacheMisses() {
+        return cacheMisses;
+    }
+
+    /**
+     * Returns the number of calls which waited for the result of an identical call in flight.
+     *
+     * @return the number of coalesced calls.
+     */
+    public long getCoalescedCalls() {
+        return coalescedCalls;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "FunctionCallStats{cacheHits=%d, cacheMisses=%d, coalescedCalls=%d}",
+                cacheHits, cacheMisses, coalescedCalls);
+    }
+}
@@ -16,15 +16,24 @@
 
 package io.realm.mongodb.functions;
 
+import org.bson.BsonArray;
+import org.bson.BsonValue;
+import org.bson.codecs.BsonArrayCodec;
+import org.bson.codecs.BsonValueCodec;
+import org.bson.codecs.BsonValueCodecProvider;
 import org.bson.codecs.Decoder;
+import org.bson.codecs.configuration.CodecRegistries;
 import org.bson.codecs.configuration.CodecRegistry;
 
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 import io.realm.RealmAsyncTask;
 import io.realm.annotations.Beta;
 import io.realm.internal.Util;
 import io.realm.internal.jni.JniBsonProtocol;
+import io.realm.internal.mongodb.FunctionCallCache;
 import io.realm.internal.mongodb.Request;
 import io.realm.mongodb.App;
 import io.realm.mongodb.AppConfiguration;
@@ -39,6 +48,10 @@ import io.realm.mongodb.User;
  * when creating the <i>Functions</i>-instance through {@link User#getFunctions(CodecRegistry)}
  * or through the individual calls to {@link #callFunction(String, List, Class, CodecRegistry)}.
  *
+ * <p>
+ * Calls to idempotent functions can be deduplicated and cached by setting a {@link FunctionCallPolicy} for them with
+ * {@link #setCallPolicy(String, FunctionCallPolicy)}.
+ *
  * @see User#getFunctions()
  * @see User#getFunctions(CodecRegistry)
  * @see App#getFunctions(User)
@@ -49,13 +62,22 @@ import io.realm.mongodb.User;
 @Beta
 public abstract class Functions {
 
+    private static final CodecRegistry BSON_CODEC_REGISTRY = CodecRegistries.fromProviders(new BsonValueCodecProvider());
+
     protected User user;
 
     private CodecRegistry defaultCodecRegistry;
 
+    private final FunctionCallCache callCache;
+
     protected Functions(User user, CodecRegistry codecRegistry) {
+        this(user, codecRegistry, new FunctionCallCache());
+    }
+
+    protected Functions(User user, CodecRegistry codecRegistry, FunctionCallCache callCache) {
         this.user = user;
         this.defaultCodecRegistry = codecRegistry;
+        this.callCache = callCache;
     }
 
     /**
@@ -75,7 +97,7 @@ public abstract class Functions {
      * @see AppConfiguration#getDefaultCodecRegistry()
      */
     public <ResultT> ResultT callFunction(String name, List<?> args, Class<ResultT> resultClass, CodecRegistry codecRegistry) {
-        return invoke(name, args, codecRegistry, JniBsonProtocol.getCodec(resultClass, codecRegistry));
+        return call(name, args, codecRegistry, JniBsonProtocol.getCodec(resultClass, codecRegistry));
     }
 
     /**
@@ -114,7 +136,7 @@ public abstract class Functions {
      * @see AppConfiguration#getDefaultCodecRegistry()
      */
     public <ResultT> ResultT callFunction(String name, List<?> args, Decoder<ResultT> resultDecoder) {
-        return invoke(name, args, defaultCodecRegistry, resultDecoder);
+        return call(name, args, defaultCodecRegistry, resultDecoder);
     }
 
     /**
@@ -143,7 +165,7 @@ public abstract class Functions {
             @Override
             public T run() throws AppException {
                 Decoder<T> decoder = JniBsonProtocol.getCodec(resultClass, codecRegistry);
-                return invoke(name, args, codecRegistry, decoder);
+                return call(name, args, codecRegistry, decoder);
             }
         }.start();
     }
@@ -194,11 +216,54 @@ public abstract class Functions {
         return new Request<T>(App.NETWORK_POOL_EXECUTOR, callback) {
             @Override
             public T run() throws AppException {
-                return invoke(name, args, defaultCodecRegistry, resultDecoder);
+                return call(name, args, defaultCodecRegistry, resultDecoder);
             }
         }.start();
     }
 
+    /**
+     * Sets how calls to a function are deduplicated and cached. Setting a policy clears the results cached for the
+     * function.
+     * <p>
+     * Policies and cached results are shared by all <i>Functions</i> instances of the same user, see
+     * {@link User#getFunctions()} and {@link App#getFunctions(User)}. They are dropped when the user logs out.
+     *
+     * @param name Name of the Realm function.
+     * @param policy The policy for the function, or {@code null} to send a request for every call.
+     * @see FunctionCallPolicy
+     */
+    public void setCallPolicy(String name, @Nullable FunctionCallPolicy policy) {
+        Util.checkEmpty(name, "name");
+        callCache.setPolicy(name, policy);
+    }
+
+    /**
+     * Returns the policy set for a function.
+     *
+     * @param name Name of the Realm function.
+     * @return The policy for the function, or {@code null} if none is set.
+     */
+    @Nullable
+    public FunctionCallPolicy getCallPolicy(String name) {
+        return callCache.getPolicy(name);
+    }
+
+    /**
+     * Removes all cached function results of the user.
+     */
+    public void clearCallCache() {
+        callCache.clear();
+    }
+
+    /**
+     * Returns the counters of the calls to functions with a {@link FunctionCallPolicy}.
+     *
+     * @return The number of cache hits, cache misses and coalesced calls.
+     */
+    public FunctionCallStats getCallStats() {
+        return callCache.getStats();
+    }
+
     /**
      * Returns the default codec registry used for encoding arguments and decoding results for this
      * <i>Realm functions</i> instance.
@@ -227,6 +292,37 @@ public abstract class Functions {
         return user;
     }
 
+    // Calls without a policy are sent as they are, all others go through the call cache which works on encoded results,
+    // so callers decoding the same result to different types never share result instances.
+    private <T> T call(String name, List<?> args, CodecRegistry codecRegistry, Decoder<T> resultDecoder) {
+        if (callCache.getPolicy(name) == null) {
+            return invoke(name, args, codecRegistry, resultDecoder);
+        }
+        final String encodedArgs = JniBsonProtocol.encode(args, codecRegistry);
+        String key = user.getId() + "/" + name + "/" + encodedArgs;
+        String encodedResult = callCache.call(name, key, new FunctionCallCache.Call() {
+            @Override
+            public String execute() throws AppException {
+                return invokeEncoded(name, encodedArgs);
+            }
+        });
+        return JniBsonProtocol.decode(encodedResult, resultDecoder);
+    }
+
     protected abstract <T> T invoke(String name, List<?> args, CodecRegistry codecRegistry, Decoder<T> resultDecoder);
 
+    /**
+     * Invokes a function with arguments and result encoded as by the other calls. The default implementation decodes
+     * the arguments and encodes the result again, subclasses can pass them on unchanged.
+     *
+     * @param name name of the function to call.
+     * @param encodedArgs the encoded list of arguments.
+     * @return the encoded result of the function.
+     */
+    protected String invokeEncoded(String name, String encodedArgs) {
+        BsonArray args = JniBsonProtocol.decode(encodedArgs, new BsonArrayCodec());
+        BsonValue result = invoke(name, args, BSON_CODEC_REGISTRY, new BsonValueCodec());
+        return JniBsonProtocol.encode(result, new BsonValueCodec());
+    }
+
 }
@@ -43,11 +43,14 @@ import io.realm.mongodb.RealmEventStreamTask;
 import io.realm.mongodb.RealmResultTask;
 import io.realm.mongodb.mongo.iterable.AggregateIterable;
 import io.realm.mongodb.mongo.iterable.FindIterable;
+import io.realm.mongodb.mongo.options.BulkWriteOptions;
 import io.realm.mongodb.mongo.options.CountOptions;
 import io.realm.mongodb.mongo.options.FindOneAndModifyOptions;
 import io.realm.mongodb.mongo.options.FindOptions;
 import io.realm.mongodb.mongo.options.InsertManyResult;
 import io.realm.mongodb.mongo.options.UpdateOptions;
+import io.realm.mongodb.mongo.options.WriteModel;
+import io.realm.mongodb.mongo.result.BulkWriteResult;
 import io.realm.mongodb.mongo.result.DeleteResult;
 import io.realm.mongodb.mongo.result.InsertOneResult;
 import io.realm.mongodb.mongo.result.UpdateResult;
@@ -591,6 +594,44 @@ public class MongoCollection<DocumentT> {
         });
     }
 
+    /**
+     * Executes a mix of inserts, updates and deletes in order, see
+     * {@link #bulkWrite(List, BulkWriteOptions)}.
+     *
+     * @param requests the operations to execute
+     * @return a task containing the result of the bulk write operation
+     */
+    public RealmResultTask<BulkWriteResult> bulkWrite(final List<? extends WriteModel<? extends DocumentT>> requests) {
+        return bulkWrite(requests, new BulkWriteOptions());
+    }
+
+    /**
+     * Executes a mix of inserts, updates and deletes with as few requests as possible.
+     * <p>
+     * Consecutive inserts are sent together, split into batches according to
+     * {@link BulkWriteOptions#getMaxBatchSize()} and {@link BulkWriteOptions#getMaxBatchBytes()}. Each update and
+     * delete is sent with a request of its own. Unordered operations are regrouped so all inserts share requests, and
+     * up to {@link BulkWriteOptions#getMaxConcurrentRequests()} requests are sent at the same time.
+     * <p>
+     * Failed operations don't fail the task, they are reported by {@link BulkWriteResult#getErrors()}. For ordered
+     * operations, nothing is executed after the first failure. Inserts of a failed request might have been applied
+     * partially, see {@link BulkWriteResult#getUnknownOutcomes()}.
+     *
+     * @param requests the operations to execute
+     * @param options  the options to apply to the bulk write operation
+     * @return a task containing the result of the bulk write operation
+     */
+    public RealmResultTask<BulkWriteResult> bulkWrite(final List<? extends WriteModel<? extends DocumentT>> requests,
+                                                      final BulkWriteOptions options) {
+        return new RealmResultTaskImpl<>(threadPoolExecutor, new RealmResultTaskImpl.Executor<BulkWriteResult>() {
+            @Nullable
+            @Override
+            public BulkWriteResult run() {
+                return osMongoCollection.bulkWrite(requests, options);
+            }
+        });
+    }
+
     /**
      * Finds a document in the collection and performs the given update.
      *
@@ -1016,4 +1057,108 @@ public class MongoCollection<DocumentT> {
                     }
                 });
     }
+
+    /**
+     * Watches a collection like {@link #watch()}, but shares the underlying network stream with all other shared
+     * watches of this collection by the same user.
+     * <p>
+     * Only one change stream is opened per collection, covering the union of what all shared watches are interested
+     * in. Events are dispatched locally to the watches they match. Closing the last shared watch closes the network
+     * stream. If the connection is interrupted it is reopened automatically with exponential backoff, events that
+     * happen while reconnecting are not delivered.
+     *
+     * @return a task that provides access to the stream of change events.
+     */
+    public RealmEventStreamTask<DocumentT> watchShared() {
+        return new RealmEventStreamTaskImpl<>(getNamespace().getFullName(),
+                new RealmEventStreamTaskImpl.Executor<DocumentT>() {
+                    @Override
+                    public EventStream<DocumentT> run() {
+                        return osMongoCollection.watchShared(null);
+                    }
+                });
+    }
+
+    /**
+     * Watches specified IDs in a collection like {@link #watch(BsonValue...)}, but shares the underlying network
+     * stream with all other shared watches of this collection by the same user, see {@link #watchShared()}.
+     *
+     * @param ids the ids to watch.
+     * @return a task that provides access to the stream of change events.
+     */
+    public RealmEventStreamTask<DocumentT> watchShared(final BsonValue... ids) {
+        return new RealmEventStreamTaskImpl<>(getNamespace().getFullName(),
+                new RealmEventStreamTaskImpl.Executor<DocumentT>() {
+                    @Override
+                    public EventStream<DocumentT> run() {
+                        return osMongoCollection.watchShared(Arrays.asList(ids));
+                    }
+                });
+    }
+
+    /**
+     * Watches specified IDs in a collection like {@link #watch(ObjectId...)}, but shares the underlying network
+     * stream with all other shared watches of this collection by the same user, see {@link #watchShared()}.
+     *
+     * @param ids unique object identifiers of the IDs to watch.
+     * @return a task that provides access to the stream of change events.
+     */
+    public RealmEventStreamTask<DocumentT> watchShared(final ObjectId... ids) {
+        return watchShared(toBsonObjectIds(ids));
+    }
+
+    /**
+     * Watches a collection asynchronously like {@link #watchAsync()}, but shares the underlying network stream with
+     * all other shared watches of this collection by the same user, see {@link #watchShared()}.
+     *
+     * @return a task that provides access to the stream of change events.
+     */
+    public RealmEventStreamAsyncTask<DocumentT> watchSharedAsync() {
+        return new RealmEventStreamAsyncTaskImpl<>(getNamespace().getFullName(),
+                new RealmEventStreamAsyncTaskImpl.Executor<DocumentT>() {
+                    @Override
+                    public EventStream<DocumentT> run() {
+                        return osMongoCollection.watchShared(null);
+                    }
+                });
+    }
+
+    /**
+     * Watches specified IDs in a collection asynchronously like {@link #watchAsync(BsonValue...)}, but shares the
+     * underlying network stream with all other shared watches of this collection by the same user, see
+     * {@link #watchShared()}.
+     *
+     * @param ids the ids to watch.
+     * @return a task that provides access to the stream of change events.
+     */
+    public RealmEventStreamAsyncTask<DocumentT> watchSharedAsync(final BsonValue... ids) {
+        return new RealmEventStreamAsyncTaskImpl<>(getNamespace().getFullName(),
+                new RealmEventStreamAsyncTaskImpl.Executor<DocumentT>() {
+                    @Override
+                    public EventStream<DocumentT> run() {
+                        return osMongoCollection.watchShared(Arrays.asList(ids));
+                    }
+                });
+    }
+
+    /**
+     * Watches specified IDs in a collection asynchronously like {@link #watchAsync(ObjectId...)}, but shares the
+     * underlying network stream with all other shared watches of this collection by the same user, see
+     * {@link #watchShared()}.
+     *
+     * @param ids unique object identifiers of the IDs to watch.
+     * @return a task that provides access to the stream of change events.
+     */
+    public RealmEventStreamAsyncTask<DocumentT> watchSharedAsync(final ObjectId... ids) {
+        return watchSharedAsync(toBsonObjectIds(ids));
+    }
+
+    // Change events identify documents by BsonValue, so ids are matched in that form.
+    private static BsonValue[] toBsonObjectIds(ObjectId[] ids) {
+        BsonValue[] bsonIds = new BsonValue[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            bsonIds[i] = new BsonObjectId(ids[i]);
+        }
+        return bsonIds;
+    }
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.mongodb.mongo.options;
+
+import java.util.Locale;
+
+import io.realm.annotations.Beta;
+
+/**
+ * The options to apply to a bulk write operation.
+ */
+@Beta
+public class BulkWriteOptions {
+
+    private boolean ordered = true;
+    private int maxBatchSize = 1000;
+    private long maxBatchBytes = 4 * 1024 * 1024;
+    private int maxConcurrentRequests = 4;
+
+    /**
+     * Returns whether the operations are executed in order. The default is {@code true}.
+     *
+     * @return {@code true} if the operations are executed in order.
+     */
+    public boolean isOrdered() {
+        return ordered;
+    }
+
+    /**
+     * Sets whether the operations are executed in order.
+     * <p>
+     * Ordered operations are sent one request after another, and no operations are executed after the first one that
+     * failed. Unordered operations are regrouped so all documents to insert are sent in as few requests as possible,
+     * requests are sent concurrently and a failed operation doesn't prevent the others from being executed.
+     *
+     * @param ordered {@code true} to execute the operations in order.
+     * @return this
+     */
+    public BulkWriteOptions ordered(final boolean ordered) {
+        this.ordered = ordered;
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of documents inserted with one request. The default is 1000.
+     *
+     * @return the maximum number of documents per request.
+     */
+    public int getMaxBatchSize() {
+        return maxBatchSize;
+    }
+
+    /**
+     * Sets the maximum number of documents inserted with one request.
+     *
+     * @param maxBatchSize the maximum number of documents per request.
+     * @return this
+     * @throws IllegalArgumentException if the size is not positive.
+     */
+    public BulkWriteOptions maxBatchSize(final int maxBatchSize) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Only positive numbers are allowed. Yours was: " + maxBatchSize);
+        }
+        this.maxBatchSize = maxBatchSize;
+        return this;
+    }
+
+    /**
+     * Returns the maximum size of the encoded documents inserted with one request. The default is 4 MB.
+     *
+     * @return the maximum number of bytes per request.
+     */
+    public long getMaxBatchBytes() {
+        return maxBatchBytes;
+    }
+
+    /**
+     * Sets the maximum size of the encoded documents inserted with one request. A document larger than this is sent
+     * in a request of its own.
+     *
+     * @param maxBatchBytes the maximum number of bytes per request.
+     * @return this
+     * @throws IllegalArgumentException if the size is not positive.
+     */
+    public BulkWriteOptions maxBatchBytes(final long maxBatchBytes) {
+        if (maxBatchBytes <= 0) {
+            throw new IllegalArgumentException("Only positive numbers are allowed. Yours was: " + maxBatchBytes);
+        }
+        this.maxBatchBytes = maxBatchBytes;
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of requests sent at the same time for unordered operations. The default is 4.
+     *
+     * @return the maximum number of concurrent requests.
+     */
+    public int getMaxConcurrentRequests() {
+        return maxConcurrentRequests;
+    }
+
+    /**
+     * Sets the maximum number of requests sent at the same time for unordered operations. Ordered operations are
+     * always sent one request at a time.
+     *
+     * @param maxConcurrentRequests the maximum number of concurrent requests.
+     * @return this
+     * @throws IllegalArgumentException if the number is not positive.
+     */
+    public BulkWriteOptions maxConcurrentRequests(final int maxConcurrentRequests) {
+        if (maxConcurrentRequests <= 0) {
+            throw new IllegalArgumentException("Only positive numbers are allowed. Yours was: " + maxConcurrentRequests);
+        }
+        this.maxConcurrentRequests = maxConcurrentRequests;
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "BulkWriteOptions{ordered=%s, maxBatchSize=%d, maxBatchBytes=%d, maxConcurrentRequests=%d}",
+                ordered, maxBatchSize, maxBatchBytes, maxConcurrentRequests);
+    }
+}
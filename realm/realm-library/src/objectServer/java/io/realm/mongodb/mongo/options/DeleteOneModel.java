@@ -0,0 +1,59 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.mongodb.mongo.options;
+
+import org.bson.conversions.Bson;
+
+import io.realm.annotations.Beta;
+import io.realm.internal.Util;
+
+/**
+ * A model describing the removal of at most one document matching a filter.
+ *
+ * @param <DocumentT> the type of documents written to the collection.
+ */
+@Beta
+public final class DeleteOneModel<DocumentT> extends WriteModel<DocumentT> {
+
+    private final Bson filter;
+
+    /**
+     * Constructs a model.
+     *
+     * @param filter a document describing the query filter.
+     */
+    public DeleteOneModel(final Bson filter) {
+        Util.checkNull(filter, "filter");
+        this.filter = filter;
+    }
+
+    /**
+     * Returns the query filter.
+     *
+     * @return the query filter.
+     */
+    public Bson getFilter() {
+        return filter;
+    }
+
+    @Override
+    public String toString() {
+        return "DeleteOneModel{"
+                + "filter=" + filter
+                + '}';
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.mongodb.mongo.options;
+
+import io.realm.annotations.Beta;
+import io.realm.internal.Util;
+
+/**
+ * A model describing the insertion of a single document.
+ *
+ * @param <DocumentT> the type of documents written to the collection.
+ */
+@Beta
+public final class InsertOneModel<DocumentT> extends WriteModel<DocumentT> {
+
+    private final DocumentT document;
+
+    /**
+     * Constructs a model.
+     *
+     * @param document the document to insert.
+     */
+    public InsertOneModel(final DocumentT document) {
+        Util.checkNull(document, "document");
+        this.document = document;
+    }
+
+    /**
+     * Returns the document to insert.
+     *
+     * @return the document to insert.
+     */
+    public DocumentT getDocument() {
+        return document;
+    }
+
+    @Override
+    public String toString() {
+        return "InsertOneModel{"
+                + "document=" + document
+                + '}';
+    }
+}
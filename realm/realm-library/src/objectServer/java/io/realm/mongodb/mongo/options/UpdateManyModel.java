@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.mongodb.mongo.options;
+
+import org.bson.conversions.Bson;
+
+import io.realm.annotations.Beta;
+import io.realm.internal.Util;
+
+/**
+ * A model describing an update to all documents matching a filter.
+ *
+ * @param <DocumentT> the type of documents written to the collection.
+ */
+@Beta
+public final class UpdateManyModel<DocumentT> extends WriteModel<DocumentT> {
+
+    private final Bson filter;
+    private final Bson update;
+    private final UpdateOptions options;
+
+    /**
+     * Constructs a model.
+     *
+     * @param filter a document describing the query filter.
+     * @param update a document describing the update. The update to apply must include only update operators.
+     */
+    public UpdateManyModel(final Bson filter, final Bson update) {
+        this(filter, update, new UpdateOptions());
+    }
+
+    /**
+     * Constructs a model.
+     *
+     * @param filter  a document describing the query filter.
+     * @param update  a document describing the update. The update to apply must include only update operators.
+     * @param options the options to apply to the update operation.
+     */
+    public UpdateManyModel(final Bson filter, final Bson update, final UpdateOptions options) {
+        Util.checkNull(filter, "filter");
+        Util.checkNull(update, "update");
+        Util.checkNull(options, "options");
+        this.filter = filter;
+        this.update = update;
+        this.options = options;
+    }
+
+    /**
+     * Returns the query filter.
+     *
+     * @return the query filter.
+     */
+    public Bson getFilter() {
+        return filter;
+    }
+
+    /**
+     * Returns the update to apply.
+     *
+     * @return the update document.
+     */
+    public Bson getUpdate() {
+        return update;
+    }
+
+    /**
+     * Returns the options to apply.
+     *
+     * @return the update options.
+     */
+    public UpdateOptions getOptions() {
+        return options;
+    }
+
+    @Override
+    public String toString() {
+        return "UpdateManyModel{"
+                + "filter=" + filter
+                + ", update=" + update
+                + ", options=" + options
+                + '}';
+    }
+}
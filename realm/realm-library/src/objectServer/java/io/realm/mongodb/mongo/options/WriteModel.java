@@ -0,0 +1,37 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.mongodb.mongo.options;
+
+import io.realm.annotations.Beta;
+
+/**
+ * A write operation of a bulk write, see
+ * {@link io.realm.mongodb.mongo.MongoCollection#bulkWrite(java.util.List, BulkWriteOptions)}.
+ *
+ * @param <DocumentT> the type of documents written to the collection.
+ * @see InsertOneModel
+ * @see UpdateOneModel
+ * @see UpdateManyModel
+ * @see DeleteOneModel
+ * @see DeleteManyModel
+ */
+@Beta
+public abstract class WriteModel<DocumentT> {
+
+    WriteModel() {
+    }
+}
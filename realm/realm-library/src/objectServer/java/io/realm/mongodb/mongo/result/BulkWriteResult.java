@@ -0,0 +1,182 @@
+/*
+ * Copyright 2021 Realm Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.realm.mongodb.mongo.result;
+
+import org.bson.BsonValue;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+import io.realm.annotations.Beta;
+import io.realm.mongodb.AppException;
+
+/**
+ * The result of a bulk write operation. All maps are keyed by the index of the operation in the list of operations
+ * passed to the bulk write.
+ */
+@Beta
+public class BulkWriteResult {
+
+    private final Map<Integer, BsonValue> insertedIds;
+    private final long matchedCount;
+    private final long modifiedCount;
+    private final long deletedCount;
+    private final Map<Integer, BsonValue> upsertedIds;
+    private final Map<Integer, AppException> errors;
+    private final Set<Integer> unknownOutcomes;
+    private final int requestCount;
+
+    /**
+     * Constructs a result.
+     *
+     * @param insertedIds     the _ids of the inserted documents.
+     * @param matchedCount    the number of documents matched by update operations.
+     * @param modifiedCount   the number of documents modified by update operations.
+     * @param deletedCount    the number of documents deleted.
+     * @param upsertedIds     the _ids of the documents inserted by update operations.
+     * @param errors          the errors of the operations that failed.
+     * @param unknownOutcomes the indices of the failed operations which might have been applied nonetheless.
+     * @param requestCount    the number of requests sent to the server.
+     */
+    public BulkWriteResult(final Map<Integer, BsonValue> insertedIds,
+                           final long matchedCount,
+                           final long modifiedCount,
+                           final long deletedCount,
+                           final Map<Integer, BsonValue> upsertedIds,
+                           final Map<Integer, AppException> errors,
+                           final Set<Integer> unknownOutcomes,
+                           final int requestCount) {
+        this.insertedIds = Collections.unmodifiableMap(insertedIds);
+        this.matchedCount = matchedCount;
+        this.modifiedCount = modifiedCount;
+        this.deletedCount = deletedCount;
+        this.upsertedIds = Collections.unmodifiableMap(upsertedIds);
+        this.errors = Collections.unmodifiableMap(errors);
+        this.unknownOutcomes = Collections.unmodifiableSet(unknownOutcomes);
+        this.requestCount = requestCount;
+    }
+
+    /**
+     * Returns the _ids of the documents inserted by insert operations.
+     *
+     * @return the _ids of the inserted documents by the index of their operation.
+     */
+    public Map<Integer, BsonValue> getInsertedIds() {
+        return insertedIds;
+    }
+
+    /**
+     * Returns the number of documents inserted by insert operations.
+     *
+     * @return the number of inserted documents.
+     */
+    public int getInsertedCount() {
+        return insertedIds.size();
+    }
+
+    /**
+     * Returns the number of documents matched by update operations.
+     *
+     * @return the number of matched documents.
+     */
+    public long getMatchedCount() {
+        return matchedCount;
+    }
+
+    /**
+     * Returns the number of documents modified by update operations.
+     *
+     * @return the number of modified documents.
+     */
+    public long getModifiedCount() {
+        return modifiedCount;
+    }
+
+    /**
+     * Returns the number of documents deleted by delete operations.
+     *
+     * @return the number of deleted documents.
+     */
+    public long getDeletedCount() {
+        return deletedCount;
+    }
+
+    /**
+     * Returns the _ids of the documents inserted by update operations with the upsert option.
+     *
+     * @return the _ids of the upserted documents by the index of their operation.
+     */
+    public Map<Integer, BsonValue> getUpsertedIds() {
+        return upsertedIds;
+    }
+
+    /**
+     * Returns the errors of the operations that failed. All insert operations sent with the same request fail
+     * together, see {@link #getUnknownOutcomes()}. For ordered bulk writes, the operations after the first failed one are not executed and have no
+     * entry in this map or any other result.
+     *
+     * @return the errors by the index of their operation, empty if all operations succeeded.
+     */
+    public Map<Integer, AppException> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Returns the indices of the failed operations which might have been applied nonetheless. The service doesn't
+     * report how many documents of a failed {@code insertMany} request it inserted before the error, so all insert
+     * operations sent with that request have an unknown outcome. Each of them also has an entry in
+     * {@link #getErrors()}.
+     *
+     * @return the indices of the operations with an unknown outcome, empty if there are none.
+     */
+    public Set<Integer> getUnknownOutcomes() {
+        return unknownOutcomes;
+    }
+
+    /**
+     * Returns whether all operations were executed successfully.
+     *
+     * @return {@code true} if no operation failed.
+     */
+    public boolean isSuccessful() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * Returns the number of requests sent to the server to execute the operations.
+     *
+     * @return the number of requests.
+     */
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    @Override
+    public String toString() {
+        return "BulkWriteResult{"
+                + "insertedCount=" + insertedIds.size()
+                + ", matchedCount=" + matchedCount
+                + ", modifiedCount=" + modifiedCount
+                + ", deletedCount=" + deletedCount
+                + ", upsertedCount=" + upsertedIds.size()
+                + ", errorCount=" + errors.size()
+                + ", unknownOutcomeCount=" + unknownOutcomes.size()
+                + ", requestCount=" + requestCount
+                + '}';
+    }
+}
@@ -47,6 +47,7 @@ import io.realm.CompactOnLaunchCallback;
 import io.realm.DefaultCompactOnLaunchCallback;
 import io.realm.Realm;
 import io.realm.RealmConfiguration;
+import io.realm.RealmMetrics;
 import io.realm.RealmMigration;
 import io.realm.RealmModel;
 import io.realm.RealmQuery;
@@ -126,6 +127,10 @@ public class SyncConfiguration extends RealmConfiguration {
                               long maxNumberOfActiveVersions,
                               boolean allowWritesOnUiThread,
                               boolean allowQueriesOnUiThread,
+                              @Nullable RealmMetrics metrics,
+                              boolean closeUnreferencedFrozenRealms,
+                              long maxFrozenRealmStalenessMs,
+                              long slowQueryThresholdNanos,
                               User user,
                               URI serverUrl,
                               SyncSession.ErrorHandler errorHandler,
@@ -154,7 +159,13 @@ public class SyncConfiguration extends RealmConfiguration {
                 false,
                 maxNumberOfActiveVersions,
                 allowWritesOnUiThread,
-                allowQueriesOnUiThread
+                allowQueriesOnUiThread,
+                metrics,
+                closeUnreferencedFrozenRealms,
+                maxFrozenRealmStalenessMs,
+                slowQueryThresholdNanos,
+                false,
+                null
         );
 
         this.user = user;
@@ -495,6 +506,11 @@ public class SyncConfiguration extends RealmConfiguration {
         private long maxNumberOfActiveVersions = Long.MAX_VALUE;
         private boolean allowWritesOnUiThread;
         private boolean allowQueriesOnUiThread;
+        @Nullable
+        private RealmMetrics metrics;
+        private boolean closeUnreferencedFrozenRealms;
+        private long maxFrozenRealmStalenessMs;
+        private long slowQueryThresholdNanos;
         private final BsonValue partitionValue;
 
         /**
@@ -1069,6 +1085,73 @@ public class SyncConfiguration extends RealmConfiguration {
             return this;
         }
 
+        /**
+         * Sets the {@link RealmMetrics} that will receive counters and latencies of the Realms opened with this
+         * configuration. By default no metrics are recorded.
+         *
+         * @param metrics the metrics to record to or {@code null} to disable recording.
+         * @see RealmConfiguration.Builder#metrics(RealmMetrics)
+         */
+        public Builder metrics(@Nullable RealmMetrics metrics) {
+            this.metrics = metrics;
+            return this;
+        }
+
+        /**
+         * Sets whether frozen Realms are closed automatically once nothing references them anymore. By default frozen
+         * Realms stay open until they are closed or the last live Realm of the file is closed.
+         *
+         * @param closeUnreferencedFrozenRealms {@code true} to close frozen Realms that are no longer referenced.
+         * @see RealmConfiguration.Builder#closeUnreferencedFrozenRealms(boolean)
+         */
+        public Builder closeUnreferencedFrozenRealms(boolean closeUnreferencedFrozenRealms) {
+            this.closeUnreferencedFrozenRealms = closeUnreferencedFrozenRealms;
+            return this;
+        }
+
+        /**
+         * Allows {@link Realm#freeze()} to return a frozen Realm of an older version if it was created within the given
+         * time, instead of pinning the current version of the Realm. By default frozen Realms are never reused across
+         * versions.
+         *
+         * @param staleness how old a frozen Realm can be to be reused. {@code 0} disables reuse.
+         * @param unit the unit of {@code staleness}.
+         * @throws IllegalArgumentException if {@code staleness} is negative.
+         * @see RealmConfiguration.Builder#maxFrozenRealmStaleness(long, TimeUnit)
+         */
+        public Builder maxFrozenRealmStaleness(long staleness, TimeUnit unit) {
+            if (staleness < 0) {
+                throw new IllegalArgumentException("Only positive numbers or 0 are allowed. Yours was: " + staleness);
+            }
+            //noinspection ConstantConditions
+            if (unit == null) {
+                throw new IllegalArgumentException("Non-null 'unit' required.");
+            }
+            this.maxFrozenRealmStalenessMs = unit.toMillis(staleness);
+            return this;
+        }
+
+        /**
+         * Logs queries that take at least the given time through {@link io.realm.log.RealmLog} as warnings. By default
+         * no queries are logged.
+         *
+         * @param threshold how long a query can take before it is logged. {@code 0} disables logging.
+         * @param unit the unit of {@code threshold}.
+         * @throws IllegalArgumentException if {@code threshold} is negative.
+         * @see RealmConfiguration.Builder#slowQueryThreshold(long, TimeUnit)
+         */
+        public Builder slowQueryThreshold(long threshold, TimeUnit unit) {
+            if (threshold < 0) {
+                throw new IllegalArgumentException("Only positive numbers or 0 are allowed. Yours was: " + threshold);
+            }
+            //noinspection ConstantConditions
+            if (unit == null) {
+                throw new IllegalArgumentException("Non-null 'unit' required.");
+            }
+            this.slowQueryThresholdNanos = unit.toNanos(threshold);
+            return this;
+        }
+
         /**
          * Creates the RealmConfiguration based on the builder parameters.
          *
@@ -1130,6 +1213,10 @@ public class SyncConfiguration extends RealmConfiguration {
                     maxNumberOfActiveVersions,
                     allowWritesOnUiThread,
                     allowQueriesOnUiThread,
+                    metrics,
+                    closeUnreferencedFrozenRealms,
+                    maxFrozenRealmStalenessMs,
+                    slowQueryThresholdNanos,
 
                     // Sync Configuration specific
                     user,